@@ -0,0 +1,452 @@
+package com.sp.common.search.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한국어용 문자 바이그램 역색인 (필드별 색인, BM25 점수)
+ * - 문자/숫자 연속 구간(어절)마다 인접 두 글자를 토큰으로 사용 ("서울시" → 서울, 울시), 형태소 분석 없이 조사/복합어 부분 일치
+ * - 문서마다 증가하는 내부 순번을 부여하므로 포스팅은 항상 뒤에 덧붙이기만 함
+ *   (순번 차이 varint + 빈도 varint 로 압축), 수정/삭제는 기존 순번을 묘비 처리 후 재등록
+ * - 묘비가 전체의 1/4 을 넘으면 살아 있는 문서만 순번을 다시 매겨 포스팅을 재작성
+ * - 검색은 질의 바이그램 전체를 포함하는 문서(필드 중 하나라도)만 대상으로 하며 비용은 질의 토큰의 포스팅 길이에 비례
+ */
+public class BigramInvertedIndex {
+
+    public enum Order {
+        /** BM25 점수 내림차순 (같으면 최신순) */
+        SCORE,
+        /** 정렬 키(일시) 내림차순 */
+        RECENT
+    }
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int COMPACT_MIN_DELETED = 1024;
+
+    private final int fieldCount;
+    private final List<Map<String, PostingList>> postings;
+    private final long[] totalLengths;
+    private final Map<Long, Integer> ordinalsById = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids = new long[1024];
+    private long[] sortKeys = new long[1024];
+    private int[] flags = new int[1024];
+    private int[][] lengths;
+    private BitSet deleted = new BitSet();
+    private int size;
+    private int deletedCount;
+
+    public BigramInvertedIndex(int fieldCount) {
+        this.fieldCount = fieldCount;
+        this.postings = new ArrayList<>(fieldCount);
+        this.lengths = new int[fieldCount][ids.length];
+        this.totalLengths = new long[fieldCount];
+        for (int f = 0; f < fieldCount; f++) {
+            postings.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * 문서 추가 (같은 ID 가 있으면 교체)
+     *
+     * @param sortKey 최신순 정렬 키 (epoch ms 등)
+     * @param docFlags 검색 시 요구 플래그와 대조할 비트 (공개 여부 등)
+     * @param fields  필드별 본문 (생성자의 fieldCount 개, null 허용)
+     */
+    public void add(long id, long sortKey, int docFlags, String... fields) {
+        if (fields.length != fieldCount) {
+            throw new IllegalArgumentException("필드 수가 맞지 않습니다: " + fields.length);
+        }
+        List<Map<String, Integer>> fieldTerms = new ArrayList<>(fieldCount);
+        for (String field : fields) {
+            fieldTerms.add(termFrequencies(field));
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            int ordinal = size++;
+            ensureCapacity(size);
+            ids[ordinal] = id;
+            sortKeys[ordinal] = sortKey;
+            flags[ordinal] = docFlags;
+            for (int f = 0; f < fieldCount; f++) {
+                int length = 0;
+                for (Map.Entry<String, Integer> term : fieldTerms.get(f).entrySet()) {
+                    postings.get(f).computeIfAbsent(term.getKey(), k -> new PostingList())
+                            .append(ordinal, term.getValue());
+                    length += term.getValue();
+                }
+                lengths[f][ordinal] = length;
+                totalLengths[f] += length;
+            }
+            ordinalsById.put(id, ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 질의가 바이그램을 하나 이상 만드는지 (한 글자 질의는 색인으로 답할 수 없음)
+     */
+    public static boolean isSearchable(String query) {
+        return !tokens(query).isEmpty();
+    }
+
+    /**
+     * 검색 (질의 바이그램을 모두 포함하는 필드가 하나라도 있는 문서, 상위 limit 개)
+     *
+     * @param fieldMask     검색할 필드 비트 (1 << 필드 번호)
+     * @param requiredFlags 문서 플래그에 모두 포함돼야 하는 비트 (0 이면 미적용)
+     */
+    public Hits search(String query, int fieldMask, int requiredFlags, Order order, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokens(query));
+        if (terms.isEmpty()) {
+            return new Hits(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, Double> scores = new HashMap<>();
+            for (int f = 0; f < fieldCount; f++) {
+                if ((fieldMask & (1 << f)) != 0) {
+                    scoreField(f, terms, requiredFlags, scores);
+                }
+            }
+            return new Hits(scores.size(), top(scores, order, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 한 필드에서 모든 질의 토큰을 포함하는 문서의 BM25 점수를 누적 (포스팅 교집합)
+     */
+    private void scoreField(int field, Set<String> terms, int requiredFlags, Map<Integer, Double> scores) {
+        int live = ordinalsById.size();
+        if (live == 0) {
+            return;
+        }
+        double averageLength = Math.max((double) totalLengths[field] / live, 1.0);
+
+        PostingList.Cursor[] cursors = new PostingList.Cursor[terms.size()];
+        double[] idf = new double[terms.size()];
+        int i = 0;
+        for (String term : terms) {
+            PostingList list = postings.get(field).get(term);
+            if (list == null) {
+                return;
+            }
+            cursors[i++] = list.cursor();
+        }
+        Arrays.sort(cursors, Comparator.comparingInt(PostingList.Cursor::documentCount));
+        for (int t = 0; t < cursors.length; t++) {
+            double df = Math.min(cursors[t].documentCount(), live);
+            idf[t] = Math.log(1 + (live - df + 0.5) / (df + 0.5));
+        }
+
+        // 후보 순번을 각 커서가 앞으로만 전진하며 따라잡음 (더 큰 순번을 만나면 후보 갱신)
+        if (!cursors[0].next()) {
+            return;
+        }
+        int candidate = cursors[0].ordinal();
+        while (true) {
+            boolean aligned = true;
+            for (PostingList.Cursor cursor : cursors) {
+                if (!cursor.advance(candidate)) {
+                    return;
+                }
+                if (cursor.ordinal() > candidate) {
+                    candidate = cursor.ordinal();
+                    aligned = false;
+                    break;
+                }
+            }
+            if (aligned) {
+                if (!deleted.get(candidate) && (flags[candidate] & requiredFlags) == requiredFlags) {
+                    double lengthNorm = K1 * (1 - B + B * lengths[field][candidate] / averageLength);
+                    double score = 0;
+                    for (int t = 0; t < cursors.length; t++) {
+                        int tf = cursors[t].frequency();
+                        score += idf[t] * tf * (K1 + 1) / (tf + lengthNorm);
+                    }
+                    scores.merge(candidate, score, Double::sum);
+                }
+                if (!cursors[0].next()) {
+                    return;
+                }
+                candidate = cursors[0].ordinal();
+            }
+        }
+    }
+
+    private List<Hit> top(Map<Integer, Double> scores, Order order, int limit) {
+        if (limit <= 0 || scores.isEmpty()) {
+            return List.of();
+        }
+        Comparator<Hit> ranking = order == Order.RECENT
+                ? Comparator.comparingLong(Hit::getSortKey).thenComparingLong(Hit::getId)
+                : Comparator.comparingDouble(Hit::getScore).thenComparingLong(Hit::getSortKey)
+                        .thenComparingLong(Hit::getId);
+
+        // 최솟값이 머리인 크기 limit 힙으로 상위만 유지
+        PriorityQueue<Hit> heap = new PriorityQueue<>(Math.min(limit, scores.size()) + 1, ranking);
+        scores.forEach((ordinal, score) -> {
+            heap.add(new Hit(ids[ordinal], score, sortKeys[ordinal]));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+        List<Hit> result = new ArrayList<>(heap);
+        result.sort(ranking.reversed());
+        return result;
+    }
+
+    private void removeLocked(long id) {
+        Integer ordinal = ordinalsById.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+        deleted.set(ordinal);
+        deletedCount++;
+        for (int f = 0; f < fieldCount; f++) {
+            totalLengths[f] -= lengths[f][ordinal];
+        }
+        if (deletedCount >= COMPACT_MIN_DELETED && deletedCount * 4 > size) {
+            compact();
+        }
+    }
+
+    /**
+     * 묘비 문서를 걷어내고 살아 있는 문서에 순번을 다시 매김 (순서 유지 → 포스팅 오름차순 유지)
+     */
+    private void compact() {
+        int[] remap = new int[size];
+        int live = 0;
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (deleted.get(ordinal)) {
+                remap[ordinal] = -1;
+                continue;
+            }
+            remap[ordinal] = live;
+            ids[live] = ids[ordinal];
+            sortKeys[live] = sortKeys[ordinal];
+            flags[live] = flags[ordinal];
+            for (int f = 0; f < fieldCount; f++) {
+                lengths[f][live] = lengths[f][ordinal];
+            }
+            live++;
+        }
+
+        for (Map<String, PostingList> fieldPostings : postings) {
+            fieldPostings.replaceAll((term, list) -> list.rewrite(remap));
+            fieldPostings.values().removeIf(list -> list.documentCount() == 0);
+        }
+        ordinalsById.replaceAll((id, ordinal) -> remap[ordinal]);
+        size = live;
+        deleted = new BitSet();
+        deletedCount = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int grown = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, grown);
+        sortKeys = Arrays.copyOf(sortKeys, grown);
+        flags = Arrays.copyOf(flags, grown);
+        for (int f = 0; f < fieldCount; f++) {
+            lengths[f] = Arrays.copyOf(lengths[f], grown);
+        }
+    }
+
+    private static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens(text)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    /**
+     * 어절별 문자 바이그램 (소문자화, 문자/숫자 외는 구분자, 한 글자 어절은 토큰 없음)
+     */
+    static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int previous = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                previous = -1;
+                continue;
+            }
+            if (previous >= 0) {
+                tokens.add(new String(new char[]{(char) previous, c}));
+            }
+            previous = c;
+        }
+        return tokens;
+    }
+
+    /**
+     * 압축 포스팅 목록: (순번 - 이전 순번) varint, 빈도 varint 의 반복, 순번 오름차순
+     */
+    private static final class PostingList {
+
+        private byte[] data = new byte[8];
+        private int length;
+        private int documentCount;
+        private int lastOrdinal = -1;
+
+        void append(int ordinal, int frequency) {
+            writeVarint(ordinal - lastOrdinal);
+            writeVarint(frequency);
+            lastOrdinal = ordinal;
+            documentCount++;
+        }
+
+        int documentCount() {
+            return documentCount;
+        }
+
+        PostingList rewrite(int[] remap) {
+            PostingList rewritten = new PostingList();
+            Cursor cursor = cursor();
+            while (cursor.next()) {
+                int mapped = remap[cursor.ordinal()];
+                if (mapped >= 0) {
+                    rewritten.append(mapped, cursor.frequency());
+                }
+            }
+            rewritten.data = Arrays.copyOf(rewritten.data, rewritten.length);
+            return rewritten;
+        }
+
+        Cursor cursor() {
+            return new Cursor();
+        }
+
+        private void writeVarint(int value) {
+            if (length + 5 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+            }
+            while ((value & ~0x7F) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+
+        /**
+         * 조회 시점까지 기록된 구간만 읽는 커서 (읽기 잠금 안에서 사용)
+         */
+        final class Cursor {
+
+            private final byte[] bytes = data;
+            private final int end = length;
+            private int position;
+            private int ordinal = -1;
+            private int frequency;
+
+            int documentCount() {
+                return documentCount;
+            }
+
+            int ordinal() {
+                return ordinal;
+            }
+
+            int frequency() {
+                return frequency;
+            }
+
+            boolean next() {
+                if (position >= end) {
+                    return false;
+                }
+                ordinal += readVarint();
+                frequency = readVarint();
+                return true;
+            }
+
+            /**
+             * target 이상인 첫 문서로 이동 (이미 target 이상이면 그대로)
+             */
+            boolean advance(int target) {
+                while (ordinal < target) {
+                    if (!next()) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            private int readVarint() {
+                int value = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = bytes[position++];
+                    value |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                return value;
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Hits {
+        /** 조건에 맞는 전체 문서 수 */
+        private final int total;
+        /** 상위 문서 (정렬 순서대로) */
+        private final List<Hit> hits;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private final long id;
+        private final double score;
+        private final long sortKey;
+    }
+}
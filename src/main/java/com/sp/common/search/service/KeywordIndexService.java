@@ -0,0 +1,216 @@
+package com.sp.common.search.service;
+
+import com.sp.common.search.index.BigramInvertedIndex;
+import com.sp.community.persistent.entity.BoardEntity;
+import com.sp.community.persistent.repository.BoardRepository;
+import com.sp.darkmap.persistent.entity.Article;
+import com.sp.darkmap.persistent.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 게시글/기사 키워드 검색용 메모리 역색인 ({@link BigramInvertedIndex})
+ * - 시작 시 DB 에서 ID 순 청크로 적재, 이후 게시글 생성/수정/삭제와 기사 적재를 커밋 이후 증분 반영
+ * - 제보 승인 여부는 통합검색 노출 플래그이므로 이를 바꾸는 경로(수정/카테고리 변경/신고 조치)도 indexBoard 호출
+ * - DB 직접 변경분(관리자 직접 승인 등)은 긴 주기 재구축(기본 1시간)으로 반영 (재구축 중 들어온 변경은 새 색인에 다시 적용한 뒤 교체)
+ * - 한 글자 검색어처럼 바이그램이 없는 질의는 색인으로 답할 수 없으므로 호출 측이 DB 검색으로 대체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KeywordIndexService implements SmartInitializingSingleton {
+
+    public static final int BOARD_TITLE = 1;
+    public static final int BOARD_CONTENT = 1 << 1;
+
+    /** 통합 검색 노출 대상 (제보 카테고리는 승인된 글만) */
+    private static final int UNIFIED_VISIBLE = 1;
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final BoardRepository boardRepository;
+    private final ArticleRepository articleRepository;
+
+    private volatile Indexes indexes = new Indexes();
+    /** 재구축 중 들어온 변경 (재구축 중이 아니면 null) */
+    private List<Consumer<Indexes>> pendingChanges;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * DB 기준 재구축 후 교체
+     */
+    @Scheduled(fixedDelayString = "${search.keyword-index.rebuild-interval-ms:3600000}",
+            initialDelayString = "${search.keyword-index.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        synchronized (this) {
+            if (pendingChanges != null) {
+                return;
+            }
+            pendingChanges = new ArrayList<>();
+        }
+        Indexes rebuilt = new Indexes();
+        try {
+            loadBoards(rebuilt);
+            loadArticles(rebuilt);
+        } catch (Exception e) {
+            log.error("키워드 색인 구축 실패", e);
+            synchronized (this) {
+                pendingChanges = null;
+            }
+            return;
+        }
+        synchronized (this) {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            indexes = rebuilt;
+        }
+        log.info("키워드 색인 구축 완료: boards={}, articles={}, 소요시간={}ms",
+                rebuilt.boards.size(), rebuilt.articles.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 색인으로 답할 수 있는 검색어인지 (바이그램이 하나 이상)
+     */
+    public boolean isSearchable(String keyword) {
+        return BigramInvertedIndex.isSearchable(keyword);
+    }
+
+    /**
+     * 게시글 검색 (삭제 글 제외)
+     *
+     * @param fieldMask         {@link #BOARD_TITLE}, {@link #BOARD_CONTENT} 조합
+     * @param unifiedVisibleOnly 미승인 제보글 제외 여부
+     */
+    public BigramInvertedIndex.Hits searchBoards(String keyword, int fieldMask, boolean unifiedVisibleOnly,
+                                                 BigramInvertedIndex.Order order, int limit) {
+        return indexes.boards.search(keyword, fieldMask, unifiedVisibleOnly ? UNIFIED_VISIBLE : 0, order, limit);
+    }
+
+    /**
+     * 기사 제목 검색
+     */
+    public BigramInvertedIndex.Hits searchArticles(String keyword, BigramInvertedIndex.Order order, int limit) {
+        return indexes.articles.search(keyword, 1, 0, order, limit);
+    }
+
+    /**
+     * 게시글 생성/수정 반영 (커밋 이후, 삭제된 글이면 제거)
+     */
+    public void indexBoard(BoardEntity board) {
+        Long boardId = board.getBoardId();
+        if (board.isDeleted()) {
+            removeBoard(boardId);
+            return;
+        }
+        long sortKey = sortKey(board.getCreatedAt());
+        int flags = boardFlags(board);
+        String title = board.getTitle();
+        String content = board.getContent();
+        afterCommit(target -> target.boards.add(boardId, sortKey, flags, title, content));
+    }
+
+    /**
+     * 게시글 삭제 반영 (커밋 이후)
+     */
+    public void removeBoard(Long boardId) {
+        afterCommit(target -> target.boards.remove(boardId));
+    }
+
+    /**
+     * 기사 적재 반영 (커밋 이후)
+     */
+    public void indexArticles(Collection<Article> articles) {
+        List<Object[]> copied = articles.stream()
+                .map(article -> new Object[]{article.getArticleId(), article.getTitle(), article.getPublishedAt()})
+                .toList();
+        afterCommit(target -> copied.forEach(row -> addArticle(target, row)));
+    }
+
+    /**
+     * 최신순 정렬 키 (일시 없음은 가장 오래된 것으로)
+     */
+    public static long sortKey(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toInstant(ZoneOffset.UTC).toEpochMilli() : Long.MIN_VALUE;
+    }
+
+    private void loadBoards(Indexes target) {
+        long lastId = 0L;
+        while (true) {
+            List<BoardEntity> boards = boardRepository.findNotDeletedAfter(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (BoardEntity board : boards) {
+                target.boards.add(board.getBoardId(), sortKey(board.getCreatedAt()), boardFlags(board),
+                        board.getTitle(), board.getContent());
+            }
+            if (boards.size() < LOAD_CHUNK_SIZE) {
+                return;
+            }
+            lastId = boards.get(boards.size() - 1).getBoardId();
+        }
+    }
+
+    private void loadArticles(Indexes target) {
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = articleRepository.findSearchFieldsAfter(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            rows.forEach(row -> addArticle(target, row));
+            if (rows.size() < LOAD_CHUNK_SIZE) {
+                return;
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    private static void addArticle(Indexes target, Object[] row) {
+        target.articles.add((Long) row[0], sortKey((LocalDateTime) row[2]), 0, (String) row[1]);
+    }
+
+    private static int boardFlags(BoardEntity board) {
+        boolean visible = !BoardEntity.CATEGORY_INCIDENTREPORT.equals(board.getCategory()) || board.isReportApproved();
+        return visible ? UNIFIED_VISIBLE : 0;
+    }
+
+    private void afterCommit(Consumer<Indexes> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private synchronized void apply(Consumer<Indexes> change) {
+        change.accept(indexes);
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+    }
+
+    /**
+     * 교체 단위 (게시글: 제목/내용 두 필드, 기사: 제목 한 필드)
+     */
+    private static final class Indexes {
+        private final BigramInvertedIndex boards = new BigramInvertedIndex(2);
+        private final BigramInvertedIndex articles = new BigramInvertedIndex(1);
+    }
+}
@@ -1,5 +1,6 @@
 package com.sp.common.search.service;
 
+import com.sp.common.search.index.BigramInvertedIndex;
 import com.sp.common.search.model.dto.UnifiedSearchResponseDTO;
 import com.sp.common.search.model.dto.UnifiedSearchResultDTO;
 import com.sp.community.persistent.entity.BoardEntity;
@@ -7,6 +8,7 @@ import com.sp.community.persistent.repository.BoardRepository;
 import com.sp.darkmap.persistent.entity.Article;
 import com.sp.darkmap.persistent.repository.ArticleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,80 +16,180 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 기사 + 커뮤니티 통합 검색 (최신순)
+ * - 출처별로 (ID, 일시) 정렬 키만 최신순 offset+size 개까지 키워드 색인({@link KeywordIndexService})에서 얻어 k-way 병합
+ * - 병합 결과 중 요청 페이지에 해당하는 행만 ID 로 엔티티 조회
+ * - 색인으로 답할 수 없는 한 글자 검색어는 DB 에서 정렬 키 조회 + 별도 COUNT 쿼리
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UnifiedSearchService {
 
+    private static final String ARTICLE = "ARTICLE";
+    private static final String BOARD = "BOARD";
 
     private final ArticleRepository articleRepository;
     private final BoardRepository boardRepository;
+    private final KeywordIndexService keywordIndexService;
 
     public UnifiedSearchResponseDTO unifiedSearch(String keyword, Pageable pageable) {
-        List<UnifiedSearchResultDTO> results = new ArrayList<>();
-
-        // Article 검색
-        List<Article> articles = articleRepository.searchByKeyword(keyword);
-        long newsTotalElements = articles.size();
-        results.addAll(articles.stream()
-                .map(this::convertArticleToDTO)
-                .collect(Collectors.toList()));
-
-        // Board 검색
-        List<BoardEntity> boards = boardRepository.searchByKeyword(keyword);
-        long communityTotalElements = boards.size();
-        results.addAll(boards.stream()
-                .map(this::convertBoardToDTO)
-                .collect(Collectors.toList()));
-
-        // 최신순 정렬 (Board의 createdAt, Article의 contributionDate 기준)
-        results.sort(Comparator.comparing(this::getDateTime).reversed());
-
-        // 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), results.size());
-
-        List<UnifiedSearchResultDTO> pagedResults = start >= results.size()
+        long offset = pageable.getOffset();
+        int size = pageable.getPageSize();
+        int limit = fetchSize(offset + size);
+
+        SourceResult articles;
+        SourceResult boards;
+        if (keywordIndexService.isSearchable(keyword)) {
+            articles = fromHits(ARTICLE,
+                    keywordIndexService.searchArticles(keyword, BigramInvertedIndex.Order.RECENT, limit));
+            boards = fromHits(BOARD, keywordIndexService.searchBoards(keyword,
+                    KeywordIndexService.BOARD_TITLE | KeywordIndexService.BOARD_CONTENT, true,
+                    BigramInvertedIndex.Order.RECENT, limit));
+        } else {
+            // 한 글자 검색어는 색인으로 답할 수 없어 DB LIKE 로 대체
+            long articleTotal = articleRepository.countByKeyword(keyword);
+            long boardTotal = boardRepository.countByKeyword(keyword);
+            boolean beyondLastPage = offset >= articleTotal + boardTotal;
+            articles = new SourceResult(articleTotal, beyondLastPage || articleTotal == 0 ? List.of()
+                    : toKeys(ARTICLE, articleRepository.searchKeysByKeyword(keyword, PageRequest.of(0, limit))));
+            boards = new SourceResult(boardTotal, beyondLastPage || boardTotal == 0 ? List.of()
+                    : toKeys(BOARD, boardRepository.searchKeysByKeyword(keyword, PageRequest.of(0, limit))));
+        }
+
+        long newsTotalElements = articles.total();
+        long communityTotalElements = boards.total();
+        long totalElements = newsTotalElements + communityTotalElements;
+        List<SearchKey> pageKeys = offset >= totalElements
                 ? List.of()
-                : results.subList(start, end);
+                : merge(List.of(articles.keys(), boards.keys()), offset, size);
 
-        long totalElements = results.size();
-        int totalPages = pageable.getPageSize() > 0
-                ? (int) Math.ceil((double) totalElements / pageable.getPageSize())
+        int totalPages = size > 0
+                ? (int) Math.ceil((double) totalElements / size)
                 : 0;
 
         return UnifiedSearchResponseDTO.builder()
-                .results(pagedResults)
+                .results(loadResults(pageKeys))
                 .totalElements(totalElements)
                 .newsTotalElements(newsTotalElements)
                 .communityTotalElements(communityTotalElements)
                 .totalPages(totalPages)
                 .page(pageable.getPageNumber() + 1)
-                .size(pageable.getPageSize())
+                .size(size)
                 .build();
     }
 
-    // 정렬을 위한 날짜 추출 메서드
-    private LocalDateTime getDateTime(UnifiedSearchResultDTO dto) {
-        if ("BOARD".equals(dto.getResultType())) {
-            return dto.getCreatedAt();
-        } else { // "ARTICLE"
-            // contributionDate를 LocalDateTime으로 변환
-            // contributionDate 형식에 맞게 수정 필요 (예: "2024-01-15" 형식이라고 가정)
-            try {
-                return LocalDateTime.parse(dto.getContributionDate() + "T00:00:00");
-            } catch (Exception e) {
-                return LocalDateTime.MIN; // 파싱 실패시 가장 오래된 날짜로 처리
+    /**
+     * 출처별 최신순 키 목록을 병합해 [offset, offset+size) 구간만 반환
+     * (일시가 같으면 출처 목록 순서, 즉 기사 먼저)
+     */
+    private List<SearchKey> merge(List<List<SearchKey>> sources, long offset, int size) {
+        PriorityQueue<SourceCursor> heads = new PriorityQueue<>(Comparator
+                .comparingLong((SourceCursor cursor) -> cursor.head.sortKey()).reversed()
+                .thenComparingInt(cursor -> cursor.source));
+        for (int source = 0; source < sources.size(); source++) {
+            Iterator<SearchKey> iterator = sources.get(source).iterator();
+            if (iterator.hasNext()) {
+                heads.add(new SourceCursor(source, iterator.next(), iterator));
             }
         }
+
+        List<SearchKey> page = new ArrayList<>(size);
+        long position = 0;
+        while (!heads.isEmpty() && page.size() < size) {
+            SourceCursor cursor = heads.poll();
+            if (position++ >= offset) {
+                page.add(cursor.head);
+            }
+            if (cursor.iterator.hasNext()) {
+                cursor.head = cursor.iterator.next();
+                heads.add(cursor);
+            }
+        }
+        return page;
+    }
+
+    private static SourceResult fromHits(String type, BigramInvertedIndex.Hits hits) {
+        return new SourceResult(hits.getTotal(), hits.getHits().stream()
+                .map(hit -> new SearchKey(type, hit.getId(), hit.getSortKey()))
+                .toList());
+    }
+
+    private static List<SearchKey> toKeys(String type, List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> new SearchKey(type, (Long) row[0], KeywordIndexService.sortKey((LocalDateTime) row[1])))
+                .toList();
+    }
+
+    /**
+     * 페이지 키 순서대로 엔티티 일괄 조회 후 DTO 변환
+     */
+    private List<UnifiedSearchResultDTO> loadResults(List<SearchKey> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Article> articles = articleRepository.findAllById(idsOf(keys, ARTICLE)).stream()
+                .collect(Collectors.toMap(Article::getArticleId, Function.identity()));
+        Map<Long, BoardEntity> boards = boardRepository.findAllById(idsOf(keys, BOARD)).stream()
+                .collect(Collectors.toMap(BoardEntity::getBoardId, Function.identity()));
+
+        List<UnifiedSearchResultDTO> results = new ArrayList<>(keys.size());
+        for (SearchKey key : keys) {
+            if (ARTICLE.equals(key.type())) {
+                Article article = articles.get(key.id());
+                if (article != null) {
+                    results.add(convertArticleToDTO(article));
+                }
+            } else {
+                BoardEntity board = boards.get(key.id());
+                if (board != null) {
+                    results.add(convertBoardToDTO(board));
+                }
+            }
+        }
+        return results;
+    }
+
+    private static List<Long> idsOf(List<SearchKey> keys, String type) {
+        return keys.stream().filter(key -> type.equals(key.type())).map(SearchKey::id).toList();
+    }
+
+    private static int fetchSize(long limit) {
+        return (int) Math.min(limit, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 정렬 키: 일시 epoch ms (일시 없으면 가장 오래된 것, DB 최신순 정렬에서 NULL 이 마지막인 것과 일치)
+     */
+    private record SearchKey(String type, Long id, long sortKey) {
+    }
+
+    private record SourceResult(long total, List<SearchKey> keys) {
+    }
+
+    private static class SourceCursor {
+        private final int source;
+        private final Iterator<SearchKey> iterator;
+        private SearchKey head;
+
+        SourceCursor(int source, SearchKey head, Iterator<SearchKey> iterator) {
+            this.source = source;
+            this.head = head;
+            this.iterator = iterator;
+        }
     }
 
     private UnifiedSearchResultDTO convertArticleToDTO(Article article) {
         return UnifiedSearchResultDTO.builder()
-                .resultType("ARTICLE")
+                .resultType(ARTICLE)
                 .id(article.getArticleId())
                 .title(article.getTitle())
                 .press(article.getPress())
@@ -100,7 +202,7 @@ public class UnifiedSearchService {
 
     private UnifiedSearchResultDTO convertBoardToDTO(BoardEntity board) {
         return UnifiedSearchResultDTO.builder()
-                .resultType("BOARD")
+                .resultType(BOARD)
                 .id(board.getBoardId())
                 .title(board.getTitle())
                 .content(board.getContent())
@@ -0,0 +1,80 @@
+package com.sp.common.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 자유 형식 날짜 문자열 해석기 (크롤링 기사 작성일, 사례 발생일 등)
+ * - 지원 예: 2024-03-05, 2024.03.05., 2024/3/5, 20240305, 2024년 3월 5일,
+ *   2024-03-05T15:12:00, 2024.03.05. 오후 3:12, 2024-03-05 15:12:30
+ * - 연/월만 있는 값(2024.03)은 1일로 간주
+ * - 해석 불가 시 Optional.empty()
+ */
+public final class LenientDateParser {
+
+    private static final Pattern DATE = Pattern.compile(
+            "(\\d{4})\\s*(?:[-./]|년)\\s*(\\d{1,2})\\s*(?:(?:[-./]|월)\\s*(\\d{1,2}))?");
+    private static final Pattern COMPACT_DATE = Pattern.compile("(?<!\\d)(\\d{4})(\\d{2})(\\d{2})(?!\\d)");
+    private static final Pattern TIME = Pattern.compile(
+            "(오전|오후|AM|PM|am|pm)?\\s*(\\d{1,2}):(\\d{2})(?::(\\d{2}))?\\s*(AM|PM|am|pm)?");
+
+    private LenientDateParser() {
+    }
+
+    public static Optional<LocalDate> parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        Matcher matcher = DATE.matcher(value);
+        if (matcher.find()) {
+            return toDate(matcher.group(1), matcher.group(2), matcher.group(3));
+        }
+        matcher = COMPACT_DATE.matcher(value);
+        if (matcher.find()) {
+            return toDate(matcher.group(1), matcher.group(2), matcher.group(3));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 날짜 + 시각 해석 (시각이 없으면 자정)
+     */
+    public static Optional<LocalDateTime> parseDateTime(String value) {
+        Optional<LocalDate> date = parseDate(value);
+        if (date.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Matcher matcher = TIME.matcher(value);
+        if (!matcher.find()) {
+            return Optional.of(date.get().atStartOfDay());
+        }
+        try {
+            int hour = Integer.parseInt(matcher.group(2));
+            int minute = Integer.parseInt(matcher.group(3));
+            int second = matcher.group(4) != null ? Integer.parseInt(matcher.group(4)) : 0;
+            String meridiem = matcher.group(1) != null ? matcher.group(1) : matcher.group(5);
+            if (meridiem != null) {
+                boolean pm = meridiem.equals("오후") || meridiem.equalsIgnoreCase("PM");
+                hour = hour % 12 + (pm ? 12 : 0);
+            }
+            return Optional.of(date.get().atTime(LocalTime.of(hour, minute, second)));
+        } catch (DateTimeException e) {
+            return Optional.of(date.get().atStartOfDay());
+        }
+    }
+
+    private static Optional<LocalDate> toDate(String year, String month, String day) {
+        try {
+            return Optional.of(LocalDate.of(Integer.parseInt(year), Integer.parseInt(month),
+                    day != null ? Integer.parseInt(day) : 1));
+        } catch (DateTimeException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.sp.common.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 중복 판별용 URL 정규화
+ * - 스킴/호스트 소문자, www. / m. 접두어 제거, http/https 동일 취급
+ * - 프래그먼트, 추적 파라미터(utm_*, fbclid 등) 제거 후 나머지 파라미터 정렬
+ *   (ref/from 처럼 일부 언론사가 기사 식별에 쓰는 이름은 추적용이 아닐 수 있어 유지)
+ * - 경로 끝 슬래시 제거
+ * - URI 로 해석되지 않으면 공백 제거 + 소문자만 적용
+ */
+public final class UrlNormalizer {
+
+    private static final Set<String> TRACKING_PARAMS = Set.of("fbclid", "gclid", "igshid", "cmpid");
+
+    private UrlNormalizer() {
+    }
+
+    public static String normalize(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        String trimmed = url.trim();
+        try {
+            URI uri = new URI(trimmed);
+            String host = uri.getHost();
+            if (host == null) {
+                return trimmed.toLowerCase(Locale.ROOT);
+            }
+            host = host.toLowerCase(Locale.ROOT);
+            if (host.startsWith("www.")) {
+                host = host.substring(4);
+            } else if (host.startsWith("m.")) {
+                host = host.substring(2);
+            }
+
+            String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+            while (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+
+            String query = uri.getRawQuery() == null ? "" : Arrays.stream(uri.getRawQuery().split("&"))
+                    .filter(param -> !param.isEmpty())
+                    .filter(param -> {
+                        String name = param.split("=", 2)[0].toLowerCase(Locale.ROOT);
+                        return !name.startsWith("utm_") && !TRACKING_PARAMS.contains(name);
+                    })
+                    .sorted()
+                    .collect(Collectors.joining("&"));
+
+            int port = uri.getPort();
+            boolean defaultPort = port == -1 || port == 80 || port == 443;
+            return host + (defaultPort ? "" : ":" + port) + path + (query.isEmpty() ? "" : "?" + query);
+        } catch (URISyntaxException e) {
+            return trimmed.toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -285,6 +285,7 @@ public class BoardEntity {
 
     /**
      * 제보 승인 (제보 카테고리일 때만)
+     * - 통합검색 노출 여부가 바뀌므로 호출 측에서 KeywordIndexService.indexBoard 로 색인에 반영
      */
     public void approveReport(String approvedBy) {
         if (CATEGORY_INCIDENTREPORT.equals(this.category)) {
@@ -296,6 +297,7 @@ public class BoardEntity {
 
     /**
      * 제보 승인 취소 (제보 카테고리일 때만)
+     * - 통합검색 노출 여부가 바뀌므로 호출 측에서 KeywordIndexService.indexBoard 로 색인에 반영
      */
     public void disapproveReport() {
         if (CATEGORY_INCIDENTREPORT.equals(this.category)) {
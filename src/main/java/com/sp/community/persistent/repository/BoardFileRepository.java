@@ -3,8 +3,12 @@ package com.sp.community.persistent.repository;
 import com.sp.community.persistent.entity.BoardEntity;
 import com.sp.community.persistent.entity.BoardFileEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,6 +19,12 @@ public interface BoardFileRepository extends JpaRepository<BoardFileEntity, Long
      */
     Optional<BoardFileEntity> findByBoard(BoardEntity board);
 
+    /**
+     * 게시글 ID 목록의 파일 일괄 조회 (목록 화면용)
+     */
+    @Query("SELECT f FROM BoardFileEntity f WHERE f.board.boardId IN :boardIds")
+    List<BoardFileEntity> findByBoardIds(@Param("boardIds") Collection<Long> boardIds);
+
     /**
      * 특정 게시글의 파일 존재 여부 확인
      */
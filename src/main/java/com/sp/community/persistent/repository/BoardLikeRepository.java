@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -87,6 +88,12 @@ public interface BoardLikeRepository extends JpaRepository<BoardLikeEntity, Long
     @Query("SELECT COUNT(bl) > 0 FROM BoardLikeEntity bl WHERE bl.board.boardId = :boardId AND bl.userId = :userId AND bl.isDeleted = false")
     boolean existsByBoardIdAndUserIdAndNotDeleted(@Param("boardId") Long boardId, @Param("userId") Long userId);
 
+    /**
+     * 게시글 ID 목록 중 사용자가 좋아요한 게시글 ID 조회 (활성 상태)
+     */
+    @Query("SELECT bl.board.boardId FROM BoardLikeEntity bl WHERE bl.board.boardId IN :boardIds AND bl.userId = :userId AND bl.isDeleted = false")
+    List<Long> findLikedBoardIds(@Param("boardIds") Collection<Long> boardIds, @Param("userId") Long userId);
+
     /**
      * 특정 기간 내 좋아요 목록 조회
      */
@@ -232,15 +232,23 @@ public interface BoardRepository extends JpaRepository<BoardEntity, Long> {
     boolean existsByIdAndNotDeleted(@Param("boardId") Long boardId);
 
     /**
-     * 전체검색용
-     * @param keyword
-     * @return
+     * 전체검색용 정렬 키 (ID, 작성일시 / 최신순, 페이지 크기만큼만)
      */
-    @Query("SELECT b FROM BoardEntity b WHERE " +
+    @Query("SELECT b.boardId, b.createdAt FROM BoardEntity b WHERE " +
+            "(b.title LIKE %:keyword% OR b.content LIKE %:keyword%) " +
+            "AND b.isDeleted = false " +
+            "AND (b.category <> '제보' OR b.reportApproved = true) " +
+            "ORDER BY b.createdAt DESC, b.boardId DESC")
+    List<Object[]> searchKeysByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 전체검색용 건수
+     */
+    @Query("SELECT COUNT(b) FROM BoardEntity b WHERE " +
             "(b.title LIKE %:keyword% OR b.content LIKE %:keyword%) " +
             "AND b.isDeleted = false " +
             "AND (b.category <> '제보' OR b.reportApproved = true)")
-    List<BoardEntity> searchByKeyword(@Param("keyword") String keyword);
+    long countByKeyword(@Param("keyword") String keyword);
 
     /**
      * 최근 게시글 조회 (사건제보는 승인된 것만 포함)
@@ -251,4 +259,10 @@ public interface BoardRepository extends JpaRepository<BoardEntity, Long> {
             "AND (b.category <> '제보' OR b.reportApproved = true) " +
             "ORDER BY b.createdAt DESC")
     Page<BoardEntity> findRecentBoards(@Param("category") String category, Pageable pageable);
+
+    /**
+     * 키워드 색인 적재용 (삭제되지 않은 게시글, afterId 이후 ID 오름차순)
+     */
+    @Query("SELECT b FROM BoardEntity b WHERE b.isDeleted = false AND b.boardId > :afterId ORDER BY b.boardId")
+    List<BoardEntity> findNotDeletedAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
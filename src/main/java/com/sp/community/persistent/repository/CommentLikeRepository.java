@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +32,12 @@ public interface CommentLikeRepository extends JpaRepository<CommentLikeEntity,
     @Query("SELECT cl FROM CommentLikeEntity cl WHERE cl.comment.commentId = :commentId AND cl.userId = :userId")
     Optional<CommentLikeEntity> findByCommentIdAndUserId(@Param("commentId") Long commentId, @Param("userId") Long userId);
 
+    /**
+     * 댓글 ID 목록 중 사용자가 좋아요한 댓글 ID 조회 (활성 상태)
+     */
+    @Query("SELECT cl.comment.commentId FROM CommentLikeEntity cl WHERE cl.comment.commentId IN :commentIds AND cl.userId = :userId AND cl.isDeleted = false")
+    List<Long> findLikedCommentIds(@Param("commentIds") Collection<Long> commentIds, @Param("userId") Long userId);
+
     /**
      * 특정 댓글의 좋아요 수 조회 (활성 상태만)
      */
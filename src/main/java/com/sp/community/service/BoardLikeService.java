@@ -9,7 +9,8 @@ import com.sp.community.persistent.entity.BoardLikeEntity;
 import com.sp.community.persistent.repository.BoardLikeRepository;
 import com.sp.community.persistent.repository.BoardRepository;
 import com.sp.community.model.response.FileUploadResponse;
-import com.sp.member.repository.MemberRepository;
+import com.sp.member.dto.response.AuthorProfile;
+import com.sp.member.service.AuthorProfileResolver;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -18,8 +19,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -34,7 +35,7 @@ public class BoardLikeService {
 
     private final BoardLikeRepository boardLikeRepository;
     private final BoardRepository boardRepository;
-    private final MemberRepository memberRepository;
+    private final AuthorProfileResolver authorProfileResolver;
     private final FileService fileService;
 
     /**
@@ -191,9 +192,7 @@ public class BoardLikeService {
         Page<BoardEntity> likedBoards = boardRepository
                 .findBoardsLikedByUser(userId, pageable);
 
-        return likedBoards.getContent().stream()
-                .map(this::convertBoardToVO)
-                .collect(Collectors.toList());
+        return convertBoardsToVOs(likedBoards.getContent());
     }
 
     /**
@@ -213,9 +212,7 @@ public class BoardLikeService {
         Page<BoardEntity> popularBoards = boardRepository
                 .findPopularBoards(minLikes, pageable);
 
-        return popularBoards.getContent().stream()
-                .map(this::convertBoardToVO)
-                .collect(Collectors.toList());
+        return convertBoardsToVOs(popularBoards.getContent());
     }
 
     /**
@@ -237,9 +234,7 @@ public class BoardLikeService {
         Page<BoardEntity> recentPopularBoards = boardRepository
                 .findRecentPopularBoards(fromDate, minLikes, pageable);
 
-        return recentPopularBoards.getContent().stream()
-                .map(this::convertBoardToVO)
-                .collect(Collectors.toList());
+        return convertBoardsToVOs(recentPopularBoards.getContent());
     }
 
     /**
@@ -280,63 +275,34 @@ public class BoardLikeService {
         }
     }
     /**
-     * 사용자 닉네임 조회 헬퍼 메서드
+     * BoardEntity 목록을 BoardVO 목록으로 변환 (작성자 프로필/이미지 정보 일괄 조회)
      */
-    private String getAuthorNickname(Long authorId, LocalDateTime createdAt) {
-        if (authorId == null) return "알수없음";
-        if (isAuthorAnonymized(authorId, createdAt)) return "알수없음";
-        try {
-            return memberRepository.findNicknameByMemberId(authorId).orElse("알수없음");
-        } catch (Exception e) {
-            log.warn("닉네임 조회 실패: authorId={}", authorId);
-            return "알수없음";
-        }
-    }
-
-    private boolean isAuthorDeleted(Long authorId) {
-        try {
-            return memberRepository.findIsDeletedByMemberId(authorId).orElse(false);
-        } catch (Exception e) {
-            log.warn("작성자 탈퇴 여부 조회 실패: authorId={}", authorId);
-            return false;
-        }
-    }
-
-    private boolean isAuthorAnonymized(Long authorId, LocalDateTime createdAt) {
-        if (authorId == null || createdAt == null) return true;
-        LocalDateTime lastWithdrawn = getLastWithdrawnAt(authorId);
-        if (lastWithdrawn == null) {
-            return isAuthorDeleted(authorId);
-        }
-        return !createdAt.isAfter(lastWithdrawn);
-    }
-
-    private LocalDateTime getLastWithdrawnAt(Long authorId) {
-        try {
-            return memberRepository.findLastWithdrawnAtByMemberId(authorId)
-                    .map(inst -> LocalDateTime.ofInstant(inst, ZoneOffset.UTC))
-                    .orElse(null);
-        } catch (Exception e) {
-            log.warn("lastWithdrawnAt 조회 실패: authorId={}", authorId);
-            return null;
-        }
+    private List<BoardVO> convertBoardsToVOs(List<BoardEntity> entities) {
+        Map<Long, AuthorProfile> profiles =
+                authorProfileResolver.resolveAll(entities, BoardEntity::getAuthorId);
+        Map<Long, FileUploadResponse> images = fileService.getBoardImageInfos(
+                entities.stream().map(BoardEntity::getBoardId).toList());
+
+        return entities.stream()
+                .map(entity -> convertBoardToVO(entity,
+                        AuthorProfileResolver.of(profiles, entity.getAuthorId()),
+                        Optional.ofNullable(images.get(entity.getBoardId()))))
+                .collect(Collectors.toList());
     }
 
     /**
      * BoardEntity를 BoardVO로 변환 (이미지 한 개 첨부 지원)
      */
-    private BoardVO convertBoardToVO(BoardEntity entity) {
-        // 이미지 파일 정보 조회
-        Optional<FileUploadResponse> imageInfo = fileService.getBoardImageInfo(entity.getBoardId());
-
+    private BoardVO convertBoardToVO(BoardEntity entity, AuthorProfile author,
+                                     Optional<FileUploadResponse> imageInfo) {
         return BoardVO.builder()
                 .boardId(entity.getBoardId())
                 .title(entity.getTitle())
                 .authorId(entity.getAuthorId())
                 .content(entity.getContent())
-                .authorNickname(getAuthorNickname(entity.getAuthorId(), entity.getCreatedAt()))
-                .authorDeleted(isAuthorDeleted(entity.getAuthorId()))
-                .authorAnonymized(isAuthorAnonymized(entity.getAuthorId(), entity.getCreatedAt()))
+                .authorNickname(author.displayNameFor(entity.getCreatedAt()))
+                .authorDeleted(author.isDeleted())
+                .authorAnonymized(author.isAnonymizedFor(entity.getCreatedAt()))
                 .category(entity.getCategory())
                 .viewCount(entity.getViewCount())
                 .likeCount(entity.getLikeCount())
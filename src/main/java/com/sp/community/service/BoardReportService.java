@@ -1,5 +1,6 @@
 package com.sp.community.service;
 
+import com.sp.common.search.service.KeywordIndexService;
 import com.sp.community.model.dto.BoardReportCreateDTO;
 import com.sp.community.model.dto.BoardReportProcessDTO;
 import com.sp.community.model.dto.BoardReportSearchDTO;
@@ -10,7 +11,8 @@ import com.sp.community.persistent.entity.BoardReportEntity;
 import com.sp.community.persistent.repository.BoardReportRepository;
 import com.sp.community.persistent.repository.BoardRepository;
 import com.sp.config.FileProperties;
-import com.sp.member.repository.MemberRepository;
+import com.sp.member.dto.response.AuthorProfile;
+import com.sp.member.service.AuthorProfileResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -22,10 +24,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 /**
@@ -41,7 +42,8 @@ public class BoardReportService {
     private final BoardRepository boardRepository;
     private final FileProperties fileProperties;
     private final FileService fileService;
-    private final MemberRepository memberRepository;
+    private final AuthorProfileResolver authorProfileResolver;
+    private final KeywordIndexService keywordIndexService;
 
     /**
      * 게시글 신고 생성
@@ -151,7 +153,7 @@ public class BoardReportService {
             reports = boardReportRepository.findAll(pageable);
         }
 
-        return reports.map(this::convertToVO);
+        return convertToVOs(reports);
     }
 
     /**
@@ -178,7 +180,7 @@ public class BoardReportService {
         }
 
         Page<BoardReportEntity> reports = boardReportRepository.findByBoardId(boardId, pageable);
-        return reports.map(this::convertToVO);
+        return convertToVOs(reports);
     }
 
     /**
@@ -188,7 +190,7 @@ public class BoardReportService {
         log.debug("사용자 신고 목록 조회 요청: reporterId={}", reporterId);
 
         Page<BoardReportEntity> reports = boardReportRepository.findByReporterId(reporterId, pageable);
-        return reports.map(this::convertToVO);
+        return convertToVOs(reports);
     }
 
     /**
@@ -340,9 +342,7 @@ public class BoardReportService {
         LocalDateTime threeDaysAgo = LocalDateTime.now().minusDays(days);
         List<BoardReportEntity> reports = boardReportRepository.findLongPendingReports(threeDaysAgo);
 
-        return reports.stream()
-                .map(this::convertToVO)
-                .collect(Collectors.toList());
+        return convertToVOs(reports);
     }
 
     /**
@@ -352,9 +352,7 @@ public class BoardReportService {
         Pageable pageable = PageRequest.of(0, limit);
         List<BoardReportEntity> reports = boardReportRepository.findRecentReportsForAdmin(pageable);
 
-        return reports.stream()
-                .map(this::convertToVO)
-                .collect(Collectors.toList());
+        return convertToVOs(reports);
     }
 
     /**
@@ -401,11 +399,13 @@ public class BoardReportService {
             case HIDE -> {
                 // 게시글 숨김 처리 (isReported = true)
                 board.markAsReported();
+                keywordIndexService.indexBoard(board);
                 log.info("게시글 숨김 처리: boardId={}", board.getBoardId());
             }
             case DELETE -> {
                 // 게시글 소프트 삭제
                 board.softDelete();
+                keywordIndexService.removeBoard(board.getBoardId());
                 log.info("게시글 삭제 처리: boardId={}", board.getBoardId());
             }
             case WARNING -> {
@@ -429,59 +429,46 @@ public class BoardReportService {
         return PageRequest.of(searchDTO.getPage(), searchDTO.getSize(), sort);
     }
     /**
-     * 사용자 닉네임 조회 헬퍼 메서드
+     * Entity 페이지를 VO 페이지로 변환 (게시글 작성자/신고자 프로필 일괄 조회)
      */
-    private String getAuthorNickname(Long authorId, LocalDateTime createdAt) {
-        if (authorId == null) return "알수없음";
-        if (isAuthorAnonymized(authorId, createdAt)) return "알수없음";
-        try {
-            return memberRepository.findNicknameByMemberId(authorId).orElse("알수없음");
-        } catch (Exception e) {
-            log.warn("닉네임 조회 실패: authorId={}", authorId);
-            return "알수없음";
-        }
-    }
-
-    private boolean isAuthorDeleted(Long authorId) {
-        try {
-            return memberRepository.findIsDeletedByMemberId(authorId).orElse(false);
-        } catch (Exception e) {
-            log.warn("작성자 탈퇴 여부 조회 실패: authorId={}", authorId);
-            return false;
-        }
+    private Page<BoardReportVO> convertToVOs(Page<BoardReportEntity> reports) {
+        Map<Long, AuthorProfile> profiles = resolveProfiles(reports.getContent());
+        return reports.map(report -> convertToVO(report, profiles));
     }
 
-    private boolean isAuthorAnonymized(Long authorId, LocalDateTime createdAt) {
-        if (authorId == null || createdAt == null) return true;
-        LocalDateTime lastWithdrawn = getLastWithdrawnAt(authorId);
-        if (lastWithdrawn == null) {
-            return isAuthorDeleted(authorId);
-        }
-        return !createdAt.isAfter(lastWithdrawn);
+    /**
+     * Entity 목록을 VO 목록으로 변환 (게시글 작성자/신고자 프로필 일괄 조회)
+     */
+    private List<BoardReportVO> convertToVOs(List<BoardReportEntity> reports) {
+        Map<Long, AuthorProfile> profiles = resolveProfiles(reports);
+        return reports.stream()
+                .map(report -> convertToVO(report, profiles))
+                .collect(Collectors.toList());
     }
 
-    private LocalDateTime getLastWithdrawnAt(Long authorId) {
-        try {
-            return memberRepository.findLastWithdrawnAtByMemberId(authorId)
-                    .map(inst -> LocalDateTime.ofInstant(inst, ZoneOffset.UTC))
-                    .orElse(null);
-        } catch (Exception e) {
-            log.warn("lastWithdrawnAt 조회 실패: authorId={}", authorId);
-            return null;
-        }
+    private Map<Long, AuthorProfile> resolveProfiles(List<BoardReportEntity> reports) {
+        return authorProfileResolver.resolveAll(reports.stream()
+                .flatMap(report -> Stream.of(report.getBoard().getAuthorId(), report.getReporterId()))
+                .toList());
     }
 
     /**
      * Entity를 VO로 변환
      */
     private BoardReportVO convertToVO(BoardReportEntity entity) {
+        return convertToVO(entity, resolveProfiles(List.of(entity)));
+    }
+
+    private BoardReportVO convertToVO(BoardReportEntity entity, Map<Long, AuthorProfile> profiles) {
         BoardReportVO vo = BoardReportVO.builder()
                 .reportId(entity.getReportId())
                 .boardId(entity.getBoard().getBoardId())
                 .boardTitle(entity.getBoard().getTitle())
-                .boardAuthorNickname(getAuthorNickname(entity.getBoard().getAuthorId(), entity.getBoard().getCreatedAt()))
+                .boardAuthorNickname(AuthorProfileResolver.of(profiles, entity.getBoard().getAuthorId())
+                        .displayNameFor(entity.getBoard().getCreatedAt()))
                 .reporterId(entity.getReporterId())
-                .reporterNickname(getAuthorNickname(entity.getReporterId(), entity.getCreatedAt()))
+                .reporterNickname(AuthorProfileResolver.of(profiles, entity.getReporterId())
+                        .displayNameFor(entity.getCreatedAt()))
                 .reportType(entity.getReportType())
                 .reportTypeDescription(entity.getReportType().getDescription())
                 .reason(entity.getReason())
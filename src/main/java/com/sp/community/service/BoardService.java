@@ -1,5 +1,7 @@
 package com.sp.community.service;
 
+import com.sp.common.search.index.BigramInvertedIndex;
+import com.sp.common.search.service.KeywordIndexService;
 import com.sp.exception.BoardNotFoundException;
 import com.sp.exception.UnauthorizedException;
 import com.sp.community.model.dto.BoardCreateDTO;
@@ -14,19 +16,23 @@ import com.sp.community.persistent.repository.BoardRepository;
 import com.sp.community.persistent.repository.BoardLikeRepository;
 import com.sp.community.persistent.repository.CommentRepository;
 import com.sp.community.model.response.FileUploadResponse;
-import com.sp.member.repository.MemberRepository;
+import com.sp.member.dto.response.AuthorProfile;
+import com.sp.member.service.AuthorProfileResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -42,8 +48,9 @@ public class BoardService {
     private final BoardLikeRepository boardLikeRepository;
     private final CommentRepository commentRepository;
     private final FileService fileService;
-    private final BoardLikeService boardLikeService;
-    private final MemberRepository memberRepository;
+    private final LikeStatusResolver likeStatusResolver;
+    private final AuthorProfileResolver authorProfileResolver;
+    private final KeywordIndexService keywordIndexService;
 
     /**
      * 전체 게시글 개수 조회
@@ -104,6 +111,7 @@ public class BoardService {
 
         BoardEntity boardEntity = builder.build();
         BoardEntity savedBoard = boardRepository.save(boardEntity);
+        keywordIndexService.indexBoard(savedBoard);
 
 
         if (createDTO.hasImage()) {
@@ -159,6 +167,7 @@ public class BoardService {
         processImageChanges(boardEntity, updateDTO);
 
         BoardEntity savedBoard = boardRepository.save(boardEntity);
+        keywordIndexService.indexBoard(savedBoard);
         log.info("게시글 수정 완료: ID={}", savedBoard.getBoardId());
         return convertToVO(savedBoard);
     }
@@ -192,9 +201,7 @@ public class BoardService {
                 pageRequestDTO.toBoardPageable() :
                 PageRequestDTO.builder().build().toBoardPageable();
         Page<BoardEntity> boardPage = searchBoards(searchDTO, pageable);
-        List<BoardVO> boardVOs = boardPage.getContent().stream()
-                .map(this::convertToVO)
-                .collect(Collectors.toList());
+        List<BoardVO> boardVOs = convertToVOs(boardPage.getContent());
         return BoardListVO.builder()
                 .boards(boardVOs)
                 .pageInfo(createPageInfo(boardPage))
@@ -221,6 +228,7 @@ public class BoardService {
         commentRepository.deleteAllByBoardId(boardId);
 
         boardRepository.save(boardEntity);
+        keywordIndexService.removeBoard(boardId);
 
         log.info("게시글 삭제 완료: ID={}", boardId);
     }
@@ -253,9 +261,7 @@ public class BoardService {
 
         Page<BoardEntity> popularBoards = boardRepository.findWeeklyPopularBoards(oneWeekAgo, pageable);
 
-        return popularBoards.getContent().stream()
-                .map(this::convertToVO)
-                .collect(Collectors.toList());
+        return convertToVOs(popularBoards.getContent());
     }
 
     /**
@@ -271,9 +277,7 @@ public class BoardService {
 
         Page<BoardEntity> recentBoards = boardRepository.findAllNotDeleted(pageable);
 
-        return recentBoards.getContent().stream()
-                .map(this::convertToVO)
-                .collect(Collectors.toList());
+        return convertToVOs(recentBoards.getContent());
     }
 
     /**
@@ -293,9 +297,7 @@ public class BoardService {
         // 최근 게시글 조회 (사건제보는 승인된 것만)
         Page<BoardEntity> boardPage = boardRepository.findRecentBoards(null, pageable);
 
-        List<BoardVO> boardVOs = boardPage.getContent().stream()
-                .map(this::convertToVO)
-                .collect(Collectors.toList());
+        List<BoardVO> boardVOs = convertToVOs(boardPage.getContent());
 
         return BoardListVO.builder()
                 .boards(boardVOs)
@@ -321,9 +323,7 @@ public class BoardService {
         LocalDateTime after = getLastWithdrawnAt(authorId);
         Page<BoardEntity> boardPage = boardRepository.findByAuthorIdAndNotDeleted(authorId, after, pageable);
 
-        List<BoardVO> boardVOs = boardPage.getContent().stream()
-                .map(this::convertToVO)
-                .collect(Collectors.toList());
+        List<BoardVO> boardVOs = convertToVOs(boardPage.getContent());
 
         return BoardListVO.builder()
                 .boards(boardVOs)
@@ -356,10 +356,20 @@ public class BoardService {
             return boardRepository.findAllNotDeleted(pageable);
         }
 
-        // 키워드 검색
+        // 키워드 검색 (제목/내용은 색인에서 BM25 순, 한 글자 검색어와 작성자 검색은 DB)
         if (searchDTO.hasKeyword()) {
             String keyword = searchDTO.getTrimmedKeyword();
 
+            if (searchDTO.getSearchType() != BoardSearchDTO.SearchType.AUTHOR
+                    && keywordIndexService.isSearchable(keyword)) {
+                int fieldMask = switch (searchDTO.getSearchType()) {
+                    case TITLE -> KeywordIndexService.BOARD_TITLE;
+                    case CONTENT -> KeywordIndexService.BOARD_CONTENT;
+                    default -> KeywordIndexService.BOARD_TITLE | KeywordIndexService.BOARD_CONTENT;
+                };
+                return searchBoardsByIndex(keyword, fieldMask, pageable);
+            }
+
             return switch (searchDTO.getSearchType()) {
                 case TITLE -> boardRepository.findByTitleContainingAndNotDeleted(keyword, pageable);
                 case CONTENT -> boardRepository.findByContentContainingAndNotDeleted(keyword, pageable);
@@ -371,6 +381,28 @@ public class BoardService {
         return boardRepository.findAllNotDeleted(pageable);
     }
 
+    /**
+     * 색인 검색 결과 중 요청 페이지만 ID 로 조회 (점수 순서 유지)
+     */
+    private Page<BoardEntity> searchBoardsByIndex(String keyword, int fieldMask, Pageable pageable) {
+        int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE - pageable.getPageSize());
+        BigramInvertedIndex.Hits hits = keywordIndexService.searchBoards(keyword, fieldMask, false,
+                BigramInvertedIndex.Order.SCORE, offset + pageable.getPageSize());
+
+        List<Long> pageIds = hits.getHits().stream()
+                .skip(offset)
+                .map(BigramInvertedIndex.Hit::getId)
+                .toList();
+        Map<Long, BoardEntity> boards = boardRepository.findAllById(pageIds).stream()
+                .filter(board -> !board.isDeleted())
+                .collect(Collectors.toMap(BoardEntity::getBoardId, Function.identity()));
+        List<BoardEntity> content = pageIds.stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, hits.getTotal());
+    }
+
     /**
      * 이미지 변경사항 처리
      */
@@ -426,22 +458,39 @@ public class BoardService {
         }
     }
 
+    /**
+     * Entity 목록을 VO 목록으로 변환 (작성자 프로필/이미지 정보 일괄 조회)
+     */
+    private List<BoardVO> convertToVOs(List<BoardEntity> entities) {
+        Map<Long, AuthorProfile> profiles =
+                authorProfileResolver.resolveAll(entities, BoardEntity::getAuthorId);
+        Map<Long, FileUploadResponse> images = fileService.getBoardImageInfos(
+                entities.stream().map(BoardEntity::getBoardId).toList());
+
+        return entities.stream()
+                .map(entity -> convertToVO(entity,
+                        AuthorProfileResolver.of(profiles, entity.getAuthorId()),
+                        Optional.ofNullable(images.get(entity.getBoardId()))))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Entity를 VO로 변환
      */
     private BoardVO convertToVO(BoardEntity entity) {
-        // 이미지 파일 존재 여부 확인
-        Optional<FileUploadResponse> imageInfo = fileService.getBoardImageInfo(entity.getBoardId());
-
-        boolean anonymized = isAuthorAnonymized(entity.getAuthorId(), entity.getCreatedAt());
+        return convertToVO(entity,
+                authorProfileResolver.resolve(entity.getAuthorId()),
+                fileService.getBoardImageInfo(entity.getBoardId()));
+    }
 
+    private BoardVO convertToVO(BoardEntity entity, AuthorProfile author, Optional<FileUploadResponse> imageInfo) {
         BoardVO vo = BoardVO.builder()
                 .boardId(entity.getBoardId())
                 .title(entity.getTitle())
                 .authorId(entity.getAuthorId())
-                .authorNickname(anonymized ? "알수없음" : getAuthorNickname(entity.getAuthorId()))
-                .authorDeleted(isAuthorDeleted(entity.getAuthorId()))
-                .authorAnonymized(anonymized)
+                .authorNickname(author.boardDisplayNameFor(entity.getCreatedAt()))
+                .authorDeleted(author.isDeleted())
+                .authorAnonymized(author.isAnonymizedFor(entity.getCreatedAt()))
                 .content(entity.getContent())
                 .category(entity.getCategory())
                 .viewCount(entity.getViewCount())
@@ -472,16 +521,16 @@ public class BoardService {
         // 이미지 파일 정보 조회
         Optional<FileUploadResponse> imageInfo = fileService.getBoardImageInfo(entity.getBoardId());
 
-        boolean anonymized = isAuthorAnonymized(entity.getAuthorId(), entity.getCreatedAt());
+        AuthorProfile author = authorProfileResolver.resolve(entity.getAuthorId());
 
         BoardDetailVO detailVO = BoardDetailVO.builder()
                 .boardId(entity.getBoardId())
                 .title(entity.getTitle())
                 .content(entity.getContent())
                 .authorId(entity.getAuthorId())
-                .authorNickname(anonymized ? "알수없음" : getAuthorNickname(entity.getAuthorId()))
-                .authorDeleted(isAuthorDeleted(entity.getAuthorId()))
-                .authorAnonymized(anonymized)
+                .authorNickname(author.boardDisplayNameFor(entity.getCreatedAt()))
+                .authorDeleted(author.isDeleted())
+                .authorAnonymized(author.isAnonymizedFor(entity.getCreatedAt()))
                 .category(entity.getCategory())
                 .reportType(entity.getReportType())
                 .reportLocation(entity.getReportLocation())
@@ -502,7 +551,8 @@ public class BoardService {
 
         // 현재 사용자의 좋아요 여부 확인
         if (currentUserId != null) {
-            boolean isLiked = boardLikeService.hasUserLiked(entity.getBoardId(), currentUserId);
+            boolean isLiked = likeStatusResolver.findLikedBoardIds(List.of(entity.getBoardId()), currentUserId)
+                    .contains(entity.getBoardId());
             detailVO.setIsLiked(isLiked);
         }
 
@@ -559,15 +609,15 @@ public class BoardService {
      * Entity를 VO로 변환 (예시 - 실제로는 기존 변환 로직 사용)
      */
     private BoardVO convertToBoardVO(BoardEntity entity) {
-        boolean anonymized = isAuthorAnonymized(entity.getAuthorId(), entity.getCreatedAt());
+        AuthorProfile author = authorProfileResolver.resolve(entity.getAuthorId());
         return BoardVO.builder()
                 .boardId(entity.getBoardId())
                 .title(entity.getTitle())
                 .authorId(entity.getAuthorId())
                 .category(entity.getCategory())
-                .authorNickname(anonymized ? "알수없음" : getAuthorNickname(entity.getAuthorId()))
-                .authorDeleted(isAuthorDeleted(entity.getAuthorId()))
-                .authorAnonymized(anonymized)
+                .authorNickname(author.boardDisplayNameFor(entity.getCreatedAt()))
+                .authorDeleted(author.isDeleted())
+                .authorAnonymized(author.isAnonymizedFor(entity.getCreatedAt()))
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .isReported(entity.getIsReported())
@@ -576,58 +626,9 @@ public class BoardService {
 
 
     /**
-     * 사용자 닉네임 조회 헬퍼 메서드
-     */
-    private String getAuthorNickname(Long authorId) {
-        if (authorId == null) {
-            return "알수없음";
-        }
-
-        if (isAuthorDeleted(authorId)) {
-            return "알수없음";
-        }
-
-        try {
-            return memberRepository.findNicknameByMemberId(authorId)
-                    .orElse("알수없음");
-        } catch (Exception e) {
-            log.warn("닉네임 조회 실패: authorId={}", authorId);
-            return "알수없음";
-        }
-    }
-
-    private boolean isAuthorDeleted(Long authorId) {
-        try {
-            return memberRepository.findIsDeletedByMemberId(authorId)
-                    .orElse(false);
-        } catch (Exception e) {
-            log.warn("작성자 탈퇴 여부 조회 실패: authorId={}", authorId);
-            return false;
-        }
-    }
-
-    /**
-     * 탈퇴 기준 이후 작성물인지 확인
+     * 회원의 마지막 탈퇴 시각 조회 (탈퇴 이력 없으면 null)
      */
-    private boolean isAuthorAnonymized(Long authorId, LocalDateTime contentCreatedAt) {
-        if (authorId == null || contentCreatedAt == null) {
-            return true;
-        }
-        LocalDateTime lastWithdrawn = getLastWithdrawnAt(authorId);
-        if (lastWithdrawn == null) {
-            return isAuthorDeleted(authorId); // 삭제 상태면 익명 처리
-        }
-        return !contentCreatedAt.isAfter(lastWithdrawn);
-    }
-
     private LocalDateTime getLastWithdrawnAt(Long authorId) {
-        try {
-            return memberRepository.findLastWithdrawnAtByMemberId(authorId)
-                    .map(inst -> LocalDateTime.ofInstant(inst, ZoneOffset.UTC))
-                    .orElse(null);
-        } catch (Exception e) {
-            log.warn("lastWithdrawnAt 조회 실패: authorId={}", authorId);
-            return null;
-        }
+        return authorProfileResolver.resolve(authorId).getLastWithdrawnAt();
     }
 }
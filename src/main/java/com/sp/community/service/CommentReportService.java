@@ -10,7 +10,8 @@ import com.sp.community.persistent.repository.CommentReportRepository;
 import com.sp.community.persistent.repository.CommentRepository;
 import com.sp.config.FileProperties;
 import com.sp.exception.CommentNotFoundException;
-import com.sp.member.repository.MemberRepository;
+import com.sp.member.dto.response.AuthorProfile;
+import com.sp.member.service.AuthorProfileResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -20,8 +21,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Map;
 
 /**
  * 댓글 신고 서비스
@@ -36,7 +37,7 @@ public class CommentReportService {
     private final CommentRepository commentRepository;
     private final FileProperties fileProperties;
     private final FileService fileService;
-    private final MemberRepository memberRepository;
+    private final AuthorProfileResolver authorProfileResolver;
 
     /**
      * 댓글 신고 생성
@@ -137,49 +138,6 @@ public class CommentReportService {
         return commentReportRepository.countByCommentId(commentId);
     }
 
-    /**
-     * 사용자 닉네임 조회 헬퍼 메서드
-     */
-    private String getAuthorNickname(Long authorId, LocalDateTime createdAt) {
-        if (authorId == null) return "알수없음";
-        if (isAuthorAnonymized(authorId, createdAt)) return "알수없음";
-        try {
-            return memberRepository.findNicknameByMemberId(authorId)
-                    .orElse("알수없음");
-        } catch (Exception e) {
-            log.warn("닉네임 조회 실패: authorId={}", authorId);
-            return "알수없음";
-        }
-    }
-
-    private boolean isAuthorAnonymized(Long authorId, LocalDateTime createdAt) {
-        if (authorId == null || createdAt == null) return true;
-        LocalDateTime lastWithdrawn = getLastWithdrawnAt(authorId);
-        if (lastWithdrawn == null) {
-            return isAuthorDeleted(authorId);
-        }
-        return !createdAt.isAfter(lastWithdrawn);
-    }
-
-    private boolean isAuthorDeleted(Long authorId) {
-        try {
-            return memberRepository.findIsDeletedByMemberId(authorId).orElse(false);
-        } catch (Exception e) {
-            log.warn("작성자 탈퇴 여부 조회 실패: authorId={}", authorId);
-            return false;
-        }
-    }
-
-    private LocalDateTime getLastWithdrawnAt(Long authorId) {
-        try {
-            return memberRepository.findLastWithdrawnAtByMemberId(authorId)
-                    .map(inst -> LocalDateTime.ofInstant(inst, ZoneOffset.UTC))
-                    .orElse(null);
-        } catch (Exception e) {
-            log.warn("lastWithdrawnAt 조회 실패: authorId={}", authorId);
-            return null;
-        }
-    }
     // === Private Helper Methods ===
 
     /**
@@ -228,17 +186,21 @@ public class CommentReportService {
      * Entity를 VO로 변환
      */
     private CommentReportVO convertToVO(CommentReportEntity entity) {
+        Map<Long, AuthorProfile> profiles = authorProfileResolver.resolveAll(
+                Arrays.asList(entity.getComment().getAuthorId(), entity.getReporterId()));
+
         CommentReportVO vo = CommentReportVO.builder()
                 .reportId(entity.getReportId())
                 .commentId(entity.getComment().getCommentId())
                 .commentContent(entity.getComment().getContent())
                 .commentAuthorId(entity.getComment().getAuthorId())
-                .commentAuthorNickname(getAuthorNickname(entity.getComment().getAuthorId(),
-                        entity.getComment().getCreatedAt()))
+                .commentAuthorNickname(AuthorProfileResolver.of(profiles, entity.getComment().getAuthorId())
+                        .displayNameFor(entity.getComment().getCreatedAt()))
                 .boardId(entity.getComment().getBoard().getBoardId())
                 .boardTitle(entity.getComment().getBoard().getTitle())
                 .reporterId(entity.getReporterId())
-                .reporterNickname(getAuthorNickname(entity.getReporterId(), entity.getCreatedAt()))
+                .reporterNickname(AuthorProfileResolver.of(profiles, entity.getReporterId())
+                        .displayNameFor(entity.getCreatedAt()))
                 .reportType(entity.getReportType())
                 .reportTypeDescription(entity.getReportType().getDescription())
                 .reason(entity.getReason())
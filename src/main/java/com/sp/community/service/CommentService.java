@@ -14,7 +14,8 @@ import com.sp.community.persistent.entity.CommentLikeEntity;
 import com.sp.community.persistent.repository.BoardRepository;
 import com.sp.community.persistent.repository.CommentRepository;
 import com.sp.community.persistent.repository.CommentLikeRepository;
-import com.sp.member.repository.MemberRepository;
+import com.sp.member.dto.response.AuthorProfile;
+import com.sp.member.service.AuthorProfileResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -23,9 +24,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -40,7 +42,8 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
     private final CommentLikeRepository commentLikeRepository;
-    private final MemberRepository memberRepository;
+    private final AuthorProfileResolver authorProfileResolver;
+    private final LikeStatusResolver likeStatusResolver;
     private final BoardService boardService;
 
     /**
@@ -158,9 +161,7 @@ public class CommentService {
         // 댓글 조회 (보이는 댓글만)
         Page<CommentEntity> commentPage = commentRepository.findByBoardIdAndVisible(boardId, pageable);
 
-        return commentPage.getContent().stream()
-                .map(comment -> convertToVO(comment, currentUserId))
-                .collect(Collectors.toList());
+        return convertToVOs(commentPage.getContent(), currentUserId);
     }
 
     /**
@@ -197,9 +198,7 @@ public class CommentService {
         LocalDateTime after = getLastWithdrawnAt(authorId);
         Page<CommentEntity> commentPage = commentRepository.findByAuthorIdAndVisible(authorId, after, pageable);
 
-        return commentPage.getContent().stream()
-                .map(comment -> convertToVO(comment, currentUserId))
-                .collect(Collectors.toList());
+        return convertToVOs(commentPage.getContent(), currentUserId);
     }
 
     /**
@@ -297,9 +296,7 @@ public class CommentService {
 
         Page<CommentEntity> popularComments = commentRepository.findPopularComments(minLikes, pageable);
 
-        return popularComments.getContent().stream()
-                .map(comment -> convertToVO(comment, currentUserId))
-                .collect(Collectors.toList());
+        return convertToVOs(popularComments.getContent(), currentUserId);
     }
 
     /**
@@ -346,14 +343,17 @@ public class CommentService {
                     .boardId(commentEntity.getBoard().getBoardId())
                     .commentContent(commentEntity.getContent())
                     .commentAuthorId(commentEntity.getAuthorId())
-                    .commentAuthorNickname(getAuthorDisplayName(commentEntity.getAuthorId(), commentEntity.getCreatedAt()))
+                    .commentAuthorNickname(authorProfileResolver.resolve(commentEntity.getAuthorId())
+                            .displayNameFor(commentEntity.getCreatedAt()))
                     .commentCreatedAt(commentEntity.getCreatedAt())
                     //.commentStatus(commentEntity.getStatus())
                     .isCommentReported(false) // 필요시 별도 조회
                     // 게시글 정보
                     .boardTitle(boardEntity != null ? boardEntity.getTitle() : "게시글 정보 없음")
                     //.boardCategory(boardEntity != null ? boardEntity.getCategory().name() : "UNKNOWN")
-                    .boardAuthorNickname(boardEntity != null ? getAuthorDisplayName(boardEntity.getAuthorId(), boardEntity.getCreatedAt()) : "알 수 없음")
+                    .boardAuthorNickname(boardEntity != null
+                            ? authorProfileResolver.resolve(boardEntity.getAuthorId()).displayNameFor(boardEntity.getCreatedAt())
+                            : "알 수 없음")
                     //.boardStatus(boardEntity != null ? boardEntity.getStatus() : null)
                     .isBoardReported(false) // 필요시 별도 조회
                     .build();
@@ -366,45 +366,11 @@ public class CommentService {
         }
     }
 
-    /** 작성자 표시명: 탈퇴 상태나 마지막 탈퇴 시각 이전 작성물은 익명 처리 */
-    private String getAuthorDisplayName(Long authorId, LocalDateTime createdAt) {
-        if (authorId == null) return "알수없음";
-        if (isAuthorAnonymized(authorId, createdAt)) return "알수없음";
-        try {
-            return memberRepository.findNicknameByMemberId(authorId).orElse("알수없음");
-        } catch (Exception e) {
-            log.warn("닉네임 조회 실패: authorId={}", authorId);
-            return "알수없음";
-        }
-    }
-
-    private boolean isAuthorDeleted(Long authorId) {
-        try {
-            return memberRepository.findIsDeletedByMemberId(authorId).orElse(false);
-        } catch (Exception e) {
-            log.warn("작성자 탈퇴 여부 조회 실패: authorId={}", authorId);
-            return false;
-        }
-    }
-
-    private boolean isAuthorAnonymized(Long authorId, LocalDateTime createdAt) {
-        if (authorId == null || createdAt == null) return true;
-        LocalDateTime lastWithdrawn = getLastWithdrawnAt(authorId);
-        if (lastWithdrawn == null) {
-            return isAuthorDeleted(authorId);
-        }
-        return !createdAt.isAfter(lastWithdrawn);
-    }
-
+    /**
+     * 회원의 마지막 탈퇴 시각 조회 (탈퇴 이력 없으면 null)
+     */
     private LocalDateTime getLastWithdrawnAt(Long authorId) {
-        try {
-            return memberRepository.findLastWithdrawnAtByMemberId(authorId)
-                    .map(inst -> LocalDateTime.ofInstant(inst, ZoneOffset.UTC))
-                    .orElse(null);
-        } catch (Exception e) {
-            log.warn("lastWithdrawnAt 조회 실패: authorId={}", authorId);
-            return null;
-        }
+        return authorProfileResolver.resolve(authorId).getLastWithdrawnAt();
     }
 
     // ============ Private Helper Methods ============
@@ -450,18 +416,41 @@ public class CommentService {
         }
     }
 
+    /**
+     * Entity 목록을 VO 목록으로 변환 (작성자 프로필/좋아요 여부 일괄 조회)
+     */
+    private List<CommentVO> convertToVOs(List<CommentEntity> entities, Long currentUserId) {
+        Map<Long, AuthorProfile> profiles =
+                authorProfileResolver.resolveAll(entities, CommentEntity::getAuthorId);
+        Set<Long> likedCommentIds = likeStatusResolver.findLikedCommentIds(
+                entities.stream().map(CommentEntity::getCommentId).toList(), currentUserId);
+
+        return entities.stream()
+                .map(comment -> convertToVO(comment, AuthorProfileResolver.of(profiles, comment.getAuthorId()),
+                        likedCommentIds, currentUserId))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Entity를 VO로 변환
      */
     private CommentVO convertToVO(CommentEntity entity, Long currentUserId) {
+        Set<Long> likedCommentIds = likeStatusResolver.findLikedCommentIds(
+                List.of(entity.getCommentId()), currentUserId);
+        return convertToVO(entity, authorProfileResolver.resolve(entity.getAuthorId()),
+                likedCommentIds, currentUserId);
+    }
+
+    private CommentVO convertToVO(CommentEntity entity, AuthorProfile author,
+                                  Set<Long> likedCommentIds, Long currentUserId) {
         CommentVO commentVO = CommentVO.builder()
                 .commentId(entity.getCommentId())
                 .boardId(entity.getBoard().getBoardId())
                 .content(entity.getContent())
                 .authorId(entity.getAuthorId())
-                .authorNickname(getAuthorDisplayName(entity.getAuthorId(), entity.getCreatedAt()))
-                .authorDeleted(isAuthorDeleted(entity.getAuthorId()))
-                .authorAnonymized(isAuthorAnonymized(entity.getAuthorId(), entity.getCreatedAt()))
+                .authorNickname(author.displayNameFor(entity.getCreatedAt()))
+                .authorDeleted(author.isDeleted())
+                .authorAnonymized(author.isAnonymizedFor(entity.getCreatedAt()))
                 .likeCount(entity.getLikeCount())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
@@ -472,8 +461,7 @@ public class CommentService {
 
         // 현재 사용자의 좋아요 여부 확인
         if (currentUserId != null) {
-            boolean isLiked = hasUserLikedComment(entity.getCommentId(), currentUserId);
-            commentVO.setIsLiked(isLiked);
+            commentVO.setIsLiked(likedCommentIds.contains(entity.getCommentId()));
         }
 
         // 댓글 상태 설정
@@ -25,8 +25,14 @@ import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -106,18 +112,44 @@ public class FileService {
      */
     @Transactional(readOnly = true)
     public Optional<FileUploadResponse> getBoardImageInfo(Long boardId) {
-        BoardEntity board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        if (boardId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(getBoardImageInfos(List.of(boardId)).get(boardId));
+    }
+
+    /**
+     * 게시글 ID 목록의 이미지 파일 정보 일괄 조회 (게시글 ID → 이미지 정보, 이미지 없는 게시글은 제외)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, FileUploadResponse> getBoardImageInfos(Collection<Long> boardIds) {
+        Set<Long> ids = boardIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return boardFileRepository.findByBoardIds(ids).stream()
+                .collect(Collectors.toMap(
+                        file -> file.getBoard().getBoardId(),
+                        this::toFileUploadResponse,
+                        // 게시글당 한 개만 존재해야 하나, 중복 시 최신 파일 사용
+                        (a, b) -> a.getFileId() >= b.getFileId() ? a : b));
+    }
 
-        return boardFileRepository.findByBoard(board)
-                .map(file -> FileUploadResponse.builder()
-                        .fileId(file.getFileId())
-                        .originalFileName(file.getOriginalFileName())
-                        .storedFileName(file.getStoredFileName())
-                        .fileUrl(fileProperties.getBaseUrl() + file.getStoredFileName())
-                        .fileSize(file.getFileSize())
-                        .contentType(file.getContentType())
-                        .build());
+    /**
+     * 게시글 파일 Entity를 응답 DTO로 변환
+     */
+    private FileUploadResponse toFileUploadResponse(BoardFileEntity file) {
+        return FileUploadResponse.builder()
+                .fileId(file.getFileId())
+                .originalFileName(file.getOriginalFileName())
+                .storedFileName(file.getStoredFileName())
+                .fileUrl(fileProperties.getBaseUrl() + file.getStoredFileName())
+                .fileSize(file.getFileSize())
+                .contentType(file.getContentType())
+                .build();
     }
 
     /**
@@ -0,0 +1,57 @@
+package com.sp.community.service;
+
+import com.sp.community.persistent.repository.BoardLikeRepository;
+import com.sp.community.persistent.repository.CommentLikeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 현재 사용자의 좋아요 여부 일괄 조회기
+ * - 한 페이지의 게시글/댓글 ID를 모아 IN 쿼리 한 번으로 좋아요한 ID 집합을 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LikeStatusResolver {
+
+    private final BoardLikeRepository boardLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+
+    /**
+     * 게시글 ID 목록 중 사용자가 좋아요한 게시글 ID 조회
+     */
+    public Set<Long> findLikedBoardIds(Collection<Long> boardIds, Long userId) {
+        List<Long> ids = distinctIds(boardIds);
+        if (userId == null || ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(boardLikeRepository.findLikedBoardIds(ids, userId));
+    }
+
+    /**
+     * 댓글 ID 목록 중 사용자가 좋아요한 댓글 ID 조회
+     */
+    public Set<Long> findLikedCommentIds(Collection<Long> commentIds, Long userId) {
+        List<Long> ids = distinctIds(commentIds);
+        if (userId == null || ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(commentLikeRepository.findLikedCommentIds(ids, userId));
+    }
+
+    private List<Long> distinctIds(Collection<Long> ids) {
+        return ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+}
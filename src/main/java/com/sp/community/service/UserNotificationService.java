@@ -5,7 +5,8 @@ import com.sp.community.persistent.entity.BoardLikeEntity;
 import com.sp.community.persistent.entity.CommentEntity;
 import com.sp.community.persistent.repository.BoardLikeRepository;
 import com.sp.community.persistent.repository.CommentRepository;
-import com.sp.member.repository.MemberRepository;
+import com.sp.member.dto.response.AuthorProfile;
+import com.sp.member.service.AuthorProfileResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -16,8 +17,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -31,7 +32,7 @@ public class UserNotificationService {
 
     private final CommentRepository commentRepository;
     private final BoardLikeRepository boardLikeRepository;
-    private final MemberRepository memberRepository;
+    private final AuthorProfileResolver authorProfileResolver;
 
     /**
      * 사용자의 게시글에 달린 새 댓글 수 조회
@@ -90,9 +91,15 @@ public class UserNotificationService {
 
         Page<CommentEntity> commentPage = commentRepository.findNewCommentsOnUserBoards(userId, since, pageable);
 
-        return commentPage.getContent().stream()
+        List<CommentEntity> comments = commentPage.getContent().stream()
                 .filter(this::isActiveNotificationComment)
-                .map(this::convertToNewCommentNotificationDTO)
+                .toList();
+        Map<Long, AuthorProfile> profiles =
+                authorProfileResolver.resolveAll(comments, CommentEntity::getAuthorId);
+
+        return comments.stream()
+                .map(comment -> convertToNewCommentNotificationDTO(comment,
+                        AuthorProfileResolver.of(profiles, comment.getAuthorId())))
                 .collect(Collectors.toList());
     }
 
@@ -160,30 +167,15 @@ public class UserNotificationService {
 
     // ============ Private Helper Methods ============
 
-    /**
-     * 사용자 닉네임 조회 헬퍼 메서드
-     */
-    private String getAuthorNickname(Long authorId, LocalDateTime createdAt) {
-        if (authorId == null) return "알수없음";
-        if (isAuthorAnonymized(authorId, createdAt)) return "알수없음";
-        try {
-            return memberRepository.findNicknameByMemberId(authorId)
-                    .orElse("알수없음");
-        } catch (Exception e) {
-            log.warn("닉네임 조회 실패: authorId={}", authorId);
-            return "알수없음";
-        }
-    }
-
     /**
      * CommentEntity를 NewCommentNotificationDTO로 변환
      */
-    private NewCommentNotificationDTO convertToNewCommentNotificationDTO(CommentEntity comment) {
+    private NewCommentNotificationDTO convertToNewCommentNotificationDTO(CommentEntity comment, AuthorProfile commenter) {
         return NewCommentNotificationDTO.builder()
                 .commentId(comment.getCommentId())
                 .content(comment.getContent())
                 .commenterUserId(comment.getAuthorId())
-                .commenterNickname(getAuthorNickname(comment.getAuthorId(), comment.getCreatedAt()))
+                .commenterNickname(commenter.displayNameFor(comment.getCreatedAt()))
                 .boardId(comment.getBoard().getBoardId())
                 .boardTitle(comment.getBoard().getTitle())
                 .createdAt(comment.getCreatedAt())
@@ -209,15 +201,6 @@ public class UserNotificationService {
                 .build();
     }
 
-    private boolean isAuthorAnonymized(Long authorId, LocalDateTime createdAt) {
-        if (authorId == null || createdAt == null) return true;
-        LocalDateTime lastWithdrawn = getLastWithdrawnAt(authorId);
-        if (lastWithdrawn == null) {
-            return isAuthorDeleted(authorId);
-        }
-        return !createdAt.isAfter(lastWithdrawn);
-    }
-
     private boolean isActiveNotificationComment(CommentEntity comment) {
         if (comment == null) return false;
         if (Boolean.TRUE.equals(comment.getIsDeleted())) return false;
@@ -231,24 +214,4 @@ public class UserNotificationService {
         if (like.getBoard() == null) return false;
         return !like.getBoard().isDeleted();
     }
-
-    private boolean isAuthorDeleted(Long authorId) {
-        try {
-            return memberRepository.findIsDeletedByMemberId(authorId).orElse(false);
-        } catch (Exception e) {
-            log.warn("작성자 탈퇴 여부 조회 실패: authorId={}", authorId);
-            return false;
-        }
-    }
-
-    private LocalDateTime getLastWithdrawnAt(Long authorId) {
-        try {
-            return memberRepository.findLastWithdrawnAtByMemberId(authorId)
-                    .map(inst -> LocalDateTime.ofInstant(inst, ZoneOffset.UTC))
-                    .orElse(null);
-        } catch (Exception e) {
-            log.warn("lastWithdrawnAt 조회 실패: authorId={}", authorId);
-            return null;
-        }
-    }
 }
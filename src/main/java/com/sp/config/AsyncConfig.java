@@ -25,4 +25,20 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 지도 파생 인덱스(최근접 검색 트리 등) 백그라운드 재구성용 - 재구성은 한 번에 하나만 수행
+     */
+    @Bean(name = "mapIndexTaskExecutor")
+    public Executor mapIndexTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("map-index-");
+        executor.setRejectedExecutionHandler((r, e) ->
+                log.warn("Map index rebuild rejected, previous rebuilds still queued"));
+        executor.initialize();
+        return executor;
+    }
 }
\ No newline at end of file
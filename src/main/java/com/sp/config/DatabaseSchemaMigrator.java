@@ -0,0 +1,44 @@
+package com.sp.config;
+
+import com.sp.config.migration.SchemaMigration;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Hibernate 매핑 검증(ddl-auto=validate) 전에 스키마 마이그레이션 단계 실행
+ * - {@link SchemaMigrationConfig} 로 EntityManagerFactory 보다 먼저 실행
+ * - 단계는 {@link SchemaMigration} 빈으로 추가하고 버전 오름차순으로 매 시작 시 모두 실행
+ *   (단계마다 이미 반영된 변경은 확인 후 건너뜀)
+ */
+@Slf4j
+@Component
+public class DatabaseSchemaMigrator {
+
+    private final List<SchemaMigration> migrations;
+
+    public DatabaseSchemaMigrator(List<SchemaMigration> migrations) {
+        this.migrations = migrations.stream()
+                .sorted(Comparator.comparingInt(SchemaMigration::version))
+                .toList();
+        for (int i = 1; i < this.migrations.size(); i++) {
+            SchemaMigration previous = this.migrations.get(i - 1);
+            SchemaMigration current = this.migrations.get(i);
+            if (previous.version() == current.version()) {
+                throw new IllegalStateException(String.format("스키마 마이그레이션 버전 중복: V%d (%s, %s)",
+                        current.version(), previous.getClass().getSimpleName(), current.getClass().getSimpleName()));
+            }
+        }
+    }
+
+    @PostConstruct
+    public void migrate() {
+        for (SchemaMigration migration : migrations) {
+            log.info("스키마 마이그레이션 확인: V{} {}", migration.version(), migration.description());
+            migration.migrate();
+        }
+    }
+}
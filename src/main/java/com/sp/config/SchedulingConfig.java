@@ -0,0 +1,14 @@
+package com.sp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} 작업 활성화 (토큰 블랙리스트 정리, 지도 통계 대사 등)
+ * - 전체 테이블을 읽는 재구축 작업이 다른 작업을 막지 않도록 스케줄러 스레드는 여러 개
+ *   ({@code spring.task.scheduling.pool.size})
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,17 @@
+package com.sp.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스키마 마이그레이션을 JPA 스키마 검증(ddl-auto=validate)보다 먼저 실행
+ */
+@Configuration
+public class SchemaMigrationConfig {
+
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor databaseSchemaMigratorDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor(DatabaseSchemaMigrator.class);
+    }
+}
@@ -85,6 +85,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers("/api/v1/main/**").permitAll()
                         .requestMatchers("/api/v1/cyber-flashing/**").permitAll()
+                        .requestMatchers("/api/v1/map/**").permitAll()
+                        .requestMatchers("/tiles/**").permitAll()
                         .requestMatchers("/oauth2/**").permitAll()
                         .requestMatchers("/login/oauth2/**").permitAll()
                         .requestMatchers("/error").permitAll()
@@ -94,6 +96,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/crime-cases/**").authenticated()
                         .requestMatchers("/files/**").permitAll()
                         .requestMatchers("/api/v1/search/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/articles/bulk").authenticated()
                         .anyRequest().permitAll()
                 )
                 .exceptionHandling(exception -> exception
@@ -0,0 +1,83 @@
+package com.sp.config.migration;
+
+import com.sp.common.util.LenientDateParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * V5 기사 게재 시각(published_at) DATETIME 컬럼
+ * - 자유 형식 contribution_date 문자열을 해석한 값, 새 기사는 수집 시 기록
+ * - 비어 있는 행만 ID 오름차순 청크로 읽어 채움 (기사 전체를 한 번에 읽지 않음)
+ * - 해석 불가 값은 NULL 로 남음 (정렬 시 마지막)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticlePublishedAtMigration implements SchemaMigration {
+
+    private static final int CHUNK_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchemaOperations schema;
+
+    @Override
+    public int version() {
+        return 5;
+    }
+
+    @Override
+    public String description() {
+        return "article 게재 시각 컬럼과 인덱스";
+    }
+
+    @Override
+    public void migrate() {
+        if (!schema.tableExists("article")) {
+            return;
+        }
+        schema.addColumnIfMissing("article", "published_at", "DATETIME NULL");
+
+        int parsedTotal = 0;
+        int unparsedTotal = 0;
+        long lastId = 0;
+        while (true) {
+            List<Object[]> parsed = new ArrayList<>();
+            long[] chunkLastId = {lastId};
+            int[] rows = {0};
+            jdbcTemplate.query("""
+                    SELECT article_id, contribution_date
+                    FROM article
+                    WHERE published_at IS NULL AND article_id > ?
+                    ORDER BY article_id
+                    LIMIT ?
+                    """, rs -> {
+                long id = rs.getLong(1);
+                chunkLastId[0] = id;
+                rows[0]++;
+                LenientDateParser.parseDateTime(rs.getString(2))
+                        .ifPresent(publishedAt -> parsed.add(new Object[]{Timestamp.valueOf(publishedAt), id}));
+            }, lastId, CHUNK_SIZE);
+
+            if (!parsed.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE article SET published_at = ? WHERE article_id = ?", parsed);
+            }
+            parsedTotal += parsed.size();
+            unparsedTotal += rows[0] - parsed.size();
+            lastId = chunkLastId[0];
+            if (rows[0] < CHUNK_SIZE) {
+                break;
+            }
+        }
+        schema.createIndexIfMissing("article", "idx_article_published_at", "published_at");
+
+        if (parsedTotal > 0 || unparsedTotal > 0) {
+            log.info("article.published_at 채움: parsed={}, unparseable={}", parsedTotal, unparsedTotal);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.sp.config.migration;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * V3 사이버 플래싱 필터 복합 인덱스
+ * - id 로 끝나는 인덱스라 키셋 페이지(id &lt; lastId ORDER BY id DESC)가 범위 스캔
+ * - 복합 인덱스가 대신하는 단일 컬럼 인덱스는 삭제
+ */
+@Component
+@RequiredArgsConstructor
+public class CyberFlashingFilterIndexMigration implements SchemaMigration {
+
+    private static final String TABLE = "cyber_flashing_case";
+
+    private final SchemaOperations schema;
+
+    @Override
+    public int version() {
+        return 3;
+    }
+
+    @Override
+    public String description() {
+        return "cyber_flashing_case 필터 복합 인덱스";
+    }
+
+    @Override
+    public void migrate() {
+        if (!schema.tableExists(TABLE)) {
+            return;
+        }
+        schema.createIndexIfMissing(TABLE, "idx_cyber_flashing_country_filter",
+                "country_code, include_flag, duplicate_flag, id");
+        schema.createIndexIfMissing(TABLE, "idx_cyber_flashing_include_filter", "include_flag, duplicate_flag, id");
+        schema.dropIndexIfExists(TABLE, "idx_cyber_flashing_country_code");
+        schema.dropIndexIfExists(TABLE, "idx_cyber_flashing_include_flag");
+        schema.dropIndexIfExists(TABLE, "idx_cyber_flashing_duplicate_flag");
+        schema.createIndexIfMissing(TABLE, "idx_cyber_flashing_duplicate_filter", "duplicate_flag, id");
+    }
+}
@@ -0,0 +1,46 @@
+package com.sp.config.migration;
+
+import com.sp.cyberflashing.service.CyberFlashingOccurredOnBackfillService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * V4 사이버 플래싱 발생일(occurred_on) DATE 컬럼
+ * - 자유 형식 occurred_date 문자열을 엔티티 저장 시와 같은 규칙으로 해석한 값
+ * - 현재 최대 ID 까지 {@link CyberFlashingOccurredOnBackfillService} 가 청크 단위로 채움
+ *   (해석 불가 값은 NULL 로 남고 다음 시작 때 다시 확인)
+ */
+@Component
+@RequiredArgsConstructor
+public class CyberFlashingOccurredOnMigration implements SchemaMigration {
+
+    private static final String TABLE = "cyber_flashing_case";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchemaOperations schema;
+    private final CyberFlashingOccurredOnBackfillService occurredOnBackfillService;
+
+    @Override
+    public int version() {
+        return 4;
+    }
+
+    @Override
+    public String description() {
+        return "cyber_flashing_case 발생일 컬럼과 국가/발생일 인덱스";
+    }
+
+    @Override
+    public void migrate() {
+        if (!schema.tableExists(TABLE)) {
+            return;
+        }
+        schema.addColumnIfMissing(TABLE, "occurred_on", "DATE NULL");
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM cyber_flashing_case", Long.class);
+        if (maxId != null) {
+            occurredOnBackfillService.backfillUpTo(maxId);
+        }
+        schema.createIndexIfMissing(TABLE, "idx_cyber_flashing_country_occurred", "country_code, occurred_on");
+    }
+}
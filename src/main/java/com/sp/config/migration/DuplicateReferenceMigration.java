@@ -0,0 +1,34 @@
+package com.sp.config.migration;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * V2 근접 중복 연결 컬럼
+ * - 원본을 가리키는 행은 저장은 되지만 지도 집계에서는 빠짐
+ */
+@Component
+@RequiredArgsConstructor
+public class DuplicateReferenceMigration implements SchemaMigration {
+
+    private final SchemaOperations schema;
+
+    @Override
+    public int version() {
+        return 2;
+    }
+
+    @Override
+    public String description() {
+        return "crime_case/article 중복 원본 참조 컬럼";
+    }
+
+    @Override
+    public void migrate() {
+        if (!schema.tableExists("crime_case") || !schema.tableExists("article")) {
+            return;
+        }
+        schema.addColumnIfMissing("crime_case", "duplicate_of_id", "BIGINT NULL");
+        schema.addColumnIfMissing("article", "duplicate_of_id", "BIGINT NULL");
+    }
+}
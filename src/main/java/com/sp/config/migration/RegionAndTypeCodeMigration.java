@@ -0,0 +1,196 @@
+package com.sp.config.migration;
+
+import com.sp.darkmap.code.AdministrativeRegions;
+import com.sp.darkmap.code.InfoType;
+import com.sp.darkmap.code.MapCrimeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * V1 지역 사전 테이블(정수 ID)과 범죄/정보 유형 숫자 코드
+ * - 엔티티는 라벨 컬럼도 계속 기록 (라벨 매핑 빌드가 새 행을 읽을 수 있도록), 인덱스는 코드 컬럼에만
+ * - 지역 ID/코드는 비어 있는 행만 채우므로 중간에 실패해도 다음 시작 때 이어서 채움
+ * - 지역 사전에는 RegionCodeService 와 같은 규칙으로 행정구역 표준 명칭만 등록
+ * - 라벨을 코드로 바꿀 수 없는 crime_case 행은 로그만 남기고 코드 없이 둠 (코드 컬럼 NOT NULL 변경은 보류)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionAndTypeCodeMigration implements SchemaMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchemaOperations schema;
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public String description() {
+        return "지역 사전 테이블, 범죄/정보 유형 코드 컬럼";
+    }
+
+    @Override
+    public void migrate() {
+        if (!schema.tableExists("crime_case") || !schema.tableExists("article")) {
+            log.warn("crime_case 또는 article 테이블이 없어 지역/유형 코드 마이그레이션 건너뜀");
+            return;
+        }
+
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS region (
+                    id INT NOT NULL AUTO_INCREMENT,
+                    sido VARCHAR(100) NOT NULL,
+                    sigungu VARCHAR(100) NOT NULL DEFAULT '',
+                    code VARCHAR(10) NULL,
+                    PRIMARY KEY (id),
+                    UNIQUE KEY uk_region_sido_sigungu (sido, sigungu)
+                )
+                """);
+
+        schema.addColumnIfMissing("crime_case", "region_id", "INT NULL");
+        schema.addColumnIfMissing("crime_case", "info_type_code", "TINYINT NULL");
+        schema.addColumnIfMissing("crime_case", "crime_type_code", "TINYINT NULL");
+        schema.addColumnIfMissing("article", "region_id", "INT NULL");
+        schema.addColumnIfMissing("article", "crime_type_code", "TINYINT NULL");
+
+        Map<String, Integer> regionIds = new HashMap<>();
+        Set<String> unknownSido = new TreeSet<>();
+        int crimeCaseRegions = backfillRegionIds("crime_case", regionIds, unknownSido);
+        int articleRegions = backfillRegionIds("article", regionIds, unknownSido);
+        if (!unknownSido.isEmpty()) {
+            log.warn("행정구역 목록에 없는 시도 - 지역 미지정으로 남김: {}", unknownSido);
+        }
+
+        int crimeCaseCodes = jdbcTemplate.update(
+                "UPDATE crime_case SET info_type_code = " + infoTypeCodeCase("info_type")
+                        + ", crime_type_code = " + crimeTypeCodeCase("crime_type")
+                        + " WHERE info_type_code IS NULL OR crime_type_code IS NULL");
+        int articleCodes = jdbcTemplate.update(
+                "UPDATE article SET crime_type_code = " + crimeTypeCodeCase("crime_type")
+                        + " WHERE crime_type_code IS NULL AND crime_type IS NOT NULL");
+
+        List<Long> uncoded = jdbcTemplate.queryForList(
+                "SELECT id FROM crime_case WHERE info_type_code IS NULL OR crime_type_code IS NULL ORDER BY id LIMIT 100",
+                Long.class);
+        if (uncoded.isEmpty()) {
+            schema.makeNotNull("crime_case", "info_type_code", "TINYINT");
+            schema.makeNotNull("crime_case", "crime_type_code", "TINYINT");
+        } else {
+            // 시작은 막지 않음: 라벨을 고치면 다음 시작 때 코드가 채워지고 NOT NULL 로 바뀜
+            log.error("유형 라벨을 코드로 바꿀 수 없어 코드 없이 남긴 crime_case 행 (처음 {}건): {}",
+                    uncoded.size(), uncoded);
+        }
+
+        schema.dropIndexIfExists("crime_case", "idx_crime_case_sido");
+        schema.dropIndexIfExists("crime_case", "idx_crime_case_crime_type");
+        schema.dropIndexIfExists("crime_case", "idx_crime_case_info_type");
+        schema.createIndexIfMissing("crime_case", "idx_crime_case_region", "region_id");
+        schema.createIndexIfMissing("crime_case", "idx_crime_case_crime_type_code", "crime_type_code");
+        schema.createIndexIfMissing("crime_case", "idx_crime_case_info_type_code", "info_type_code");
+        schema.createIndexIfMissing("article", "idx_article_region", "region_id");
+
+        if (crimeCaseRegions + articleRegions + crimeCaseCodes + articleCodes > 0) {
+            log.info("지역/유형 코드 채움: crime_case 지역={}, article 지역={}, crime_case 코드={}, article 코드={}",
+                    crimeCaseRegions, articleRegions, crimeCaseCodes, articleCodes);
+        }
+    }
+
+    /**
+     * 지역 ID 가 비어 있는 행을 (시도, 시군구) 조합별로 채움 (반환: 채운 행 수)
+     * - 시도를 모르는 조합은 unknownSido 에 모으고 NULL 로 남김
+     */
+    private int backfillRegionIds(String tableName, Map<String, Integer> regionIds, Set<String> unknownSido) {
+        List<String[]> names = jdbcTemplate.query(String.format("""
+                SELECT DISTINCT TRIM(sido), COALESCE(TRIM(sigungu), '')
+                FROM %s
+                WHERE region_id IS NULL AND sido IS NOT NULL AND TRIM(sido) <> ''
+                """, tableName), (rs, rowNum) -> new String[]{rs.getString(1), rs.getString(2)});
+
+        List<Object[]> updates = new ArrayList<>();
+        for (String[] name : names) {
+            String key = name[0] + "|" + name[1];
+            Integer regionId = regionIds.containsKey(key)
+                    ? regionIds.get(key)
+                    : resolveRegionId(name[0], name[1]);
+            regionIds.put(key, regionId);
+            if (regionId == null) {
+                unknownSido.add(name[0]);
+                continue;
+            }
+            updates.add(new Object[]{regionId, name[0], name[1]});
+        }
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        int[] updated = jdbcTemplate.batchUpdate(String.format("""
+                UPDATE %s SET region_id = ?
+                WHERE region_id IS NULL AND TRIM(sido) = ? AND COALESCE(TRIM(sigungu), '') = ?
+                """, tableName), updates);
+        return Arrays.stream(updated).filter(count -> count > 0).sum();
+    }
+
+    /**
+     * RegionCodeService.resolveId(sido, sigungu) 와 같은 규칙
+     * - 사전에 같은 이름이 있으면 그 ID
+     * - 행정구역 목록에 있으면 표준 명칭으로 조회/생성, 시군구만 모르면 시도 단위 지역
+     * - 시도를 모르면 null (사전에 추가하지 않음)
+     */
+    private Integer resolveRegionId(String sido, String sigungu) {
+        Integer existing = findRegionId(sido, sigungu);
+        if (existing != null) {
+            return existing;
+        }
+        Optional<String> canonicalSido = AdministrativeRegions.canonicalSido(sido);
+        if (canonicalSido.isEmpty()) {
+            return null;
+        }
+        String canonicalSigungu = AdministrativeRegions.canonicalSigungu(canonicalSido.get(), sigungu).orElse("");
+        jdbcTemplate.update("INSERT IGNORE INTO region (sido, sigungu) VALUES (?, ?)",
+                canonicalSido.get(), canonicalSigungu);
+        return findRegionId(canonicalSido.get(), canonicalSigungu);
+    }
+
+    private Integer findRegionId(String sido, String sigungu) {
+        List<Integer> ids = jdbcTemplate.queryForList("SELECT id FROM region WHERE sido = ? AND sigungu = ?",
+                Integer.class, sido, sigungu);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    private static String infoTypeCodeCase(String column) {
+        return codeCase(column, InfoType.values(), InfoType::getLabel, InfoType::getCode);
+    }
+
+    private static String crimeTypeCodeCase(String column) {
+        return codeCase(column, MapCrimeType.values(), MapCrimeType::getLabel, MapCrimeType::getCode);
+    }
+
+    /**
+     * 라벨(또는 대소문자 무시 enum 이름) → 숫자 코드, enum 의 from(String) 과 같은 규칙
+     * - 알 수 없는 값은 NULL
+     */
+    private static <E extends Enum<E>> String codeCase(String column, E[] values,
+                                                       Function<E, String> label, ToIntFunction<E> code) {
+        StringBuilder sql = new StringBuilder("CASE");
+        for (E value : values) {
+            sql.append(" WHEN TRIM(").append(column).append(") = '").append(label.apply(value))
+                    .append("' OR UPPER(TRIM(").append(column).append(")) = '").append(value.name())
+                    .append("' THEN ").append(code.applyAsInt(value));
+        }
+        return sql.append(" ELSE NULL END").toString();
+    }
+}
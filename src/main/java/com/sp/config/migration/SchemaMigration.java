@@ -0,0 +1,22 @@
+package com.sp.config.migration;
+
+/**
+ * 순서가 정해진 스키마 마이그레이션 단계
+ * - {@link com.sp.config.DatabaseSchemaMigrator} 가 버전 오름차순으로 매 시작 시 실행
+ * - 단계마다 information_schema 와 데이터를 먼저 확인하므로 다시 실행해도 이미 반영된 변경은 건너뜀
+ * - 이미 배포된 단계의 버전은 바꾸지 않고, 새 변경은 다음 버전의 새 단계로 추가
+ */
+public interface SchemaMigration {
+
+    /**
+     * 실행 순서 (단계마다 고유)
+     */
+    int version();
+
+    /**
+     * 로그에 남길 변경 요약
+     */
+    String description();
+
+    void migrate();
+}
@@ -0,0 +1,93 @@
+package com.sp.config.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 마이그레이션 단계가 함께 쓰는 스키마 확인/변경
+ * - 변경 전에 information_schema 를 확인해 이미 반영된 변경은 실행하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaOperations {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addColumnIfMissing(String tableName, String columnName, String definition) {
+        if (columnExists(tableName, columnName)) {
+            return;
+        }
+        jdbcTemplate.execute(String.format("ALTER TABLE %s ADD COLUMN %s %s", tableName, columnName, definition));
+        log.info("컬럼 추가: {}.{} {}", tableName, columnName, definition);
+    }
+
+    public void makeNotNull(String tableName, String columnName, String type) {
+        List<String> nullable = jdbcTemplate.queryForList("""
+                SELECT is_nullable
+                FROM information_schema.columns
+                WHERE table_schema = DATABASE()
+                  AND table_name = ?
+                  AND column_name = ?
+                """, String.class, tableName, columnName);
+        if (nullable.isEmpty() || "NO".equalsIgnoreCase(nullable.get(0))) {
+            return;
+        }
+        jdbcTemplate.execute(String.format("ALTER TABLE %s MODIFY COLUMN %s %s NOT NULL", tableName, columnName, type));
+        log.info("컬럼 NOT NULL 변경: {}.{}", tableName, columnName);
+    }
+
+    public void createIndexIfMissing(String tableName, String indexName, String columnList) {
+        if (indexExists(tableName, indexName)) {
+            return;
+        }
+        jdbcTemplate.execute(String.format("CREATE INDEX %s ON %s (%s)", indexName, tableName, columnList));
+        log.info("인덱스 생성: {} ON {}({})", indexName, tableName, columnList);
+    }
+
+    public void dropIndexIfExists(String tableName, String indexName) {
+        if (!indexExists(tableName, indexName)) {
+            return;
+        }
+        jdbcTemplate.execute(String.format("DROP INDEX %s ON %s", indexName, tableName));
+        log.info("인덱스 삭제: {} ON {}", indexName, tableName);
+    }
+
+    public boolean tableExists(String tableName) {
+        return count("""
+                SELECT COUNT(1)
+                FROM information_schema.tables
+                WHERE table_schema = DATABASE()
+                  AND table_name = ?
+                """, tableName) > 0;
+    }
+
+    public boolean columnExists(String tableName, String columnName) {
+        return count("""
+                SELECT COUNT(1)
+                FROM information_schema.columns
+                WHERE table_schema = DATABASE()
+                  AND table_name = ?
+                  AND column_name = ?
+                """, tableName, columnName) > 0;
+    }
+
+    public boolean indexExists(String tableName, String indexName) {
+        return count("""
+                SELECT COUNT(1)
+                FROM information_schema.statistics
+                WHERE table_schema = DATABASE()
+                  AND table_name = ?
+                  AND index_name = ?
+                """, tableName, indexName) > 0;
+    }
+
+    private int count(String sql, Object... args) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, args);
+        return count != null ? count : 0;
+    }
+}
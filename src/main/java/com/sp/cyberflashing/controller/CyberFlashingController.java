@@ -2,22 +2,36 @@ package com.sp.cyberflashing.controller;
 
 import com.sp.community.model.dto.PageRequestDTO;
 import com.sp.community.model.response.CommonApiResponse;
+import com.sp.cyberflashing.model.dto.CyberFlashingDuplicateCheckDTO;
 import com.sp.cyberflashing.model.dto.CyberFlashingSearchDTO;
 import com.sp.cyberflashing.model.vo.CyberFlashingCaseListVO;
+import com.sp.cyberflashing.model.vo.CyberFlashingCaseVO;
+import com.sp.cyberflashing.model.vo.CyberFlashingDuplicateSuggestionVO;
+import com.sp.cyberflashing.model.vo.CyberFlashingTimeseriesVO;
+import com.sp.cyberflashing.service.CyberFlashingDuplicateService;
 import com.sp.cyberflashing.service.CyberFlashingService;
+import com.sp.cyberflashing.service.CyberFlashingTimeseriesService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Tag(name = "Cyber Flashing", description = "사이버 플래싱 사례 조회 API")
 @Slf4j
 @RestController
@@ -26,28 +40,42 @@ import org.springframework.web.bind.annotation.RestController;
 public class CyberFlashingController {
 
     private final CyberFlashingService cyberFlashingService;
+    private final CyberFlashingTimeseriesService cyberFlashingTimeseriesService;
+    private final CyberFlashingDuplicateService cyberFlashingDuplicateService;
 
     @Operation(
             summary = "사이버 플래싱 사례 목록 조회",
-            description = "국가코드, 중복 여부, 포함 여부 조건으로 사이버 플래싱 사례를 페이징 조회합니다."
+            description = "국가코드, 중복 여부, 포함 여부 조건으로 사이버 플래싱 사례를 페이징 조회합니다. "
+                    + "목록에는 본문/비고가 포함되지 않으며 단건 조회(/cases/{id})로 확인합니다. "
+                    + "cursor 파라미터를 보내면(첫 페이지는 빈 값) 커서 방식으로 조회하며 page 는 무시되고, "
+                    + "응답 pageInfo.nextCursor 를 다음 요청의 cursor 로 전달합니다."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "목록 조회 성공")
+            @ApiResponse(responseCode = "200", description = "목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서/페이지 크기")
     })
     @GetMapping
     public ResponseEntity<CommonApiResponse<CyberFlashingCaseListVO>> getCases(
             @Parameter(description = "조회 필터") @ModelAttribute CyberFlashingSearchDTO searchDTO,
-            @Parameter(description = "페이징 정보") @ModelAttribute PageRequestDTO pageRequestDTO) {
-        log.info("사이버 플래싱 사례 목록 조회 요청: search={}, page={}", searchDTO, pageRequestDTO);
-
-        CyberFlashingCaseListVO data = cyberFlashingService.getCases(searchDTO, pageRequestDTO);
+            @Parameter(description = "페이징 정보") @ModelAttribute PageRequestDTO pageRequestDTO,
+            @Parameter(description = "커서 (이전 응답의 nextCursor, 첫 페이지는 빈 값)")
+            @RequestParam(required = false) String cursor) {
+        log.info("사이버 플래싱 사례 목록 조회 요청: search={}, page={}, cursor={}", searchDTO, pageRequestDTO, cursor);
 
-        return ResponseEntity.ok(CommonApiResponse.success("사이버 플래싱 사례 목록 조회 성공", data));
+        try {
+            CyberFlashingCaseListVO data = cursor != null
+                    ? cyberFlashingService.getCasesByCursor(searchDTO, cursor, pageRequestDTO.getSize())
+                    : cyberFlashingService.getCases(searchDTO, pageRequestDTO);
+            return ResponseEntity.ok(CommonApiResponse.success("사이버 플래싱 사례 목록 조회 성공", data));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(CommonApiResponse.error(e.getMessage()));
+        }
     }
 
     @Operation(
             summary = "사이버 플래싱 사례 총 개수 조회",
-            description = "국가코드, 중복 여부, 포함 여부 조건으로 사이버 플래싱 사례 총 개수를 조회합니다."
+            description = "국가코드, 중복 여부, 포함 여부 조건으로 사이버 플래싱 사례 총 개수를 조회합니다. "
+                    + "미리 계산된 건수 큐브(주기 갱신)에서 응답합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "개수 조회 성공")
@@ -61,4 +89,95 @@ public class CyberFlashingController {
 
         return ResponseEntity.ok(CommonApiResponse.success("사이버 플래싱 사례 총 개수 조회 성공", totalCount));
     }
+
+    @Operation(
+            summary = "사이버 플래싱 사례 국가별 월별 추이",
+            description = "발생일 기준 국가별 월별 건수를 조회합니다. 건수가 없는 월은 0으로 채우며, "
+                    + "미리 집계된 롤업(증분 갱신)에서 응답합니다. 발생일을 해석할 수 없는 사례는 제외됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "추이 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 기간")
+    })
+    @GetMapping("/timeseries")
+    public ResponseEntity<CommonApiResponse<CyberFlashingTimeseriesVO>> getTimeseries(
+            @Parameter(description = "국가 코드 (없으면 전체 국가)", example = "GB")
+            @RequestParam(required = false) String countryCode,
+            @Parameter(description = "시작 월 (yyyy-MM, 없으면 데이터 시작 월)", example = "2025-01")
+            @RequestParam(required = false) String from,
+            @Parameter(description = "종료 월 (yyyy-MM, 없으면 데이터 마지막 월)", example = "2026-04")
+            @RequestParam(required = false) String to) {
+        log.info("사이버 플래싱 월별 추이 조회 요청: countryCode={}, from={}, to={}", countryCode, from, to);
+
+        try {
+            CyberFlashingTimeseriesVO data = cyberFlashingTimeseriesService.getTimeseries(countryCode, from, to);
+            return ResponseEntity.ok(CommonApiResponse.success("사이버 플래싱 월별 추이 조회 성공", data));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(CommonApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @Operation(
+            summary = "사이버 플래싱 사례 단건 조회",
+            description = "본문, 비고, 수정 메모, RSS URL 등 전체 필드를 포함한 사례 단건을 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "사례 없음")
+    })
+    @GetMapping("/{id:\\d+}")
+    public ResponseEntity<CommonApiResponse<CyberFlashingCaseVO>> getCase(
+            @Parameter(description = "사례 ID", example = "717") @PathVariable Long id) {
+        return cyberFlashingService.getCase(id)
+                .map(data -> ResponseEntity.ok(CommonApiResponse.success("사이버 플래싱 사례 조회 성공", data)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(CommonApiResponse.error("사례를 찾을 수 없습니다.")));
+    }
+
+    @Operation(
+            summary = "사이버 플래싱 사례 중복 후보 조회",
+            description = "저장된 사례와 제목+본문이 유사한 다른 사례를 유사도 내림차순으로 조회합니다. "
+                    + "MinHash/LSH 인덱스에서 응답하며 최근 적재분은 인덱스 갱신 주기만큼 늦게 반영될 수 있습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "후보 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 후보 수"),
+            @ApiResponse(responseCode = "404", description = "사례 없음")
+    })
+    @GetMapping("/{id:\\d+}/duplicates")
+    public ResponseEntity<CommonApiResponse<List<CyberFlashingDuplicateSuggestionVO>>> getDuplicateSuggestions(
+            @Parameter(description = "사례 ID", example = "717") @PathVariable Long id,
+            @Parameter(description = "최대 후보 수 (기본 10, 최대 50)", example = "10")
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return cyberFlashingDuplicateService.suggestForCase(id, limit)
+                    .map(data -> ResponseEntity.ok(CommonApiResponse.success("중복 후보 조회 성공", data)))
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(CommonApiResponse.error("사례를 찾을 수 없습니다.")));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(CommonApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @Operation(
+            summary = "신규 기사 중복 후보 조회",
+            description = "저장 전 기사의 제목+본문과 유사한 기존 사례를 유사도 내림차순으로 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "후보 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "제목/본문 누락·길이 초과 또는 유효하지 않은 후보 수")
+    })
+    @PostMapping("/duplicates/suggest")
+    public ResponseEntity<CommonApiResponse<List<CyberFlashingDuplicateSuggestionVO>>> suggestDuplicates(
+            @Parameter(description = "기사 제목/본문", required = true)
+            @Valid @RequestBody CyberFlashingDuplicateCheckDTO checkDTO) {
+        log.info("사이버 플래싱 중복 후보 조회 요청: {}", checkDTO);
+
+        try {
+            List<CyberFlashingDuplicateSuggestionVO> data = cyberFlashingDuplicateService.suggest(checkDTO);
+            return ResponseEntity.ok(CommonApiResponse.success("중복 후보 조회 성공", data));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(CommonApiResponse.error(e.getMessage()));
+        }
+    }
 }
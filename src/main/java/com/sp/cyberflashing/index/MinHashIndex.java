@@ -0,0 +1,297 @@
+package com.sp.cyberflashing.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 문서 근접 중복 후보 탐색용 MinHash + LSH 밴딩 인덱스
+ * - 정규화(소문자, 기호/연속 공백 정리)한 본문의 문자 k-gram 슁글 집합으로 MinHash 서명(bands × rows 개) 계산
+ * - 서명을 bands 개 구간으로 나눠 한 구간이라도 같은 문서만 후보로 보고, 후보는 서명 일치율(자카드 추정치)로 점수화
+ * - 조회 비용은 말뭉치 크기가 아니라 같은 버킷에 모인 후보 수에 비례
+ * - 초기 적재는 fork/join 으로 서명을 병렬 계산, 이후 단건 추가/교체/삭제 가능 (동시 조회 안전)
+ */
+public class MinHashIndex {
+
+    public static final int SHINGLE_SIZE = 5;
+
+    /** fork/join 분할 단위 (문서 수) */
+    private static final int BUILD_THRESHOLD = 64;
+    private static final long SEED = 0x6D696E68617368L;
+
+    private final int bands;
+    private final int rows;
+    private final long[] multipliers;
+    private final long[] increments;
+    private final Map<Long, int[]> signatures = new ConcurrentHashMap<>();
+    private final List<Map<Long, Set<Long>>> buckets;
+
+    public MinHashIndex(int bands, int rows) {
+        if (bands <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("bands 와 rows 는 1 이상이어야 합니다.");
+        }
+        this.bands = bands;
+        this.rows = rows;
+
+        // h_i(x) = (a_i * x + b_i) >>> 32, a_i 는 홀수 (곱셈-시프트 유니버설 해시)
+        SplittableRandom random = new SplittableRandom(SEED);
+        int hashCount = bands * rows;
+        this.multipliers = new long[hashCount];
+        this.increments = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            multipliers[i] = random.nextLong() | 1L;
+            increments[i] = random.nextLong();
+        }
+
+        this.buckets = new ArrayList<>(bands);
+        for (int b = 0; b < bands; b++) {
+            buckets.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 단건 추가 (같은 ID 가 있으면 교체, 슁글이 없는 빈 문서는 제외)
+     */
+    public void add(long id, String text) {
+        int[] signature = signature(text);
+        if (signature == null) {
+            remove(id);
+            return;
+        }
+        int[] previous = signatures.put(id, signature);
+        if (previous != null) {
+            unlink(id, previous);
+        }
+        link(id, signature);
+    }
+
+    /**
+     * 일괄 추가 (fork/join 공용 풀에서 서명 계산과 버킷 등록을 병렬 수행)
+     */
+    public void addAll(List<Document> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new BuildTask(documents, 0, documents.size()));
+    }
+
+    public void remove(long id) {
+        int[] previous = signatures.remove(id);
+        if (previous != null) {
+            unlink(id, previous);
+        }
+    }
+
+    public boolean contains(long id) {
+        return signatures.containsKey(id);
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    /**
+     * 본문과 유사한 문서 (유사도 내림차순, 최대 limit 개)
+     */
+    public List<Match> query(String text, int limit, double minSimilarity) {
+        int[] signature = signature(text);
+        return signature == null ? List.of() : query(signature, null, limit, minSimilarity);
+    }
+
+    /**
+     * 색인된 문서와 유사한 다른 문서 (색인되지 않은 ID 면 빈 목록)
+     */
+    public List<Match> similarTo(long id, int limit, double minSimilarity) {
+        int[] signature = signatures.get(id);
+        return signature == null ? List.of() : query(signature, id, limit, minSimilarity);
+    }
+
+    /**
+     * 슁글 집합의 MinHash 서명 (슁글이 없으면 null)
+     */
+    public int[] signature(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+
+        int hashCount = multipliers.length;
+        long[] minimums = new long[hashCount];
+        Arrays.fill(minimums, Long.MAX_VALUE);
+
+        int shingleCount = Math.max(normalized.length() - SHINGLE_SIZE + 1, 1);
+        for (int start = 0; start < shingleCount; start++) {
+            long shingle = shingleHash(normalized, start, Math.min(start + SHINGLE_SIZE, normalized.length()));
+            for (int i = 0; i < hashCount; i++) {
+                long value = (multipliers[i] * shingle + increments[i]) >>> 32;
+                if (value < minimums[i]) {
+                    minimums[i] = value;
+                }
+            }
+        }
+
+        int[] signature = new int[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            signature[i] = (int) minimums[i];
+        }
+        return signature;
+    }
+
+    private List<Match> query(int[] signature, Long excludeId, int limit, double minSimilarity) {
+        Set<Long> candidates = new HashSet<>();
+        for (int b = 0; b < bands; b++) {
+            Set<Long> bucket = buckets.get(b).get(bandKey(signature, b));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        if (excludeId != null) {
+            candidates.remove(excludeId);
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (Long candidate : candidates) {
+            int[] other = signatures.get(candidate);
+            if (other == null) {
+                continue;
+            }
+            double similarity = similarity(signature, other);
+            if (similarity >= minSimilarity) {
+                matches.add(new Match(candidate, similarity));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::getSimilarity).reversed()
+                .thenComparing(Match::getId, Comparator.reverseOrder()));
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    private void link(long id, int[] signature) {
+        for (int b = 0; b < bands; b++) {
+            buckets.get(b).compute(bandKey(signature, b), (k, bucket) -> {
+                Set<Long> linked = bucket != null ? bucket : ConcurrentHashMap.newKeySet();
+                linked.add(id);
+                return linked;
+            });
+        }
+    }
+
+    private void unlink(long id, int[] signature) {
+        for (int b = 0; b < bands; b++) {
+            buckets.get(b).computeIfPresent(bandKey(signature, b), (k, bucket) -> {
+                bucket.remove(id);
+                return bucket.isEmpty() ? null : bucket;
+            });
+        }
+    }
+
+    private long bandKey(int[] signature, int band) {
+        long hash = 0xCBF29CE484222325L;
+        for (int r = band * rows, end = r + rows; r < end; r++) {
+            hash = (hash ^ (signature[r] & 0xFFFFFFFFL)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    /**
+     * FNV-1a 64 + 비트 혼합
+     */
+    private static long shingleHash(String text, int start, int end) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ text.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * 소문자화, 문자/숫자 외는 공백으로, 연속 공백은 하나로
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                pendingSpace = false;
+                normalized.append(c);
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private class BuildTask extends RecursiveAction {
+
+        private final List<Document> documents;
+        private final int from;
+        private final int to;
+
+        BuildTask(List<Document> documents, int from, int to) {
+            this.documents = documents;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BUILD_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    Document document = documents.get(i);
+                    add(document.getId(), document.getText());
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BuildTask(documents, from, middle), new BuildTask(documents, middle, to));
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Document {
+        private final long id;
+        private final String text;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Match {
+        private final long id;
+        private final double similarity;
+    }
+}
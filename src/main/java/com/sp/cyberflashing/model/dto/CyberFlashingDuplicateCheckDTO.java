@@ -0,0 +1,35 @@
+package com.sp.cyberflashing.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Schema(description = "신규 기사 중복 후보 조회 요청 (제목/본문 중 하나 이상 필요)")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "content")
+public class CyberFlashingDuplicateCheckDTO {
+
+    @Size(max = 500, message = "기사 제목은 500자 이하로 입력해주세요.")
+    @Schema(description = "기사 제목 (최대 500자)", example = "Tech firms face cyberflashing crackdown - MSN")
+    private String articleTitle;
+
+    @Size(max = 20000, message = "기사 본문은 20000자 이하로 입력해주세요.")
+    @Schema(description = "기사 본문 (최대 20000자)", example = "Tech firms will be legally required to prevent unsolicited nude images ...")
+    private String content;
+
+    @Min(value = 1, message = "후보 수는 1 이상이어야 합니다.")
+    @Max(value = 50, message = "후보 수는 50 이하여야 합니다.")
+    @Schema(description = "최대 후보 수 (기본 10, 최대 50)", example = "10")
+    private Integer limit;
+}
@@ -19,8 +19,8 @@ import java.util.List;
 @ToString
 public class CyberFlashingCaseListVO {
 
-    @Schema(description = "조회된 사례 목록")
-    private List<CyberFlashingCaseVO> items;
+    @Schema(description = "조회된 사례 목록 (본문/비고 제외, 단건 조회로 확인)")
+    private List<CyberFlashingCaseSummaryVO> items;
 
     @Schema(description = "페이징 정보")
     private PageInfoVO pageInfo;
@@ -37,7 +37,7 @@ public class CyberFlashingCaseListVO {
     @ToString
     public static class PageInfoVO {
 
-        @Schema(description = "현재 페이지 번호 (1부터 시작)", example = "1")
+        @Schema(description = "현재 페이지 번호 (1부터 시작, 커서 조회 시 null)", example = "1", nullable = true)
         private Integer currentPage;
 
         @Schema(description = "페이지 크기", example = "20")
@@ -60,6 +60,10 @@ public class CyberFlashingCaseListVO {
 
         @Schema(description = "마지막 페이지 여부", example = "false")
         private Boolean isLast;
+
+        @Schema(description = "다음 페이지 커서 (커서 조회 시에만, 마지막 페이지면 null)",
+                example = "aWQ6Njk4", nullable = true)
+        private String nextCursor;
     }
 
     @Schema(description = "적용된 필터 (정규화 후 값, 미적용 시 null)")
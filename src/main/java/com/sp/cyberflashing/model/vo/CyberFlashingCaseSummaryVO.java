@@ -0,0 +1,46 @@
+package com.sp.cyberflashing.model.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 사이버 플래싱 사례 목록 행 (본문/비고 등 TEXT 컬럼 제외, JPQL 생성자 표현식으로 조회)
+ */
+@Schema(description = "사이버 플래싱 사례 목록 행 (본문/비고는 단건 조회에서 제공)")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class CyberFlashingCaseSummaryVO {
+
+    @Schema(description = "사례 ID (PK)", example = "717")
+    private Long id;
+
+    @Schema(description = "국가 코드 (ISO alpha-2)", example = "GB")
+    private String countryCode;
+
+    @Schema(description = "중복 여부", example = "", nullable = true)
+    private String duplicateFlag;
+
+    @Schema(description = "포함 여부", example = "포함")
+    private String includeFlag;
+
+    @Schema(description = "기사 제목", example = "Tech firms face cyberflashing crackdown - MSN")
+    private String articleTitle;
+
+    @Schema(description = "기사 원문 URL", example = "https://www.msn.com/en-gb/news/uknews/tech-firms-face-cyberflashing-crackdown")
+    private String url;
+
+    @Schema(description = "발생 일자 (yyyyMMdd 형식 문자열)", example = "20260427")
+    private String occurredDate;
+
+    @Schema(description = "언론사", example = "BBC", nullable = true)
+    private String press;
+}
@@ -0,0 +1,25 @@
+package com.sp.cyberflashing.model.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Schema(description = "사이버 플래싱 중복 후보 사례")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class CyberFlashingDuplicateSuggestionVO {
+
+    @Schema(description = "추정 유사도 (제목+본문 5-gram 집합의 자카드 유사도 MinHash 추정치, 0~1)", example = "0.93")
+    private Double similarity;
+
+    @Schema(description = "후보 사례")
+    private CyberFlashingCaseSummaryVO item;
+}
@@ -0,0 +1,65 @@
+package com.sp.cyberflashing.model.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Schema(description = "사이버 플래싱 사례 국가별 월별 건수 추이")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class CyberFlashingTimeseriesVO {
+
+    @Schema(description = "시작 월 (yyyy-MM, 포함)", example = "2025-01")
+    private String from;
+
+    @Schema(description = "종료 월 (yyyy-MM, 포함)", example = "2026-04")
+    private String to;
+
+    @Schema(description = "국가별 계열 (기간 내 건수 내림차순, 건수 없는 월은 0으로 채움)")
+    private List<SeriesVO> series;
+
+    @Schema(description = "국가별 월별 건수")
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @ToString
+    public static class SeriesVO {
+
+        @Schema(description = "국가 코드 (ISO alpha-2)", example = "GB")
+        private String countryCode;
+
+        @Schema(description = "기간 내 합계", example = "42")
+        private Long total;
+
+        @Schema(description = "월별 건수 (from 부터 to 까지 순서대로)")
+        private List<PointVO> points;
+    }
+
+    @Schema(description = "월 건수")
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @ToString
+    public static class PointVO {
+
+        @Schema(description = "월 (yyyy-MM)", example = "2026-04")
+        private String month;
+
+        @Schema(description = "건수", example = "7")
+        private Long count;
+    }
+}
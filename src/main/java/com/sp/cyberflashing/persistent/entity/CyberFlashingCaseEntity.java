@@ -1,11 +1,13 @@
 package com.sp.cyberflashing.persistent.entity;
 
+import com.sp.common.util.LenientDateParser;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.Index;
 import lombok.AllArgsConstructor;
@@ -14,11 +16,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDate;
+
 @Entity
 @Table(name = "cyber_flashing_case", indexes = {
-        @Index(name = "idx_cyber_flashing_country_code", columnList = "country_code"),
-        @Index(name = "idx_cyber_flashing_duplicate_flag", columnList = "duplicate_flag"),
-        @Index(name = "idx_cyber_flashing_include_flag", columnList = "include_flag")
+        @Index(name = "idx_cyber_flashing_country_filter",
+                columnList = "country_code, include_flag, duplicate_flag, id"),
+        @Index(name = "idx_cyber_flashing_include_filter", columnList = "include_flag, duplicate_flag, id"),
+        @Index(name = "idx_cyber_flashing_duplicate_filter", columnList = "duplicate_flag, id"),
+        @Index(name = "idx_cyber_flashing_country_occurred", columnList = "country_code, occurred_on")
 })
 @Getter
 @Setter
@@ -52,6 +58,12 @@ public class CyberFlashingCaseEntity {
     @Column(name = "occurred_date", nullable = false, length = 20)
     private String occurredDate;
 
+    /**
+     * occurredDate 를 해석한 날짜 (범위 조회/월별 집계용, 해석 불가 시 null)
+     */
+    @Column(name = "occurred_on")
+    private LocalDate occurredOn;
+
     @Column(name = "rss_url", length = 1000)
     private String rssUrl;
 
@@ -68,9 +80,11 @@ public class CyberFlashingCaseEntity {
     private String countryCode;
 
     @PrePersist
+    @PreUpdate
     public void prePersist() {
         if (countryCode != null && !countryCode.isBlank()) {
             countryCode = countryCode.trim().toUpperCase();
         }
+        occurredOn = LenientDateParser.parseDate(occurredDate).orElse(null);
     }
 }
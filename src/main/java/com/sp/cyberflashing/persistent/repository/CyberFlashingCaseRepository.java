@@ -1,40 +1,99 @@
 package com.sp.cyberflashing.persistent.repository;
 
+import com.sp.cyberflashing.model.vo.CyberFlashingCaseSummaryVO;
 import com.sp.cyberflashing.persistent.entity.CyberFlashingCaseEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface CyberFlashingCaseRepository extends JpaRepository<CyberFlashingCaseEntity, Long> {
 
+    /**
+     * 오프셋 페이지 조회 (목록 컬럼만 투영, 건수는 큐브에서 조회하므로 COUNT 쿼리 없음)
+     */
     @Query("""
-            SELECT c
+            SELECT new com.sp.cyberflashing.model.vo.CyberFlashingCaseSummaryVO(
+                c.id, c.countryCode, c.duplicateFlag, c.includeFlag, c.articleTitle, c.url, c.occurredDate, c.press)
             FROM CyberFlashingCaseEntity c
             WHERE (:countryCode IS NULL OR c.countryCode = :countryCode)
               AND (:duplicateFlag IS NULL OR c.duplicateFlag = :duplicateFlag)
               AND (:includeFlag IS NULL OR c.includeFlag = :includeFlag)
             """)
-    Page<CyberFlashingCaseEntity> search(
+    List<CyberFlashingCaseSummaryVO> search(
             @Param("countryCode") String countryCode,
             @Param("duplicateFlag") String duplicateFlag,
             @Param("includeFlag") String includeFlag,
             Pageable pageable
     );
 
+    /**
+     * 커서(키셋) 페이지 조회: lastId 보다 작은 ID 를 최신순으로 (lastId null 이면 첫 페이지)
+     * - 필터 컬럼 + id 복합 인덱스로 정렬 없이 범위 스캔
+     */
     @Query("""
-            SELECT COUNT(c)
+            SELECT new com.sp.cyberflashing.model.vo.CyberFlashingCaseSummaryVO(
+                c.id, c.countryCode, c.duplicateFlag, c.includeFlag, c.articleTitle, c.url, c.occurredDate, c.press)
             FROM CyberFlashingCaseEntity c
             WHERE (:countryCode IS NULL OR c.countryCode = :countryCode)
               AND (:duplicateFlag IS NULL OR c.duplicateFlag = :duplicateFlag)
               AND (:includeFlag IS NULL OR c.includeFlag = :includeFlag)
+              AND (:lastId IS NULL OR c.id < :lastId)
+            ORDER BY c.id DESC
             """)
-    long countByFilters(
+    List<CyberFlashingCaseSummaryVO> searchBefore(
             @Param("countryCode") String countryCode,
             @Param("duplicateFlag") String duplicateFlag,
-            @Param("includeFlag") String includeFlag
+            @Param("includeFlag") String includeFlag,
+            @Param("lastId") Long lastId,
+            Pageable pageable
     );
+
+    /**
+     * 건수 큐브 적재용 (국가코드, 중복 여부, 포함 여부, 건수)
+     */
+    @Query("""
+            SELECT c.countryCode, c.duplicateFlag, c.includeFlag, COUNT(c)
+            FROM CyberFlashingCaseEntity c
+            GROUP BY c.countryCode, c.duplicateFlag, c.includeFlag
+            """)
+    List<Object[]> countByFilterColumns();
+
+    @Query("SELECT MAX(c.id) FROM CyberFlashingCaseEntity c")
+    Long findMaxId();
+
+    /**
+     * 월별 추이 적재용 (국가코드, 연, 월, 건수 / ID 구간 (afterId, upToId])
+     */
+    @Query("""
+            SELECT c.countryCode, YEAR(c.occurredOn), MONTH(c.occurredOn), COUNT(c)
+            FROM CyberFlashingCaseEntity c
+            WHERE c.id > :afterId AND c.id <= :upToId AND c.occurredOn IS NOT NULL
+            GROUP BY c.countryCode, YEAR(c.occurredOn), MONTH(c.occurredOn)
+            """)
+    List<Object[]> countByCountryAndMonth(@Param("afterId") Long afterId, @Param("upToId") Long upToId);
+
+    /**
+     * 중복 인덱스 적재용 (ID, 제목, 본문 / afterId 이후 ID 오름차순)
+     */
+    @Query("""
+            SELECT c.id, c.articleTitle, c.content
+            FROM CyberFlashingCaseEntity c
+            WHERE c.id > :afterId
+            ORDER BY c.id
+            """)
+    List<Object[]> findTextsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            SELECT new com.sp.cyberflashing.model.vo.CyberFlashingCaseSummaryVO(
+                c.id, c.countryCode, c.duplicateFlag, c.includeFlag, c.articleTitle, c.url, c.occurredDate, c.press)
+            FROM CyberFlashingCaseEntity c
+            WHERE c.id IN :ids
+            """)
+    List<CyberFlashingCaseSummaryVO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,84 @@
+package com.sp.cyberflashing.service;
+
+import com.sp.cyberflashing.persistent.repository.CyberFlashingCaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사이버 플래싱 필터 조합별 건수 큐브 (국가코드 × 중복 여부 × 포함 여부, 각 차원 '전체' 포함)
+ * - GROUP BY 한 번으로 실제 조합 건수를 읽고, 각 행을 차원별 (값, 전체) 2^3 칸에 누적
+ * - 조회는 메모리 해시 한 번 (목록/건수 API 모두 COUNT 쿼리 없음)
+ * - 데이터는 외부 적재로만 바뀌므로 짧은 주기로 통째로 재계산해 교체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CyberFlashingCountService implements SmartInitializingSingleton {
+
+    private static final String ANY = "\u0000*";
+    private static final char SEPARATOR = '\u0001';
+
+    private final CyberFlashingCaseRepository cyberFlashingCaseRepository;
+
+    private volatile Map<String, Long> cube = Map.of();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+
+    /**
+     * DB 기준 재계산 후 교체
+     */
+    @Scheduled(fixedDelayString = "${cyber-flashing.count-cube.refresh-interval-ms:60000}",
+            initialDelayString = "${cyber-flashing.count-cube.refresh-interval-ms:60000}")
+    public void refresh() {
+        long startTime = System.currentTimeMillis();
+        try {
+            Map<String, Long> fresh = new HashMap<>();
+            for (Object[] row : cyberFlashingCaseRepository.countByFilterColumns()) {
+                long count = (Long) row[3];
+                for (String country : dimension((String) row[0])) {
+                    for (String duplicate : dimension((String) row[1])) {
+                        for (String include : dimension((String) row[2])) {
+                            fresh.merge(key(country, duplicate, include), count, Long::sum);
+                        }
+                    }
+                }
+            }
+            cube = fresh;
+            log.debug("사이버 플래싱 건수 큐브 갱신: cells={}, 소요시간={}ms",
+                    fresh.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("사이버 플래싱 건수 큐브 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 정규화된 필터 기준 건수 (null 은 미적용)
+     */
+    public long count(String countryCode, String duplicateFlag, String includeFlag) {
+        return cube.getOrDefault(key(orAny(countryCode), orAny(duplicateFlag), orAny(includeFlag)), 0L);
+    }
+
+    /**
+     * 행의 값이 기여하는 칸 (값 자신 + 전체, 값이 null 이면 전체만)
+     */
+    private static String[] dimension(String value) {
+        return value == null ? new String[]{ANY} : new String[]{value, ANY};
+    }
+
+    private static String orAny(String value) {
+        return value == null ? ANY : value;
+    }
+
+    private static String key(String countryCode, String duplicateFlag, String includeFlag) {
+        return countryCode + SEPARATOR + duplicateFlag + SEPARATOR + includeFlag;
+    }
+}
@@ -0,0 +1,189 @@
+package com.sp.cyberflashing.service;
+
+import com.sp.cyberflashing.index.MinHashIndex;
+import com.sp.cyberflashing.model.dto.CyberFlashingDuplicateCheckDTO;
+import com.sp.cyberflashing.model.vo.CyberFlashingCaseSummaryVO;
+import com.sp.cyberflashing.model.vo.CyberFlashingDuplicateSuggestionVO;
+import com.sp.cyberflashing.persistent.entity.CyberFlashingCaseEntity;
+import com.sp.cyberflashing.persistent.repository.CyberFlashingCaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사이버 플래싱 사례 근접 중복 후보 (제목 + 본문 MinHash/LSH 인덱스)
+ * - 시작 시 전체 사례를 ID 순 청크로 읽어 fork/join 으로 인덱스 구축
+ * - 이후 마지막 반영 ID 이후 행만 짧은 주기로 증분 추가, 기존 행 수정/삭제는 긴 주기 재구축으로 반영
+ * - ID 는 커밋 순서가 아니므로 증분 때 워터마크 아래 일부 구간도 다시 읽음
+ *   (같은 ID 는 교체되어 중복되지 않고, 구간보다 더 늦게 커밋된 행은 다음 재구축에서 반영)
+ * - 후보 조회는 LSH 버킷에 모인 문서만 비교하므로 말뭉치 크기와 무관
+ */
+@Slf4j
+@Service
+public class CyberFlashingDuplicateService implements SmartInitializingSingleton {
+
+    /** 32 밴드 × 4 행: 유사도 0.5 문서가 후보로 잡힐 확률 ≈ 0.87, 0.3 문서는 ≈ 0.23 */
+    private static final int BANDS = 32;
+    private static final int ROWS = 4;
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    /** 증분 반영 시 다시 읽는 워터마크 아래 ID 구간 (먼저 채번되고 늦게 커밋된 사례 보완) */
+    private static final long REFRESH_OVERLAP_IDS = 500;
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    private final CyberFlashingCaseRepository cyberFlashingCaseRepository;
+    private final double minSimilarity;
+
+    private volatile MinHashIndex index = new MinHashIndex(BANDS, ROWS);
+    private volatile long watermark;
+
+    public CyberFlashingDuplicateService(
+            CyberFlashingCaseRepository cyberFlashingCaseRepository,
+            @Value("${cyber-flashing.duplicate-index.min-similarity:0.5}") double minSimilarity) {
+        this.cyberFlashingCaseRepository = cyberFlashingCaseRepository;
+        this.minSimilarity = minSimilarity;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재구축 후 교체
+     */
+    @Scheduled(fixedDelayString = "${cyber-flashing.duplicate-index.rebuild-interval-ms:3600000}",
+            initialDelayString = "${cyber-flashing.duplicate-index.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        try {
+            MinHashIndex rebuilt = new MinHashIndex(BANDS, ROWS);
+            long lastId = load(rebuilt, 0L);
+            index = rebuilt;
+            watermark = lastId;
+            log.info("사이버 플래싱 중복 인덱스 구축 완료: documents={}, 소요시간={}ms",
+                    rebuilt.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("사이버 플래싱 중복 인덱스 구축 실패", e);
+        }
+    }
+
+    /**
+     * 마지막 반영 ID 이후 사례 추가 (워터마크 아래 REFRESH_OVERLAP_IDS 구간 포함)
+     */
+    @Scheduled(fixedDelayString = "${cyber-flashing.duplicate-index.refresh-interval-ms:60000}",
+            initialDelayString = "${cyber-flashing.duplicate-index.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        try {
+            long previous = watermark;
+            watermark = Math.max(previous, load(index, Math.max(0L, previous - REFRESH_OVERLAP_IDS)));
+            if (watermark > previous) {
+                log.debug("사이버 플래싱 중복 인덱스 증분 반영: ids=({}, {}]", previous, watermark);
+            }
+        } catch (Exception e) {
+            log.error("사이버 플래싱 중복 인덱스 증분 반영 실패", e);
+        }
+    }
+
+    /**
+     * 저장된 사례의 중복 후보 (사례가 없으면 empty)
+     */
+    public Optional<List<CyberFlashingDuplicateSuggestionVO>> suggestForCase(Long id, Integer limit) {
+        int maxResults = normalizeLimit(limit);
+        MinHashIndex current = index;
+        if (!current.contains(id)) {
+            // 아직 증분 반영 전이거나 본문이 비어 색인되지 않은 사례
+            Optional<CyberFlashingCaseEntity> entity = cyberFlashingCaseRepository.findById(id);
+            if (entity.isEmpty()) {
+                return Optional.empty();
+            }
+            List<MinHashIndex.Match> matches = current.query(
+                    text(entity.get().getArticleTitle(), entity.get().getContent()), maxResults + 1, minSimilarity);
+            return Optional.of(toSuggestions(matches.stream().filter(match -> match.getId() != id)
+                    .limit(maxResults).toList()));
+        }
+        return Optional.of(toSuggestions(current.similarTo(id, maxResults, minSimilarity)));
+    }
+
+    /**
+     * 저장 전 기사의 중복 후보
+     */
+    public List<CyberFlashingDuplicateSuggestionVO> suggest(CyberFlashingDuplicateCheckDTO checkDTO) {
+        String text = text(checkDTO.getArticleTitle(), checkDTO.getContent());
+        if (text.isBlank()) {
+            throw new IllegalArgumentException("기사 제목 또는 본문이 필요합니다.");
+        }
+        return toSuggestions(index.query(text, normalizeLimit(checkDTO.getLimit()), minSimilarity));
+    }
+
+    /**
+     * afterId 이후 사례를 청크 단위로 읽어 추가 (반환: 마지막으로 읽은 ID)
+     */
+    private long load(MinHashIndex target, long afterId) {
+        long lastId = afterId;
+        while (true) {
+            List<Object[]> rows = cyberFlashingCaseRepository.findTextsAfter(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            if (rows.isEmpty()) {
+                return lastId;
+            }
+            List<MinHashIndex.Document> documents = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                documents.add(new MinHashIndex.Document((Long) row[0], text((String) row[1], (String) row[2])));
+            }
+            target.addAll(documents);
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+            if (rows.size() < LOAD_CHUNK_SIZE) {
+                return lastId;
+            }
+        }
+    }
+
+    /**
+     * 유사도 순서를 유지한 채 후보 사례 정보 일괄 조회 (그사이 삭제된 사례는 제외)
+     */
+    private List<CyberFlashingDuplicateSuggestionVO> toSuggestions(List<MinHashIndex.Match> matches) {
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CyberFlashingCaseSummaryVO> summaries = cyberFlashingCaseRepository
+                .findSummariesByIdIn(matches.stream().map(MinHashIndex.Match::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(CyberFlashingCaseSummaryVO::getId, Function.identity()));
+
+        List<CyberFlashingDuplicateSuggestionVO> suggestions = new ArrayList<>();
+        for (MinHashIndex.Match match : matches) {
+            CyberFlashingCaseSummaryVO summary = summaries.get(match.getId());
+            if (summary != null) {
+                suggestions.add(CyberFlashingDuplicateSuggestionVO.builder()
+                        .similarity(Math.round(match.getSimilarity() * 1000) / 1000.0)
+                        .item(summary)
+                        .build());
+            }
+        }
+        return suggestions;
+    }
+
+    private static String text(String articleTitle, String content) {
+        return (articleTitle != null ? articleTitle : "") + "\n" + (content != null ? content : "");
+    }
+
+    private static int normalizeLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("후보 수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,86 @@
+package com.sp.cyberflashing.service;
+
+import com.sp.common.util.LenientDateParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사이버 플래싱 발생일(occurred_on) 채움
+ * - 발생일 문자열을 엔티티 저장 시와 같은 규칙으로 해석해 비어 있는 occurred_on 에 기록
+ * - 마지막으로 확인한 ID 이후 구간만 ID 오름차순 청크로 읽고 청크마다 배치 UPDATE (결과 전체를 메모리에 올리지 않음)
+ * - 시작 시 스키마 마이그레이션이 현재 최대 ID 까지, 이후에는 월별 추이 롤업이 새 최대 ID 까지 호출
+ *   (해석 불가 값은 다음 시작 때만 다시 확인)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CyberFlashingOccurredOnBackfillService {
+
+    private static final int CHUNK_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 발생일을 확인한 마지막 ID */
+    private long checkedUpTo;
+
+    /**
+     * 마지막 확인 ID 이후 upToId 까지의 빈 발생일 채움 (반환: 채운 행 수)
+     */
+    public synchronized int backfillUpTo(long upToId) {
+        if (upToId <= checkedUpTo) {
+            return 0;
+        }
+        int parsed = backfill(checkedUpTo, upToId);
+        checkedUpTo = upToId;
+        return parsed;
+    }
+
+    /**
+     * ID 구간 (afterId, upToId] 의 빈 발생일 채움
+     */
+    private int backfill(long afterId, long upToId) {
+        int parsedTotal = 0;
+        int unparsedTotal = 0;
+        long lastId = afterId;
+        while (lastId < upToId) {
+            List<Object[]> parsed = new ArrayList<>();
+            long[] chunkLastId = {lastId};
+            int[] rows = {0};
+            jdbcTemplate.query("""
+                    SELECT id, occurred_date
+                    FROM cyber_flashing_case
+                    WHERE occurred_on IS NULL AND id > ? AND id <= ?
+                    ORDER BY id
+                    LIMIT ?
+                    """, rs -> {
+                long id = rs.getLong(1);
+                chunkLastId[0] = id;
+                rows[0]++;
+                LenientDateParser.parseDate(rs.getString(2))
+                        .ifPresent(occurredOn -> parsed.add(new Object[]{Date.valueOf(occurredOn), id}));
+            }, lastId, upToId, CHUNK_SIZE);
+
+            if (!parsed.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE cyber_flashing_case SET occurred_on = ? WHERE id = ?", parsed);
+            }
+            parsedTotal += parsed.size();
+            unparsedTotal += rows[0] - parsed.size();
+            lastId = chunkLastId[0];
+            if (rows[0] < CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        if (parsedTotal > 0 || unparsedTotal > 0) {
+            log.info("사이버 플래싱 발생일 해석 반영: ids=({}, {}], parsed={}, unparseable={}",
+                    afterId, upToId, parsedTotal, unparsedTotal);
+        }
+        return parsedTotal;
+    }
+}
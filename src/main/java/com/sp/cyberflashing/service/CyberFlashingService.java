@@ -3,17 +3,23 @@ package com.sp.cyberflashing.service;
 import com.sp.community.model.dto.PageRequestDTO;
 import com.sp.cyberflashing.model.dto.CyberFlashingSearchDTO;
 import com.sp.cyberflashing.model.vo.CyberFlashingCaseListVO;
+import com.sp.cyberflashing.model.vo.CyberFlashingCaseSummaryVO;
 import com.sp.cyberflashing.model.vo.CyberFlashingCaseVO;
 import com.sp.cyberflashing.persistent.entity.CyberFlashingCaseEntity;
 import com.sp.cyberflashing.persistent.repository.CyberFlashingCaseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -21,25 +27,25 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CyberFlashingService {
 
+    private static final String CURSOR_PREFIX = "id:";
+
     private final CyberFlashingCaseRepository cyberFlashingCaseRepository;
+    private final CyberFlashingCountService cyberFlashingCountService;
 
     public CyberFlashingCaseListVO getCases(CyberFlashingSearchDTO searchDTO, PageRequestDTO pageRequestDTO) {
         CyberFlashingSearchDTO normalizedSearch = normalizeSearch(searchDTO);
         Pageable pageable = createPageable(pageRequestDTO);
 
-        Page<CyberFlashingCaseEntity> page = cyberFlashingCaseRepository.search(
+        List<CyberFlashingCaseSummaryVO> content = cyberFlashingCaseRepository.search(
                 normalizedSearch.getCountryCode(),
                 normalizedSearch.getDuplicateFlag(),
                 normalizedSearch.getIncludeFlag(),
                 pageable
         );
-
-        List<CyberFlashingCaseVO> items = page.getContent().stream()
-                .map(this::toVO)
-                .toList();
+        Page<CyberFlashingCaseSummaryVO> page = new PageImpl<>(content, pageable, countCases(normalizedSearch));
 
         return CyberFlashingCaseListVO.builder()
-                .items(items)
+                .items(page.getContent())
                 .pageInfo(CyberFlashingCaseListVO.PageInfoVO.builder()
                         .currentPage(page.getNumber() + 1)
                         .pageSize(page.getSize())
@@ -58,15 +64,92 @@ public class CyberFlashingService {
                 .build();
     }
 
-    public long getCaseCount(CyberFlashingSearchDTO searchDTO) {
+    /**
+     * 커서(키셋) 페이지 조회 (id < 마지막 ID, 최신순)
+     * - cursor 가 비어 있으면 첫 페이지, 응답의 nextCursor 를 그대로 다음 요청에 전달
+     * - 깊은 페이지도 OFFSET 스캔 없이 인덱스 범위 스캔
+     */
+    public CyberFlashingCaseListVO getCasesByCursor(CyberFlashingSearchDTO searchDTO, String cursor, Integer size) {
         CyberFlashingSearchDTO normalizedSearch = normalizeSearch(searchDTO);
-        return cyberFlashingCaseRepository.countByFilters(
+        Long lastId = decodeCursor(cursor);
+        int pageSize = size != null ? size : PageRequestDTO.builder().build().getSize();
+        if (pageSize < 1 || pageSize > 100) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 100 이하여야 합니다.");
+        }
+
+        List<CyberFlashingCaseSummaryVO> fetched = cyberFlashingCaseRepository.searchBefore(
+                normalizedSearch.getCountryCode(),
+                normalizedSearch.getDuplicateFlag(),
+                normalizedSearch.getIncludeFlag(),
+                lastId,
+                PageRequest.of(0, pageSize + 1)
+        );
+        boolean hasNext = fetched.size() > pageSize;
+        List<CyberFlashingCaseSummaryVO> content = hasNext ? fetched.subList(0, pageSize) : fetched;
+        long total = countCases(normalizedSearch);
+
+        return CyberFlashingCaseListVO.builder()
+                .items(List.copyOf(content))
+                .pageInfo(CyberFlashingCaseListVO.PageInfoVO.builder()
+                        .pageSize(pageSize)
+                        .totalElements(total)
+                        .totalPages((int) ((total + pageSize - 1) / pageSize))
+                        .hasNext(hasNext)
+                        .hasPrevious(lastId != null)
+                        .isFirst(lastId == null)
+                        .isLast(!hasNext)
+                        .nextCursor(hasNext ? encodeCursor(content.get(content.size() - 1).getId()) : null)
+                        .build())
+                .filterInfo(CyberFlashingCaseListVO.FilterInfoVO.builder()
+                        .countryCode(normalizedSearch.getCountryCode())
+                        .duplicateFlag(normalizedSearch.getDuplicateFlag())
+                        .includeFlag(normalizedSearch.getIncludeFlag())
+                        .build())
+                .build();
+    }
+
+    /**
+     * 사례 단건 (본문/비고 등 TEXT 컬럼 포함)
+     */
+    public Optional<CyberFlashingCaseVO> getCase(Long id) {
+        return cyberFlashingCaseRepository.findById(id).map(this::toVO);
+    }
+
+    public long getCaseCount(CyberFlashingSearchDTO searchDTO) {
+        return countCases(normalizeSearch(searchDTO));
+    }
+
+    private long countCases(CyberFlashingSearchDTO normalizedSearch) {
+        return cyberFlashingCountService.count(
                 normalizedSearch.getCountryCode(),
                 normalizedSearch.getDuplicateFlag(),
                 normalizedSearch.getIncludeFlag()
         );
     }
 
+    private static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 불투명 커서 → 마지막 ID (빈 값이면 null = 첫 페이지)
+     */
+    private static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            if (decoded.startsWith(CURSOR_PREFIX)) {
+                return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 동일 메시지로 처리
+        }
+        throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+    }
+
     private CyberFlashingSearchDTO normalizeSearch(CyberFlashingSearchDTO searchDTO) {
         CyberFlashingSearchDTO normalizedSearch = searchDTO != null
                 ? searchDTO
@@ -0,0 +1,198 @@
+package com.sp.cyberflashing.service;
+
+import com.sp.cyberflashing.model.vo.CyberFlashingTimeseriesVO;
+import com.sp.cyberflashing.persistent.repository.CyberFlashingCaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 사이버 플래싱 사례 국가별 월별 건수 롤업
+ * - 시작 시 (국가코드, occurred_on 연/월) GROUP BY 로 적재하고, 이후 마지막 반영 ID 이후 행만 짧은 주기로 증분 집계
+ * - 외부 적재로 occurred_on 이 비어 들어온 행은 집계 전에 발생일 문자열을 해석해 채움
+ *   ({@link CyberFlashingOccurredOnBackfillService}, 이미 확인한 ID 이후 행만)
+ * - 기존 행 수정/삭제는 증분으로 잡히지 않으므로 긴 주기로 전체 재집계해 교체
+ * - ID 는 커밋 순서가 아니라 채번 순서이므로, 먼저 채번되고 늦게 커밋된 행이 워터마크 아래로 들어오면
+ *   증분에서 빠지고 다음 재집계(reconcile-interval-ms)에서야 반영됨
+ *   (건수 누적은 같은 행을 두 번 세면 안 되므로 워터마크 아래를 다시 훑지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CyberFlashingTimeseriesService implements SmartInitializingSingleton {
+
+    /** 한 번에 조회할 수 있는 최대 개월 수 */
+    private static final int MAX_MONTHS = 240;
+
+    private final CyberFlashingCaseRepository cyberFlashingCaseRepository;
+    private final CyberFlashingOccurredOnBackfillService occurredOnBackfillService;
+
+    private volatile Rollup rollup = new Rollup(0L, Map.of());
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reconcile();
+    }
+
+    /**
+     * 마지막 반영 ID 이후 행만 집계해 누적 (워터마크 아래로 늦게 커밋된 행은 재집계 때 반영)
+     */
+    @Scheduled(fixedDelayString = "${cyber-flashing.timeseries.refresh-interval-ms:60000}",
+            initialDelayString = "${cyber-flashing.timeseries.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        try {
+            Rollup current = rollup;
+            Long maxId = cyberFlashingCaseRepository.findMaxId();
+            if (maxId == null || maxId <= current.watermark()) {
+                return;
+            }
+            occurredOnBackfillService.backfillUpTo(maxId);
+            Map<String, NavigableMap<YearMonth, Long>> counts = copy(current.counts());
+            int added = accumulate(counts, current.watermark(), maxId);
+            rollup = new Rollup(maxId, counts);
+            log.debug("사이버 플래싱 월별 추이 증분 반영: ids=({}, {}], cells={}", current.watermark(), maxId, added);
+        } catch (Exception e) {
+            log.error("사이버 플래싱 월별 추이 증분 반영 실패", e);
+        }
+    }
+
+    /**
+     * DB 기준 전체 재집계 후 교체 (수정/삭제 반영)
+     */
+    @Scheduled(fixedDelayString = "${cyber-flashing.timeseries.reconcile-interval-ms:600000}",
+            initialDelayString = "${cyber-flashing.timeseries.reconcile-interval-ms:600000}")
+    public synchronized void reconcile() {
+        long startTime = System.currentTimeMillis();
+        try {
+            Long maxId = cyberFlashingCaseRepository.findMaxId();
+            Map<String, NavigableMap<YearMonth, Long>> counts = new HashMap<>();
+            if (maxId != null) {
+                occurredOnBackfillService.backfillUpTo(maxId);
+                accumulate(counts, 0L, maxId);
+            }
+            rollup = new Rollup(maxId != null ? maxId : 0L, counts);
+            log.info("사이버 플래싱 월별 추이 재집계 완료: countries={}, 소요시간={}ms",
+                    counts.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("사이버 플래싱 월별 추이 재집계 실패", e);
+        }
+    }
+
+    /**
+     * 국가별 월별 건수 (countryCode 없으면 전체 국가, from/to 는 yyyy-MM 이며 없으면 데이터 범위)
+     */
+    public CyberFlashingTimeseriesVO getTimeseries(String countryCode, String from, String to) {
+        YearMonth fromMonth = parseMonth(from, "from");
+        YearMonth toMonth = parseMonth(to, "to");
+        Map<String, NavigableMap<YearMonth, Long>> counts = rollup.counts();
+        String country = countryCode != null && !countryCode.isBlank() ? countryCode.trim().toUpperCase() : null;
+
+        Map<String, NavigableMap<YearMonth, Long>> selected = country == null
+                ? counts
+                : Optional.ofNullable(counts.get(country)).map(months -> Map.of(country, months)).orElse(Map.of());
+
+        if (toMonth == null) {
+            toMonth = selected.values().stream().map(NavigableMap::lastKey).max(Comparator.naturalOrder())
+                    .orElse(YearMonth.now());
+            if (fromMonth != null && fromMonth.isAfter(toMonth)) {
+                toMonth = fromMonth;
+            }
+        }
+        if (fromMonth == null) {
+            YearMonth earliest = toMonth.minusMonths(MAX_MONTHS - 1L);
+            fromMonth = selected.values().stream().map(NavigableMap::firstKey).min(Comparator.naturalOrder())
+                    .filter(first -> first.isAfter(earliest))
+                    .orElse(earliest);
+            if (fromMonth.isAfter(toMonth)) {
+                fromMonth = toMonth;
+            }
+        }
+        if (fromMonth.isAfter(toMonth)) {
+            throw new IllegalArgumentException("from 은 to 보다 늦을 수 없습니다.");
+        }
+        if (fromMonth.plusMonths(MAX_MONTHS).isBefore(toMonth.plusMonths(1))) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_MONTHS + "개월입니다.");
+        }
+
+        List<CyberFlashingTimeseriesVO.SeriesVO> series = new ArrayList<>();
+        for (Map.Entry<String, NavigableMap<YearMonth, Long>> entry : selected.entrySet()) {
+            NavigableMap<YearMonth, Long> range = entry.getValue().subMap(fromMonth, true, toMonth, true);
+            if (range.isEmpty()) {
+                continue;
+            }
+            List<CyberFlashingTimeseriesVO.PointVO> points = new ArrayList<>();
+            long total = 0;
+            for (YearMonth month = fromMonth; !month.isAfter(toMonth); month = month.plusMonths(1)) {
+                long count = range.getOrDefault(month, 0L);
+                total += count;
+                points.add(CyberFlashingTimeseriesVO.PointVO.builder()
+                        .month(month.toString())
+                        .count(count)
+                        .build());
+            }
+            series.add(CyberFlashingTimeseriesVO.SeriesVO.builder()
+                    .countryCode(entry.getKey())
+                    .total(total)
+                    .points(points)
+                    .build());
+        }
+        series.sort(Comparator.comparing(CyberFlashingTimeseriesVO.SeriesVO::getTotal).reversed()
+                .thenComparing(CyberFlashingTimeseriesVO.SeriesVO::getCountryCode));
+
+        return CyberFlashingTimeseriesVO.builder()
+                .from(fromMonth.toString())
+                .to(toMonth.toString())
+                .series(series)
+                .build();
+    }
+
+    /**
+     * ID 구간 (afterId, upToId] 의 국가/월 건수를 누적 (반환: 누적한 셀 수)
+     */
+    private int accumulate(Map<String, NavigableMap<YearMonth, Long>> counts, long afterId, long upToId) {
+        List<Object[]> rows = cyberFlashingCaseRepository.countByCountryAndMonth(afterId, upToId);
+        for (Object[] row : rows) {
+            String country = (String) row[0];
+            YearMonth month = YearMonth.of(((Number) row[1]).intValue(), ((Number) row[2]).intValue());
+            counts.computeIfAbsent(country, k -> new TreeMap<>())
+                    .merge(month, ((Number) row[3]).longValue(), Long::sum);
+        }
+        return rows.size();
+    }
+
+    private static Map<String, NavigableMap<YearMonth, Long>> copy(Map<String, NavigableMap<YearMonth, Long>> counts) {
+        Map<String, NavigableMap<YearMonth, Long>> copied = new HashMap<>();
+        counts.forEach((country, months) -> copied.put(country, new TreeMap<>(months)));
+        return copied;
+    }
+
+    private static YearMonth parseMonth(String value, String name) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " 는 yyyy-MM 형식이어야 합니다: " + value);
+        }
+    }
+
+    /**
+     * 교체 단위 스냅샷 (watermark = 반영된 마지막 ID)
+     */
+    private record Rollup(long watermark, Map<String, NavigableMap<YearMonth, Long>> counts) {
+    }
+}
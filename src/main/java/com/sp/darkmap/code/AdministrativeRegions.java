@@ -0,0 +1,131 @@
+package com.sp.darkmap.code;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 행정구역 명칭 목록 (시도 17개 + 시군구/자치구 + 일반구)
+ * - 지역 사전({@code region})에 새 행을 만들 수 있는 이름의 기준, 목록에 없는 이름은 사전에 추가하지 않음
+ * - 비교는 공백을 제거한 이름으로 수행 ("수원시 장안구" = "수원시장안구")
+ * - 시도는 약칭/구 명칭(서울, 강원도, 전라북도 등)도 표준 명칭으로 변환
+ */
+public final class AdministrativeRegions {
+
+    private static final Map<String, List<String>> SIGUNGU_BY_SIDO = Map.ofEntries(
+            Map.entry("서울특별시", List.of(
+                    "종로구", "중구", "용산구", "성동구", "광진구", "동대문구", "중랑구", "성북구", "강북구",
+                    "도봉구", "노원구", "은평구", "서대문구", "마포구", "양천구", "강서구", "구로구", "금천구",
+                    "영등포구", "동작구", "관악구", "서초구", "강남구", "송파구", "강동구")),
+            Map.entry("부산광역시", List.of(
+                    "중구", "서구", "동구", "영도구", "부산진구", "동래구", "남구", "북구", "해운대구",
+                    "사하구", "금정구", "강서구", "연제구", "수영구", "사상구", "기장군")),
+            Map.entry("대구광역시", List.of(
+                    "중구", "동구", "서구", "남구", "북구", "수성구", "달서구", "달성군", "군위군")),
+            Map.entry("인천광역시", List.of(
+                    "중구", "동구", "미추홀구", "연수구", "남동구", "부평구", "계양구", "서구", "강화군", "옹진군")),
+            Map.entry("광주광역시", List.of("동구", "서구", "남구", "북구", "광산구")),
+            Map.entry("대전광역시", List.of("동구", "중구", "서구", "유성구", "대덕구")),
+            Map.entry("울산광역시", List.of("중구", "남구", "동구", "북구", "울주군")),
+            Map.entry("세종특별자치시", List.of("세종특별자치시")),
+            Map.entry("경기도", List.of(
+                    "수원시", "수원시 장안구", "수원시 권선구", "수원시 팔달구", "수원시 영통구",
+                    "성남시", "성남시 수정구", "성남시 중원구", "성남시 분당구",
+                    "의정부시", "안양시", "안양시 만안구", "안양시 동안구",
+                    "부천시", "부천시 원미구", "부천시 소사구", "부천시 오정구",
+                    "광명시", "평택시", "동두천시", "안산시", "안산시 상록구", "안산시 단원구",
+                    "고양시", "고양시 덕양구", "고양시 일산동구", "고양시 일산서구",
+                    "과천시", "구리시", "남양주시", "오산시", "시흥시", "군포시", "의왕시", "하남시",
+                    "용인시", "용인시 처인구", "용인시 기흥구", "용인시 수지구",
+                    "파주시", "이천시", "안성시", "김포시",
+                    "화성시", "화성시 만세구", "화성시 효행구", "화성시 병점구", "화성시 동탄구",
+                    "광주시", "양주시", "포천시", "여주시", "연천군", "가평군", "양평군")),
+            Map.entry("강원특별자치도", List.of(
+                    "춘천시", "원주시", "강릉시", "동해시", "태백시", "속초시", "삼척시", "홍천군", "횡성군",
+                    "영월군", "평창군", "정선군", "철원군", "화천군", "양구군", "인제군", "고성군", "양양군")),
+            Map.entry("충청북도", List.of(
+                    "청주시", "청주시 상당구", "청주시 서원구", "청주시 흥덕구", "청주시 청원구",
+                    "충주시", "제천시", "보은군", "옥천군", "영동군", "증평군", "진천군", "괴산군", "음성군", "단양군")),
+            Map.entry("충청남도", List.of(
+                    "천안시", "천안시 동남구", "천안시 서북구",
+                    "공주시", "보령시", "아산시", "서산시", "논산시", "계룡시", "당진시", "금산군", "부여군",
+                    "서천군", "청양군", "홍성군", "예산군", "태안군")),
+            Map.entry("전북특별자치도", List.of(
+                    "전주시", "전주시 완산구", "전주시 덕진구",
+                    "군산시", "익산시", "정읍시", "남원시", "김제시", "완주군", "진안군", "무주군", "장수군",
+                    "임실군", "순창군", "고창군", "부안군")),
+            Map.entry("전라남도", List.of(
+                    "목포시", "여수시", "순천시", "나주시", "광양시", "담양군", "곡성군", "구례군", "고흥군",
+                    "보성군", "화순군", "장흥군", "강진군", "해남군", "영암군", "무안군", "함평군", "영광군",
+                    "장성군", "완도군", "진도군", "신안군")),
+            Map.entry("경상북도", List.of(
+                    "포항시", "포항시 남구", "포항시 북구",
+                    "경주시", "김천시", "안동시", "구미시", "영주시", "영천시", "상주시", "문경시", "경산시",
+                    "의성군", "청송군", "영양군", "영덕군", "청도군", "고령군", "성주군", "칠곡군", "예천군",
+                    "봉화군", "울진군", "울릉군")),
+            Map.entry("경상남도", List.of(
+                    "창원시", "창원시 의창구", "창원시 성산구", "창원시 마산합포구", "창원시 마산회원구", "창원시 진해구",
+                    "진주시", "통영시", "사천시", "김해시", "밀양시", "거제시", "양산시", "의령군", "함안군",
+                    "창녕군", "고성군", "남해군", "하동군", "산청군", "함양군", "거창군", "합천군")),
+            Map.entry("제주특별자치도", List.of("제주시", "서귀포시"))
+    );
+
+    /** 약칭/구 명칭 → 표준 시도 명칭 */
+    private static final Map<String, String> SIDO_ALIASES = Map.ofEntries(
+            Map.entry("서울", "서울특별시"), Map.entry("서울시", "서울특별시"),
+            Map.entry("부산", "부산광역시"), Map.entry("부산시", "부산광역시"),
+            Map.entry("대구", "대구광역시"), Map.entry("대구시", "대구광역시"),
+            Map.entry("인천", "인천광역시"), Map.entry("인천시", "인천광역시"),
+            Map.entry("광주", "광주광역시"),
+            Map.entry("대전", "대전광역시"), Map.entry("대전시", "대전광역시"),
+            Map.entry("울산", "울산광역시"), Map.entry("울산시", "울산광역시"),
+            Map.entry("세종", "세종특별자치시"), Map.entry("세종시", "세종특별자치시"),
+            Map.entry("경기", "경기도"),
+            Map.entry("강원", "강원특별자치도"), Map.entry("강원도", "강원특별자치도"),
+            Map.entry("충북", "충청북도"),
+            Map.entry("충남", "충청남도"),
+            Map.entry("전북", "전북특별자치도"), Map.entry("전라북도", "전북특별자치도"),
+            Map.entry("전남", "전라남도"),
+            Map.entry("경북", "경상북도"),
+            Map.entry("경남", "경상남도"),
+            Map.entry("제주", "제주특별자치도"), Map.entry("제주도", "제주특별자치도")
+    );
+
+    /** 공백 제거 이름 → 표준 시도 */
+    private static final Map<String, String> SIDO_BY_KEY = new HashMap<>();
+    /** 표준 시도 + "|" + 공백 제거 시군구 → 표준 시군구 */
+    private static final Map<String, String> SIGUNGU_BY_KEY = new HashMap<>();
+
+    static {
+        SIGUNGU_BY_SIDO.forEach((sido, sigungus) -> {
+            SIDO_BY_KEY.put(compact(sido), sido);
+            sigungus.forEach(sigungu -> SIGUNGU_BY_KEY.put(sido + "|" + compact(sigungu), sigungu));
+        });
+        SIDO_ALIASES.forEach((alias, sido) -> SIDO_BY_KEY.put(compact(alias), sido));
+    }
+
+    private AdministrativeRegions() {
+    }
+
+    /**
+     * 표준 시도 명칭 (목록에 없으면 empty)
+     */
+    public static Optional<String> canonicalSido(String sido) {
+        return sido == null ? Optional.empty() : Optional.ofNullable(SIDO_BY_KEY.get(compact(sido)));
+    }
+
+    /**
+     * 표준 시도에 속한 표준 시군구 명칭 (목록에 없으면 empty)
+     */
+    public static Optional<String> canonicalSigungu(String canonicalSido, String sigungu) {
+        if (canonicalSido == null || sigungu == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(SIGUNGU_BY_KEY.get(canonicalSido + "|" + compact(sigungu)));
+    }
+
+    private static String compact(String name) {
+        return name.replaceAll("\\s+", "");
+    }
+}
@@ -0,0 +1,44 @@
+package com.sp.darkmap.code;
+
+/**
+ * 히트맵 격자 해상도
+ */
+public enum HeatmapResolution {
+
+    M250(250, "250m"),
+    KM1(1000, "1km"),
+    KM5(5000, "5km");
+
+    private final int meters;
+    private final String label;
+
+    HeatmapResolution(int meters, String label) {
+        this.meters = meters;
+        this.label = label;
+    }
+
+    public int getMeters() {
+        return meters;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * "250m" / "1km" / "5km" 또는 미터 단위 숫자("250", "1000", "5000")
+     */
+    public static HeatmapResolution from(String value) {
+        if (value == null || value.isBlank()) {
+            return KM1;
+        }
+        String v = value.trim();
+        for (HeatmapResolution resolution : values()) {
+            if (resolution.label.equalsIgnoreCase(v) || String.valueOf(resolution.meters).equals(v)
+                    || resolution.name().equalsIgnoreCase(v)) {
+                return resolution;
+            }
+        }
+        throw new IllegalArgumentException("유효하지 않은 해상도: " + value + " (250m, 1km, 5km 중 하나)");
+    }
+}
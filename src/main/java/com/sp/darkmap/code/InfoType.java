@@ -4,19 +4,26 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 /**
- * 범죄 사례 정보유형 (DB·JSON 모두 한글 라벨로 입출력)
+ * 범죄 사례 정보유형 (JSON 은 한글 라벨, DB 는 숫자 코드로 입출력)
  */
 public enum InfoType {
 
-    NEWS_ARTICLE("인터넷 뉴스기사"),
-    MEMBER_EXPERIENCE("회원의 경험담");
+    NEWS_ARTICLE(1, "인터넷 뉴스기사"),
+    MEMBER_EXPERIENCE(2, "회원의 경험담");
 
+    /** DB 저장 코드 (한 번 부여하면 변경 금지) */
+    private final int code;
     private final String label;
 
-    InfoType(String label) {
+    InfoType(int code, String label) {
+        this.code = code;
         this.label = label;
     }
 
+    public int getCode() {
+        return code;
+    }
+
     @JsonValue
     public String getLabel() {
         return label;
@@ -35,4 +42,16 @@ public enum InfoType {
         }
         throw new IllegalArgumentException("유효하지 않은 정보유형: " + value);
     }
+
+    public static InfoType fromCode(Integer code) {
+        if (code == null) {
+            return null;
+        }
+        for (InfoType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("유효하지 않은 정보유형 코드: " + code);
+    }
 }
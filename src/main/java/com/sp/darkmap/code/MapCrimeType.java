@@ -4,21 +4,28 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 /**
- * 범죄 사례 범죄유형 (DB·JSON 모두 한글 라벨로 입출력).
+ * 범죄 사례 범죄유형 (JSON 은 한글 라벨, DB 는 숫자 코드로 입출력).
  * 기존 미사용 enum {@link CrimeType} 과 분리한 신규 어휘 체계.
  */
 public enum MapCrimeType {
 
-    FLASHER("바바리맨"),
-    HUNTING("헌팅"),
-    TAILING("미행");
+    FLASHER(1, "바바리맨"),
+    HUNTING(2, "헌팅"),
+    TAILING(3, "미행");
 
+    /** DB 저장 코드 (한 번 부여하면 변경 금지) */
+    private final int code;
     private final String label;
 
-    MapCrimeType(String label) {
+    MapCrimeType(int code, String label) {
+        this.code = code;
         this.label = label;
     }
 
+    public int getCode() {
+        return code;
+    }
+
     @JsonValue
     public String getLabel() {
         return label;
@@ -37,4 +44,30 @@ public enum MapCrimeType {
         }
         throw new IllegalArgumentException("유효하지 않은 범죄유형: " + value);
     }
+
+    public static MapCrimeType fromCode(Integer code) {
+        if (code == null) {
+            return null;
+        }
+        for (MapCrimeType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("유효하지 않은 범죄유형 코드: " + code);
+    }
+
+    /**
+     * 자유 문자열 분류(기사 카테고리 등) 해석, 해석 불가 시 null
+     */
+    public static MapCrimeType fromOrNull(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return from(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
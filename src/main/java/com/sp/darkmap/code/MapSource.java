@@ -0,0 +1,20 @@
+package com.sp.darkmap.code;
+
+/**
+ * 지도 마커 출처 (범죄 사례 테이블 / 기존 기사 테이블)
+ */
+public enum MapSource {
+
+    CRIME_CASE("범죄 사례"),
+    ARTICLE("뉴스 기사");
+
+    private final String label;
+
+    MapSource(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -1,20 +1,27 @@
 package com.sp.darkmap.controller;
 
+import com.sp.darkmap.index.ColumnarFeedEncoder;
+import com.sp.darkmap.model.vo.ArticleBulkIngestResult;
 import com.sp.darkmap.model.vo.ArticleListResponse;
 import com.sp.darkmap.model.vo.ArticleSaveRequest;
 import com.sp.darkmap.model.vo.SidoCountResponse;
+import com.sp.darkmap.service.ArticleBulkIngestService;
 import com.sp.darkmap.service.ArticleService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RequiredArgsConstructor
 @RestController
 public class ArticleController {
     private final ArticleService articleService;
+    private final ArticleBulkIngestService articleBulkIngestService;
 
     @PostMapping("/articles")
     public String saveArticles(@Valid @RequestBody List<ArticleSaveRequest> saveRequest) {
@@ -22,6 +29,18 @@ public class ArticleController {
         return "ok!";
     }
 
+    /**
+     * 대량 적재 (POST /articles 와 같은 배열 형식, 스트리밍 파싱 + 배치 저장 + 레코드별 오류 보고)
+     * - 인증 필요, 요청당 레코드 수 제한(article.bulk.max-records)
+     */
+    @PostMapping(value = "/articles/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ArticleBulkIngestResult> bulkSaveArticles(HttpServletRequest request) throws IOException {
+        ArticleBulkIngestResult result = articleBulkIngestService.ingest(request.getInputStream());
+        return result.isAborted()
+                ? ResponseEntity.badRequest().body(result)
+                : ResponseEntity.ok(result);
+    }
+
     @GetMapping("/articles_")
     public List<ArticleListResponse> getArticlesList_() {
         List<ArticleListResponse> temp0 = articleService.getArticlesList();
@@ -35,10 +54,24 @@ public class ArticleController {
         return ResponseEntity.ok().header("Content-Type", "application/json")
                 .header("Cache-Control", "max-age=300, stale-while-revalidate=59")
                 .header("Access-Control-Expose-Headers", "Cache-Control")
+                .header("Vary", "Accept")
                 .body(temp0);
 
     }
 
+    /**
+     * 기사 목록 컬럼 바이너리 (Accept: application/vnd.darkmap.columnar, 명세는 ColumnarFeedEncoder)
+     */
+    @GetMapping(value = "/articles", produces = ColumnarFeedEncoder.MEDIA_TYPE)
+    public ResponseEntity<byte[]> getArticlesFeed() {
+        return ResponseEntity.ok()
+                .header("Content-Type", ColumnarFeedEncoder.MEDIA_TYPE)
+                .header("Cache-Control", "max-age=300, stale-while-revalidate=59")
+                .header("Access-Control-Expose-Headers", "Cache-Control")
+                .header("Vary", "Accept")
+                .body(articleService.getArticleFeed());
+    }
+
     @GetMapping("/articles/sido")
     public List<ArticleListResponse> getArticlesBySido(@RequestParam String sido) {
         return articleService.getArticlesBySido(sido);
@@ -1,6 +1,7 @@
 package com.sp.darkmap.controller;
 
 import com.sp.community.model.response.CommonApiResponse;
+import com.sp.darkmap.index.ColumnarFeedEncoder;
 import com.sp.darkmap.model.dto.CrimeCaseSaveRequest;
 import com.sp.darkmap.model.vo.CrimeCaseVO;
 import com.sp.darkmap.service.CrimeCaseService;
@@ -12,14 +13,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Tag(name = "Crime Case", description = "범죄 사례(뉴스기사/회원 경험담) API")
 @Slf4j
 @RestController
@@ -57,4 +63,62 @@ public class CrimeCaseController {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(CommonApiResponse.success("범죄 사례 등록 성공", data));
     }
+
+    @Operation(
+            summary = "범죄 사례 목록 조회",
+            description = "등록된 범죄 사례를 최신 등록순으로 페이지 단위 조회합니다. 인증 필요. "
+                    + "작성 회원 ID 는 본인이 등록한 사례에만 포함됩니다. "
+                    + "size 보다 적은 건수가 오면 마지막 페이지입니다. "
+                    + "Accept: application/vnd.darkmap.columnar 로 요청하면 같은 페이지를 컬럼 바이너리로 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 페이지 번호/크기"),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @GetMapping
+    public ResponseEntity<CommonApiResponse<List<CrimeCaseVO>>> getCrimeCases(
+            @Parameter(description = "페이지 번호 (1부터 시작)", example = "1")
+            @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "페이지 크기 (최대 " + CrimeCaseService.MAX_PAGE_SIZE + ")", example = "100")
+            @RequestParam(defaultValue = "100") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal Long memberId) {
+        try {
+            List<CrimeCaseVO> data = crimeCaseService.getCrimeCases(memberId, page, size);
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .body(CommonApiResponse.success("범죄 사례 목록 조회 성공", data));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .body(CommonApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @Operation(
+            summary = "범죄 사례 목록 조회 (컬럼 바이너리)",
+            description = "같은 page/size 의 JSON 목록과 같은 행을 컬럼 지향 바이너리로 반환합니다. "
+                    + "좌표는 10^6 고정소수점 델타, 유형/시도/시군구는 사전 코드, ID 는 델타 varint 입니다. "
+                    + "컬럼: id, infoType, crimeType, sido, sigungu, newsUrl, lat, lng, createdAt(epoch 초) "
+                    + "(작성 회원 ID 는 포함하지 않음)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 페이지 번호/크기"),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @GetMapping(produces = ColumnarFeedEncoder.MEDIA_TYPE)
+    public ResponseEntity<byte[]> getCrimeCasesFeed(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        try {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_TYPE, ColumnarFeedEncoder.MEDIA_TYPE)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .body(crimeCaseService.getCrimeCaseFeed(page, size));
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 범죄 사례 목록 요청: page={}, size={}, reason={}", page, size, e.getMessage());
+            return ResponseEntity.badRequest().header(HttpHeaders.VARY, HttpHeaders.ACCEPT).build();
+        }
+    }
 }
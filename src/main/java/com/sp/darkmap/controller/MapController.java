@@ -0,0 +1,211 @@
+package com.sp.darkmap.controller;
+
+import com.sp.community.model.response.CommonApiResponse;
+import com.sp.darkmap.code.HeatmapResolution;
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.code.MapSource;
+import com.sp.darkmap.index.BoundingBox;
+import com.sp.darkmap.index.MapPoint;
+import com.sp.darkmap.model.dto.MapBoundsDTO;
+import com.sp.darkmap.model.dto.MapFilterDTO;
+import com.sp.darkmap.model.vo.HeatmapVO;
+import com.sp.darkmap.model.vo.MapChangesVO;
+import com.sp.darkmap.model.vo.MapClusterVO;
+import com.sp.darkmap.model.vo.MapFilterResultVO;
+import com.sp.darkmap.model.vo.MapMarkerVO;
+import com.sp.darkmap.model.vo.NearbyMarkerVO;
+import com.sp.darkmap.model.vo.RegionCountVO;
+import com.sp.darkmap.service.MapChangeLogService;
+import com.sp.darkmap.service.MapClusterService;
+import com.sp.darkmap.service.MapFilterService;
+import com.sp.darkmap.service.MapHeatmapService;
+import com.sp.darkmap.service.MapIndexService;
+import com.sp.darkmap.service.MapNearbyService;
+import com.sp.darkmap.service.RegionStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Map", description = "지도 마커 조회 API (범죄 사례 + 기사)")
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/map")
+@RequiredArgsConstructor
+public class MapController {
+
+    private final MapIndexService mapIndexService;
+    private final MapClusterService mapClusterService;
+    private final RegionStatisticsService regionStatisticsService;
+    private final MapChangeLogService mapChangeLogService;
+    private final MapHeatmapService mapHeatmapService;
+    private final MapNearbyService mapNearbyService;
+    private final MapFilterService mapFilterService;
+
+    @Operation(
+            summary = "뷰포트 마커 조회",
+            description = "위경도 사각 영역 안의 범죄 사례/기사 마커를 조회합니다. 범죄유형/정보유형은 선택 필터입니다. "
+                    + "limit(기본 500, 최대 5000)을 넘는 마커는 잘리며 total/truncated 로 알려줍니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 영역 또는 유형")
+    })
+    @GetMapping("/markers")
+    public ResponseEntity<CommonApiResponse<MapFilterResultVO>> getMarkers(
+            @Parameter(description = "뷰포트 및 필터") @ModelAttribute MapBoundsDTO boundsDTO) {
+        log.debug("지도 마커 조회 요청: {}", boundsDTO);
+
+        try {
+            List<MapPoint> points = mapIndexService.findInBounds(
+                    boundsDTO.toBoundingBox(), boundsDTO.crimeTypeFilter(), boundsDTO.infoTypeFilter());
+            int limit = boundsDTO.resolvedLimit();
+            MapFilterResultVO data = MapFilterResultVO.builder()
+                    .total(points.size())
+                    .truncated(points.size() > limit)
+                    .markers(points.stream().limit(limit).map(MapMarkerVO::from).toList())
+                    .build();
+            return ResponseEntity.ok(CommonApiResponse.success("지도 마커 조회 성공", data));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(CommonApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @Operation(
+            summary = "줌 레벨별 마커 클러스터 조회",
+            description = "줌 레벨(0~16, 범위 밖은 보정)과 영역(bbox=minLng,minLat,maxLng,maxLat)으로 "
+                    + "미리 계산된 클러스터와 범죄유형별 개수를 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 영역")
+    })
+    @GetMapping("/clusters")
+    public ResponseEntity<CommonApiResponse<List<MapClusterVO>>> getClusters(
+            @Parameter(description = "줌 레벨", example = "11") @RequestParam int zoom,
+            @Parameter(description = "영역 (minLng,minLat,maxLng,maxLat)", example = "126.90,37.45,127.10,37.60")
+            @RequestParam String bbox) {
+        log.debug("지도 클러스터 조회 요청: zoom={}, bbox={}", zoom, bbox);
+
+        try {
+            List<MapClusterVO> data = mapClusterService.getClusters(zoom, BoundingBox.parse(bbox));
+            return ResponseEntity.ok(CommonApiResponse.success("지도 클러스터 조회 성공", data));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(CommonApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @Operation(
+            summary = "지역별 건수 조회",
+            description = "sido 미지정 시 시도별, 지정 시 해당 시도의 시군구별 건수를 범죄유형/정보유형별로 조회합니다. "
+                    + "source(CRIME_CASE, ARTICLE) 미지정 시 전체 출처를 합산합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    @GetMapping("/regions")
+    public ResponseEntity<CommonApiResponse<List<RegionCountVO>>> getRegionCounts(
+            @Parameter(description = "시도", example = "서울특별시") @RequestParam(required = false) String sido,
+            @Parameter(description = "출처", example = "CRIME_CASE") @RequestParam(required = false) MapSource source) {
+        List<RegionCountVO> data = regionStatisticsService.getRegionCounts(sido, source);
+        return ResponseEntity.ok(CommonApiResponse.success("지역별 건수 조회 성공", data));
+    }
+
+    @Operation(
+            summary = "지도 데이터 변경분 조회",
+            description = "since 버전 이후 추가된 범죄 사례/기사 마커만 반환합니다. "
+                    + "로그가 압축된 구간이면 fullResync=true 와 현재 버전을 반환하므로 전체 마커를 다시 받은 뒤 그 버전부터 폴링합니다. "
+                    + "since 를 생략하면 현재 버전만 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<CommonApiResponse<MapChangesVO>> getChanges(
+            @Parameter(description = "마지막으로 받은 버전") @RequestParam(required = false) Long since,
+            @Parameter(description = "최대 변경 수 (기본 1000, 최대 5000)") @RequestParam(required = false) Integer limit) {
+        long from = since != null ? since : mapChangeLogService.getCurrentVersion();
+        MapChangesVO data = mapChangeLogService.getChanges(from, limit);
+        return ResponseEntity.ok(CommonApiResponse.success("지도 데이터 변경분 조회 성공", data));
+    }
+
+    @Operation(
+            summary = "히트맵 밀도 격자 조회",
+            description = "해상도(250m, 1km, 5km)별로 미리 집계된 셀 가중치를 영역(bbox=minLng,minLat,maxLng,maxLat) 기준으로 조회합니다. "
+                    + "cells 는 [행, 열, 가중치] 반복 배열입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 해상도/영역/범죄유형 또는 해상도 대비 과도한 영역")
+    })
+    @GetMapping("/heatmap")
+    public ResponseEntity<CommonApiResponse<HeatmapVO>> getHeatmap(
+            @Parameter(description = "해상도", example = "1km") @RequestParam(required = false) String res,
+            @Parameter(description = "영역 (minLng,minLat,maxLng,maxLat)", example = "126.90,37.45,127.10,37.60")
+            @RequestParam String bbox,
+            @Parameter(description = "범죄유형", example = "바바리맨") @RequestParam(required = false) String crimeType) {
+        try {
+            HeatmapVO data = mapHeatmapService.getHeatmap(HeatmapResolution.from(res), BoundingBox.parse(bbox),
+                    crimeType == null || crimeType.isBlank() ? null : MapCrimeType.from(crimeType));
+            return ResponseEntity.ok(CommonApiResponse.success("히트맵 조회 성공", data));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(CommonApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @Operation(
+            summary = "주변 마커 조회",
+            description = "기준 좌표에서 가까운 범죄 사례/기사 마커 k개(기본 10, 최대 100)를 거리순으로 조회합니다. "
+                    + "radius(m)를 주면 그 반경 안에서만 찾습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 좌표 또는 반경")
+    })
+    @GetMapping("/nearby")
+    public ResponseEntity<CommonApiResponse<List<NearbyMarkerVO>>> getNearby(
+            @Parameter(description = "위도", example = "37.4979") @RequestParam double lat,
+            @Parameter(description = "경도", example = "127.0276") @RequestParam double lng,
+            @Parameter(description = "최대 개수", example = "10") @RequestParam(required = false) Integer k,
+            @Parameter(description = "반경(m)", example = "3000") @RequestParam(required = false) Double radius) {
+        try {
+            List<NearbyMarkerVO> data = mapNearbyService.findNearest(lat, lng, k, radius);
+            return ResponseEntity.ok(CommonApiResponse.success("주변 마커 조회 성공", data));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(CommonApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @Operation(
+            summary = "마커 조합 필터 조회",
+            description = "출처/범죄유형/정보유형(각각 복수 선택 시 OR), 시도/시군구, 발생일 범위, 영역을 자유롭게 조합해 "
+                    + "메모리 비트맵 인덱스로 조회합니다. 전체 건수와 최근 추가 순 마커(최대 limit)를 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 유형/영역/기간")
+    })
+    @GetMapping("/filter")
+    public ResponseEntity<CommonApiResponse<MapFilterResultVO>> filterMarkers(
+            @Parameter(description = "필터 조건") @ModelAttribute MapFilterDTO filterDTO) {
+        log.debug("지도 마커 필터 요청: {}", filterDTO);
+
+        try {
+            MapFilterResultVO data = mapFilterService.filter(filterDTO);
+            return ResponseEntity.ok(CommonApiResponse.success("지도 마커 필터 조회 성공", data));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(CommonApiResponse.error(e.getMessage()));
+        }
+    }
+}
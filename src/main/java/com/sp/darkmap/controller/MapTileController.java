@@ -0,0 +1,50 @@
+package com.sp.darkmap.controller;
+
+import com.sp.darkmap.service.MapTileService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Map Tile", description = "지도 벡터 타일(MVT) API")
+@Slf4j
+@RestController
+@RequestMapping("/tiles")
+@RequiredArgsConstructor
+public class MapTileController {
+
+    private static final String MVT_CONTENT_TYPE = "application/vnd.mapbox-vector-tile";
+
+    private final MapTileService mapTileService;
+
+    @Operation(
+            summary = "벡터 타일 조회",
+            description = "범죄 사례/기사 마커를 'crimes' 레이어 포인트로 담은 MVT 타일을 반환합니다. "
+                    + "속성: source, id, crimeType, infoType"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "타일 반환 (마커가 없으면 빈 본문)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 타일 좌표")
+    })
+    @GetMapping("/{z}/{x}/{y}.mvt")
+    public ResponseEntity<byte[]> getTile(@PathVariable int z, @PathVariable int x, @PathVariable int y) {
+        try {
+            byte[] tile = mapTileService.getTile(z, x, y);
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_TYPE, MVT_CONTENT_TYPE)
+                    .header(HttpHeaders.CACHE_CONTROL, "max-age=60")
+                    .body(tile);
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 타일 요청: z={}, x={}, y={}, reason={}", z, x, y, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
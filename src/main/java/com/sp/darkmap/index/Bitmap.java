@@ -0,0 +1,123 @@
+package com.sp.darkmap.index;
+
+import java.util.Arrays;
+
+/**
+ * 행 번호 비트맵 (long 워드 배열, 필요 시 확장)
+ * - 필터 조합은 워드 단위 AND/OR 로 평가
+ */
+public class Bitmap {
+
+    private long[] words;
+
+    public Bitmap() {
+        this(64);
+    }
+
+    public Bitmap(int capacityBits) {
+        this.words = new long[Math.max(1, (capacityBits + 63) >>> 6)];
+    }
+
+    private Bitmap(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * 0 ~ size-1 비트가 모두 켜진 비트맵
+     */
+    public static Bitmap full(int size) {
+        Bitmap bitmap = new Bitmap(size);
+        Arrays.fill(bitmap.words, 0, size >>> 6, -1L);
+        if ((size & 63) != 0) {
+            bitmap.words[size >>> 6] = (1L << (size & 63)) - 1;
+        }
+        return bitmap;
+    }
+
+    public void set(int index) {
+        int word = index >>> 6;
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+        }
+        words[word] |= 1L << (index & 63);
+    }
+
+    public boolean get(int index) {
+        int word = index >>> 6;
+        return word < words.length && (words[word] & (1L << (index & 63))) != 0;
+    }
+
+    public Bitmap copy() {
+        return new Bitmap(words.clone());
+    }
+
+    /**
+     * this &= other
+     */
+    public Bitmap and(Bitmap other) {
+        int common = Math.min(words.length, other.words.length);
+        for (int i = 0; i < common; i++) {
+            words[i] &= other.words[i];
+        }
+        Arrays.fill(words, common, words.length, 0L);
+        return this;
+    }
+
+    /**
+     * this |= other
+     */
+    public Bitmap or(Bitmap other) {
+        if (other.words.length > words.length) {
+            words = Arrays.copyOf(words, other.words.length);
+        }
+        for (int i = 0; i < other.words.length; i++) {
+            words[i] |= other.words[i];
+        }
+        return this;
+    }
+
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * 켜진 비트 순회 (오름차순), visitor 가 false 를 반환하면 중단
+     */
+    public void forEach(BitVisitor visitor) {
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                if (!visitor.visit((i << 6) + bit)) {
+                    return;
+                }
+                word &= word - 1;
+            }
+        }
+    }
+
+    /**
+     * 켜진 비트 역순 순회 (최신 행 우선), visitor 가 false 를 반환하면 중단
+     */
+    public void forEachDescending(BitVisitor visitor) {
+        for (int i = words.length - 1; i >= 0; i--) {
+            long word = words[i];
+            while (word != 0) {
+                int bit = 63 - Long.numberOfLeadingZeros(word);
+                if (!visitor.visit((i << 6) + bit)) {
+                    return;
+                }
+                word &= ~(1L << bit);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface BitVisitor {
+        boolean visit(int index);
+    }
+}
@@ -0,0 +1,77 @@
+package com.sp.darkmap.index;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 행정구역 경계 (멀티폴리곤) + 구역 정보
+ * - 링 좌표는 [경도0, 위도0, 경도1, 위도1, ...] 평탄 배열
+ * - 폴리곤 하나의 외곽/구멍 링은 짝홀 규칙으로 함께 판정
+ */
+public class BoundaryPolygon {
+
+    @Getter
+    private final RegionMatch region;
+    /** 폴리곤별 링 목록 (첫 링 = 외곽, 나머지 = 구멍) */
+    private final List<List<double[]>> polygons;
+
+    public BoundaryPolygon(RegionMatch region, List<List<double[]>> polygons) {
+        this.region = region;
+        this.polygons = polygons;
+    }
+
+    public boolean contains(double lat, double lng) {
+        for (List<double[]> rings : polygons) {
+            boolean inside = false;
+            for (double[] ring : rings) {
+                if (crosses(ring, lat, lng)) {
+                    inside = !inside;
+                }
+            }
+            if (inside) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 경계 사각형 [minLat, minLng, maxLat, maxLng]
+     */
+    public double[] bounds() {
+        double minLat = Double.POSITIVE_INFINITY;
+        double minLng = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double maxLng = Double.NEGATIVE_INFINITY;
+        for (List<double[]> rings : polygons) {
+            double[] outer = rings.get(0);
+            for (int i = 0; i + 1 < outer.length; i += 2) {
+                minLng = Math.min(minLng, outer[i]);
+                maxLng = Math.max(maxLng, outer[i]);
+                minLat = Math.min(minLat, outer[i + 1]);
+                maxLat = Math.max(maxLat, outer[i + 1]);
+            }
+        }
+        return new double[]{minLat, minLng, maxLat, maxLng};
+    }
+
+    /**
+     * 좌표에서 동쪽으로 쏜 반직선이 링을 홀수 번 가로지르는지 (ray casting)
+     */
+    private static boolean crosses(double[] ring, double lat, double lng) {
+        boolean inside = false;
+        int points = ring.length / 2;
+        for (int i = 0, j = points - 1; i < points; j = i++) {
+            double lngI = ring[2 * i];
+            double latI = ring[2 * i + 1];
+            double lngJ = ring[2 * j];
+            double latJ = ring[2 * j + 1];
+            if ((latI > lat) != (latJ > lat)
+                    && lng < (lngJ - lngI) * (lat - latI) / (latJ - latI) + lngI) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+}
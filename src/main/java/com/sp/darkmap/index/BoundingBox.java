@@ -0,0 +1,61 @@
+package com.sp.darkmap.index;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 위경도 사각 영역 (지도 뷰포트)
+ */
+@Getter
+@ToString
+public class BoundingBox {
+
+    private final double minLat;
+    private final double minLng;
+    private final double maxLat;
+    private final double maxLng;
+
+    public BoundingBox(double minLat, double minLng, double maxLat, double maxLng) {
+        // NaN 은 모든 비교가 거짓이라 아래 범위 검사를 그대로 통과하므로 먼저 거름
+        if (!Double.isFinite(minLat) || !Double.isFinite(minLng)
+                || !Double.isFinite(maxLat) || !Double.isFinite(maxLng)) {
+            throw new IllegalArgumentException("위경도는 유한한 숫자여야 합니다.");
+        }
+        if (minLat > maxLat || minLng > maxLng) {
+            throw new IllegalArgumentException("최솟값이 최댓값보다 클 수 없습니다.");
+        }
+        if (minLat < -90 || maxLat > 90 || minLng < -180 || maxLng > 180) {
+            throw new IllegalArgumentException("위경도 범위를 벗어났습니다.");
+        }
+        this.minLat = minLat;
+        this.minLng = minLng;
+        this.maxLat = maxLat;
+        this.maxLng = maxLng;
+    }
+
+    /**
+     * "minLng,minLat,maxLng,maxLat" 형식(GeoJSON bbox 순서) 파싱
+     */
+    public static BoundingBox parse(String bbox) {
+        if (bbox == null || bbox.isBlank()) {
+            throw new IllegalArgumentException("bbox 는 필수입니다.");
+        }
+        String[] parts = bbox.split(",");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("bbox 는 minLng,minLat,maxLng,maxLat 형식이어야 합니다.");
+        }
+        try {
+            return new BoundingBox(
+                    Double.parseDouble(parts[1].trim()),
+                    Double.parseDouble(parts[0].trim()),
+                    Double.parseDouble(parts[3].trim()),
+                    Double.parseDouble(parts[2].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("bbox 좌표가 숫자가 아닙니다: " + bbox);
+        }
+    }
+
+    public boolean contains(double lat, double lng) {
+        return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+    }
+}
@@ -0,0 +1,178 @@
+package com.sp.darkmap.index;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 목록 응답용 컬럼 지향 바이너리 포맷 인코더 (JSON 대비 필드명 반복/전체 정밀도 double 제거)
+ *
+ * <p>디코더 명세 (모든 정수는 unsigned LEB128 varint, 부호 있는 값은 zigzag 후 varint)
+ * <pre>
+ * magic      4 bytes   'D' 'M' 'C' '1'  (마지막 바이트가 포맷 버전)
+ * rowCount   varint
+ * dictSize   varint    공용 문자열 사전 (모든 DICTIONARY 컬럼이 공유)
+ *   entry    varint 바이트 길이 + UTF-8
+ * colCount   varint
+ *   column   varint 이름 길이 + UTF-8 이름
+ *            u8     타입 (아래)
+ *            u8     scale  (정수 값 / 10^scale = 실제 값, 좌표는 6)
+ *            varint payload 바이트 길이 (모르는 컬럼은 건너뛰기)
+ *            payload
+ *
+ * 타입 1 DELTA           행마다 zigzag(값 - 이전 값), 이전 값 초기치 0, null 없음 (ID)
+ * 타입 2 NULLABLE_DELTA  존재 비트맵 ceil(rowCount/8) 바이트 (행 i = byte[i/8] 의 bit (i%8), LSB 부터)
+ *                        + 값이 있는 행만 zigzag(값 - 이전 값) (좌표, 시각)
+ * 타입 3 DICTIONARY      행마다 varint, 0 = null, k = 사전[k-1]
+ * 타입 4 STRING          행마다 varint, 0 = null, n = (n-1) 바이트 UTF-8 이 뒤따름
+ * </pre>
+ * 행 순서는 모든 컬럼에서 같으며 JSON 응답의 순서와 일치합니다.
+ */
+public class ColumnarFeedEncoder<T> {
+
+    public static final String MEDIA_TYPE = "application/vnd.darkmap.columnar";
+
+    /** 좌표 고정소수점 자릿수 (1e-6도 ≈ 0.11m) */
+    public static final int COORDINATE_SCALE = 6;
+
+    private static final byte[] MAGIC = {'D', 'M', 'C', '1'};
+    private static final int TYPE_DELTA = 1;
+    private static final int TYPE_NULLABLE_DELTA = 2;
+    private static final int TYPE_DICTIONARY = 3;
+    private static final int TYPE_STRING = 4;
+
+    private final List<T> rows;
+    private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+    private final List<byte[]> columns = new ArrayList<>();
+
+    public ColumnarFeedEncoder(List<T> rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * null 없는 정수 컬럼 (ID 등, 정렬돼 있을수록 작아짐)
+     */
+    public ColumnarFeedEncoder<T> deltaColumn(String name, ToLongFunction<T> getter) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        long previous = 0;
+        for (T row : rows) {
+            long value = getter.applyAsLong(row);
+            VectorTileEncoder.writeVarint(payload, zigZag(value - previous));
+            previous = value;
+        }
+        addColumn(name, TYPE_DELTA, 0, payload);
+        return this;
+    }
+
+    /**
+     * null 허용 정수 컬럼
+     */
+    public ColumnarFeedEncoder<T> nullableDeltaColumn(String name, Function<T, Long> getter) {
+        return nullableDelta(name, 0, getter);
+    }
+
+    /**
+     * 위경도 컬럼 (10^6 고정소수점 정수로 변환 후 델타)
+     */
+    public ColumnarFeedEncoder<T> coordinateColumn(String name, Function<T, Double> getter) {
+        double factor = Math.pow(10, COORDINATE_SCALE);
+        return nullableDelta(name, COORDINATE_SCALE, row -> {
+            Double value = getter.apply(row);
+            return value != null ? Math.round(value * factor) : null;
+        });
+    }
+
+    /**
+     * 값 종류가 적은 문자열 컬럼 (언론사, 시도, 범죄유형 등)
+     */
+    public ColumnarFeedEncoder<T> dictionaryColumn(String name, Function<T, String> getter) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        for (T row : rows) {
+            String value = getter.apply(row);
+            int index = value == null ? 0 : dictionary.computeIfAbsent(value, k -> dictionary.size() + 1);
+            VectorTileEncoder.writeVarint(payload, index);
+        }
+        addColumn(name, TYPE_DICTIONARY, 0, payload);
+        return this;
+    }
+
+    /**
+     * 자유 문자열 컬럼 (제목, URL 등)
+     */
+    public ColumnarFeedEncoder<T> stringColumn(String name, Function<T, String> getter) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        for (T row : rows) {
+            String value = getter.apply(row);
+            if (value == null) {
+                VectorTileEncoder.writeVarint(payload, 0);
+                continue;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            VectorTileEncoder.writeVarint(payload, bytes.length + 1L);
+            payload.writeBytes(bytes);
+        }
+        addColumn(name, TYPE_STRING, 0, payload);
+        return this;
+    }
+
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(MAGIC);
+        VectorTileEncoder.writeVarint(out, rows.size());
+
+        VectorTileEncoder.writeVarint(out, dictionary.size());
+        for (String entry : dictionary.keySet()) {
+            writeString(out, entry);
+        }
+
+        VectorTileEncoder.writeVarint(out, columns.size());
+        columns.forEach(out::writeBytes);
+        return out.toByteArray();
+    }
+
+    private ColumnarFeedEncoder<T> nullableDelta(String name, int scale, Function<T, Long> getter) {
+        byte[] presence = new byte[(rows.size() + 7) / 8];
+        ByteArrayOutputStream values = new ByteArrayOutputStream();
+        long previous = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            Long value = getter.apply(rows.get(i));
+            if (value == null) {
+                continue;
+            }
+            presence[i >>> 3] |= (byte) (1 << (i & 7));
+            VectorTileEncoder.writeVarint(values, zigZag(value - previous));
+            previous = value;
+        }
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        payload.writeBytes(presence);
+        payload.writeBytes(values.toByteArray());
+        addColumn(name, TYPE_NULLABLE_DELTA, scale, payload);
+        return this;
+    }
+
+    private void addColumn(String name, int type, int scale, ByteArrayOutputStream payload) {
+        ByteArrayOutputStream column = new ByteArrayOutputStream();
+        writeString(column, name);
+        column.write(type);
+        column.write(scale);
+        VectorTileEncoder.writeVarint(column, payload.size());
+        column.writeBytes(payload.toByteArray());
+        columns.add(column.toByteArray());
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        VectorTileEncoder.writeVarint(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static long zigZag(long n) {
+        return (n << 1) ^ (n >> 63);
+    }
+}
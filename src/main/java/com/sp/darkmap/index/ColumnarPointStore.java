@@ -0,0 +1,170 @@
+package com.sp.darkmap.index;
+
+import com.sp.darkmap.code.InfoType;
+import com.sp.darkmap.code.MapSource;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 지도 마커 컬럼 저장소 (DB 조회 없이 임의 필터 조합 평가)
+ * - 행 번호 기준 병렬 배열: 위도/경도/발생 시각(epoch ms) + 원본 마커
+ * - 출처/범죄유형/정보유형/지역 ID 별 비트맵 인덱스
+ * - 필터는 차원별 비트맵 OR → 차원 간 AND 로 후보를 좁힌 뒤 시각/영역만 배열에서 비교
+ * - 행은 추가만 되며(append-only) 쓰기는 드물어 읽기/쓰기 락으로 보호
+ */
+public class ColumnarPointStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int UNKNOWN_INFO_TYPE = InfoType.values().length;
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private MapPoint[] points = new MapPoint[INITIAL_CAPACITY];
+    private double[] latitudes = new double[INITIAL_CAPACITY];
+    private double[] longitudes = new double[INITIAL_CAPACITY];
+    private long[] times = new long[INITIAL_CAPACITY];
+    private int size;
+
+    private final Bitmap[] bySource = newBitmaps(MapSource.values().length);
+    private final Bitmap[] byCrimeType = newBitmaps(MarkerClusterIndex.UNKNOWN_CRIME_TYPE + 1);
+    private final Bitmap[] byInfoType = newBitmaps(UNKNOWN_INFO_TYPE + 1);
+    private final Map<Integer, Bitmap> byRegion = new HashMap<>();
+
+    public void addAll(Collection<MapPoint> added) {
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(size + added.size());
+            added.forEach(this::append);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 필터 평가 (전체 건수 + 최근 추가 순 최대 limit 건)
+     */
+    public FilterResult query(MapFilter filter, int limit) {
+        lock.readLock().lock();
+        try {
+            Bitmap candidates = Bitmap.full(size);
+            if (filter.getSources() != null) {
+                candidates.and(union(bySource, filter.getSources().stream().mapToInt(Enum::ordinal).toArray()));
+            }
+            if (filter.getCrimeTypes() != null) {
+                candidates.and(union(byCrimeType, filter.getCrimeTypes().stream()
+                        .mapToInt(MarkerClusterIndex::crimeTypeSlot).toArray()));
+            }
+            if (filter.getInfoTypes() != null) {
+                candidates.and(union(byInfoType, filter.getInfoTypes().stream()
+                        .mapToInt(ColumnarPointStore::infoTypeSlot).toArray()));
+            }
+            if (filter.getRegionIds() != null) {
+                Bitmap regions = new Bitmap(size);
+                filter.getRegionIds().forEach(id -> {
+                    Bitmap bitmap = byRegion.get(id);
+                    if (bitmap != null) {
+                        regions.or(bitmap);
+                    }
+                });
+                candidates.and(regions);
+            }
+
+            boolean timeFiltered = filter.hasTimeRange();
+            long from = filter.getFromMillis() != null ? filter.getFromMillis() : Long.MIN_VALUE + 1;
+            long to = filter.getToMillis() != null ? filter.getToMillis() : Long.MAX_VALUE;
+            BoundingBox box = filter.getBox();
+
+            List<MapPoint> matched = new ArrayList<>(Math.min(limit, 256));
+            int[] total = new int[1];
+            candidates.forEachDescending(row -> {
+                if (timeFiltered && (times[row] == NO_TIME || times[row] < from || times[row] >= to)) {
+                    return true;
+                }
+                if (box != null && !box.contains(latitudes[row], longitudes[row])) {
+                    return true;
+                }
+                if (total[0]++ < limit) {
+                    matched.add(points[row]);
+                }
+                return true;
+            });
+            return new FilterResult(total[0], matched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void append(MapPoint point) {
+        int row = size++;
+        points[row] = point;
+        latitudes[row] = point.getLatitude();
+        longitudes[row] = point.getLongitude();
+        times[row] = point.getOccurredAt() != null ? point.getOccurredAt() : NO_TIME;
+
+        bySource[point.getSource().ordinal()].set(row);
+        byCrimeType[MarkerClusterIndex.crimeTypeSlot(point.getCrimeType())].set(row);
+        byInfoType[infoTypeSlot(point.getInfoType())].set(row);
+        if (point.getRegionId() != null) {
+            byRegion.computeIfAbsent(point.getRegionId(), k -> new Bitmap()).set(row);
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= points.length) {
+            return;
+        }
+        int capacity = Math.max(required, points.length * 2);
+        points = Arrays.copyOf(points, capacity);
+        latitudes = Arrays.copyOf(latitudes, capacity);
+        longitudes = Arrays.copyOf(longitudes, capacity);
+        times = Arrays.copyOf(times, capacity);
+    }
+
+    private Bitmap union(Bitmap[] bitmaps, int[] slots) {
+        Bitmap result = new Bitmap(size);
+        for (int slot : slots) {
+            result.or(bitmaps[slot]);
+        }
+        return result;
+    }
+
+    private static int infoTypeSlot(InfoType infoType) {
+        return infoType == null ? UNKNOWN_INFO_TYPE : infoType.ordinal();
+    }
+
+    private static Bitmap[] newBitmaps(int count) {
+        Bitmap[] bitmaps = new Bitmap[count];
+        for (int i = 0; i < count; i++) {
+            bitmaps[i] = new Bitmap();
+        }
+        return bitmaps;
+    }
+
+    /**
+     * 필터 결과 (조건에 맞는 전체 건수 + 잘린 목록)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class FilterResult {
+        private final int total;
+        private final List<MapPoint> points;
+    }
+}
@@ -0,0 +1,143 @@
+package com.sp.darkmap.index;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 고정 해상도 밀도 격자 (국내 범위)
+ * - 셀 값은 int 배열에 범죄유형 슬롯별로 저장, 추가 1건당 O(1) 증가
+ * - 64×64 셀 블록 단위로 필요할 때만 할당해 250m 해상도에서도 데이터가 있는 곳만 메모리 사용
+ */
+public class DensityGrid {
+
+    /** 격자 범위 (범죄 사례 등록 검증 범위와 동일) */
+    public static final double MIN_LAT = 33.0;
+    public static final double MAX_LAT = 39.0;
+    public static final double MIN_LNG = 124.0;
+    public static final double MAX_LNG = 132.0;
+
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+    /** 경도 간격 계산 기준 위도 (국내 중앙) */
+    private static final double REFERENCE_LAT = 36.0;
+    private static final int BLOCK = 64;
+
+    private final double latStep;
+    private final double lngStep;
+    private final int rows;
+    private final int cols;
+    private final int slots;
+    private final int blockCols;
+    private final int[][] blocks;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public DensityGrid(int cellMeters, int slots) {
+        this.latStep = cellMeters / METERS_PER_DEGREE_LAT;
+        this.lngStep = cellMeters / (METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(REFERENCE_LAT)));
+        this.rows = (int) Math.ceil((MAX_LAT - MIN_LAT) / latStep);
+        this.cols = (int) Math.ceil((MAX_LNG - MIN_LNG) / lngStep);
+        this.slots = slots;
+        this.blockCols = (cols + BLOCK - 1) / BLOCK;
+        int blockRows = (rows + BLOCK - 1) / BLOCK;
+        this.blocks = new int[blockRows * blockCols][];
+    }
+
+    /**
+     * 좌표의 셀 슬롯 1 증가 (범위 밖 좌표는 무시)
+     */
+    public void add(double lat, double lng, int slot) {
+        int row = row(lat);
+        int col = col(lng);
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return;
+        }
+        int blockIndex = (row / BLOCK) * blockCols + (col / BLOCK);
+
+        lock.writeLock().lock();
+        try {
+            int[] block = blocks[blockIndex];
+            if (block == null) {
+                block = new int[BLOCK * BLOCK * slots];
+                blocks[blockIndex] = block;
+            }
+            block[((row % BLOCK) * BLOCK + (col % BLOCK)) * slots + slot]++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 영역 내 0이 아닌 셀 방문 (slot 이 음수면 전체 슬롯 합계)
+     */
+    public void forEachCell(int minRow, int maxRow, int minCol, int maxCol, int slot, CellVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            for (int blockRow = minRow / BLOCK; blockRow <= maxRow / BLOCK; blockRow++) {
+                for (int blockCol = minCol / BLOCK; blockCol <= maxCol / BLOCK; blockCol++) {
+                    int[] block = blocks[blockRow * blockCols + blockCol];
+                    if (block == null) {
+                        continue;
+                    }
+                    int rowFrom = Math.max(minRow, blockRow * BLOCK);
+                    int rowTo = Math.min(maxRow, blockRow * BLOCK + BLOCK - 1);
+                    int colFrom = Math.max(minCol, blockCol * BLOCK);
+                    int colTo = Math.min(maxCol, blockCol * BLOCK + BLOCK - 1);
+                    for (int row = rowFrom; row <= rowTo; row++) {
+                        for (int col = colFrom; col <= colTo; col++) {
+                            int weight = weight(block, ((row % BLOCK) * BLOCK + (col % BLOCK)) * slots, slot);
+                            if (weight > 0) {
+                                visitor.visit(row, col, weight);
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int weight(int[] block, int offset, int slot) {
+        if (slot >= 0) {
+            return block[offset + slot];
+        }
+        int sum = 0;
+        for (int i = 0; i < slots; i++) {
+            sum += block[offset + i];
+        }
+        return sum;
+    }
+
+    /**
+     * 위도 → 행 (범위로 보정하지 않음)
+     */
+    public int row(double lat) {
+        return (int) Math.floor((lat - MIN_LAT) / latStep);
+    }
+
+    /**
+     * 경도 → 열 (범위로 보정하지 않음)
+     */
+    public int col(double lng) {
+        return (int) Math.floor((lng - MIN_LNG) / lngStep);
+    }
+
+    public int clampRow(int row) {
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+
+    public int clampCol(int col) {
+        return Math.max(0, Math.min(cols - 1, col));
+    }
+
+    public double getLatStep() {
+        return latStep;
+    }
+
+    public double getLngStep() {
+        return lngStep;
+    }
+
+    @FunctionalInterface
+    public interface CellVisitor {
+        void visit(int row, int col, int weight);
+    }
+}
@@ -0,0 +1,32 @@
+package com.sp.darkmap.index;
+
+/**
+ * 구면 거리 계산 (지구 평균 반지름 기준)
+ */
+public final class GeoDistance {
+
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private GeoDistance() {
+    }
+
+    /**
+     * 두 좌표 사이 대원 거리(m) - haversine
+     */
+    public static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 대원 거리(m) → 단위구 현(chord) 길이의 제곱 (단조 증가 관계라 최근접 비교에 사용)
+     */
+    public static double chordSquaredForMeters(double meters) {
+        double chord = 2 * Math.sin(Math.min(Math.PI, meters / EARTH_RADIUS_METERS) / 2);
+        return chord * chord;
+    }
+}
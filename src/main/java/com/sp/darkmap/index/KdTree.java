@@ -0,0 +1,142 @@
+package com.sp.darkmap.index;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 최근접 마커 검색용 3차원 KD-트리 (불변)
+ * - 위경도를 단위구 위 (x, y, z) 로 바꿔 저장하므로 현 길이 비교 = 대원 거리 비교 (날짜변경선/고위도 왜곡 없음)
+ * - 노드는 배열 구간 [from, to) 의 중앙 원소 (암시적 트리), 좌표는 원시 double 배열로 보관
+ */
+public class KdTree {
+
+    private final MapPoint[] points;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+
+    public KdTree(List<MapPoint> source) {
+        int n = source.size();
+        Integer[] order = new Integer[n];
+        double[][] coords = new double[3][n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+            double lat = Math.toRadians(source.get(i).getLatitude());
+            double lng = Math.toRadians(source.get(i).getLongitude());
+            coords[0][i] = Math.cos(lat) * Math.cos(lng);
+            coords[1][i] = Math.cos(lat) * Math.sin(lng);
+            coords[2][i] = Math.sin(lat);
+        }
+        build(order, coords, 0, n, 0);
+
+        this.points = new MapPoint[n];
+        this.xs = new double[n];
+        this.ys = new double[n];
+        this.zs = new double[n];
+        for (int i = 0; i < n; i++) {
+            points[i] = source.get(order[i]);
+            xs[i] = coords[0][order[i]];
+            ys[i] = coords[1][order[i]];
+            zs[i] = coords[2][order[i]];
+        }
+    }
+
+    public int size() {
+        return points.length;
+    }
+
+    /**
+     * 트리 구성 원본 마커 (재구성 시 사용)
+     */
+    public List<MapPoint> points() {
+        return Arrays.asList(points);
+    }
+
+    /**
+     * 최근접 k개 (maxChordSquared 이내, 가까운 순)
+     */
+    public List<Neighbor> nearest(double lat, double lng, int k, double maxChordSquared) {
+        double radLat = Math.toRadians(lat);
+        double radLng = Math.toRadians(lng);
+        double[] query = {
+                Math.cos(radLat) * Math.cos(radLng),
+                Math.cos(radLat) * Math.sin(radLng),
+                Math.sin(radLat)
+        };
+
+        // 가장 먼 후보가 맨 앞에 오는 최대 힙
+        PriorityQueue<Neighbor> heap = new PriorityQueue<>(k + 1,
+                Comparator.comparingDouble(Neighbor::getChordSquared).reversed());
+        search(0, points.length, 0, query, k, maxChordSquared, heap);
+
+        List<Neighbor> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(Neighbor::getChordSquared));
+        return result;
+    }
+
+    private void search(int from, int to, int depth, double[] query, int k, double maxChordSquared,
+                        PriorityQueue<Neighbor> heap) {
+        if (from >= to) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        double dx = xs[mid] - query[0];
+        double dy = ys[mid] - query[1];
+        double dz = zs[mid] - query[2];
+        double distance = dx * dx + dy * dy + dz * dz;
+
+        if (distance <= maxChordSquared) {
+            if (heap.size() < k) {
+                heap.add(new Neighbor(points[mid], distance));
+            } else if (distance < heap.peek().getChordSquared()) {
+                heap.poll();
+                heap.add(new Neighbor(points[mid], distance));
+            }
+        }
+
+        int axis = depth % 3;
+        double diff = axis == 0 ? -dx : axis == 1 ? -dy : -dz;
+        boolean leftFirst = diff < 0;
+        int nearFrom = leftFirst ? from : mid + 1;
+        int nearTo = leftFirst ? mid : to;
+        int farFrom = leftFirst ? mid + 1 : from;
+        int farTo = leftFirst ? to : mid;
+
+        search(nearFrom, nearTo, depth + 1, query, k, maxChordSquared, heap);
+
+        double bound = heap.size() < k ? maxChordSquared : Math.min(maxChordSquared, heap.peek().getChordSquared());
+        if (diff * diff <= bound) {
+            search(farFrom, farTo, depth + 1, query, k, maxChordSquared, heap);
+        }
+    }
+
+    private static void build(Integer[] order, double[][] coords, int from, int to, int depth) {
+        if (to - from <= 1) {
+            return;
+        }
+        double[] axis = coords[depth % 3];
+        Arrays.sort(order, from, to, Comparator.comparingDouble(i -> axis[i]));
+        int mid = (from + to) >>> 1;
+        build(order, coords, from, mid, depth + 1);
+        build(order, coords, mid + 1, to, depth + 1);
+    }
+
+    /**
+     * 검색 결과 (현 길이 제곱 포함)
+     */
+    @Getter
+    public static class Neighbor {
+        private final MapPoint point;
+        private final double chordSquared;
+
+        public Neighbor(MapPoint point, double chordSquared) {
+            this.point = point;
+            this.chordSquared = chordSquared;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.sp.darkmap.index;
+
+import com.sp.darkmap.code.InfoType;
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.code.MapSource;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Set;
+
+/**
+ * 컬럼 저장소 필터 조건 (차원 내 값은 OR, 차원 간은 AND / null 인 차원은 미적용)
+ */
+@Getter
+@Builder
+@ToString
+public class MapFilter {
+
+    private final Set<MapSource> sources;
+    private final Set<MapCrimeType> crimeTypes;
+    private final Set<InfoType> infoTypes;
+    /** 지역 사전 ID (빈 집합이면 결과 없음) */
+    private final Set<Integer> regionIds;
+    /** 발생 시각 하한 epoch ms (포함) */
+    private final Long fromMillis;
+    /** 발생 시각 상한 epoch ms (제외) */
+    private final Long toMillis;
+    private final BoundingBox box;
+
+    public boolean hasTimeRange() {
+        return fromMillis != null || toMillis != null;
+    }
+}
@@ -0,0 +1,82 @@
+package com.sp.darkmap.index;
+
+import com.sp.darkmap.code.InfoType;
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.code.MapSource;
+import com.sp.darkmap.persistent.entity.Article;
+import com.sp.darkmap.persistent.entity.CrimeCaseEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 메모리 인덱스에 올리는 지도 마커 (범죄 사례 / 기사 공통, 불변)
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MapPoint {
+
+    /** 발생 시각 기준 시간대 (DB 시각은 오프셋 없는 한국 시각) */
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final MapSource source;
+    private final Long id;
+    private final double latitude;
+    private final double longitude;
+    private final MapCrimeType crimeType;
+    private final InfoType infoType;
+    private final String sido;
+    private final String sigungu;
+    private final String title;
+    private final String url;
+    /** 지역 사전 ID (region.id), 미부여 시 null */
+    private final Integer regionId;
+    /** 발생/작성 시각 epoch ms (범죄 사례는 등록 시각, 기사는 작성일), 알 수 없으면 null */
+    private final Long occurredAt;
+
+    /**
+     * 범죄 사례 → 마커
+     */
+    public static MapPoint from(CrimeCaseEntity entity) {
+        return new MapPoint(MapSource.CRIME_CASE, entity.getId(),
+                entity.getLatitude(), entity.getLongitude(),
+                entity.getCrimeType(), entity.getInfoType(),
+                entity.getSido(), entity.getSigungu(),
+                null, entity.getNewsUrl(),
+                entity.getRegionId(), toEpochMillis(entity.getCreatedAt()));
+    }
+
+    /**
+     * 기사 → 마커 (범죄유형은 자유 문자열이므로 해석 불가 시 null, 정보유형은 뉴스기사 고정)
+     */
+    public static MapPoint from(Article article) {
+        return new MapPoint(MapSource.ARTICLE, article.getArticleId(),
+                article.getLatitude(), article.getLongitude(),
+                MapCrimeType.fromOrNull(article.getCrimeType()), InfoType.NEWS_ARTICLE,
+                article.getSido(), article.getSigungu(),
+                article.getTitle(), article.getUrl(),
+                article.getRegionId(),
+                toEpochMillis(article.getPublishedAt()));
+    }
+
+    private static Long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZONE).toInstant().toEpochMilli() : null;
+    }
+
+    /**
+     * 좌표가 있어야 지도에 올릴 수 있음
+     */
+    public static boolean hasPosition(Article article) {
+        return article.getLatitude() != null && article.getLongitude() != null;
+    }
+
+    public boolean matches(MapCrimeType crimeTypeFilter, InfoType infoTypeFilter) {
+        return (crimeTypeFilter == null || crimeTypeFilter == crimeType)
+                && (infoTypeFilter == null || infoTypeFilter == infoType);
+    }
+}
@@ -0,0 +1,20 @@
+package com.sp.darkmap.index;
+
+import java.util.Collection;
+
+/**
+ * 지도 마커 변경 구독자 (클러스터/집계 등 파생 인덱스)
+ * - {@link com.sp.darkmap.service.MapIndexService} 가 시작 적재 및 커밋된 신규 마커를 전달
+ */
+public interface MapPointListener {
+
+    /**
+     * 전체 재적재
+     */
+    void onReload(Collection<MapPoint> points);
+
+    /**
+     * 신규 마커 추가 (트랜잭션 커밋 이후 호출)
+     */
+    void onAdded(Collection<MapPoint> points);
+}
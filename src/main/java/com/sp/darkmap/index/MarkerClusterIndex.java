@@ -0,0 +1,178 @@
+package com.sp.darkmap.index;
+
+import com.sp.darkmap.code.MapCrimeType;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 줌 레벨별 계층 격자 클러스터
+ * - 줌 z 에서 웹 메르카토르 평면을 CLUSTER_RADIUS_PX 픽셀 크기 셀로 나누고, 셀마다 개수/좌표합/범죄유형별 개수를 유지
+ * - 마커 하나 추가 시 줌 레벨 수만큼 셀만 갱신 (전체 재계산 없음)
+ */
+public class MarkerClusterIndex {
+
+    public static final int MIN_ZOOM = 0;
+    public static final int MAX_ZOOM = 16;
+    private static final int TILE_SIZE_PX = 256;
+    private static final int CLUSTER_RADIUS_PX = 64;
+
+    /** 범죄유형 해석 불가 마커용 슬롯 */
+    public static final int UNKNOWN_CRIME_TYPE = MapCrimeType.values().length;
+
+    private final List<Map<Long, Cluster>> levels = new ArrayList<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public MarkerClusterIndex() {
+        for (int z = MIN_ZOOM; z <= MAX_ZOOM; z++) {
+            levels.add(new HashMap<>());
+        }
+    }
+
+    public void replaceAll(Collection<MapPoint> points) {
+        lock.writeLock().lock();
+        try {
+            levels.forEach(Map::clear);
+            points.forEach(this::insert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addAll(Collection<MapPoint> points) {
+        lock.writeLock().lock();
+        try {
+            points.forEach(this::insert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 줌 레벨의 영역 내 클러스터 조회 (반환 값은 스냅샷 복사본)
+     */
+    public List<ClusterSnapshot> query(int zoom, BoundingBox box) {
+        int z = clampZoom(zoom);
+        long cellsPerAxis = cellsPerAxis(z);
+        long minX = cellX(box.getMinLng(), cellsPerAxis);
+        long maxX = cellX(box.getMaxLng(), cellsPerAxis);
+        long minY = cellY(box.getMaxLat(), cellsPerAxis);
+        long maxY = cellY(box.getMinLat(), cellsPerAxis);
+
+        List<ClusterSnapshot> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, Cluster> level = levels.get(z);
+            if ((maxX - minX + 1) * (maxY - minY + 1) > level.size()) {
+                for (Map.Entry<Long, Cluster> entry : level.entrySet()) {
+                    long x = entry.getKey() >>> 32;
+                    long y = entry.getKey() & 0xffffffffL;
+                    if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                        result.add(entry.getValue().snapshot());
+                    }
+                }
+            } else {
+                for (long x = minX; x <= maxX; x++) {
+                    for (long y = minY; y <= maxY; y++) {
+                        Cluster cluster = level.get(key(x, y));
+                        if (cluster != null) {
+                            result.add(cluster.snapshot());
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public static int clampZoom(int zoom) {
+        return Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+    }
+
+    public static int crimeTypeSlot(MapCrimeType crimeType) {
+        return crimeType == null ? UNKNOWN_CRIME_TYPE : crimeType.ordinal();
+    }
+
+    private void insert(MapPoint point) {
+        for (int z = MIN_ZOOM; z <= MAX_ZOOM; z++) {
+            long cellsPerAxis = cellsPerAxis(z);
+            long k = key(cellX(point.getLongitude(), cellsPerAxis), cellY(point.getLatitude(), cellsPerAxis));
+            levels.get(z).computeIfAbsent(k, ignored -> new Cluster()).add(point);
+        }
+    }
+
+    private static long cellsPerAxis(int zoom) {
+        return ((long) TILE_SIZE_PX << zoom) / CLUSTER_RADIUS_PX;
+    }
+
+    private static long cellX(double lng, long cellsPerAxis) {
+        return clampCell((long) Math.floor(MercatorProjection.x(lng) * cellsPerAxis), cellsPerAxis);
+    }
+
+    private static long cellY(double lat, long cellsPerAxis) {
+        return clampCell((long) Math.floor(MercatorProjection.y(lat) * cellsPerAxis), cellsPerAxis);
+    }
+
+    private static long clampCell(long cell, long cellsPerAxis) {
+        return Math.max(0, Math.min(cellsPerAxis - 1, cell));
+    }
+
+    private static long key(long x, long y) {
+        return (x << 32) | y;
+    }
+
+    /**
+     * 셀 누적값 (락 안에서만 변경)
+     */
+    private static class Cluster {
+        private int count;
+        private double sumLat;
+        private double sumLng;
+        private final int[] crimeTypeCounts = new int[UNKNOWN_CRIME_TYPE + 1];
+        private MapPoint first;
+
+        void add(MapPoint point) {
+            if (first == null) {
+                first = point;
+            }
+            count++;
+            sumLat += point.getLatitude();
+            sumLng += point.getLongitude();
+            crimeTypeCounts[crimeTypeSlot(point.getCrimeType())]++;
+        }
+
+        ClusterSnapshot snapshot() {
+            return new ClusterSnapshot(count, sumLat / count, sumLng / count,
+                    crimeTypeCounts.clone(), count == 1 ? first : null);
+        }
+    }
+
+    /**
+     * 조회 결과 (불변)
+     */
+    @Getter
+    public static class ClusterSnapshot {
+        private final int count;
+        private final double latitude;
+        private final double longitude;
+        /** 인덱스 = MapCrimeType.ordinal(), 마지막 = 미분류 */
+        private final int[] crimeTypeCounts;
+        /** 단일 마커 클러스터면 해당 마커, 아니면 null */
+        private final MapPoint singlePoint;
+
+        ClusterSnapshot(int count, double latitude, double longitude, int[] crimeTypeCounts, MapPoint singlePoint) {
+            this.count = count;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.crimeTypeCounts = crimeTypeCounts;
+            this.singlePoint = singlePoint;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.sp.darkmap.index;
+
+/**
+ * 웹 메르카토르(EPSG:3857) 정규화 좌표 변환 (0~1 범위, 원점 = 북서쪽)
+ */
+public final class MercatorProjection {
+
+    /** 메르카토르 투영 가능 최대 위도 */
+    public static final double MAX_LATITUDE = 85.05112878;
+
+    private MercatorProjection() {
+    }
+
+    public static double x(double lng) {
+        return (lng + 180.0) / 360.0;
+    }
+
+    public static double y(double lat) {
+        double clamped = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, lat));
+        double sin = Math.sin(Math.toRadians(clamped));
+        return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+    }
+
+    public static double lng(double x) {
+        return x * 360.0 - 180.0;
+    }
+
+    public static double lat(double y) {
+        double n = Math.PI - 2.0 * Math.PI * y;
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+}
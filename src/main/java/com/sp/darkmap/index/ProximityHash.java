@@ -0,0 +1,128 @@
+package com.sp.darkmap.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 근접 중복 후보 탐색용 공간 해시 (셀 한 변 = 반경에 해당하는 위도 차)
+ * - 조회 좌표에서 반경 안에 들 수 있는 위경도 범위를 구해 그 범위에 걸친 칸만 확인
+ *   (경도 폭은 위도에 따라 넓어지고, 반경 안에 극점이 들어오면 해당 위도 줄 전체를 확인)
+ * - 경도 칸 번호는 ±180° 에서 이어지도록 순환
+ * - 후보는 분류 슬롯이 같고 시각 차가 창 이내이며 실제 거리가 반경 이내인 것 중 가장 가까운 것
+ */
+public class ProximityHash<T> {
+
+    private final double radiusMeters;
+    private final long windowMillis;
+    /** 반경의 중심각(라디안) */
+    private final double radiusRadians;
+    private final double cellDegrees;
+    /** 경도 방향 칸 수와 칸 폭 (360° 를 나누어 떨어지게 해 ±180° 에서 칸이 끊기지 않도록 함) */
+    private final int columns;
+    private final double columnDegrees;
+    private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+
+    public ProximityHash(double radiusMeters, long windowMillis) {
+        this.radiusMeters = radiusMeters;
+        this.windowMillis = windowMillis;
+        // 거리 판정(haversine)과 같은 지구 반지름으로 셀 크기를 정해야 경계 근처 후보가 범위 밖으로 밀리지 않음
+        this.radiusRadians = radiusMeters / GeoDistance.EARTH_RADIUS_METERS;
+        this.cellDegrees = Math.toDegrees(radiusRadians);
+        this.columns = (int) Math.ceil(360 / cellDegrees);
+        this.columnDegrees = 360.0 / columns;
+    }
+
+    public synchronized void add(double lat, double lng, long timeMillis, int slot, T value) {
+        cells.computeIfAbsent(key(row(lat), col(lng)), k -> new ArrayList<>())
+                .add(new Entry<>(lat, lng, timeMillis, slot, value));
+    }
+
+    /**
+     * 같은 슬롯, 시각 창 이내, 반경 이내의 가장 가까운 항목 (없으면 null)
+     */
+    public synchronized Entry<T> findNearest(double lat, double lng, long timeMillis, int slot) {
+        int fromRow = row(lat - cellDegrees);
+        int toRow = row(lat + cellDegrees);
+        double lngReach = longitudeReach(lat);
+        int fromCol = (int) Math.floor((lng - lngReach + 180) / columnDegrees);
+        int toCol = (int) Math.floor((lng + lngReach + 180) / columnDegrees);
+
+        Nearest<T> nearest = new Nearest<>();
+        if (toCol - fromCol + 1 >= columns) {
+            // 극 부근: 위도 줄 전체가 후보 → 칸을 모두 열거하지 않고 저장된 칸만 확인
+            cells.forEach((key, entries) -> {
+                int r = (int) (key >> 32);
+                if (r >= fromRow && r <= toRow) {
+                    visit(entries, lat, lng, timeMillis, slot, nearest);
+                }
+            });
+            return nearest.entry;
+        }
+        for (int r = fromRow; r <= toRow; r++) {
+            for (int c = fromCol; c <= toCol; c++) {
+                List<Entry<T>> entries = cells.get(key(r, Math.floorMod(c, columns)));
+                if (entries != null) {
+                    visit(entries, lat, lng, timeMillis, slot, nearest);
+                }
+            }
+        }
+        return nearest.entry;
+    }
+
+    private void visit(List<Entry<T>> entries, double lat, double lng, long timeMillis, int slot, Nearest<T> nearest) {
+        for (Entry<T> entry : entries) {
+            if (entry.slot != slot || Math.abs(entry.timeMillis - timeMillis) > windowMillis) {
+                continue;
+            }
+            double distance = GeoDistance.haversineMeters(lat, lng, entry.latitude, entry.longitude);
+            if (distance <= radiusMeters && distance < nearest.distance) {
+                nearest.entry = entry;
+                nearest.distance = distance;
+            }
+        }
+    }
+
+    /**
+     * 반경 안에 들 수 있는 최대 경도 차(도), 반경 안에 극점이 있으면 180
+     * - sin(Δλ) = sin(반경 중심각) / cos(위도)
+     */
+    private double longitudeReach(double lat) {
+        double sinReach = Math.sin(radiusRadians) / Math.cos(Math.toRadians(lat));
+        if (Math.abs(lat) + cellDegrees >= 90 || sinReach >= 1) {
+            return 180;
+        }
+        return Math.toDegrees(Math.asin(sinReach));
+    }
+
+    private int row(double lat) {
+        return (int) Math.floor(lat / cellDegrees);
+    }
+
+    private int col(double lng) {
+        return Math.floorMod((int) Math.floor((lng + 180) / columnDegrees), columns);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    private static class Nearest<T> {
+        private Entry<T> entry;
+        private double distance = Double.MAX_VALUE;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry<T> {
+        private final double latitude;
+        private final double longitude;
+        private final long timeMillis;
+        private final int slot;
+        private final T value;
+    }
+}
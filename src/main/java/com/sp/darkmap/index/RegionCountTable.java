@@ -0,0 +1,76 @@
+package com.sp.darkmap.index;
+
+import com.sp.darkmap.code.InfoType;
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.code.MapSource;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 지역(시도, 시도/시군구)별 건수 표
+ * - 지역마다 long[출처 × 정보유형 × 범죄유형] 한 칸씩 유지 (유형 해석 불가는 마지막 슬롯)
+ * - 동기화는 호출 측에서 담당
+ */
+public class RegionCountTable {
+
+    public static final int CRIME_SLOTS = MapCrimeType.values().length + 1;
+    public static final int INFO_SLOTS = InfoType.values().length + 1;
+    public static final int SOURCE_SLOTS = MapSource.values().length;
+    private static final int CELLS = SOURCE_SLOTS * INFO_SLOTS * CRIME_SLOTS;
+
+    private final Map<String, long[]> sidoCounts = new HashMap<>();
+    private final Map<String, Map<String, long[]>> sigunguCounts = new HashMap<>();
+
+    public void add(MapSource source, String sido, String sigungu,
+                    InfoType infoType, MapCrimeType crimeType, long delta) {
+        if (sido == null || sido.isBlank()) {
+            return;
+        }
+        int cell = cell(source, infoType, crimeType);
+        sidoCounts.computeIfAbsent(sido, k -> new long[CELLS])[cell] += delta;
+        if (sigungu != null && !sigungu.isBlank()) {
+            sigunguCounts.computeIfAbsent(sido, k -> new HashMap<>())
+                    .computeIfAbsent(sigungu, k -> new long[CELLS])[cell] += delta;
+        }
+    }
+
+    /**
+     * 시도별 건수 복사본
+     */
+    public Map<String, long[]> sidoSnapshot() {
+        return copy(sidoCounts);
+    }
+
+    /**
+     * 특정 시도의 시군구별 건수 복사본
+     */
+    public Map<String, long[]> sigunguSnapshot(String sido) {
+        return copy(sigunguCounts.getOrDefault(sido, Map.of()));
+    }
+
+    public boolean sameCounts(RegionCountTable other) {
+        if (!sidoCounts.keySet().equals(other.sidoCounts.keySet())) {
+            return false;
+        }
+        for (Map.Entry<String, long[]> entry : sidoCounts.entrySet()) {
+            if (!Arrays.equals(entry.getValue(), other.sidoCounts.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static int cell(MapSource source, InfoType infoType, MapCrimeType crimeType) {
+        int info = infoType == null ? INFO_SLOTS - 1 : infoType.ordinal();
+        int crime = crimeType == null ? CRIME_SLOTS - 1 : crimeType.ordinal();
+        return (source.ordinal() * INFO_SLOTS + info) * CRIME_SLOTS + crime;
+    }
+
+    private static Map<String, long[]> copy(Map<String, long[]> counts) {
+        Map<String, long[]> copied = new HashMap<>();
+        counts.forEach((region, cells) -> copied.put(region, cells.clone()));
+        return copied;
+    }
+}
@@ -0,0 +1,19 @@
+package com.sp.darkmap.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 역지오코딩 결과 (시군구 코드 + 표준 시도/시군구 명칭)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RegionMatch {
+
+    /** 행정구역 시군구 코드 (예: 11680 = 서울특별시 강남구), 경계 파일에 없으면 null */
+    private final String code;
+    private final String sido;
+    private final String sigungu;
+}
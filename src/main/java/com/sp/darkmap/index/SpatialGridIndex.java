@@ -0,0 +1,139 @@
+package com.sp.darkmap.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 고정 크기 위경도 격자 기반 공간 인덱스
+ * - 셀 키 = (위도 행 << 32) | 경도 열
+ * - 뷰포트 조회 시 겹치는 셀만 훑고, 경계 셀만 좌표 비교
+ * - 쓰기는 드물고 읽기가 대부분이므로 읽기/쓰기 락으로 보호
+ */
+public class SpatialGridIndex {
+
+    /** 기본 셀 크기 (약 5km) */
+    public static final double DEFAULT_CELL_DEGREES = 0.05;
+
+    private final double cellDegrees;
+    private final Map<Long, List<MapPoint>> cells = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int size;
+
+    public SpatialGridIndex() {
+        this(DEFAULT_CELL_DEGREES);
+    }
+
+    public SpatialGridIndex(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+    }
+
+    public void add(MapPoint point) {
+        lock.writeLock().lock();
+        try {
+            insert(point);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addAll(Collection<MapPoint> points) {
+        lock.writeLock().lock();
+        try {
+            points.forEach(this::insert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 교체 (시작 시 적재 / 재적재)
+     */
+    public void replaceAll(Collection<MapPoint> points) {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            size = 0;
+            points.forEach(this::insert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 영역 내 마커 조회
+     */
+    public List<MapPoint> query(BoundingBox box, Predicate<MapPoint> filter) {
+        int minRow = row(box.getMinLat());
+        int maxRow = row(box.getMaxLat());
+        int minCol = col(box.getMinLng());
+        int maxCol = col(box.getMaxLng());
+        long cellsInBox = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+
+        List<MapPoint> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (cellsInBox > cells.size()) {
+                // 영역이 넓으면 채워진 셀만 훑는 편이 빠름
+                for (Map.Entry<Long, List<MapPoint>> entry : cells.entrySet()) {
+                    int r = (int) (entry.getKey() >> 32);
+                    int c = (int) (long) entry.getKey();
+                    if (r >= minRow && r <= maxRow && c >= minCol && c <= maxCol) {
+                        collect(entry.getValue(), box, filter, result);
+                    }
+                }
+            } else {
+                for (int r = minRow; r <= maxRow; r++) {
+                    for (int c = minCol; c <= maxCol; c++) {
+                        List<MapPoint> cell = cells.get(key(r, c));
+                        if (cell != null) {
+                            collect(cell, box, filter, result);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(MapPoint point) {
+        cells.computeIfAbsent(key(row(point.getLatitude()), col(point.getLongitude())), k -> new ArrayList<>())
+                .add(point);
+        size++;
+    }
+
+    private void collect(List<MapPoint> cell, BoundingBox box, Predicate<MapPoint> filter, List<MapPoint> result) {
+        for (MapPoint point : cell) {
+            if (box.contains(point.getLatitude(), point.getLongitude()) && filter.test(point)) {
+                result.add(point);
+            }
+        }
+    }
+
+    private int row(double lat) {
+        return (int) Math.floor((lat + 90.0) / cellDegrees);
+    }
+
+    private int col(double lng) {
+        return (int) Math.floor((lng + 180.0) / cellDegrees);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
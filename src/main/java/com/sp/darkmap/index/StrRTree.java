@@ -0,0 +1,133 @@
+package com.sp.darkmap.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * STR(Sort-Tile-Recursive) 방식으로 한 번에 채우는 정적 R-트리
+ * - 항목 경계 사각형만 색인하고, 정확한 포함 판정은 호출 측에서 수행
+ * - 구성 후 변경 불가 (경계 데이터는 기동 시 한 번만 적재)
+ */
+public class StrRTree<T> {
+
+    private static final int NODE_CAPACITY = 16;
+
+    private final Node<T> root;
+    private final int size;
+
+    public StrRTree(List<Entry<T>> entries) {
+        this.size = entries.size();
+        List<Node<T>> level = new ArrayList<>(entries.size());
+        for (Entry<T> entry : entries) {
+            level.add(Node.leaf(entry));
+        }
+        while (level.size() > 1) {
+            level = pack(level);
+        }
+        this.root = level.isEmpty() ? null : level.get(0);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 경계 사각형이 좌표를 포함하는 항목 방문
+     */
+    public void search(double lat, double lng, Consumer<T> visitor) {
+        if (root != null) {
+            search(root, lat, lng, visitor);
+        }
+    }
+
+    private void search(Node<T> node, double lat, double lng, Consumer<T> visitor) {
+        if (!node.contains(lat, lng)) {
+            return;
+        }
+        if (node.item != null) {
+            visitor.accept(node.item);
+            return;
+        }
+        for (Node<T> child : node.children) {
+            search(child, lat, lng, visitor);
+        }
+    }
+
+    /**
+     * 한 단계 위 노드 구성: 경도 중심으로 정렬해 세로 띠로 나눈 뒤, 띠 안에서 위도 중심으로 정렬해 묶음
+     */
+    private static <T> List<Node<T>> pack(List<Node<T>> nodes) {
+        int parentCount = (int) Math.ceil((double) nodes.size() / NODE_CAPACITY);
+        int sliceCount = (int) Math.ceil(Math.sqrt(parentCount));
+        int sliceSize = sliceCount * NODE_CAPACITY;
+
+        List<Node<T>> sorted = new ArrayList<>(nodes);
+        sorted.sort(Comparator.comparingDouble(n -> n.minLng + n.maxLng));
+
+        List<Node<T>> parents = new ArrayList<>(parentCount);
+        for (int sliceStart = 0; sliceStart < sorted.size(); sliceStart += sliceSize) {
+            List<Node<T>> slice = new ArrayList<>(sorted.subList(sliceStart, Math.min(sorted.size(), sliceStart + sliceSize)));
+            slice.sort(Comparator.comparingDouble(n -> n.minLat + n.maxLat));
+            for (int i = 0; i < slice.size(); i += NODE_CAPACITY) {
+                parents.add(Node.branch(slice.subList(i, Math.min(slice.size(), i + NODE_CAPACITY))));
+            }
+        }
+        return parents;
+    }
+
+    /**
+     * 색인 항목 (경계 사각형 + 값)
+     */
+    public static class Entry<T> {
+        private final double minLat;
+        private final double minLng;
+        private final double maxLat;
+        private final double maxLng;
+        private final T item;
+
+        public Entry(double minLat, double minLng, double maxLat, double maxLng, T item) {
+            this.minLat = minLat;
+            this.minLng = minLng;
+            this.maxLat = maxLat;
+            this.maxLng = maxLng;
+            this.item = item;
+        }
+    }
+
+    private static class Node<T> {
+        private double minLat = Double.POSITIVE_INFINITY;
+        private double minLng = Double.POSITIVE_INFINITY;
+        private double maxLat = Double.NEGATIVE_INFINITY;
+        private double maxLng = Double.NEGATIVE_INFINITY;
+        private List<Node<T>> children = List.of();
+        private T item;
+
+        static <T> Node<T> leaf(Entry<T> entry) {
+            Node<T> node = new Node<>();
+            node.minLat = entry.minLat;
+            node.minLng = entry.minLng;
+            node.maxLat = entry.maxLat;
+            node.maxLng = entry.maxLng;
+            node.item = entry.item;
+            return node;
+        }
+
+        static <T> Node<T> branch(List<Node<T>> children) {
+            Node<T> node = new Node<>();
+            node.children = List.copyOf(children);
+            for (Node<T> child : children) {
+                node.minLat = Math.min(node.minLat, child.minLat);
+                node.minLng = Math.min(node.minLng, child.minLng);
+                node.maxLat = Math.max(node.maxLat, child.maxLat);
+                node.maxLng = Math.max(node.maxLng, child.maxLng);
+            }
+            return node;
+        }
+
+        boolean contains(double lat, double lng) {
+            return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.sp.darkmap.index;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 타일 바이트 LRU 캐시 (총 바이트 수 기준 제한)
+ * - 키 = 데이터셋 버전 + z/x/y
+ */
+public class TileCache {
+
+    private final long maxBytes;
+    private final LinkedHashMap<TileKey, byte[]> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+    private long hits;
+    private long misses;
+
+    public TileCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public synchronized byte[] get(TileKey key) {
+        byte[] tile = entries.get(key);
+        if (tile == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return tile;
+    }
+
+    public synchronized void put(TileKey key, byte[] tile) {
+        if (tile.length > maxBytes) {
+            return;
+        }
+        byte[] previous = entries.put(key, tile);
+        totalBytes += tile.length - (previous != null ? previous.length : 0);
+
+        Iterator<Map.Entry<TileKey, byte[]>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().getValue().length;
+            iterator.remove();
+        }
+    }
+
+    public synchronized void evict(TileKey key) {
+        byte[] removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.length;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    public synchronized String stats() {
+        return String.format("tiles=%d, bytes=%d, hits=%d, misses=%d", entries.size(), totalBytes, hits, misses);
+    }
+
+    /**
+     * 타일 캐시 키
+     */
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    public static class TileKey {
+        private final long datasetVersion;
+        private final int z;
+        private final int x;
+        private final int y;
+    }
+}
@@ -0,0 +1,143 @@
+package com.sp.darkmap.index;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapbox Vector Tile(v2) 포인트 레이어 인코더
+ * - 포인트만 다루므로 protobuf 라이브러리 없이 필요한 필드만 직접 기록
+ * - 스펙: https://github.com/mapbox/vector-tile-spec/tree/master/2.1
+ */
+public class VectorTileEncoder {
+
+    public static final int EXTENT = 4096;
+
+    private static final int LAYER_VERSION = 2;
+    private static final int GEOM_TYPE_POINT = 1;
+    private static final int CMD_MOVE_TO_ONCE = (1 << 3) | 1;
+
+    // Tile
+    private static final int TILE_LAYERS = 3;
+    // Layer
+    private static final int LAYER_NAME = 1;
+    private static final int LAYER_FEATURES = 2;
+    private static final int LAYER_KEYS = 3;
+    private static final int LAYER_VALUES = 4;
+    private static final int LAYER_EXTENT = 5;
+    private static final int LAYER_VERSION_FIELD = 15;
+    // Feature
+    private static final int FEATURE_TAGS = 2;
+    private static final int FEATURE_TYPE = 3;
+    private static final int FEATURE_GEOMETRY = 4;
+    // Value
+    private static final int VALUE_STRING = 1;
+    private static final int VALUE_UINT = 5;
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+
+    private final String layerName;
+    private final Map<String, Integer> keys = new LinkedHashMap<>();
+    private final Map<Object, Integer> values = new LinkedHashMap<>();
+    private final List<byte[]> features = new ArrayList<>();
+
+    public VectorTileEncoder(String layerName) {
+        this.layerName = layerName;
+    }
+
+    /**
+     * 포인트 피처 추가 (타일 좌표 0~EXTENT, 속성 값은 String 또는 0 이상 Long)
+     */
+    public void addPoint(int x, int y, Map<String, Object> attributes) {
+        List<Integer> tags = new ArrayList<>(attributes.size() * 2);
+        for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+            if (attribute.getValue() == null) {
+                continue;
+            }
+            tags.add(keys.computeIfAbsent(attribute.getKey(), k -> keys.size()));
+            tags.add(values.computeIfAbsent(attribute.getValue(), v -> values.size()));
+        }
+
+        ByteArrayOutputStream feature = new ByteArrayOutputStream();
+        writePackedField(feature, FEATURE_TAGS, tags.stream().mapToLong(Integer::longValue).toArray());
+        writeVarintField(feature, FEATURE_TYPE, GEOM_TYPE_POINT);
+        writePackedField(feature, FEATURE_GEOMETRY, new long[]{CMD_MOVE_TO_ONCE, zigZag(x), zigZag(y)});
+        features.add(feature.toByteArray());
+    }
+
+    public boolean isEmpty() {
+        return features.isEmpty();
+    }
+
+    /**
+     * 타일 바이트 생성 (피처가 없으면 빈 타일)
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream tile = new ByteArrayOutputStream();
+        if (features.isEmpty()) {
+            return tile.toByteArray();
+        }
+
+        ByteArrayOutputStream layer = new ByteArrayOutputStream();
+        writeVarintField(layer, LAYER_VERSION_FIELD, LAYER_VERSION);
+        writeBytesField(layer, LAYER_NAME, layerName.getBytes(StandardCharsets.UTF_8));
+        for (byte[] feature : features) {
+            writeBytesField(layer, LAYER_FEATURES, feature);
+        }
+        for (String key : keys.keySet()) {
+            writeBytesField(layer, LAYER_KEYS, key.getBytes(StandardCharsets.UTF_8));
+        }
+        for (Object value : values.keySet()) {
+            writeBytesField(layer, LAYER_VALUES, encodeValue(value));
+        }
+        writeVarintField(layer, LAYER_EXTENT, EXTENT);
+
+        writeBytesField(tile, TILE_LAYERS, layer.toByteArray());
+        return tile.toByteArray();
+    }
+
+    private static byte[] encodeValue(Object value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (value instanceof Long number) {
+            writeVarintField(out, VALUE_UINT, number);
+        } else {
+            writeBytesField(out, VALUE_STRING, value.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private static long zigZag(int n) {
+        return ((long) n << 1) ^ (n >> 31);
+    }
+
+    private static void writeVarintField(ByteArrayOutputStream out, int field, long value) {
+        writeVarint(out, ((long) field << 3) | WIRE_VARINT);
+        writeVarint(out, value);
+    }
+
+    private static void writeBytesField(ByteArrayOutputStream out, int field, byte[] bytes) {
+        writeVarint(out, ((long) field << 3) | WIRE_LENGTH_DELIMITED);
+        writeVarint(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static void writePackedField(ByteArrayOutputStream out, int field, long[] values) {
+        ByteArrayOutputStream packed = new ByteArrayOutputStream();
+        for (long value : values) {
+            writeVarint(packed, value);
+        }
+        writeBytesField(out, field, packed.toByteArray());
+    }
+
+    static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
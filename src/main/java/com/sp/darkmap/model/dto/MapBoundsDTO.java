@@ -0,0 +1,70 @@
+package com.sp.darkmap.model.dto;
+
+import com.sp.darkmap.code.InfoType;
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.index.BoundingBox;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Schema(description = "지도 뷰포트 조회 조건 (범죄유형/정보유형은 선택, 빈 값은 미적용)")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MapBoundsDTO {
+
+    @Schema(description = "남서쪽 위도", example = "37.45", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Double minLat;
+
+    @Schema(description = "남서쪽 경도", example = "126.90", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Double minLng;
+
+    @Schema(description = "북동쪽 위도", example = "37.60", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Double maxLat;
+
+    @Schema(description = "북동쪽 경도", example = "127.10", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Double maxLng;
+
+    @Schema(description = "범죄유형 (한글 라벨 또는 코드)", example = "바바리맨",
+            allowableValues = {"바바리맨", "헌팅", "미행"})
+    private String crimeType;
+
+    @Schema(description = "정보유형 (한글 라벨 또는 코드)", example = "회원의 경험담",
+            allowableValues = {"인터넷 뉴스기사", "회원의 경험담"})
+    private String infoType;
+
+    @Schema(description = "최대 마커 수 (기본 500, 최대 5000)", example = "500")
+    private Integer limit;
+
+    /**
+     * 뷰포트 영역 (좌표 누락/역전 시 IllegalArgumentException)
+     */
+    public BoundingBox toBoundingBox() {
+        if (minLat == null || minLng == null || maxLat == null || maxLng == null) {
+            throw new IllegalArgumentException("minLat, minLng, maxLat, maxLng 는 필수입니다.");
+        }
+        return new BoundingBox(minLat, minLng, maxLat, maxLng);
+    }
+
+    public MapCrimeType crimeTypeFilter() {
+        return crimeType == null || crimeType.isBlank() ? null : MapCrimeType.from(crimeType);
+    }
+
+    public InfoType infoTypeFilter() {
+        return infoType == null || infoType.isBlank() ? null : InfoType.from(infoType);
+    }
+
+    public int resolvedLimit() {
+        if (limit == null || limit <= 0) {
+            return MapFilterDTO.DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MapFilterDTO.MAX_LIMIT);
+    }
+}
@@ -0,0 +1,94 @@
+package com.sp.darkmap.model.dto;
+
+import com.sp.darkmap.code.InfoType;
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.code.MapSource;
+import com.sp.darkmap.index.BoundingBox;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Schema(description = "지도 마커 필터 조건 (목록 파라미터는 값 간 OR, 조건 간 AND / 빈 값은 미적용)")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MapFilterDTO {
+
+    public static final int DEFAULT_LIMIT = 500;
+    public static final int MAX_LIMIT = 5000;
+
+    @Schema(description = "출처 목록", example = "CRIME_CASE")
+    private List<MapSource> sources;
+
+    @Schema(description = "범죄유형 목록 (한글 라벨 또는 코드)", example = "바바리맨,미행")
+    private List<String> crimeTypes;
+
+    @Schema(description = "정보유형 목록 (한글 라벨 또는 코드)", example = "회원의 경험담")
+    private List<String> infoTypes;
+
+    @Schema(description = "시도", example = "서울특별시")
+    private String sido;
+
+    @Schema(description = "시군구 (sido 와 함께 사용)", example = "강남구")
+    private String sigungu;
+
+    @Schema(description = "발생일 시작 (포함)", example = "2025-01-01")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @Schema(description = "발생일 끝 (포함)", example = "2025-12-31")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    @Schema(description = "영역 (minLng,minLat,maxLng,maxLat)", example = "126.90,37.45,127.10,37.60")
+    private String bbox;
+
+    @Schema(description = "최대 마커 수 (기본 500, 최대 5000)", example = "500")
+    private Integer limit;
+
+    public Set<MapSource> sourceFilter() {
+        return sources == null || sources.isEmpty() ? null : EnumSet.copyOf(sources);
+    }
+
+    public Set<MapCrimeType> crimeTypeFilter() {
+        if (crimeTypes == null || crimeTypes.isEmpty()) {
+            return null;
+        }
+        Set<MapCrimeType> types = EnumSet.noneOf(MapCrimeType.class);
+        crimeTypes.stream().filter(value -> !value.isBlank()).map(MapCrimeType::from).forEach(types::add);
+        return types.isEmpty() ? null : types;
+    }
+
+    public Set<InfoType> infoTypeFilter() {
+        if (infoTypes == null || infoTypes.isEmpty()) {
+            return null;
+        }
+        Set<InfoType> types = EnumSet.noneOf(InfoType.class);
+        infoTypes.stream().filter(value -> !value.isBlank()).map(InfoType::from).forEach(types::add);
+        return types.isEmpty() ? null : types;
+    }
+
+    public BoundingBox boxFilter() {
+        return bbox == null || bbox.isBlank() ? null : BoundingBox.parse(bbox);
+    }
+
+    public int resolvedLimit() {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+}
@@ -0,0 +1,42 @@
+package com.sp.darkmap.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 기사 대량 적재 결과
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArticleBulkIngestResult {
+    /** 읽은 레코드 수 */
+    private int received;
+    /** 저장된 레코드 수 */
+    private int saved;
+    /** 이미 있거나 요청 내에서 URL 이 겹쳐 저장하지 않은 레코드 수 */
+    private int duplicates;
+    /** 검증/저장 실패 레코드 수 */
+    private int failed;
+    /** 요청 본문 구조 오류로 중단되었는지 여부 (중단 전 배치는 저장됨) */
+    private boolean aborted;
+    /** 레코드별 오류 (최대 100건) */
+    private List<RecordError> errors;
+
+    @Setter
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RecordError {
+        /** 배열 내 0부터 시작하는 위치 (본문 구조 오류면 -1) */
+        private int index;
+        private String message;
+    }
+}
@@ -45,9 +45,12 @@ public class CrimeCaseVO {
     @Schema(description = "경도", example = "127.0276")
     private Double longitude;
 
-    @Schema(description = "작성 회원 ID", example = "42", nullable = true)
+    @Schema(description = "작성 회원 ID (목록 조회에서는 본인 등록 사례에만 포함)", example = "42", nullable = true)
     private Long reporterId;
 
+    @Schema(description = "중복으로 판별된 경우 원본 사례 ID (지도/통계 집계 제외)", example = "17", nullable = true)
+    private Long duplicateOfId;
+
     @Schema(description = "생성 시각", example = "2026-05-18T00:12:24")
     private LocalDateTime createdAt;
 }
@@ -0,0 +1,47 @@
+package com.sp.darkmap.model.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Schema(description = "히트맵 밀도 격자 (0이 아닌 셀만 포함)")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "cells")
+public class HeatmapVO {
+
+    @Schema(description = "해상도", example = "1km")
+    private String resolution;
+
+    @Schema(description = "조회 창 남서쪽 셀의 남쪽 위도", example = "37.4500")
+    private Double originLat;
+
+    @Schema(description = "조회 창 남서쪽 셀의 서쪽 경도", example = "126.9000")
+    private Double originLng;
+
+    @Schema(description = "셀 위도 간격(도)", example = "0.008983")
+    private Double latStep;
+
+    @Schema(description = "셀 경도 간격(도)", example = "0.011104")
+    private Double lngStep;
+
+    @Schema(description = "조회 창 행 수", example = "17")
+    private Integer rows;
+
+    @Schema(description = "조회 창 열 수", example = "19")
+    private Integer cols;
+
+    @Schema(description = "최대 셀 가중치 (색상 정규화용)", example = "12")
+    private Integer maxWeight;
+
+    @Schema(description = "[행, 열, 가중치] 반복 평탄 배열. 셀 남서쪽 = (originLat + 행×latStep, originLng + 열×lngStep)",
+            example = "[0, 3, 2, 5, 7, 12]")
+    private int[] cells;
+}
@@ -0,0 +1,34 @@
+package com.sp.darkmap.model.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Schema(description = "지도 데이터 델타 동기화 응답")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MapChangesVO {
+
+    @Schema(description = "다음 요청의 since 로 보낼 버전", example = "1747526400000012")
+    private Long version;
+
+    @Schema(description = "변경 로그가 압축되어 델타를 줄 수 없음 — 전체 마커를 다시 받은 뒤 이 응답의 version 부터 폴링",
+            example = "false")
+    private Boolean fullResync;
+
+    @Schema(description = "limit 초과로 남은 변경 존재 여부 (true면 version 으로 바로 재요청)", example = "false")
+    private Boolean hasMore;
+
+    @Schema(description = "since 이후 추가된 마커 (버전 순)")
+    private List<MapMarkerVO> changes;
+}
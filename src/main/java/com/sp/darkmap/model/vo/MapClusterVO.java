@@ -0,0 +1,36 @@
+package com.sp.darkmap.model.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.Map;
+
+@Schema(description = "지도 마커 클러스터")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MapClusterVO {
+
+    @Schema(description = "클러스터 중심 위도 (소속 마커 평균)", example = "37.4979")
+    private Double latitude;
+
+    @Schema(description = "클러스터 중심 경도 (소속 마커 평균)", example = "127.0276")
+    private Double longitude;
+
+    @Schema(description = "소속 마커 수", example = "12")
+    private Integer count;
+
+    @Schema(description = "범죄유형별 마커 수 (해석 불가 기사 분류는 '기타')", example = "{\"바바리맨\": 8, \"미행\": 4}")
+    private Map<String, Integer> crimeTypeCounts;
+
+    @Schema(description = "마커가 하나뿐인 클러스터면 해당 마커, 아니면 null", nullable = true)
+    private MapMarkerVO marker;
+}
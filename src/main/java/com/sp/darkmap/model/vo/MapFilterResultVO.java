@@ -0,0 +1,30 @@
+package com.sp.darkmap.model.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Schema(description = "지도 마커 조회 결과 (limit 초과분은 잘림)")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MapFilterResultVO {
+
+    @Schema(description = "조건에 맞는 전체 마커 수", example = "1234")
+    private int total;
+
+    @Schema(description = "limit 으로 잘렸는지 여부", example = "true")
+    private boolean truncated;
+
+    @Schema(description = "마커 목록 (필터 조회는 최근 추가 순)")
+    private List<MapMarkerVO> markers;
+}
@@ -0,0 +1,68 @@
+package com.sp.darkmap.model.vo;
+
+import com.sp.darkmap.code.InfoType;
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.code.MapSource;
+import com.sp.darkmap.index.MapPoint;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Schema(description = "지도 마커")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MapMarkerVO {
+
+    @Schema(description = "출처 (CRIME_CASE: 범죄 사례, ARTICLE: 기사)", example = "CRIME_CASE")
+    private MapSource source;
+
+    @Schema(description = "출처 테이블 기준 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "범죄유형 (기사 분류가 해석되지 않으면 null)", example = "바바리맨", nullable = true)
+    private MapCrimeType crimeType;
+
+    @Schema(description = "정보유형", example = "회원의 경험담")
+    private InfoType infoType;
+
+    @Schema(description = "위도", example = "37.4979")
+    private Double latitude;
+
+    @Schema(description = "경도", example = "127.0276")
+    private Double longitude;
+
+    @Schema(description = "시도", example = "서울특별시")
+    private String sido;
+
+    @Schema(description = "시군구", example = "강남구")
+    private String sigungu;
+
+    @Schema(description = "기사 제목 (범죄 사례는 null)", nullable = true)
+    private String title;
+
+    @Schema(description = "기사/뉴스 URL", nullable = true)
+    private String url;
+
+    public static MapMarkerVO from(MapPoint point) {
+        return MapMarkerVO.builder()
+                .source(point.getSource())
+                .id(point.getId())
+                .crimeType(point.getCrimeType())
+                .infoType(point.getInfoType())
+                .latitude(point.getLatitude())
+                .longitude(point.getLongitude())
+                .sido(point.getSido())
+                .sigungu(point.getSigungu())
+                .title(point.getTitle())
+                .url(point.getUrl())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.sp.darkmap.model.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Schema(description = "최근접 마커")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class NearbyMarkerVO {
+
+    @Schema(description = "마커")
+    private MapMarkerVO marker;
+
+    @Schema(description = "기준 좌표로부터 거리(m, haversine)", example = "412.7")
+    private Double distanceMeters;
+}
@@ -0,0 +1,36 @@
+package com.sp.darkmap.model.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.Map;
+
+@Schema(description = "지역별 범죄 사례/기사 건수")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class RegionCountVO {
+
+    @Schema(description = "시도", example = "서울특별시")
+    private String sido;
+
+    @Schema(description = "시군구 (시도 단위 집계면 null)", example = "강남구", nullable = true)
+    private String sigungu;
+
+    @Schema(description = "전체 건수", example = "42")
+    private Long total;
+
+    @Schema(description = "범죄유형별 건수 (해석 불가 분류는 '기타')", example = "{\"바바리맨\": 30, \"미행\": 12}")
+    private Map<String, Long> crimeTypeCounts;
+
+    @Schema(description = "정보유형별 건수", example = "{\"인터넷 뉴스기사\": 40, \"회원의 경험담\": 2}")
+    private Map<String, Long> infoTypeCounts;
+}
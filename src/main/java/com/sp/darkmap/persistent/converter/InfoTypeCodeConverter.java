@@ -0,0 +1,22 @@
+package com.sp.darkmap.persistent.converter;
+
+import com.sp.darkmap.code.InfoType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * InfoType ↔ DB 숫자 코드 변환 (info_type_code TINYINT)
+ */
+@Converter(autoApply = false)
+public class InfoTypeCodeConverter implements AttributeConverter<InfoType, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(InfoType attribute) {
+        return attribute == null ? null : attribute.getCode();
+    }
+
+    @Override
+    public InfoType convertToEntityAttribute(Integer dbData) {
+        return InfoType.fromCode(dbData);
+    }
+}
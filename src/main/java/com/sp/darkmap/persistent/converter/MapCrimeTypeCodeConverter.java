@@ -0,0 +1,22 @@
+package com.sp.darkmap.persistent.converter;
+
+import com.sp.darkmap.code.MapCrimeType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * MapCrimeType ↔ DB 숫자 코드 변환 (crime_type_code TINYINT)
+ */
+@Converter(autoApply = false)
+public class MapCrimeTypeCodeConverter implements AttributeConverter<MapCrimeType, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(MapCrimeType attribute) {
+        return attribute == null ? null : attribute.getCode();
+    }
+
+    @Override
+    public MapCrimeType convertToEntityAttribute(Integer dbData) {
+        return MapCrimeType.fromCode(dbData);
+    }
+}
@@ -1,17 +1,30 @@
 package com.sp.darkmap.persistent.entity;
 
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.persistent.converter.MapCrimeTypeCodeConverter;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Setter
 @Getter
 @NoArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_article_region", columnList = "region_id"),
+        @Index(name = "idx_article_published_at", columnList = "published_at")
+})
 public class Article {
+    /**
+     * 기존 AUTO 가 MariaDB 에서 쓰던 article_seq 를 명시적으로 지정 (pooled optimizer, 50개 단위 선할당)
+     * - 한 번의 시퀀스 조회로 50건의 ID를 확보해 대량 저장 시 JDBC 배치가 끊기지 않음
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+    @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", allocationSize = 50)
     private Long articleId;
 
     @Column
@@ -23,12 +36,21 @@ public class Article {
     @Column
     private String contributionDate;
 
+    /** contributionDate 를 해석한 게시 일시 (정렬/기간 조회용, 해석 불가 시 null) */
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
     @Column
     private String reporter;
 
     @Column
     private String crimeType;
 
+    /** crimeType 문자열을 해석한 범죄유형 코드 (해석 불가 시 null) */
+    @Convert(converter = MapCrimeTypeCodeConverter.class)
+    @Column(name = "crime_type_code", columnDefinition = "TINYINT")
+    private MapCrimeType crimeTypeCode;
+
     @Column
     private String url;
 
@@ -41,6 +63,14 @@ public class Article {
     @Column
     private String sigungu;
 
+    /** 지역 사전 ID (region.id) */
+    @Column(name = "region_id")
+    private Integer regionId;
+
+    /** 같은 사건의 다른 언론사 기사로 판별된 경우 원본 기사 ID (지도/통계 집계 제외) */
+    @Column(name = "duplicate_of_id")
+    private Long duplicateOfId;
+
     @Column
     private Double latitude;
 
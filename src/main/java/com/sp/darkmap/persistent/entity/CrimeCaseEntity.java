@@ -2,7 +2,9 @@ package com.sp.darkmap.persistent.entity;
 
 import com.sp.darkmap.code.InfoType;
 import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.persistent.converter.InfoTypeCodeConverter;
 import com.sp.darkmap.persistent.converter.InfoTypeConverter;
+import com.sp.darkmap.persistent.converter.MapCrimeTypeCodeConverter;
 import com.sp.darkmap.persistent.converter.MapCrimeTypeConverter;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
@@ -11,6 +13,8 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,9 +31,9 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "crime_case", indexes = {
-        @Index(name = "idx_crime_case_sido", columnList = "sido"),
-        @Index(name = "idx_crime_case_crime_type", columnList = "crime_type"),
-        @Index(name = "idx_crime_case_info_type", columnList = "info_type")
+        @Index(name = "idx_crime_case_region", columnList = "region_id"),
+        @Index(name = "idx_crime_case_crime_type_code", columnList = "crime_type_code"),
+        @Index(name = "idx_crime_case_info_type_code", columnList = "info_type_code")
 })
 @Getter
 @Setter
@@ -42,13 +46,27 @@ public class CrimeCaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Convert(converter = InfoTypeCodeConverter.class)
+    @Column(name = "info_type_code", nullable = false, columnDefinition = "TINYINT")
+    private InfoType infoType;
+
+    @Convert(converter = MapCrimeTypeCodeConverter.class)
+    @Column(name = "crime_type_code", nullable = false, columnDefinition = "TINYINT")
+    private MapCrimeType crimeType;
+
+    /** 정보유형 한글 라벨 (라벨 컬럼을 읽는 이전 버전 호환용, 저장 시 코드 값에서 채움) */
     @Convert(converter = InfoTypeConverter.class)
     @Column(name = "info_type", nullable = false, length = 20)
-    private InfoType infoType;
+    private InfoType infoTypeLabel;
 
+    /** 범죄유형 한글 라벨 (라벨 컬럼을 읽는 이전 버전 호환용, 저장 시 코드 값에서 채움) */
     @Convert(converter = MapCrimeTypeConverter.class)
     @Column(name = "crime_type", nullable = false, length = 20)
-    private MapCrimeType crimeType;
+    private MapCrimeType crimeTypeLabel;
+
+    /** 지역 사전 ID (region.id), 집계/필터는 이 코드로 수행 */
+    @Column(name = "region_id")
+    private Integer regionId;
 
     @Column(name = "sido", nullable = false, length = 50)
     private String sido;
@@ -68,7 +86,18 @@ public class CrimeCaseEntity {
     @Column(name = "reporter_id")
     private Long reporterId;
 
+    /** 근접/동일 URL 중복으로 판별된 경우 원본 사례 ID (지도/통계 집계 제외) */
+    @Column(name = "duplicate_of_id")
+    private Long duplicateOfId;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    @PrePersist
+    @PreUpdate
+    public void prePersist() {
+        infoTypeLabel = infoType;
+        crimeTypeLabel = crimeType;
+    }
 }
@@ -0,0 +1,46 @@
+package com.sp.darkmap.persistent.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 지역 차원 테이블 (시도/시군구 문자열 → 작은 정수 코드)
+ * - crime_case / article 은 region_id 로 참조하고, 집계/필터는 정수 코드로 수행
+ * - 시군구가 없는 시도 단위 지역은 sigungu = ''
+ */
+@Entity
+@Table(name = "region", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_region_sido_sigungu", columnNames = {"sido", "sigungu"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RegionEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "sido", nullable = false, length = 100)
+    private String sido;
+
+    @Column(name = "sigungu", nullable = false, length = 100)
+    private String sigungu;
+
+    /** 행정구역 시군구 코드 (역지오코딩으로 확인된 경우) */
+    @Column(name = "code", length = 10)
+    private String code;
+}
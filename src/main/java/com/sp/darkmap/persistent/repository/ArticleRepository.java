@@ -1,30 +1,72 @@
 package com.sp.darkmap.persistent.repository;
 
-import com.sp.darkmap.model.vo.SidoCountResponse;
 import com.sp.darkmap.persistent.entity.Article;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ArticleRepository extends JpaRepository<Article, Long> {
-    List<Article> findBySido(String sido);
+    /**
+     * 전체 목록 (게시 일시 최신순, 일시 없는 기사는 마지막)
+     */
+    List<Article> findAllByOrderByPublishedAtDescArticleIdDesc();
+
+    /**
+     * 시도 조회 (해당 시도의 지역 ID 전체 + 지역 ID 없이 저장된 같은 시도 문자열 기사, 게시 일시 최신순)
+     */
+    @Query("SELECT a FROM Article a " +
+            "WHERE a.regionId IN :regionIds OR (a.regionId IS NULL AND a.sido = :sido) " +
+            "ORDER BY a.publishedAt DESC, a.articleId DESC")
+    List<Article> findBySidoRegions(@Param("regionIds") Collection<Integer> regionIds, @Param("sido") String sido);
 
-    @Query("SELECT new com.sp.darkmap.model.vo.SidoCountResponse(a.sido, COUNT(a)) " +
+    /**
+     * 사전에 없는 시도 조회 (지역 ID 없이 저장된 기사의 시도 문자열 일치, 게시 일시 최신순)
+     */
+    List<Article> findByRegionIdIsNullAndSidoOrderByPublishedAtDescArticleIdDesc(String sido);
+
+    /**
+     * 지역 통계 적재/대사용 (중복 제외, 지역 ID, 범죄유형 코드, 건수)
+     */
+    @Query("SELECT a.regionId, a.crimeTypeCode, COUNT(a) " +
             "FROM Article a " +
-            "WHERE a.sido IS NOT NULL " +
-            "GROUP BY a.sido " +
-            "ORDER BY COUNT(a) DESC")
-    List<SidoCountResponse> countBySido();
+            "WHERE a.regionId IS NOT NULL AND a.duplicateOfId IS NULL " +
+            "GROUP BY a.regionId, a.crimeTypeCode")
+    List<Object[]> countByRegionAndCrimeType();
+
+    /**
+     * 주어진 ID 중 현재 스냅샷에서 보이는 ID (지역 통계 대사 중 들어온 반영분 판별용)
+     */
+    @Query("SELECT a.articleId FROM Article a WHERE a.articleId IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 전체검색용 정렬 키 (ID, 작성일 / 작성일 최신순, 페이지 크기만큼만)
+     */
+    @Query("SELECT a.articleId, a.publishedAt FROM Article a WHERE a.title LIKE %:keyword% " +
+            "ORDER BY a.publishedAt DESC, a.articleId DESC")
+    List<Object[]> searchKeysByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 전체검색용 건수
+     */
+    @Query("SELECT COUNT(a) FROM Article a WHERE a.title LIKE %:keyword%")
+    long countByKeyword(@Param("keyword") String keyword);
+
+    /**
+     * 키워드 색인 적재용 (ID, 제목, 게시 일시 / afterId 이후 ID 오름차순)
+     */
+    @Query("SELECT a.articleId, a.title, a.publishedAt FROM Article a WHERE a.articleId > :afterId ORDER BY a.articleId")
+    List<Object[]> findSearchFieldsAfter(@Param("afterId") Long afterId, Pageable pageable);
 
     /**
-     * 전체검색용
-     * @param keyword
-     * @return
+     * 중복 판별 URL 색인 적재용 (ID, URL / afterId 이후 ID 오름차순, 중복/좌표 없는 기사 포함)
      */
-    @Query("SELECT a FROM Article a WHERE a.title LIKE %:keyword%")
-    List<Article> searchByKeyword(@Param("keyword") String keyword);
+    @Query("SELECT a.articleId, a.url FROM Article a WHERE a.articleId > :afterId AND a.url IS NOT NULL ORDER BY a.articleId")
+    List<Object[]> findUrlsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -1,9 +1,41 @@
 package com.sp.darkmap.persistent.repository;
 
 import com.sp.darkmap.persistent.entity.CrimeCaseEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface CrimeCaseRepository extends JpaRepository<CrimeCaseEntity, Long> {
+
+    /**
+     * 목록 페이지 (최신 등록순, 건수 쿼리 없음)
+     */
+    List<CrimeCaseEntity> findAllByOrderByIdDesc(Pageable pageable);
+
+    /**
+     * 지역 통계 적재/대사용 (중복 제외, 지역 ID, 정보유형 코드, 범죄유형 코드, 건수)
+     */
+    @Query("SELECT c.regionId, c.infoType, c.crimeType, COUNT(c) " +
+            "FROM CrimeCaseEntity c " +
+            "WHERE c.regionId IS NOT NULL AND c.duplicateOfId IS NULL " +
+            "GROUP BY c.regionId, c.infoType, c.crimeType")
+    List<Object[]> countByRegionAndType();
+
+    /**
+     * 주어진 ID 중 현재 스냅샷에서 보이는 ID (지역 통계 대사 중 들어온 반영분 판별용)
+     */
+    @Query("SELECT c.id FROM CrimeCaseEntity c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 중복 판별 URL 색인 적재용 (ID, 뉴스 URL / afterId 이후 ID 오름차순, 중복 사례 포함)
+     */
+    @Query("SELECT c.id, c.newsUrl FROM CrimeCaseEntity c WHERE c.id > :afterId AND c.newsUrl IS NOT NULL ORDER BY c.id")
+    List<Object[]> findNewsUrlsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
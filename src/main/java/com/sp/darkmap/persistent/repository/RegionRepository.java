@@ -0,0 +1,9 @@
+package com.sp.darkmap.persistent.repository;
+
+import com.sp.darkmap.persistent.entity.RegionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RegionRepository extends JpaRepository<RegionEntity, Integer> {
+}
@@ -0,0 +1,215 @@
+package com.sp.darkmap.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sp.darkmap.converter.ArticleConverter;
+import com.sp.darkmap.model.vo.ArticleBulkIngestResult;
+import com.sp.darkmap.model.vo.ArticleSaveRequest;
+import com.sp.darkmap.persistent.entity.Article;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 기사 대량 적재 (스트리밍)
+ * - 요청 본문 JSON 배열을 한 레코드씩 읽어 검증하고, batchSize 단위 트랜잭션으로 저장
+ * - 전체 배열을 메모리에 올리지 않으므로 수십만 건도 힙 사용량이 배치 크기에 비례
+ * - 잘못된 레코드는 건너뛰고 위치/사유를 결과에 기록
+ * - 배치 저장이 실패하면 해당 배치를 한 건씩 다시 저장해 실패 레코드만 위치와 함께 기록
+ * - 한 요청의 레코드 수는 maxRecords 로 제한 (초과분은 읽지 않고 그때까지 저장한 결과와 함께 중단)
+ */
+@Slf4j
+@Service
+public class ArticleBulkIngestService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ArticleConverter articleConverter;
+    private final ArticleService articleService;
+    private final int batchSize;
+    private final int maxRecords;
+
+    public ArticleBulkIngestService(ObjectMapper objectMapper,
+                                    Validator validator,
+                                    ArticleConverter articleConverter,
+                                    ArticleService articleService,
+                                    @Value("${article.bulk.batch-size:500}") int batchSize,
+                                    @Value("${article.bulk.max-records:100000}") int maxRecords) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.articleConverter = articleConverter;
+        this.articleService = articleService;
+        this.batchSize = batchSize;
+        this.maxRecords = maxRecords;
+    }
+
+    public ArticleBulkIngestResult ingest(InputStream body) {
+        long startTime = System.currentTimeMillis();
+        Progress progress = new Progress();
+        List<IndexedArticle> batch = new ArrayList<>(batchSize);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("요청 본문은 기사 객체 배열이어야 합니다.");
+            }
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (progress.received >= maxRecords) {
+                    throw new IllegalArgumentException("한 요청의 기사는 최대 " + maxRecords + "건입니다.");
+                }
+                int index = progress.received++;
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    progress.fail(index, "기사 객체가 아닙니다.");
+                    continue;
+                }
+
+                // 레코드 단위로 트리를 읽어 바인딩 오류가 스트림 위치를 깨뜨리지 않도록 함
+                JsonNode node = parser.readValueAsTree();
+                Article article = toArticle(node, index, progress);
+                if (article == null) {
+                    continue;
+                }
+
+                batch.add(new IndexedArticle(index, article));
+                if (batch.size() >= batchSize) {
+                    flush(batch, progress);
+                }
+            }
+            flush(batch, progress);
+        } catch (JsonProcessingException e) {
+            abort(batch, progress, "요청 본문을 읽을 수 없습니다: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            abort(batch, progress, e.getMessage());
+        } catch (IOException e) {
+            log.warn("기사 대량 적재 본문 읽기 실패", e);
+            abort(batch, progress, "요청 본문을 읽을 수 없습니다.");
+        }
+
+        log.info("기사 대량 적재 완료: received={}, saved={}, duplicates={}, failed={}, aborted={}, 소요시간={}ms",
+                progress.received, progress.saved, progress.duplicates, progress.failed, progress.aborted,
+                System.currentTimeMillis() - startTime);
+
+        return ArticleBulkIngestResult.builder()
+                .received(progress.received)
+                .saved(progress.saved)
+                .duplicates(progress.duplicates)
+                .failed(progress.failed)
+                .aborted(progress.aborted)
+                .errors(progress.errors)
+                .build();
+    }
+
+    private Article toArticle(JsonNode node, int index, Progress progress) {
+        ArticleSaveRequest request;
+        try {
+            request = objectMapper.treeToValue(node, ArticleSaveRequest.class);
+        } catch (JsonProcessingException e) {
+            progress.fail(index, "형식 오류: " + e.getOriginalMessage());
+            return null;
+        } catch (IllegalArgumentException e) {
+            progress.fail(index, "형식 오류: " + e.getMessage());
+            return null;
+        }
+
+        Set<ConstraintViolation<ArticleSaveRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            progress.fail(index, violations.stream()
+                    .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        return articleConverter.toEntity(request);
+    }
+
+    private void abort(List<IndexedArticle> batch, Progress progress, String message) {
+        flush(batch, progress);
+        progress.aborted = true;
+        progress.fail(-1, message);
+    }
+
+    private void flush(List<IndexedArticle> batch, Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Article> articles = batch.stream().map(IndexedArticle::article).toList();
+        try {
+            int saved = articleService.saveArticleEntities(articles).size();
+            progress.saved += saved;
+            progress.duplicates += articles.size() - saved;
+        } catch (Exception e) {
+            log.warn("기사 배치 저장 실패 - 한 건씩 재시도: size={}", batch.size(), e);
+            batch.forEach(record -> saveOne(record, progress));
+        }
+        batch.clear();
+    }
+
+    /**
+     * 단건 저장 (배치 실패 후 재시도, 실패 사유는 내부 메시지 대신 분류만 응답)
+     */
+    private void saveOne(IndexedArticle record, Progress progress) {
+        // 롤백된 배치에서 할당된 ID/중복 표시를 지워 새 엔티티로 다시 저장
+        Article article = record.article();
+        article.setArticleId(null);
+        article.setDuplicateOfId(null);
+        try {
+            int saved = articleService.saveArticleEntities(List.of(article)).size();
+            progress.saved += saved;
+            progress.duplicates += 1 - saved;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("기사 저장 실패: index={}", record.index(), e);
+            progress.fail(record.index(), "저장 실패: 컬럼 길이 초과 또는 제약 조건 위반");
+        } catch (Exception e) {
+            log.error("기사 저장 실패: index={}", record.index(), e);
+            progress.fail(record.index(), "저장 실패");
+        }
+    }
+
+    /**
+     * 요청 배열 내 위치와 함께 보관하는 기사
+     */
+    private record IndexedArticle(int index, Article article) {
+    }
+
+    /**
+     * 적재 진행 상태
+     */
+    private static class Progress {
+        private int received;
+        private int saved;
+        private int duplicates;
+        private int failed;
+        private boolean aborted;
+        private final List<ArticleBulkIngestResult.RecordError> errors = new ArrayList<>();
+
+        void fail(int index, String message) {
+            if (index >= 0) {
+                failed++;
+            }
+            report(index, message);
+        }
+
+        void report(int index, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ArticleBulkIngestResult.RecordError(index, message));
+            }
+        }
+    }
+}
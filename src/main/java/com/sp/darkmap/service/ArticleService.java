@@ -1,44 +1,127 @@
 package com.sp.darkmap.service;
 
+import com.sp.common.search.service.KeywordIndexService;
+import com.sp.common.util.LenientDateParser;
+import com.sp.darkmap.code.MapCrimeType;
 import com.sp.darkmap.converter.ArticleConverter;
+import com.sp.darkmap.index.ColumnarFeedEncoder;
 import com.sp.darkmap.model.vo.ArticleListResponse;
 import com.sp.darkmap.model.vo.ArticleSaveRequest;
 import com.sp.darkmap.model.vo.SidoCountResponse;
 import com.sp.darkmap.persistent.entity.Article;
 import com.sp.darkmap.persistent.repository.ArticleRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class ArticleService {
     private final ArticleRepository articleRepository;
     private final ArticleConverter articleConverter;
+    private final MapIndexService mapIndexService;
+    private final RegionStatisticsService regionStatisticsService;
+    private final ReverseGeocodingService reverseGeocodingService;
+    private final RegionCodeService regionCodeService;
+    private final DuplicateDetectionService duplicateDetectionService;
+    private final KeywordIndexService keywordIndexService;
 
     @Transactional(readOnly = true)
     public List<ArticleListResponse> getArticlesList() {
-        List<Article> articles = articleRepository.findAll();
+        List<Article> articles = articleRepository.findAllByOrderByPublishedAtDescArticleIdDesc();
         return articles.stream().map(articleConverter::toResponse).toList();
     }
 
+    /**
+     * 기사 목록 컬럼 바이너리 ({@link ColumnarFeedEncoder} 명세, 행 순서는 JSON 목록과 동일)
+     */
+    @Transactional(readOnly = true)
+    public byte[] getArticleFeed() {
+        long startTime = System.nanoTime();
+        List<Article> articles = articleRepository.findAllByOrderByPublishedAtDescArticleIdDesc();
+        byte[] feed = new ColumnarFeedEncoder<>(articles)
+                .deltaColumn("id", Article::getArticleId)
+                .stringColumn("title", Article::getTitle)
+                .dictionaryColumn("press", Article::getPress)
+                .dictionaryColumn("date", Article::getContributionDate)
+                .dictionaryColumn("reporter", Article::getReporter)
+                .dictionaryColumn("category", Article::getCrimeType)
+                .stringColumn("url", Article::getUrl)
+                .stringColumn("address", Article::getAddress)
+                .dictionaryColumn("sido", Article::getSido)
+                .dictionaryColumn("sigungu", Article::getSigungu)
+                .coordinateColumn("lat", Article::getLatitude)
+                .coordinateColumn("lng", Article::getLongitude)
+                .encode();
+        log.debug("기사 바이너리 목록 생성: rows={}, bytes={}, 소요시간={}us",
+                articles.size(), feed.length, (System.nanoTime() - startTime) / 1_000);
+        return feed;
+    }
+
     @Transactional
     public void saveArticles(List<ArticleSaveRequest> articleSaveRequestList) {
         List<Article> articles = articleSaveRequestList.stream().map(articleConverter::toEntity).toList();
-        articleRepository.saveAll(articles);
+        saveArticleEntities(articles);
+    }
+
+    /**
+     * 기사 엔티티 저장 + 지도 인덱스/지역 통계 반영 (대량 적재 시 배치 단위 트랜잭션)
+     * - 동일 URL 기사는 저장하지 않고, 근접 중복 기사는 원본 ID 를 기록해 집계에서 제외
+     * @return 실제 저장된 기사
+     */
+    @Transactional
+    public List<Article> saveArticleEntities(List<Article> articles) {
+        articles.forEach(article -> {
+            canonicalizeRegion(article);
+            article.setCrimeTypeCode(MapCrimeType.fromOrNull(article.getCrimeType()));
+            article.setPublishedAt(LenientDateParser.parseDateTime(article.getContributionDate()).orElse(null));
+        });
+        DuplicateDetectionService.ArticleDedupPlan plan = duplicateDetectionService.planArticles(articles);
+        List<Article> saved = articleRepository.saveAll(plan.getToSave());
+        plan.linkBatchDuplicates();
+        duplicateDetectionService.registerArticles(saved);
+        mapIndexService.addArticles(saved);
+        regionStatisticsService.recordArticles(saved);
+        keywordIndexService.indexArticles(saved);
+        return saved;
+    }
+
+    /**
+     * 좌표 기준 표준 시도/시군구로 보정 (경계 밖/좌표 없음/비활성이면 그대로) 후 지역 ID 부여
+     */
+    private void canonicalizeRegion(Article article) {
+        reverseGeocodingService.locate(article.getLatitude(), article.getLongitude())
+                .ifPresentOrElse(region -> {
+                    article.setSido(region.getSido());
+                    article.setSigungu(region.getSigungu());
+                    article.setRegionId(regionCodeService.resolveId(region));
+                }, () -> article.setRegionId(regionCodeService.resolveId(article.getSido(), article.getSigungu())));
     }
 
+    /**
+     * 시도별 기사 목록
+     * - 사전에 있는 시도는 지역 ID 로 조회
+     * - 행정구역 목록에 없는 시도로 저장된 기사(region_id 없음)는 시도 문자열로 함께 조회
+     */
     @Transactional(readOnly = true)
     public List<ArticleListResponse> getArticlesBySido(String sido) {
-        List<Article> articles = articleRepository.findBySido(sido);
+        List<Integer> regionIds = regionCodeService.idsForSido(sido);
+        List<Article> articles = regionIds.isEmpty()
+                ? articleRepository.findByRegionIdIsNullAndSidoOrderByPublishedAtDescArticleIdDesc(sido)
+                : articleRepository.findBySidoRegions(regionIds, sido);
         return articles.stream()
                 .map(articleConverter::toResponse)
                 .toList();
     }
 
+    /**
+     * 시도별 기사 건수 (메모리 집계, 주기적으로 DB와 대사)
+     */
     public List<SidoCountResponse> getSidoStatistics() {
-        return articleRepository.countBySido();
+        return regionStatisticsService.getArticleSidoCounts();
     }
 }
@@ -1,42 +1,132 @@
 package com.sp.darkmap.service;
 
+import com.sp.darkmap.index.ColumnarFeedEncoder;
+import com.sp.darkmap.index.MapPoint;
+import com.sp.darkmap.index.RegionMatch;
 import com.sp.darkmap.model.dto.CrimeCaseSaveRequest;
 import com.sp.darkmap.model.vo.CrimeCaseVO;
 import com.sp.darkmap.persistent.entity.CrimeCaseEntity;
 import com.sp.darkmap.persistent.repository.CrimeCaseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CrimeCaseService {
 
+    /** 목록 페이지 최대 크기 (JSON/컬럼 바이너리 공통) */
+    public static final int MAX_PAGE_SIZE = 1000;
+
     private final CrimeCaseRepository crimeCaseRepository;
+    private final MapIndexService mapIndexService;
+    private final RegionStatisticsService regionStatisticsService;
+    private final ReverseGeocodingService reverseGeocodingService;
+    private final RegionCodeService regionCodeService;
+    private final DuplicateDetectionService duplicateDetectionService;
 
     @Transactional
     public CrimeCaseVO create(CrimeCaseSaveRequest request, Long reporterId) {
+        // 좌표 기준 표준 시도/시군구 우선, 경계 밖/비활성이면 요청 값 사용
+        String sido = request.getSido().trim();
+        String sigungu = request.getSigungu().trim();
+        Integer regionId;
+        Optional<RegionMatch> region = reverseGeocodingService.locate(request.getLatitude(), request.getLongitude());
+        if (region.isPresent()) {
+            if (!region.get().getSido().equals(sido) || !region.get().getSigungu().equals(sigungu)) {
+                log.debug("범죄 사례 지역 보정: 요청={} {}, 좌표 기준={}", sido, sigungu, region.get());
+            }
+            sido = region.get().getSido();
+            sigungu = region.get().getSigungu();
+            regionId = regionCodeService.resolveId(region.get());
+        } else {
+            regionId = regionCodeService.resolveId(sido, sigungu);
+        }
+
+        String newsUrl = normalize(request.getNewsUrl());
+        Long duplicateOfId = duplicateDetectionService.findCrimeCaseDuplicate(
+                request.getLatitude(), request.getLongitude(), request.getCrimeType(), newsUrl);
+
         CrimeCaseEntity entity = CrimeCaseEntity.builder()
                 .infoType(request.getInfoType())
                 .crimeType(request.getCrimeType())
-                .sido(request.getSido().trim())
-                .sigungu(request.getSigungu().trim())
-                .newsUrl(normalize(request.getNewsUrl()))
+                .sido(sido)
+                .sigungu(sigungu)
+                .regionId(regionId)
+                .newsUrl(newsUrl)
                 .latitude(request.getLatitude())
                 .longitude(request.getLongitude())
                 .reporterId(reporterId)
+                .duplicateOfId(duplicateOfId)
                 .build();
 
         CrimeCaseEntity saved = crimeCaseRepository.save(entity);
-        log.info("범죄 사례 등록: id={}, infoType={}, crimeType={}, reporterId={}",
-                saved.getId(), saved.getInfoType(), saved.getCrimeType(), reporterId);
+        log.info("범죄 사례 등록: id={}, infoType={}, crimeType={}, reporterId={}, duplicateOfId={}",
+                saved.getId(), saved.getInfoType(), saved.getCrimeType(), reporterId, duplicateOfId);
+        duplicateDetectionService.registerCrimeCase(saved);
+        mapIndexService.addCrimeCase(saved);
+        regionStatisticsService.recordCrimeCase(saved);
 
         return toVO(saved);
     }
 
+    /**
+     * 범죄 사례 목록 페이지 (최신 등록순, 작성 회원 ID 는 조회자 본인 사례에만 포함)
+     */
+    public List<CrimeCaseVO> getCrimeCases(Long memberId, int page, int size) {
+        return findPage(page, size).stream()
+                .map(entity -> {
+                    CrimeCaseVO vo = toVO(entity);
+                    if (memberId == null || !memberId.equals(entity.getReporterId())) {
+                        vo.setReporterId(null);
+                    }
+                    return vo;
+                })
+                .toList();
+    }
+
+    /**
+     * 범죄 사례 목록 페이지 컬럼 바이너리 ({@link ColumnarFeedEncoder} 명세, 행 순서는 같은 페이지의 JSON 목록과 동일)
+     * - createdAt 은 DB 의 오프셋 없는 시각을 {@link MapPoint#ZONE} 기준으로 해석한 epoch 초
+     * - 작성 회원 ID 는 회원과 경험담 제보를 연결할 수 있으므로 컬럼에 넣지 않음
+     */
+    public byte[] getCrimeCaseFeed(int page, int size) {
+        long startTime = System.nanoTime();
+        List<CrimeCaseEntity> entities = findPage(page, size);
+        byte[] feed = new ColumnarFeedEncoder<>(entities)
+                .deltaColumn("id", CrimeCaseEntity::getId)
+                .dictionaryColumn("infoType", entity -> entity.getInfoType().getLabel())
+                .dictionaryColumn("crimeType", entity -> entity.getCrimeType().getLabel())
+                .dictionaryColumn("sido", CrimeCaseEntity::getSido)
+                .dictionaryColumn("sigungu", CrimeCaseEntity::getSigungu)
+                .stringColumn("newsUrl", CrimeCaseEntity::getNewsUrl)
+                .coordinateColumn("lat", CrimeCaseEntity::getLatitude)
+                .coordinateColumn("lng", CrimeCaseEntity::getLongitude)
+                .nullableDeltaColumn("createdAt", entity -> entity.getCreatedAt() != null
+                        ? entity.getCreatedAt().atZone(MapPoint.ZONE).toEpochSecond() : null)
+                .encode();
+        log.debug("범죄 사례 바이너리 목록 생성: rows={}, bytes={}, 소요시간={}us",
+                entities.size(), feed.length, (System.nanoTime() - startTime) / 1_000);
+        return feed;
+    }
+
+    private List<CrimeCaseEntity> findPage(int page, int size) {
+        if (page < 1) {
+            throw new IllegalArgumentException("page 는 1 이상이어야 합니다.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return crimeCaseRepository.findAllByOrderByIdDesc(PageRequest.of(page - 1, size));
+    }
+
     private String normalize(String value) {
         if (value == null) {
             return null;
@@ -56,6 +146,7 @@ public class CrimeCaseService {
                 .latitude(entity.getLatitude())
                 .longitude(entity.getLongitude())
                 .reporterId(entity.getReporterId())
+                .duplicateOfId(entity.getDuplicateOfId())
                 .createdAt(entity.getCreatedAt())
                 .build();
     }
@@ -0,0 +1,266 @@
+package com.sp.darkmap.service;
+
+import com.sp.common.util.UrlNormalizer;
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.code.MapSource;
+import com.sp.darkmap.index.MapPoint;
+import com.sp.darkmap.index.MapPointListener;
+import com.sp.darkmap.index.MarkerClusterIndex;
+import com.sp.darkmap.index.ProximityHash;
+import com.sp.darkmap.persistent.entity.Article;
+import com.sp.darkmap.persistent.entity.CrimeCaseEntity;
+import com.sp.darkmap.persistent.repository.ArticleRepository;
+import com.sp.darkmap.persistent.repository.CrimeCaseRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * 범죄 사례/기사 근접 중복 판별 (테이블 조회 없이 메모리 해시로 O(1) 후보 탐색)
+ * - 정규화 URL 이 같으면 중복
+ * - 반경(기본 50m) 이내 + 같은 범죄유형 + 시각 창(기본 72시간) 이내면 근접 중복
+ * - 중복 행은 저장하되 원본 ID 를 기록해 지도/통계 집계에서 제외 (동일 URL 기사는 저장 생략)
+ * - URL 색인은 커밋된 모든 행(중복 행, 좌표 없는 기사 포함)을 대상으로 하므로 지도 마커와 별도로 관리
+ *   (시작 시 DB 의 ID/URL 쌍을 적재하고, 이후 등록 트랜잭션 커밋 시 추가)
+ * - 근접 해시는 원본(중복 아닌) 마커만 {@link MapPointListener} 로 전달받아 반영
+ *   (커밋 전 동시 등록 두 건은 서로를 보지 못할 수 있음)
+ */
+@Slf4j
+@Service
+public class DuplicateDetectionService implements MapPointListener, SmartInitializingSingleton {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final ArticleRepository articleRepository;
+    private final CrimeCaseRepository crimeCaseRepository;
+    private final double radiusMeters;
+    private final long windowMillis;
+
+    /** 출처별 정규화 URL → ID */
+    private final Map<MapSource, Map<String, Long>> urls = new EnumMap<>(MapSource.class);
+    /** 출처별 근접 해시 (원본 마커만) */
+    private volatile Map<MapSource, ProximityHash<Long>> nearby;
+
+    public DuplicateDetectionService(ArticleRepository articleRepository,
+                                     CrimeCaseRepository crimeCaseRepository,
+                                     @Value("${map.dedup.radius-meters:50}") double radiusMeters,
+                                     @Value("${map.dedup.window-hours:72}") long windowHours) {
+        this.articleRepository = articleRepository;
+        this.crimeCaseRepository = crimeCaseRepository;
+        this.radiusMeters = radiusMeters;
+        this.windowMillis = windowHours * 3_600_000L;
+        for (MapSource source : MapSource.values()) {
+            urls.put(source, new ConcurrentHashMap<>());
+        }
+        this.nearby = newNearby();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        loadUrls();
+    }
+
+    /**
+     * URL 색인 적재 (ID 오름차순 청크, 같은 URL 은 가장 먼저 저장된 ID 유지)
+     */
+    public void loadUrls() {
+        long startTime = System.currentTimeMillis();
+        try {
+            int articles = loadUrls(MapSource.ARTICLE, articleRepository::findUrlsAfter);
+            int crimeCases = loadUrls(MapSource.CRIME_CASE, crimeCaseRepository::findNewsUrlsAfter);
+            log.info("중복 판별 URL 색인 적재 완료: articles={}, crimeCases={}, 소요시간={}ms",
+                    articles, crimeCases, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("중복 판별 URL 색인 적재 실패", e);
+        }
+    }
+
+    private int loadUrls(MapSource source, BiFunction<Long, Pageable, List<Object[]>> findAfter) {
+        Map<String, Long> target = urls.get(source);
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = findAfter.apply(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            rows.forEach(row -> putUrl(target, (String) row[1], (Long) row[0]));
+            if (rows.size() < LOAD_CHUNK_SIZE) {
+                return target.size();
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    @Override
+    public void onReload(Collection<MapPoint> points) {
+        Map<MapSource, ProximityHash<Long>> fresh = newNearby();
+        points.forEach(point -> addNearby(fresh, point));
+        nearby = fresh;
+    }
+
+    @Override
+    public void onAdded(Collection<MapPoint> points) {
+        Map<MapSource, ProximityHash<Long>> current = nearby;
+        points.forEach(point -> addNearby(current, point));
+    }
+
+    /**
+     * 저장된 기사 URL 색인 반영 (중복/좌표 없는 기사 포함, 트랜잭션 커밋 이후)
+     */
+    public void registerArticles(Collection<Article> articles) {
+        List<Object[]> rows = articles.stream()
+                .filter(article -> article.getUrl() != null)
+                .map(article -> new Object[]{article.getArticleId(), article.getUrl()})
+                .toList();
+        registerAfterCommit(MapSource.ARTICLE, rows);
+    }
+
+    /**
+     * 저장된 범죄 사례 URL 색인 반영 (중복 사례 포함, 트랜잭션 커밋 이후)
+     */
+    public void registerCrimeCase(CrimeCaseEntity entity) {
+        if (entity.getNewsUrl() != null) {
+            registerAfterCommit(MapSource.CRIME_CASE, List.<Object[]>of(new Object[]{entity.getId(), entity.getNewsUrl()}));
+        }
+    }
+
+    private void registerAfterCommit(MapSource source, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Map<String, Long> target = urls.get(source);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rows.forEach(row -> putUrl(target, (String) row[1], (Long) row[0]));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rows.forEach(row -> putUrl(target, (String) row[1], (Long) row[0]));
+            }
+        });
+    }
+
+    /**
+     * 신규 범죄 사례의 원본 사례 ID (중복 아니면 null)
+     */
+    public Long findCrimeCaseDuplicate(double latitude, double longitude, MapCrimeType crimeType, String newsUrl) {
+        String url = UrlNormalizer.normalize(newsUrl);
+        Long sameUrl = url != null ? urls.get(MapSource.CRIME_CASE).get(url) : null;
+        if (sameUrl != null) {
+            return sameUrl;
+        }
+        ProximityHash.Entry<Long> near = nearby.get(MapSource.CRIME_CASE).findNearest(latitude, longitude,
+                System.currentTimeMillis(), MarkerClusterIndex.crimeTypeSlot(crimeType));
+        return near != null ? near.getValue() : null;
+    }
+
+    /**
+     * 기사 묶음 중복 판별
+     * - 기존/묶음 내 동일 URL 기사는 저장 대상에서 제외
+     * - 기존 기사와 근접 중복이면 duplicateOfId 를 바로 기록
+     * - 묶음 내 근접 중복은 ID 부여 후 {@link ArticleDedupPlan#linkBatchDuplicates()} 로 연결
+     */
+    public ArticleDedupPlan planArticles(List<Article> articles) {
+        Map<String, Long> savedUrls = urls.get(MapSource.ARTICLE);
+        ProximityHash<Long> savedNearby = nearby.get(MapSource.ARTICLE);
+        ProximityHash<Article> batchNearby = new ProximityHash<>(radiusMeters, windowMillis);
+        Set<String> batchUrls = new HashSet<>();
+        ArticleDedupPlan plan = new ArticleDedupPlan();
+
+        for (Article article : articles) {
+            String url = UrlNormalizer.normalize(article.getUrl());
+            if (url != null && (savedUrls.containsKey(url) || !batchUrls.add(url))) {
+                plan.skipped++;
+                continue;
+            }
+            plan.toSave.add(article);
+
+            Long time = occurredAt(article);
+            if (!MapPoint.hasPosition(article) || time == null) {
+                continue;
+            }
+            int slot = MarkerClusterIndex.crimeTypeSlot(MapCrimeType.fromOrNull(article.getCrimeType()));
+            ProximityHash.Entry<Long> existing = savedNearby.findNearest(
+                    article.getLatitude(), article.getLongitude(), time, slot);
+            if (existing != null) {
+                article.setDuplicateOfId(existing.getValue());
+                continue;
+            }
+            ProximityHash.Entry<Article> inBatch = batchNearby.findNearest(
+                    article.getLatitude(), article.getLongitude(), time, slot);
+            if (inBatch != null) {
+                plan.batchDuplicates.put(article, inBatch.getValue());
+            } else {
+                batchNearby.add(article.getLatitude(), article.getLongitude(), time, slot, article);
+            }
+        }
+
+        if (plan.skipped > 0 || !plan.batchDuplicates.isEmpty()) {
+            log.debug("기사 중복 판별: received={}, URL 중복 제외={}, 묶음 내 근접 중복={}",
+                    articles.size(), plan.skipped, plan.batchDuplicates.size());
+        }
+        return plan;
+    }
+
+    private Map<MapSource, ProximityHash<Long>> newNearby() {
+        Map<MapSource, ProximityHash<Long>> created = new EnumMap<>(MapSource.class);
+        for (MapSource source : MapSource.values()) {
+            created.put(source, new ProximityHash<>(radiusMeters, windowMillis));
+        }
+        return created;
+    }
+
+    private static void addNearby(Map<MapSource, ProximityHash<Long>> target, MapPoint point) {
+        if (point.getOccurredAt() != null) {
+            target.get(point.getSource()).add(point.getLatitude(), point.getLongitude(), point.getOccurredAt(),
+                    MarkerClusterIndex.crimeTypeSlot(point.getCrimeType()), point.getId());
+        }
+    }
+
+    private static void putUrl(Map<String, Long> target, String rawUrl, Long id) {
+        String url = UrlNormalizer.normalize(rawUrl);
+        if (url != null && id != null) {
+            target.putIfAbsent(url, id);
+        }
+    }
+
+    private static Long occurredAt(Article article) {
+        return article.getPublishedAt() != null
+                ? article.getPublishedAt().atZone(MapPoint.ZONE).toInstant().toEpochMilli()
+                : null;
+    }
+
+    /**
+     * 기사 묶음 중복 판별 결과
+     */
+    @Getter
+    public static class ArticleDedupPlan {
+        /** 저장 대상 (근접 중복 포함, 동일 URL 제외) */
+        private final List<Article> toSave = new ArrayList<>();
+        /** 동일 URL 로 제외된 수 */
+        private int skipped;
+        private final Map<Article, Article> batchDuplicates = new IdentityHashMap<>();
+
+        /**
+         * 묶음 내 근접 중복을 원본 기사 ID 로 연결 (persist 로 ID 가 부여된 뒤, flush 전에 호출)
+         */
+        public void linkBatchDuplicates() {
+            batchDuplicates.forEach((duplicate, original) -> duplicate.setDuplicateOfId(original.getArticleId()));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.sp.darkmap.service;
+
+import com.sp.darkmap.index.MapPoint;
+import com.sp.darkmap.index.MapPointListener;
+import com.sp.darkmap.model.vo.MapChangesVO;
+import com.sp.darkmap.model.vo.MapMarkerVO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 지도 데이터 변경 로그 (델타 동기화용)
+ * - 마커 추가마다 버전을 1씩 올려 고정 크기 링 버퍼에 기록 (버전 → 슬롯 O(1))
+ * - 버퍼를 넘친 오래된 변경과 전체 재적재 이전 변경은 압축된 것으로 보고 전체 재동기화를 안내
+ * - 시작 버전을 기동 시각(ms) × 1000 으로 잡아 재기동 후에도 버전이 역행하지 않음
+ */
+@Slf4j
+@Service
+public class MapChangeLogService implements MapPointListener {
+
+    public static final int DEFAULT_LIMIT = 1000;
+    public static final int MAX_LIMIT = 5000;
+
+    private final MapPoint[] ring;
+    /** 마지막으로 기록된 변경 버전 */
+    private long latestVersion;
+    /** 이 버전 이하의 변경은 로그에 없음 */
+    private long compactedThrough;
+
+    public MapChangeLogService(@Value("${map.change-log.capacity:10000}") int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("map.change-log.capacity 는 1 이상이어야 합니다: " + capacity);
+        }
+        this.ring = new MapPoint[capacity];
+        this.latestVersion = System.currentTimeMillis() * 1000;
+        this.compactedThrough = latestVersion;
+    }
+
+    @Override
+    public synchronized void onReload(Collection<MapPoint> points) {
+        latestVersion++;
+        compactedThrough = latestVersion;
+    }
+
+    @Override
+    public synchronized void onAdded(Collection<MapPoint> points) {
+        for (MapPoint point : points) {
+            latestVersion++;
+            ring[slot(latestVersion)] = point;
+        }
+        compactedThrough = Math.max(compactedThrough, latestVersion - ring.length);
+    }
+
+    public synchronized long getCurrentVersion() {
+        return latestVersion;
+    }
+
+    /**
+     * since 이후 변경 조회 (since 가 압축 구간이거나 현재 버전보다 크면 전체 재동기화 안내)
+     */
+    public MapChangesVO getChanges(long since, Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(MAX_LIMIT, limit));
+
+        List<MapPoint> points = new ArrayList<>();
+        long version;
+        boolean hasMore;
+        synchronized (this) {
+            if (since < compactedThrough || since > latestVersion) {
+                return MapChangesVO.builder()
+                        .version(latestVersion)
+                        .fullResync(true)
+                        .hasMore(false)
+                        .changes(List.of())
+                        .build();
+            }
+            long until = Math.min(latestVersion, since + size);
+            for (long v = since + 1; v <= until; v++) {
+                points.add(ring[slot(v)]);
+            }
+            version = until;
+            hasMore = until < latestVersion;
+        }
+
+        return MapChangesVO.builder()
+                .version(version)
+                .fullResync(false)
+                .hasMore(hasMore)
+                .changes(points.stream().map(MapMarkerVO::from).toList())
+                .build();
+    }
+
+    private int slot(long version) {
+        return (int) Math.floorMod(version, (long) ring.length);
+    }
+}
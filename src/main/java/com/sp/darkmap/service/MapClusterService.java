@@ -0,0 +1,71 @@
+package com.sp.darkmap.service;
+
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.index.BoundingBox;
+import com.sp.darkmap.index.MapPoint;
+import com.sp.darkmap.index.MapPointListener;
+import com.sp.darkmap.index.MarkerClusterIndex;
+import com.sp.darkmap.model.vo.MapClusterVO;
+import com.sp.darkmap.model.vo.MapMarkerVO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 줌 레벨별 마커 클러스터 서비스
+ * - 마커 인덱스 변경을 구독해 클러스터를 증분 갱신
+ */
+@Slf4j
+@Service
+public class MapClusterService implements MapPointListener {
+
+    static final String UNKNOWN_CRIME_TYPE_LABEL = "기타";
+
+    private final MarkerClusterIndex clusterIndex = new MarkerClusterIndex();
+
+    @Override
+    public void onReload(Collection<MapPoint> points) {
+        clusterIndex.replaceAll(points);
+    }
+
+    @Override
+    public void onAdded(Collection<MapPoint> points) {
+        clusterIndex.addAll(points);
+    }
+
+    /**
+     * 줌 레벨/영역 기준 클러스터 조회
+     */
+    public List<MapClusterVO> getClusters(int zoom, BoundingBox box) {
+        return clusterIndex.query(zoom, box).stream()
+                .map(this::toVO)
+                .toList();
+    }
+
+    private MapClusterVO toVO(MarkerClusterIndex.ClusterSnapshot cluster) {
+        return MapClusterVO.builder()
+                .latitude(cluster.getLatitude())
+                .longitude(cluster.getLongitude())
+                .count(cluster.getCount())
+                .crimeTypeCounts(toLabelCounts(cluster.getCrimeTypeCounts()))
+                .marker(cluster.getSinglePoint() != null ? MapMarkerVO.from(cluster.getSinglePoint()) : null)
+                .build();
+    }
+
+    private Map<String, Integer> toLabelCounts(int[] counts) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (MapCrimeType type : MapCrimeType.values()) {
+            if (counts[type.ordinal()] > 0) {
+                result.put(type.getLabel(), counts[type.ordinal()]);
+            }
+        }
+        if (counts[MarkerClusterIndex.UNKNOWN_CRIME_TYPE] > 0) {
+            result.put(UNKNOWN_CRIME_TYPE_LABEL, counts[MarkerClusterIndex.UNKNOWN_CRIME_TYPE]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package com.sp.darkmap.service;
+
+import com.sp.darkmap.index.ColumnarPointStore;
+import com.sp.darkmap.index.MapFilter;
+import com.sp.darkmap.index.MapPoint;
+import com.sp.darkmap.index.MapPointListener;
+import com.sp.darkmap.model.dto.MapFilterDTO;
+import com.sp.darkmap.model.vo.MapFilterResultVO;
+import com.sp.darkmap.model.vo.MapMarkerVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 지도 마커 조합 필터 (범죄유형 × 정보유형 × 출처 × 지역 × 발생일 × 영역)
+ * - {@link ColumnarPointStore} 비트맵 인덱스로 평가하므로 조합마다 쿼리를 추가하지 않고 DB도 조회하지 않음
+ * - 시작 적재 후 등록 커밋마다 행 추가
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MapFilterService implements MapPointListener {
+
+    private final RegionCodeService regionCodeService;
+
+    private volatile ColumnarPointStore store = new ColumnarPointStore();
+
+    @Override
+    public void onReload(Collection<MapPoint> points) {
+        ColumnarPointStore fresh = new ColumnarPointStore();
+        fresh.addAll(points);
+        store = fresh;
+        log.info("지도 컬럼 저장소 적재 완료: rows={}", fresh.size());
+    }
+
+    @Override
+    public void onAdded(Collection<MapPoint> points) {
+        store.addAll(points);
+    }
+
+    public MapFilterResultVO filter(MapFilterDTO dto) {
+        int limit = dto.resolvedLimit();
+        MapFilter filter = MapFilter.builder()
+                .sources(dto.sourceFilter())
+                .crimeTypes(dto.crimeTypeFilter())
+                .infoTypes(dto.infoTypeFilter())
+                .regionIds(regionFilter(dto.getSido(), dto.getSigungu()))
+                .fromMillis(dto.getFrom() != null
+                        ? dto.getFrom().atStartOfDay(MapPoint.ZONE).toInstant().toEpochMilli() : null)
+                .toMillis(dto.getTo() != null
+                        ? dto.getTo().plusDays(1).atStartOfDay(MapPoint.ZONE).toInstant().toEpochMilli() : null)
+                .box(dto.boxFilter())
+                .build();
+        if (filter.getFromMillis() != null && filter.getToMillis() != null
+                && filter.getFromMillis() >= filter.getToMillis()) {
+            throw new IllegalArgumentException("from 은 to 보다 늦을 수 없습니다.");
+        }
+
+        ColumnarPointStore.FilterResult result = store.query(filter, limit);
+        return MapFilterResultVO.builder()
+                .total(result.getTotal())
+                .truncated(result.getTotal() > result.getPoints().size())
+                .markers(result.getPoints().stream().map(MapMarkerVO::from).toList())
+                .build();
+    }
+
+    /**
+     * 시도/시군구 → 지역 ID 집합 (미지정 시 null = 미적용, 모르는 지역이면 빈 집합)
+     */
+    private Set<Integer> regionFilter(String sido, String sigungu) {
+        if (sido == null || sido.isBlank()) {
+            if (sigungu != null && !sigungu.isBlank()) {
+                throw new IllegalArgumentException("sigungu 는 sido 와 함께 지정해야 합니다.");
+            }
+            return null;
+        }
+        if (sigungu != null && !sigungu.isBlank()) {
+            return regionCodeService.findId(sido, sigungu).map(Set::of).orElse(Set.of());
+        }
+        return new HashSet<>(regionCodeService.idsForSido(sido));
+    }
+}
@@ -0,0 +1,122 @@
+package com.sp.darkmap.service;
+
+import com.sp.darkmap.code.HeatmapResolution;
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.index.BoundingBox;
+import com.sp.darkmap.index.DensityGrid;
+import com.sp.darkmap.index.MapPoint;
+import com.sp.darkmap.index.MapPointListener;
+import com.sp.darkmap.index.MarkerClusterIndex;
+import com.sp.darkmap.model.vo.HeatmapVO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 히트맵 밀도 격자 서비스 (250m / 1km / 5km)
+ * - 마커 추가마다 해상도별 셀 하나씩만 증가
+ * - 응답은 0이 아닌 셀만 [행, 열, 가중치] 평탄 배열로 반환
+ */
+@Slf4j
+@Service
+public class MapHeatmapService implements MapPointListener {
+
+    /** 한 번에 훑을 수 있는 최대 셀 수 (250m 로 전국 조회 등 과도한 요청 차단) */
+    private static final long MAX_WINDOW_CELLS = 1_000_000L;
+    private static final int SLOTS = MarkerClusterIndex.UNKNOWN_CRIME_TYPE + 1;
+
+    private volatile Map<HeatmapResolution, DensityGrid> grids = newGrids();
+
+    @Override
+    public void onReload(Collection<MapPoint> points) {
+        Map<HeatmapResolution, DensityGrid> fresh = newGrids();
+        points.forEach(point -> addTo(fresh, point));
+        grids = fresh;
+    }
+
+    @Override
+    public void onAdded(Collection<MapPoint> points) {
+        Map<HeatmapResolution, DensityGrid> current = grids;
+        points.forEach(point -> addTo(current, point));
+    }
+
+    /**
+     * 영역/범죄유형 기준 밀도 셀 조회 (crimeType null 이면 전체 합계)
+     */
+    public HeatmapVO getHeatmap(HeatmapResolution resolution, BoundingBox box, MapCrimeType crimeType) {
+        DensityGrid grid = grids.get(resolution);
+
+        HeatmapVO.HeatmapVOBuilder builder = HeatmapVO.builder()
+                .resolution(resolution.getLabel())
+                .latStep(grid.getLatStep())
+                .lngStep(grid.getLngStep());
+
+        if (box.getMaxLat() < DensityGrid.MIN_LAT || box.getMinLat() > DensityGrid.MAX_LAT
+                || box.getMaxLng() < DensityGrid.MIN_LNG || box.getMinLng() > DensityGrid.MAX_LNG) {
+            return builder.originLat(box.getMinLat()).originLng(box.getMinLng())
+                    .rows(0).cols(0).maxWeight(0).cells(new int[0]).build();
+        }
+
+        int minRow = grid.clampRow(grid.row(box.getMinLat()));
+        int maxRow = grid.clampRow(grid.row(box.getMaxLat()));
+        int minCol = grid.clampCol(grid.col(box.getMinLng()));
+        int maxCol = grid.clampCol(grid.col(box.getMaxLng()));
+        if ((long) (maxRow - minRow + 1) * (maxCol - minCol + 1) > MAX_WINDOW_CELLS) {
+            throw new IllegalArgumentException("조회 영역이 너무 넓습니다. 더 큰 해상도를 사용하세요.");
+        }
+
+        CellBuffer buffer = new CellBuffer();
+        int slot = crimeType != null ? MarkerClusterIndex.crimeTypeSlot(crimeType) : -1;
+        grid.forEachCell(minRow, maxRow, minCol, maxCol, slot,
+                (row, col, weight) -> buffer.add(row - minRow, col - minCol, weight));
+
+        return builder
+                .originLat(DensityGrid.MIN_LAT + minRow * grid.getLatStep())
+                .originLng(DensityGrid.MIN_LNG + minCol * grid.getLngStep())
+                .rows(maxRow - minRow + 1)
+                .cols(maxCol - minCol + 1)
+                .maxWeight(buffer.maxWeight)
+                .cells(buffer.toArray())
+                .build();
+    }
+
+    private static Map<HeatmapResolution, DensityGrid> newGrids() {
+        Map<HeatmapResolution, DensityGrid> created = new EnumMap<>(HeatmapResolution.class);
+        for (HeatmapResolution resolution : HeatmapResolution.values()) {
+            created.put(resolution, new DensityGrid(resolution.getMeters(), SLOTS));
+        }
+        return created;
+    }
+
+    private static void addTo(Map<HeatmapResolution, DensityGrid> target, MapPoint point) {
+        int slot = MarkerClusterIndex.crimeTypeSlot(point.getCrimeType());
+        target.values().forEach(grid -> grid.add(point.getLatitude(), point.getLongitude(), slot));
+    }
+
+    /**
+     * [행, 열, 가중치] 평탄 int 배열 누적기
+     */
+    private static class CellBuffer {
+        private int[] values = new int[3 * 256];
+        private int size;
+        private int maxWeight;
+
+        void add(int row, int col, int weight) {
+            if (size + 3 > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size++] = row;
+            values[size++] = col;
+            values[size++] = weight;
+            maxWeight = Math.max(maxWeight, weight);
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
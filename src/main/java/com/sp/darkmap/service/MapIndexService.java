@@ -0,0 +1,128 @@
+package com.sp.darkmap.service;
+
+import com.sp.darkmap.code.InfoType;
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.index.BoundingBox;
+import com.sp.darkmap.index.MapPoint;
+import com.sp.darkmap.index.MapPointListener;
+import com.sp.darkmap.index.SpatialGridIndex;
+import com.sp.darkmap.persistent.entity.Article;
+import com.sp.darkmap.persistent.entity.CrimeCaseEntity;
+import com.sp.darkmap.persistent.repository.ArticleRepository;
+import com.sp.darkmap.persistent.repository.CrimeCaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 지도 마커 메모리 인덱스
+ * - 시작 시(모든 빈 생성 후, 웹 서버 기동 전) crime_case / article 좌표를 격자 인덱스에 적재
+ * - 등록 트랜잭션 커밋 이후 신규 마커만 추가 (롤백된 데이터가 노출되지 않도록)
+ * - 중복으로 판별된 사례/기사(duplicateOfId 있음)는 올리지 않음
+ * - 클러스터 등 파생 인덱스는 {@link MapPointListener} 로 같은 변경을 전달받음
+ *   (구독자가 이 서비스를 다시 주입받을 수 있도록 ObjectProvider 로 지연 조회)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MapIndexService implements SmartInitializingSingleton {
+
+    private final CrimeCaseRepository crimeCaseRepository;
+    private final ArticleRepository articleRepository;
+    private final ObjectProvider<MapPointListener> listeners;
+
+    private final SpatialGridIndex spatialIndex = new SpatialGridIndex();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    public void load() {
+        long startTime = System.currentTimeMillis();
+        try {
+            List<MapPoint> points = new ArrayList<>();
+            crimeCaseRepository.findAll().stream()
+                    .filter(entity -> entity.getDuplicateOfId() == null)
+                    .forEach(entity -> points.add(MapPoint.from(entity)));
+            articleRepository.findAll().stream()
+                    .filter(article -> article.getDuplicateOfId() == null)
+                    .filter(MapPoint::hasPosition)
+                    .forEach(article -> points.add(MapPoint.from(article)));
+
+            spatialIndex.replaceAll(points);
+            listeners.orderedStream().forEach(listener -> listener.onReload(points));
+            log.info("지도 인덱스 적재 완료: points={}, 소요시간={}ms",
+                    points.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("지도 인덱스 적재 실패", e);
+        }
+    }
+
+    /**
+     * 뷰포트 내 마커 조회 (범죄유형/정보유형 null이면 미적용)
+     */
+    public List<MapPoint> findInBounds(BoundingBox box, MapCrimeType crimeType, InfoType infoType) {
+        return spatialIndex.query(box, point -> point.matches(crimeType, infoType));
+    }
+
+    /**
+     * 범죄 사례 등록 반영
+     */
+    public void addCrimeCase(CrimeCaseEntity entity) {
+        if (entity.getDuplicateOfId() != null) {
+            return;
+        }
+        addAfterCommit(List.of(MapPoint.from(entity)));
+    }
+
+    /**
+     * 기사 저장 반영 (좌표 없는 기사/중복 기사는 제외)
+     */
+    public void addArticles(Collection<Article> articles) {
+        addAfterCommit(articles.stream()
+                .filter(article -> article.getDuplicateOfId() == null)
+                .filter(MapPoint::hasPosition)
+                .map(MapPoint::from)
+                .toList());
+    }
+
+    public int size() {
+        return spatialIndex.size();
+    }
+
+    private void addAfterCommit(List<MapPoint> points) {
+        if (points.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(points);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(points);
+            }
+        });
+    }
+
+    private void publish(List<MapPoint> points) {
+        spatialIndex.addAll(points);
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onAdded(points);
+            } catch (Exception e) {
+                log.error("지도 파생 인덱스 갱신 실패: listener={}", listener.getClass().getSimpleName(), e);
+            }
+        });
+    }
+}
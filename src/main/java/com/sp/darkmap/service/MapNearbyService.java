@@ -0,0 +1,142 @@
+package com.sp.darkmap.service;
+
+import com.sp.darkmap.index.GeoDistance;
+import com.sp.darkmap.index.KdTree;
+import com.sp.darkmap.index.MapPoint;
+import com.sp.darkmap.index.MapPointListener;
+import com.sp.darkmap.model.vo.MapMarkerVO;
+import com.sp.darkmap.model.vo.NearbyMarkerVO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 최근접 마커 검색 서비스
+ * - 불변 KD-트리 + 아직 트리에 없는 신규 마커(delta) 목록을 하나의 스냅샷으로 묶어 volatile 로 교체
+ * - delta 가 임계치를 넘으면 백그라운드 스레드에서 트리를 새로 만들고 원자적으로 교체 (검색은 멈추지 않음)
+ */
+@Slf4j
+@Service
+public class MapNearbyService implements MapPointListener {
+
+    public static final int DEFAULT_K = 10;
+    public static final int MAX_K = 100;
+    private static final int REBUILD_THRESHOLD = 256;
+
+    private final Executor mapIndexTaskExecutor;
+    private volatile Snapshot snapshot = new Snapshot(new KdTree(List.of()), List.of());
+    private boolean rebuildScheduled;
+
+    public MapNearbyService(@Qualifier("mapIndexTaskExecutor") Executor mapIndexTaskExecutor) {
+        this.mapIndexTaskExecutor = mapIndexTaskExecutor;
+    }
+
+    @Override
+    public synchronized void onReload(Collection<MapPoint> points) {
+        snapshot = new Snapshot(new KdTree(List.copyOf(points)), List.of());
+    }
+
+    @Override
+    public synchronized void onAdded(Collection<MapPoint> points) {
+        List<MapPoint> delta = new ArrayList<>(snapshot.delta);
+        delta.addAll(points);
+        snapshot = new Snapshot(snapshot.tree, List.copyOf(delta));
+
+        if (delta.size() >= REBUILD_THRESHOLD && !rebuildScheduled) {
+            rebuildScheduled = true;
+            try {
+                mapIndexTaskExecutor.execute(this::rebuild);
+            } catch (RejectedExecutionException e) {
+                // 큐가 가득 차 거절되면(TaskRejectedException 포함) 다음 추가 때 다시 예약하도록 표시 해제
+                rebuildScheduled = false;
+                log.warn("최근접 검색 트리 재구성 예약 거절: delta={}", delta.size());
+            }
+        }
+    }
+
+    /**
+     * 좌표 기준 최근접 k개 (radiusMeters null 이면 거리 제한 없음)
+     */
+    public List<NearbyMarkerVO> findNearest(double lat, double lng, Integer k, Double radiusMeters) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new IllegalArgumentException("위경도 범위를 벗어났습니다.");
+        }
+        if (radiusMeters != null && radiusMeters <= 0) {
+            throw new IllegalArgumentException("반경은 0보다 커야 합니다.");
+        }
+        int limit = k == null ? DEFAULT_K : Math.max(1, Math.min(MAX_K, k));
+        double maxChordSquared = radiusMeters != null ? GeoDistance.chordSquaredForMeters(radiusMeters) : 4.0;
+
+        Snapshot current = snapshot;
+        List<KdTree.Neighbor> candidates = new ArrayList<>(current.tree.nearest(lat, lng, limit, maxChordSquared));
+        if (!current.delta.isEmpty()) {
+            // 트리에 아직 없는 신규 마커는 수가 적으므로 선형 비교
+            for (MapPoint point : current.delta) {
+                double chordSquared = GeoDistance.chordSquaredForMeters(
+                        GeoDistance.haversineMeters(lat, lng, point.getLatitude(), point.getLongitude()));
+                if (chordSquared <= maxChordSquared) {
+                    candidates.add(new KdTree.Neighbor(point, chordSquared));
+                }
+            }
+            candidates.sort(Comparator.comparingDouble(KdTree.Neighbor::getChordSquared));
+        }
+
+        return candidates.stream()
+                .limit(limit)
+                .map(neighbor -> toVO(neighbor.getPoint(), lat, lng))
+                .toList();
+    }
+
+    private void rebuild() {
+        Snapshot base = snapshot;
+        long startTime = System.currentTimeMillis();
+        try {
+            List<MapPoint> all = new ArrayList<>(base.tree.size() + base.delta.size());
+            all.addAll(base.tree.points());
+            all.addAll(base.delta);
+            KdTree rebuilt = new KdTree(all);
+
+            synchronized (this) {
+                if (snapshot.tree != base.tree) {
+                    // 재구성 중 전체 재적재가 일어났으면 결과 폐기
+                    return;
+                }
+                // 재구성 중 추가된 마커는 delta 로 남김 (delta 는 추가만 되므로 앞부분이 base 와 같음)
+                List<MapPoint> remaining = snapshot.delta.subList(base.delta.size(), snapshot.delta.size());
+                snapshot = new Snapshot(rebuilt, List.copyOf(remaining));
+            }
+            log.debug("최근접 검색 트리 재구성 완료: size={}, 소요시간={}ms",
+                    rebuilt.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("최근접 검색 트리 재구성 실패", e);
+        } finally {
+            synchronized (this) {
+                rebuildScheduled = false;
+            }
+        }
+    }
+
+    private NearbyMarkerVO toVO(MapPoint point, double lat, double lng) {
+        return NearbyMarkerVO.builder()
+                .marker(MapMarkerVO.from(point))
+                .distanceMeters(GeoDistance.haversineMeters(lat, lng, point.getLatitude(), point.getLongitude()))
+                .build();
+    }
+
+    private static class Snapshot {
+        private final KdTree tree;
+        private final List<MapPoint> delta;
+
+        Snapshot(KdTree tree, List<MapPoint> delta) {
+            this.tree = tree;
+            this.delta = delta;
+        }
+    }
+}
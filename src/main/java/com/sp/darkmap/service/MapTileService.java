@@ -0,0 +1,144 @@
+package com.sp.darkmap.service;
+
+import com.sp.darkmap.index.BoundingBox;
+import com.sp.darkmap.index.MapPoint;
+import com.sp.darkmap.index.MapPointListener;
+import com.sp.darkmap.index.MercatorProjection;
+import com.sp.darkmap.index.TileCache;
+import com.sp.darkmap.index.VectorTileEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지도 벡터 타일(MVT) 서비스
+ * - 타일은 z/x/y + 데이터셋 버전 키로 바이트 LRU 캐시에 보관
+ * - 신규 마커 추가 시 해당 좌표(버퍼 포함)가 걸치는 타일만 줌 레벨별로 무효화, 전체 재적재 시에만 버전 증가
+ */
+@Slf4j
+@Service
+public class MapTileService implements MapPointListener {
+
+    public static final int MAX_ZOOM = 20;
+    public static final String LAYER_NAME = "crimes";
+
+    /** 타일 경계 밖 마커 포함 여유 (타일 좌표 단위, EXTENT 기준) */
+    private static final int BUFFER = 64;
+    private static final String UNKNOWN_CRIME_TYPE_LABEL = "기타";
+
+    private final MapIndexService mapIndexService;
+    private final TileCache tileCache;
+    private final AtomicLong datasetVersion = new AtomicLong();
+    /** 무효화 이전에 렌더링된 타일이 캐시에 들어가지 않도록 비교하는 변경 세대 */
+    private long generation;
+
+    public MapTileService(MapIndexService mapIndexService,
+                          @Value("${map.tile-cache.max-bytes:67108864}") long maxCacheBytes) {
+        this.mapIndexService = mapIndexService;
+        this.tileCache = new TileCache(maxCacheBytes);
+    }
+
+    /**
+     * 타일 조회 (캐시 미스 시 인코딩 후 적재)
+     */
+    public byte[] getTile(int z, int x, int y) {
+        validate(z, x, y);
+
+        TileCache.TileKey key = new TileCache.TileKey(datasetVersion.get(), z, x, y);
+        byte[] cached = tileCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long renderGeneration = currentGeneration();
+        byte[] tile = render(z, x, y);
+        synchronized (this) {
+            if (renderGeneration == generation) {
+                tileCache.put(key, tile);
+            }
+        }
+        return tile;
+    }
+
+    @Override
+    public synchronized void onReload(Collection<MapPoint> points) {
+        generation++;
+        datasetVersion.incrementAndGet();
+        tileCache.clear();
+    }
+
+    @Override
+    public synchronized void onAdded(Collection<MapPoint> points) {
+        generation++;
+        long version = datasetVersion.get();
+        double bufferTiles = (double) BUFFER / VectorTileEncoder.EXTENT;
+
+        for (MapPoint point : points) {
+            double mx = MercatorProjection.x(point.getLongitude());
+            double my = MercatorProjection.y(point.getLatitude());
+            for (int z = 0; z <= MAX_ZOOM; z++) {
+                int n = 1 << z;
+                int minX = clampTile((int) Math.floor(mx * n - bufferTiles), n);
+                int maxX = clampTile((int) Math.floor(mx * n + bufferTiles), n);
+                int minY = clampTile((int) Math.floor(my * n - bufferTiles), n);
+                int maxY = clampTile((int) Math.floor(my * n + bufferTiles), n);
+                for (int tx = minX; tx <= maxX; tx++) {
+                    for (int ty = minY; ty <= maxY; ty++) {
+                        tileCache.evict(new TileCache.TileKey(version, z, tx, ty));
+                    }
+                }
+            }
+        }
+        log.debug("타일 캐시 무효화: points={}, {}", points.size(), tileCache.stats());
+    }
+
+    private byte[] render(int z, int x, int y) {
+        int n = 1 << z;
+        double buffer = (double) BUFFER / VectorTileEncoder.EXTENT;
+        double west = MercatorProjection.lng(Math.max(0, (x - buffer) / n));
+        double east = MercatorProjection.lng(Math.min(1, (x + 1 + buffer) / n));
+        double north = MercatorProjection.lat(Math.max(0, (y - buffer) / n));
+        double south = MercatorProjection.lat(Math.min(1, (y + 1 + buffer) / n));
+
+        VectorTileEncoder encoder = new VectorTileEncoder(LAYER_NAME);
+        for (MapPoint point : mapIndexService.findInBounds(new BoundingBox(south, west, north, east), null, null)) {
+            int px = (int) Math.round((MercatorProjection.x(point.getLongitude()) * n - x) * VectorTileEncoder.EXTENT);
+            int py = (int) Math.round((MercatorProjection.y(point.getLatitude()) * n - y) * VectorTileEncoder.EXTENT);
+            encoder.addPoint(px, py, attributes(point));
+        }
+        return encoder.encode();
+    }
+
+    private Map<String, Object> attributes(MapPoint point) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("source", point.getSource().name());
+        attributes.put("id", point.getId());
+        attributes.put("crimeType", point.getCrimeType() != null
+                ? point.getCrimeType().getLabel() : UNKNOWN_CRIME_TYPE_LABEL);
+        attributes.put("infoType", point.getInfoType() != null ? point.getInfoType().getLabel() : null);
+        return attributes;
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private static void validate(int z, int x, int y) {
+        if (z < 0 || z > MAX_ZOOM) {
+            throw new IllegalArgumentException("줌 레벨은 0~" + MAX_ZOOM + " 범위여야 합니다.");
+        }
+        int n = 1 << z;
+        if (x < 0 || x >= n || y < 0 || y >= n) {
+            throw new IllegalArgumentException("타일 좌표가 줌 레벨 범위를 벗어났습니다.");
+        }
+    }
+
+    private static int clampTile(int tile, int n) {
+        return Math.max(0, Math.min(n - 1, tile));
+    }
+}
@@ -0,0 +1,174 @@
+package com.sp.darkmap.service;
+
+import com.sp.darkmap.code.AdministrativeRegions;
+import com.sp.darkmap.index.RegionMatch;
+import com.sp.darkmap.persistent.entity.RegionEntity;
+import com.sp.darkmap.persistent.repository.RegionRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 지역 사전 (시도/시군구 ↔ region.id)
+ * - 시작 시 전체 적재 후 메모리에서 조회 (지역 수백 건 수준)
+ * - 처음 보는 지역은 별도 트랜잭션으로 INSERT IGNORE 후 사전에 추가
+ *   (호출 트랜잭션이 롤백돼도 사전과 DB가 어긋나지 않음)
+ * - 새 행은 행정구역 목록({@link AdministrativeRegions})이나 경계 파일에 있는 이름으로만 생성
+ *   (요청 문자열로 사전이 무한히 커지지 않도록, 모르는 시군구는 시도 단위, 모르는 시도는 null)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegionCodeService {
+
+    private static final int MAX_NAME_LENGTH = 100;
+
+    private final RegionRepository regionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, RegionEntity> regionsById = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void load() {
+        regionRepository.findAll().forEach(this::register);
+        log.info("지역 사전 적재 완료: {}건", regionsById.size());
+    }
+
+    /**
+     * 요청/수집 문자열 시도/시군구의 지역 ID
+     * - 이미 사전에 있으면 그 ID
+     * - 행정구역 목록에 있으면 표준 명칭으로 조회/생성, 시군구만 모르면 시도 단위 지역
+     * - 시도를 모르면 null (사전에 추가하지 않음)
+     */
+    public Integer resolveId(String sido, String sigungu) {
+        String normalizedSido = sido == null ? "" : sido.trim();
+        String normalizedSigungu = sigungu == null ? "" : sigungu.trim();
+        Integer existing = idsByName.get(key(normalizedSido, normalizedSigungu));
+        if (existing != null) {
+            return existing;
+        }
+
+        Optional<String> canonicalSido = AdministrativeRegions.canonicalSido(normalizedSido);
+        if (canonicalSido.isEmpty()) {
+            log.debug("행정구역 목록에 없는 시도 - 지역 미지정: sido={}, sigungu={}", normalizedSido, normalizedSigungu);
+            return null;
+        }
+        String canonicalSigungu = AdministrativeRegions.canonicalSigungu(canonicalSido.get(), normalizedSigungu)
+                .orElse("");
+        return resolveId(canonicalSido.get(), canonicalSigungu, null);
+    }
+
+    /**
+     * 역지오코딩 결과의 지역 ID (경계 파일의 이름이므로 그대로 생성, 행정구역 코드 함께 기록)
+     */
+    public Integer resolveId(RegionMatch match) {
+        return resolveId(match.getSido(), match.getSigungu(), match.getCode());
+    }
+
+    /**
+     * 등록된 시도/시군구의 지역 ID (생성하지 않음, 그대로 없으면 표준 명칭으로 재조회)
+     */
+    public Optional<Integer> findId(String sido, String sigungu) {
+        if (sido == null || sido.isBlank()) {
+            return Optional.empty();
+        }
+        String normalizedSido = sido.trim();
+        String normalizedSigungu = sigungu == null ? "" : sigungu.trim();
+        Integer id = idsByName.get(key(normalizedSido, normalizedSigungu));
+        if (id != null) {
+            return Optional.of(id);
+        }
+        return AdministrativeRegions.canonicalSido(normalizedSido).map(canonicalSido -> idsByName.get(key(canonicalSido,
+                AdministrativeRegions.canonicalSigungu(canonicalSido, normalizedSigungu).orElse(normalizedSigungu))));
+    }
+
+    /**
+     * 지역 ID → 지역 정보
+     */
+    public Optional<RegionEntity> find(Integer id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(regionsById.get(id));
+    }
+
+    /**
+     * 사전에 등록된 시도 명칭 (그대로 없으면 표준 명칭으로 재조회, 사전에 없으면 empty)
+     */
+    public Optional<String> findSido(String sido) {
+        if (sido == null || sido.isBlank()) {
+            return Optional.empty();
+        }
+        String key = sido.trim();
+        String canonical = AdministrativeRegions.canonicalSido(key).orElse(key);
+        return Stream.of(key, canonical)
+                .filter(name -> regionsById.values().stream().anyMatch(region -> region.getSido().equals(name)))
+                .findFirst();
+    }
+
+    /**
+     * 시도에 속한 모든 지역 ID (시도 단위 지역 포함)
+     */
+    public List<Integer> idsForSido(String sido) {
+        if (sido == null || sido.isBlank()) {
+            return List.of();
+        }
+        String key = sido.trim();
+        String canonical = AdministrativeRegions.canonicalSido(key).orElse(key);
+        return regionsById.values().stream()
+                .filter(region -> region.getSido().equals(key) || region.getSido().equals(canonical))
+                .map(RegionEntity::getId)
+                .toList();
+    }
+
+    private Integer resolveId(String sido, String sigungu, String code) {
+        String normalizedSido = sido == null ? "" : sido.trim();
+        String normalizedSigungu = sigungu == null ? "" : sigungu.trim();
+        if (normalizedSido.isEmpty()
+                || normalizedSido.length() > MAX_NAME_LENGTH || normalizedSigungu.length() > MAX_NAME_LENGTH) {
+            return null;
+        }
+
+        Integer id = idsByName.get(key(normalizedSido, normalizedSigungu));
+        return id != null ? id : create(normalizedSido, normalizedSigungu, code);
+    }
+
+    private synchronized Integer create(String sido, String sigungu, String code) {
+        Integer existing = idsByName.get(key(sido, sigungu));
+        if (existing != null) {
+            return existing;
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Integer id = transaction.execute(status -> {
+            jdbcTemplate.update("INSERT IGNORE INTO region (sido, sigungu, code) VALUES (?, ?, ?)",
+                    sido, sigungu, code);
+            return jdbcTemplate.queryForObject("SELECT id FROM region WHERE sido = ? AND sigungu = ?",
+                    Integer.class, sido, sigungu);
+        });
+
+        register(RegionEntity.builder().id(id).sido(sido).sigungu(sigungu).code(code).build());
+        log.info("지역 사전 추가: id={}, sido={}, sigungu={}", id, sido, sigungu);
+        return id;
+    }
+
+    private void register(RegionEntity region) {
+        regionsById.put(region.getId(), region);
+        idsByName.put(key(region.getSido(), region.getSigungu()), region.getId());
+    }
+
+    private static String key(String sido, String sigungu) {
+        return sido + "|" + sigungu;
+    }
+}
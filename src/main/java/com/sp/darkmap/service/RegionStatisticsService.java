@@ -0,0 +1,335 @@
+package com.sp.darkmap.service;
+
+import com.sp.darkmap.code.InfoType;
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.code.MapSource;
+import com.sp.darkmap.index.RegionCountTable;
+import com.sp.darkmap.model.vo.RegionCountVO;
+import com.sp.darkmap.model.vo.SidoCountResponse;
+import com.sp.darkmap.persistent.entity.Article;
+import com.sp.darkmap.persistent.entity.CrimeCaseEntity;
+import com.sp.darkmap.persistent.repository.ArticleRepository;
+import com.sp.darkmap.persistent.repository.CrimeCaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지역(시도, 시도/시군구)별 건수 통계
+ * - 시작 시 DB GROUP BY(지역 ID/유형 코드) 로 적재하고, 등록 트랜잭션 커밋 이후 증분 반영
+ * - 응답 목록은 변경 전까지 캐시해 조회 시 재집계 없음
+ * - 주기적으로 DB와 대사해 누락/중복 반영분을 바로잡음
+ *   (대사 중 들어온 반영분은 모아 두었다가 재집계 스냅샷에 없는 것만 새 표에 다시 적용한 뒤 교체)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegionStatisticsService implements SmartInitializingSingleton {
+
+    private static final String UNKNOWN_LABEL = "기타";
+    private static final String ALL_SIDO = "";
+
+    private final ArticleRepository articleRepository;
+    private final CrimeCaseRepository crimeCaseRepository;
+    private final RegionCodeService regionCodeService;
+    private final PlatformTransactionManager transactionManager;
+
+    private RegionCountTable table = new RegionCountTable();
+    /** 대사 중 들어온 반영분 (대사 중이 아니면 null) */
+    private List<Change> pendingChanges;
+    /** 변경 시 통째로 교체 (교체 전 계산 중이던 결과는 버려진 캐시에만 기록됨) */
+    private volatile ResponseCache responseCache = new ResponseCache();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reconcile();
+    }
+
+    /**
+     * DB 기준 재집계 후 교체
+     * - 재집계와 반영분 확인을 한 읽기 트랜잭션(REPEATABLE READ 스냅샷)에서 수행
+     * - 재집계 중 반영된 건은 스냅샷에 보이지 않을 때만 새 표에 다시 더해 누락/이중 집계 방지
+     */
+    @Scheduled(fixedDelayString = "${map.region-stats.reconcile-interval-ms:600000}",
+            initialDelayString = "${map.region-stats.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        long startTime = System.currentTimeMillis();
+        synchronized (this) {
+            if (pendingChanges != null) {
+                return;
+            }
+            pendingChanges = new ArrayList<>();
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        try {
+            Boolean drifted = transaction.execute(status -> {
+                RegionCountTable loaded = loadFromDatabase();
+                synchronized (this) {
+                    replayPendingChanges(loaded);
+                    boolean changed = !table.sameCounts(loaded);
+                    table = loaded;
+                    pendingChanges = null;
+                    invalidateCaches();
+                    return changed;
+                }
+            });
+            log.info("지역 통계 대사 완료: 차이 발생={}, 소요시간={}ms", drifted, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("지역 통계 대사 실패", e);
+        } finally {
+            synchronized (this) {
+                pendingChanges = null;
+            }
+        }
+    }
+
+    /**
+     * 범죄 사례 등록 반영 (커밋 이후, 중복 사례/지역 미지정 제외)
+     * - DB 재집계와 같은 기준이 되도록 요청 문자열이 아니라 지역 사전의 표준 명칭으로 집계
+     */
+    public void recordCrimeCase(CrimeCaseEntity entity) {
+        if (entity.getDuplicateOfId() != null) {
+            return;
+        }
+        regionCodeService.find(entity.getRegionId()).ifPresent(region -> {
+            Change change = new Change(MapSource.CRIME_CASE, entity.getId(), region.getSido(), region.getSigungu(),
+                    entity.getInfoType(), entity.getCrimeType());
+            afterCommit(() -> apply(change));
+        });
+    }
+
+    /**
+     * 기사 저장 반영 (커밋 이후, 중복 기사/지역 미지정 제외, 지역 사전의 표준 명칭으로 집계)
+     */
+    public void recordArticles(Collection<Article> articles) {
+        List<Change> changes = articles.stream()
+                .filter(article -> article.getDuplicateOfId() == null)
+                .flatMap(article -> regionCodeService.find(article.getRegionId()).stream()
+                        .map(region -> new Change(MapSource.ARTICLE, article.getArticleId(), region.getSido(),
+                                region.getSigungu(), InfoType.NEWS_ARTICLE, article.getCrimeTypeCode())))
+                .toList();
+        afterCommit(() -> changes.forEach(this::apply));
+    }
+
+    /**
+     * 기사 시도별 건수 (건수 내림차순, 기존 /articles/sido/count 응답 형식)
+     */
+    public List<SidoCountResponse> getArticleSidoCounts() {
+        ResponseCache cache = responseCache;
+        List<SidoCountResponse> cached = cache.articleSidoCounts;
+        if (cached != null) {
+            return cached;
+        }
+
+        Map<String, long[]> snapshot;
+        synchronized (this) {
+            snapshot = table.sidoSnapshot();
+        }
+        List<SidoCountResponse> result = new ArrayList<>();
+        snapshot.forEach((sido, cells) -> {
+            long count = total(cells, MapSource.ARTICLE);
+            if (count > 0) {
+                result.add(new SidoCountResponse(sido, count));
+            }
+        });
+        result.sort(Comparator.comparing(SidoCountResponse::getCount).reversed());
+
+        List<SidoCountResponse> computed = List.copyOf(result);
+        cache.articleSidoCounts = computed;
+        return computed;
+    }
+
+    /**
+     * 지역별 건수 (sido 없으면 시도 단위, 있으면 해당 시도의 시군구 단위 / source 없으면 전체 출처)
+     * - 시도는 지역 사전의 명칭으로 바꿔 캐시 키로 사용, 사전에 없는 시도는 캐시하지 않고 빈 목록
+     */
+    public List<RegionCountVO> getRegionCounts(String sido, MapSource source) {
+        String regionKey;
+        if (sido == null || sido.isBlank()) {
+            regionKey = ALL_SIDO;
+        } else {
+            Optional<String> registered = regionCodeService.findSido(sido);
+            if (registered.isEmpty()) {
+                return List.of();
+            }
+            regionKey = registered.get();
+        }
+        String cacheKey = (source != null ? source.name() : "") + "|" + regionKey;
+        return responseCache.regionCounts.computeIfAbsent(cacheKey, k -> buildRegionCounts(regionKey, source));
+    }
+
+    private List<RegionCountVO> buildRegionCounts(String sido, MapSource source) {
+        Map<String, long[]> snapshot;
+        synchronized (this) {
+            snapshot = ALL_SIDO.equals(sido) ? table.sidoSnapshot() : table.sigunguSnapshot(sido);
+        }
+
+        List<RegionCountVO> result = new ArrayList<>();
+        snapshot.forEach((region, cells) -> {
+            RegionCountVO vo = toVO(cells, source);
+            if (vo.getTotal() > 0) {
+                vo.setSido(ALL_SIDO.equals(sido) ? region : sido);
+                vo.setSigungu(ALL_SIDO.equals(sido) ? null : region);
+                result.add(vo);
+            }
+        });
+        result.sort(Comparator.comparing(RegionCountVO::getTotal).reversed());
+        return List.copyOf(result);
+    }
+
+    private RegionCountVO toVO(long[] cells, MapSource sourceFilter) {
+        long[] byCrime = new long[RegionCountTable.CRIME_SLOTS];
+        long[] byInfo = new long[RegionCountTable.INFO_SLOTS];
+        long total = 0;
+
+        for (MapSource source : MapSource.values()) {
+            if (sourceFilter != null && sourceFilter != source) {
+                continue;
+            }
+            for (int info = 0; info < RegionCountTable.INFO_SLOTS; info++) {
+                for (int crime = 0; crime < RegionCountTable.CRIME_SLOTS; crime++) {
+                    long count = cells[(source.ordinal() * RegionCountTable.INFO_SLOTS + info)
+                            * RegionCountTable.CRIME_SLOTS + crime];
+                    byCrime[crime] += count;
+                    byInfo[info] += count;
+                    total += count;
+                }
+            }
+        }
+
+        Map<String, Long> crimeTypeCounts = new LinkedHashMap<>();
+        for (MapCrimeType type : MapCrimeType.values()) {
+            putIfPositive(crimeTypeCounts, type.getLabel(), byCrime[type.ordinal()]);
+        }
+        putIfPositive(crimeTypeCounts, UNKNOWN_LABEL, byCrime[RegionCountTable.CRIME_SLOTS - 1]);
+
+        Map<String, Long> infoTypeCounts = new LinkedHashMap<>();
+        for (InfoType type : InfoType.values()) {
+            putIfPositive(infoTypeCounts, type.getLabel(), byInfo[type.ordinal()]);
+        }
+        putIfPositive(infoTypeCounts, UNKNOWN_LABEL, byInfo[RegionCountTable.INFO_SLOTS - 1]);
+
+        return RegionCountVO.builder()
+                .total(total)
+                .crimeTypeCounts(crimeTypeCounts)
+                .infoTypeCounts(infoTypeCounts)
+                .build();
+    }
+
+    private long total(long[] cells, MapSource source) {
+        long total = 0;
+        int from = source.ordinal() * RegionCountTable.INFO_SLOTS * RegionCountTable.CRIME_SLOTS;
+        for (int i = from; i < from + RegionCountTable.INFO_SLOTS * RegionCountTable.CRIME_SLOTS; i++) {
+            total += cells[i];
+        }
+        return total;
+    }
+
+    private RegionCountTable loadFromDatabase() {
+        RegionCountTable loaded = new RegionCountTable();
+        for (Object[] row : articleRepository.countByRegionAndCrimeType()) {
+            regionCodeService.find((Integer) row[0]).ifPresent(region -> loaded.add(MapSource.ARTICLE,
+                    region.getSido(), region.getSigungu(), InfoType.NEWS_ARTICLE, (MapCrimeType) row[1], (Long) row[2]));
+        }
+        for (Object[] row : crimeCaseRepository.countByRegionAndType()) {
+            regionCodeService.find((Integer) row[0]).ifPresent(region -> loaded.add(MapSource.CRIME_CASE,
+                    region.getSido(), region.getSigungu(), (InfoType) row[1], (MapCrimeType) row[2], (Long) row[3]));
+        }
+        return loaded;
+    }
+
+    private synchronized void apply(Change change) {
+        change.addTo(table);
+        invalidateCaches();
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+    }
+
+    /**
+     * 대사 중 반영된 건 중 재집계 스냅샷에 없는 것(스냅샷 이후 커밋)만 새 표에 더함
+     */
+    private void replayPendingChanges(RegionCountTable loaded) {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        Set<Long> visibleArticles = visibleIds(MapSource.ARTICLE);
+        Set<Long> visibleCrimeCases = visibleIds(MapSource.CRIME_CASE);
+        for (Change change : pendingChanges) {
+            Set<Long> visible = change.source() == MapSource.ARTICLE ? visibleArticles : visibleCrimeCases;
+            if (!visible.contains(change.id())) {
+                change.addTo(loaded);
+            }
+        }
+    }
+
+    private Set<Long> visibleIds(MapSource source) {
+        List<Long> ids = pendingChanges.stream()
+                .filter(change -> change.source() == source)
+                .map(Change::id)
+                .toList();
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(source == MapSource.ARTICLE
+                ? articleRepository.findExistingIds(ids)
+                : crimeCaseRepository.findExistingIds(ids));
+    }
+
+    private void invalidateCaches() {
+        responseCache = new ResponseCache();
+    }
+
+    private static void putIfPositive(Map<String, Long> counts, String label, long count) {
+        if (count > 0) {
+            counts.put(label, count);
+        }
+    }
+
+    private record Change(MapSource source, Long id, String sido, String sigungu,
+                          InfoType infoType, MapCrimeType crimeType) {
+
+        void addTo(RegionCountTable target) {
+            target.add(source, sido, sigungu, infoType, crimeType, 1);
+        }
+    }
+
+    private static class ResponseCache {
+        private volatile List<SidoCountResponse> articleSidoCounts;
+        private final Map<String, List<RegionCountVO>> regionCounts = new ConcurrentHashMap<>();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,180 @@
+package com.sp.darkmap.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sp.darkmap.index.BoundaryPolygon;
+import com.sp.darkmap.index.RegionMatch;
+import com.sp.darkmap.index.StrRTree;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 오프라인 역지오코딩 (좌표 → 표준 시도/시군구)
+ * - 번들 행정구역 경계 GeoJSON(WGS84 경위도, 시군구 단위 Polygon/MultiPolygon)을 기동 시 적재
+ * - 폴리곤 경계 사각형을 STR R-트리로 색인하고, 후보 폴리곤만 링 포함 판정
+ * - 경계 파일(map.reverse-geocode.boundary-file)은 필수, 지정하지 않았거나 없거나 읽을 수 없으면 기동 실패
+ *   (조용히 요청 값으로 넘어가지 않도록, 끄려면 map.reverse-geocode.enabled=false 로 명시)
+ */
+@Slf4j
+@Service
+public class ReverseGeocodingService {
+
+    /** 시군구 코드 앞 2자리 → 시도 명칭 (경계 파일에 시도명이 없을 때 사용, 구 코드 포함) */
+    private static final Map<String, String> SIDO_BY_CODE = Map.ofEntries(
+            Map.entry("11", "서울특별시"),
+            Map.entry("26", "부산광역시"),
+            Map.entry("27", "대구광역시"),
+            Map.entry("28", "인천광역시"),
+            Map.entry("29", "광주광역시"),
+            Map.entry("30", "대전광역시"),
+            Map.entry("31", "울산광역시"),
+            Map.entry("36", "세종특별자치시"),
+            Map.entry("41", "경기도"),
+            Map.entry("42", "강원특별자치도"),
+            Map.entry("51", "강원특별자치도"),
+            Map.entry("43", "충청북도"),
+            Map.entry("44", "충청남도"),
+            Map.entry("45", "전북특별자치도"),
+            Map.entry("52", "전북특별자치도"),
+            Map.entry("46", "전라남도"),
+            Map.entry("47", "경상북도"),
+            Map.entry("48", "경상남도"),
+            Map.entry("50", "제주특별자치도")
+    );
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final String boundaryLocation;
+    private final boolean enabled;
+
+    private volatile StrRTree<BoundaryPolygon> index = new StrRTree<>(List.of());
+
+    public ReverseGeocodingService(ResourceLoader resourceLoader,
+                                   ObjectMapper objectMapper,
+                                   @Value("${map.reverse-geocode.boundary-file:}") String boundaryLocation,
+                                   @Value("${map.reverse-geocode.enabled:true}") boolean enabled) {
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.boundaryLocation = boundaryLocation;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void load() {
+        if (!enabled) {
+            log.warn("역지오코딩 비활성 설정 (map.reverse-geocode.enabled=false) - 요청 시도/시군구를 그대로 사용");
+            return;
+        }
+        if (boundaryLocation == null || boundaryLocation.isBlank()) {
+            throw new IllegalStateException("행정구역 경계 파일 위치를 지정해야 합니다: "
+                    + "map.reverse-geocode.boundary-file (환경변수 MAP_BOUNDARY_FILE, 예: file:/data/sigungu-boundaries.geojson)");
+        }
+        Resource resource = resourceLoader.getResource(boundaryLocation);
+        if (!resource.exists()) {
+            throw new IllegalStateException("행정구역 경계 파일이 없습니다: map.reverse-geocode.boundary-file=" + boundaryLocation);
+        }
+
+        long startTime = System.currentTimeMillis();
+        try (InputStream in = resource.getInputStream()) {
+            JsonNode root = objectMapper.readTree(in);
+            List<StrRTree.Entry<BoundaryPolygon>> entries = new ArrayList<>();
+            for (JsonNode feature : root.path("features")) {
+                BoundaryPolygon polygon = toPolygon(feature);
+                if (polygon != null) {
+                    double[] b = polygon.bounds();
+                    entries.add(new StrRTree.Entry<>(b[0], b[1], b[2], b[3], polygon));
+                }
+            }
+            if (entries.isEmpty()) {
+                throw new IllegalStateException("행정구역 경계 파일에 사용할 수 있는 시군구 폴리곤이 없습니다: " + boundaryLocation);
+            }
+            index = new StrRTree<>(entries);
+            log.info("행정구역 경계 적재 완료: regions={}, 소요시간={}ms",
+                    entries.size(), System.currentTimeMillis() - startTime);
+        } catch (IOException e) {
+            throw new IllegalStateException("행정구역 경계 파일을 읽을 수 없습니다: " + boundaryLocation, e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return index.size() > 0;
+    }
+
+    /**
+     * 좌표가 속한 시군구 (경계 밖이거나 비활성이면 empty)
+     */
+    public Optional<RegionMatch> locate(Double lat, Double lng) {
+        if (lat == null || lng == null || !isEnabled()) {
+            return Optional.empty();
+        }
+        RegionMatch[] found = new RegionMatch[1];
+        index.search(lat, lng, polygon -> {
+            if (found[0] == null && polygon.contains(lat, lng)) {
+                found[0] = polygon.getRegion();
+            }
+        });
+        return Optional.ofNullable(found[0]);
+    }
+
+    private BoundaryPolygon toPolygon(JsonNode feature) {
+        JsonNode properties = feature.path("properties");
+        String code = text(properties, "code", "SIG_CD", "sig_cd");
+        String sigungu = text(properties, "sigungu", "SIG_KOR_NM", "sig_kor_nm");
+        String sido = text(properties, "sido", "CTP_KOR_NM", "ctp_kor_nm");
+        if (sido == null && code != null && code.length() >= 2) {
+            sido = SIDO_BY_CODE.get(code.substring(0, 2));
+        }
+        if (sido == null || sigungu == null) {
+            return null;
+        }
+
+        JsonNode geometry = feature.path("geometry");
+        List<List<double[]>> polygons = new ArrayList<>();
+        switch (geometry.path("type").asText()) {
+            case "Polygon" -> polygons.add(toRings(geometry.path("coordinates")));
+            case "MultiPolygon" -> geometry.path("coordinates").forEach(p -> polygons.add(toRings(p)));
+            default -> {
+                return null;
+            }
+        }
+        polygons.removeIf(List::isEmpty);
+        return polygons.isEmpty() ? null : new BoundaryPolygon(new RegionMatch(code, sido, sigungu), polygons);
+    }
+
+    private List<double[]> toRings(JsonNode polygon) {
+        List<double[]> rings = new ArrayList<>();
+        for (JsonNode ring : polygon) {
+            double[] coords = new double[ring.size() * 2];
+            int i = 0;
+            for (JsonNode position : ring) {
+                coords[i++] = position.get(0).asDouble();
+                coords[i++] = position.get(1).asDouble();
+            }
+            if (coords.length >= 6) {
+                rings.add(coords);
+            }
+        }
+        return rings;
+    }
+
+    private static String text(JsonNode properties, String... names) {
+        for (String name : names) {
+            JsonNode value = properties.get(name);
+            if (value != null && !value.isNull() && !value.asText().isBlank()) {
+                return value.asText().trim();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,68 @@
+package com.sp.member.dto.response;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 커뮤니티 작성자 표시용 회원 프로필 (닉네임/탈퇴 여부/마지막 탈퇴 시각)
+ */
+@Getter
+public class AuthorProfile {
+
+    public static final String UNKNOWN_NICKNAME = "알수없음";
+
+    private final Long memberId;
+    private final String nickname;
+    private final boolean deleted;
+    private final LocalDateTime lastWithdrawnAt;
+
+    public AuthorProfile(Long memberId, String nickname, Boolean isDeleted, Instant lastWithdrawnAt) {
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.deleted = Boolean.TRUE.equals(isDeleted);
+        this.lastWithdrawnAt = lastWithdrawnAt != null
+                ? LocalDateTime.ofInstant(lastWithdrawnAt, ZoneOffset.UTC)
+                : null;
+    }
+
+    /**
+     * 조회되지 않은 회원용 기본 프로필
+     */
+    public static AuthorProfile unknown(Long memberId) {
+        return new AuthorProfile(memberId, null, false, null);
+    }
+
+    /**
+     * 탈퇴 기준 이전 작성물인지 확인 (익명 처리 대상)
+     */
+    public boolean isAnonymizedFor(LocalDateTime contentCreatedAt) {
+        if (memberId == null || contentCreatedAt == null) {
+            return true;
+        }
+        if (lastWithdrawnAt == null) {
+            return deleted; // 삭제 상태면 익명 처리
+        }
+        return !contentCreatedAt.isAfter(lastWithdrawnAt);
+    }
+
+    /**
+     * 작성물 기준 표시 닉네임 (익명화 대상이면 '알수없음')
+     * - 탈퇴 이후 작성물이면 현재 탈퇴 상태여도 닉네임 표시 (댓글/신고/알림 기존 규칙)
+     */
+    public String displayNameFor(LocalDateTime contentCreatedAt) {
+        if (isAnonymizedFor(contentCreatedAt) || nickname == null) {
+            return UNKNOWN_NICKNAME;
+        }
+        return nickname;
+    }
+
+    /**
+     * 게시글 표시 닉네임 (익명화 대상이거나 현재 탈퇴 상태면 '알수없음', 게시글 목록/상세 기존 규칙)
+     */
+    public String boardDisplayNameFor(LocalDateTime contentCreatedAt) {
+        return deleted ? UNKNOWN_NICKNAME : displayNameFor(contentCreatedAt);
+    }
+}
@@ -1,10 +1,14 @@
 package com.sp.member.repository;
 
+import com.sp.member.dto.response.AuthorProfile;
 import com.sp.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -43,4 +47,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      */
     @Query("SELECT m.lastWithdrawnAt FROM Member m WHERE m.id = :memberId")
     Optional<java.time.Instant> findLastWithdrawnAtByMemberId(Long memberId);
+
+    /**
+     * 회원 ID 목록으로 작성자 프로필 일괄 조회 (커뮤니티 목록용)
+     */
+    @Query("SELECT new com.sp.member.dto.response.AuthorProfile(m.id, m.nickname, m.isDeleted, m.lastWithdrawnAt) " +
+            "FROM Member m WHERE m.id IN :memberIds")
+    List<AuthorProfile> findAuthorProfilesByIds(@Param("memberIds") Collection<Long> memberIds);
 }
@@ -0,0 +1,93 @@
+package com.sp.member.service;
+
+import com.sp.member.dto.response.AuthorProfile;
+import com.sp.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커뮤니티 작성자 프로필 일괄 조회기
+ * - 한 페이지의 작성자 ID를 모아 캐시 미스분만 IN 쿼리 한 번으로 닉네임/탈퇴 정보를 조회
+ * - 익명화/탈퇴 판단은 {@link AuthorProfile} 에서 메모리로 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthorProfileResolver {
+
+    private final MemberRepository memberRepository;
+    private final MemberProfileCache memberProfileCache;
+
+    /**
+     * 단건 작성자 프로필 조회
+     */
+    public AuthorProfile resolve(Long memberId) {
+        if (memberId == null) {
+            return AuthorProfile.unknown(null);
+        }
+        return resolveAll(List.of(memberId)).get(memberId);
+    }
+
+    /**
+     * 작성자 ID 목록의 프로필 일괄 조회 (조회되지 않은 ID는 기본 프로필로 채움)
+     */
+    public Map<Long, AuthorProfile> resolveAll(Collection<Long> memberIds) {
+        Set<Long> ids = memberIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Long, AuthorProfile> profiles = new HashMap<>();
+        if (ids.isEmpty()) {
+            return profiles;
+        }
+
+        profiles.putAll(memberProfileCache.getAll(ids));
+        Set<Long> missingIds = ids.stream()
+                .filter(id -> !profiles.containsKey(id))
+                .collect(Collectors.toSet());
+
+        if (!missingIds.isEmpty()) {
+            try {
+                Map<Long, Long> generations = memberProfileCache.generations(missingIds);
+                List<AuthorProfile> loaded = memberRepository.findAuthorProfilesByIds(missingIds);
+                memberProfileCache.putAll(loaded, generations);
+                profiles.putAll(loaded.stream()
+                        .collect(Collectors.toMap(AuthorProfile::getMemberId, Function.identity())));
+            } catch (Exception e) {
+                log.warn("작성자 프로필 일괄 조회 실패: memberIds={}", missingIds);
+            }
+            log.debug("작성자 프로필 캐시: {}", memberProfileCache.getStats());
+        }
+
+        ids.forEach(id -> profiles.putIfAbsent(id, AuthorProfile.unknown(id)));
+        return profiles;
+    }
+
+    /**
+     * 엔티티 목록에서 작성자 ID를 추출해 프로필 일괄 조회
+     */
+    public <T> Map<Long, AuthorProfile> resolveAll(Collection<T> items, Function<T, Long> idExtractor) {
+        return resolveAll(items.stream().map(idExtractor).toList());
+    }
+
+    /**
+     * 조회 결과 맵에서 프로필 꺼내기 (null ID 포함 안전 처리)
+     */
+    public static AuthorProfile of(Map<Long, AuthorProfile> profiles, Long memberId) {
+        if (memberId == null) {
+            return AuthorProfile.unknown(null);
+        }
+        return profiles.getOrDefault(memberId, AuthorProfile.unknown(memberId));
+    }
+}
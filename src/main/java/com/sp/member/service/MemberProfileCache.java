@@ -0,0 +1,189 @@
+package com.sp.member.service;
+
+import com.sp.member.dto.response.AuthorProfile;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작성자 프로필 인메모리 캐시 (크기/TTL 제한)
+ * - 닉네임/탈퇴 정보는 자주 읽히고 드물게 바뀌므로 {@link AuthorProfileResolver} 앞단에서 재사용
+ * - 닉네임 변경/탈퇴/복구 시 {@link #evict(Long)} 로 무효화 (트랜잭션 커밋 이후 반영)
+ * - evict 마다 회원별 세대를 올리고, DB 조회 전에 받아 둔 세대가 바뀐 프로필은 저장하지 않음
+ *   (무효화 이전에 읽은 값이 뒤늦게 저장되어 TTL 동안 남는 것 방지)
+ */
+@Slf4j
+@Component
+public class MemberProfileCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<Long, CachedProfile> entries;
+    /** 회원별 무효화 세대 (evict 된 적 있는 회원만, entries 잠금으로 보호) */
+    private final Map<Long, Long> generations = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public MemberProfileCache(@Value("${member.profile-cache.max-size:10000}") int maxSize,
+                              @Value("${member.profile-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000L;
+        // accessOrder=true: 최근 조회된 항목을 뒤로 보내 LRU 방식으로 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedProfile> eldest) {
+                if (size() > MemberProfileCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 프로필 일괄 조회 (만료 항목은 제거하고 미스로 집계)
+     */
+    public Map<Long, AuthorProfile> getAll(Collection<Long> memberIds) {
+        Map<Long, AuthorProfile> found = new HashMap<>();
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            for (Long id : memberIds) {
+                CachedProfile cached = entries.get(id);
+                if (cached == null) {
+                    misses.increment();
+                } else if (cached.expiresAt <= now) {
+                    entries.remove(id);
+                    evictions.increment();
+                    misses.increment();
+                } else {
+                    hits.increment();
+                    found.put(id, cached.profile);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 회원별 현재 세대 (DB 조회 직전에 받아 {@link #putAll(Collection, Map)} 에 전달)
+     */
+    public Map<Long, Long> generations(Collection<Long> memberIds) {
+        Map<Long, Long> snapshot = new HashMap<>();
+        synchronized (entries) {
+            for (Long id : memberIds) {
+                snapshot.put(id, generations.getOrDefault(id, 0L));
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * DB에서 조회한 프로필 저장 (조회 이후 무효화된 회원은 제외)
+     */
+    public void putAll(Collection<AuthorProfile> profiles, Map<Long, Long> generationsAtLoad) {
+        if (maxSize <= 0 || profiles.isEmpty()) {
+            return;
+        }
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+
+        synchronized (entries) {
+            for (AuthorProfile profile : profiles) {
+                Long id = profile.getMemberId();
+                if (id == null || !generations.getOrDefault(id, 0L).equals(generationsAtLoad.get(id))) {
+                    continue;
+                }
+                entries.put(id, new CachedProfile(profile, expiresAt));
+            }
+        }
+    }
+
+    /**
+     * 회원 프로필 무효화
+     * - 트랜잭션 안이면 즉시 + 커밋 이후 한 번 더 제거 (커밋 전 재조회로 오래된 값이 다시 적재되는 것 방지)
+     */
+    public void evict(Long memberId) {
+        if (memberId == null) {
+            return;
+        }
+        remove(memberId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(memberId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 전체 비우기
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * 캐시 적중 통계
+     */
+    public Stats getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private void remove(Long memberId) {
+        synchronized (entries) {
+            entries.remove(memberId);
+            generations.merge(memberId, 1L, Long::sum);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class CachedProfile {
+        private final AuthorProfile profile;
+        private final long expiresAt;
+    }
+
+    /**
+     * 캐시 통계 스냅샷
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int size;
+
+        public double getHitRate() {
+            long total = hitCount + missCount;
+            return total == 0 ? 0.0 : (double) hitCount / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d, misses=%d, hitRate=%.2f, evictions=%d, size=%d",
+                    hitCount, missCount, getHitRate(), evictionCount, size);
+        }
+    }
+}
@@ -26,6 +26,7 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final BadWordFilter badWordFilter;
+    private final MemberProfileCache memberProfileCache;
 
     @Value("${auth.rejoin-hold-minutes:1}") // 테스트를 위해 1분으로 설정
     private int rejoinHoldMinutes;
@@ -120,6 +121,7 @@ public class MemberService {
         // 탈퇴 처리 (소프트 삭제)
         member.softDelete();
         memberRepository.save(member);
+        memberProfileCache.evict(id);
 
         log.info("✅ 회원 탈퇴 완료 - 사용자 ID: {}, 이메일: {}", id, member.getEmail());
     }
@@ -140,6 +142,7 @@ public class MemberService {
 
         member.restore();
         memberRepository.save(member);
+        memberProfileCache.evict(id);
 
         log.info("✅ 회원 복구 완료 - 사용자 ID: {}", id);
     }
@@ -183,7 +186,9 @@ public class MemberService {
 
         // 닉네임 업데이트
         member.updateNickname(newNickname);
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        memberProfileCache.evict(memberId);
+        return saved;
     }
 
     // 허용: 한글, 영문, 숫자, 하이픈, 언더스코어, 마침표, 한글 자음/모음, 일본어, 한자 (내부 공백 1칸 허용)
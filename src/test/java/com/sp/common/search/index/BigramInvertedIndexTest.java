@@ -0,0 +1,235 @@
+package com.sp.common.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BigramInvertedIndexTest {
+
+    private static final String[] WORDS = {
+            "서울시", "강남구", "지하철", "불법촬영", "신고", "접수", "경찰", "수사", "부산", "해운대",
+            "야간", "귀가", "미행", "골목", "cctv", "2024년", "피해", "상담", "안전", "지도"
+    };
+    private static final String[] QUERIES = {
+            "서울", "강남구", "지하철 불법촬영", "신고접수", "CCTV", "2024", "해운대 야간", "귀가 미행",
+            "없는단어", "촬영", "경찰 수사", "울시"
+    };
+    private static final int VISIBLE = 1;
+    private static final int PINNED = 1 << 1;
+
+    @Test
+    void tokensAreBigramsPerWord() {
+        assertIterableEquals(List.of("서울", "울시", "강남", "남구"), BigramInvertedIndex.tokens("서울시 강남구"));
+        assertIterableEquals(List.of("cc", "ct", "tv"), BigramInvertedIndex.tokens("CCTV!"));
+        assertIterableEquals(List.of(), BigramInvertedIndex.tokens("가 나 다"));
+        assertFalse(BigramInvertedIndex.isSearchable("가"));
+        assertTrue(BigramInvertedIndex.isSearchable("가나"));
+    }
+
+    @Test
+    void matchesOnlyDocumentsContainingEveryQueryBigramInOneField() {
+        BigramInvertedIndex index = new BigramInvertedIndex(2);
+        index.add(1L, 10L, VISIBLE, "강남구 지하철", "불법촬영 신고");
+        index.add(2L, 20L, VISIBLE, "강남", "지하철 구간");
+        index.add(3L, 30L, VISIBLE, "지하철 불법촬영", null);
+
+        // "강남구" 의 바이그램(강남, 남구)이 한 필드에 모두 있는 문서만
+        assertEquals(Set.of(1L), ids(index.search("강남구", 0b11, 0, BigramInvertedIndex.Order.RECENT, 10)));
+        // 제목(지하철)과 내용(불법촬영)에 나뉘어 있으면 일치하지 않음
+        assertEquals(Set.of(3L), ids(index.search("지하철 불법촬영", 0b11, 0, BigramInvertedIndex.Order.RECENT, 10)));
+        // 필드 마스크
+        assertEquals(Set.of(1L), ids(index.search("신고", 0b10, 0, BigramInvertedIndex.Order.RECENT, 10)));
+        assertEquals(Set.of(), ids(index.search("신고", 0b01, 0, BigramInvertedIndex.Order.RECENT, 10)));
+    }
+
+    @Test
+    void requiredFlagsFilterDocuments() {
+        BigramInvertedIndex index = new BigramInvertedIndex(1);
+        index.add(1L, 1L, 0, "안전 지도");
+        index.add(2L, 2L, VISIBLE, "안전 지도");
+        index.add(3L, 3L, VISIBLE | PINNED, "안전 지도");
+
+        assertEquals(Set.of(1L, 2L, 3L), ids(index.search("안전", 1, 0, BigramInvertedIndex.Order.RECENT, 10)));
+        assertEquals(Set.of(2L, 3L), ids(index.search("안전", 1, VISIBLE, BigramInvertedIndex.Order.RECENT, 10)));
+        assertEquals(Set.of(3L), ids(index.search("안전", 1, VISIBLE | PINNED, BigramInvertedIndex.Order.RECENT, 10)));
+        assertEquals(2, index.search("안전", 1, VISIBLE, BigramInvertedIndex.Order.RECENT, 1).getTotal());
+    }
+
+    @Test
+    void ordersByRecencyOrScore() {
+        BigramInvertedIndex index = new BigramInvertedIndex(1);
+        index.add(1L, 300L, 0, "미행 신고");
+        index.add(2L, 100L, 0, "미행 미행 미행 신고");
+        index.add(3L, 200L, 0, "골목 미행");
+
+        List<BigramInvertedIndex.Hit> recent = index.search("미행", 1, 0, BigramInvertedIndex.Order.RECENT, 10).getHits();
+        assertIterableEquals(List.of(1L, 3L, 2L), recent.stream().map(BigramInvertedIndex.Hit::getId).toList());
+
+        List<BigramInvertedIndex.Hit> scored = index.search("미행", 1, 0, BigramInvertedIndex.Order.SCORE, 10).getHits();
+        assertEquals(2L, scored.get(0).getId());
+        assertTrue(scored.get(0).getScore() > scored.get(1).getScore());
+    }
+
+    @Test
+    void updateReplacesAndRemoveHidesDocument() {
+        BigramInvertedIndex index = new BigramInvertedIndex(1);
+        index.add(1L, 1L, 0, "부산 해운대");
+        index.add(1L, 1L, 0, "서울시 강남구");
+        assertEquals(Set.of(), ids(index.search("해운대", 1, 0, BigramInvertedIndex.Order.RECENT, 10)));
+        assertEquals(Set.of(1L), ids(index.search("강남", 1, 0, BigramInvertedIndex.Order.RECENT, 10)));
+
+        index.remove(1L);
+        assertEquals(0, index.size());
+        assertEquals(Set.of(), ids(index.search("강남", 1, 0, BigramInvertedIndex.Order.RECENT, 10)));
+    }
+
+    @Test
+    void varintPostingsRoundTripLargeGapsAndFrequencies() {
+        BigramInvertedIndex index = new BigramInvertedIndex(1);
+        // 순번 간격 1, 127, 128, 16383, 16384 이상 / 빈도 1, 127, 128, 300 을 모두 거치도록 배치
+        int[] targetOrdinals = {0, 1, 128, 256, 16639, 33023, 40000};
+        int[] frequencies = {1, 127, 128, 300, 2, 129, 16384};
+        Map<Long, Integer> expectedFrequency = new HashMap<>();
+        int next = 0;
+        for (int t = 0; t < targetOrdinals.length; t++) {
+            for (; next < targetOrdinals[t]; next++) {
+                index.add(next, next, 0, "채움 문서");
+            }
+            index.add(next, next, 0, "미행 ".repeat(frequencies[t]));
+            expectedFrequency.put((long) next, frequencies[t]);
+            next++;
+        }
+
+        BigramInvertedIndex.Hits hits = index.search("미행", 1, 0, BigramInvertedIndex.Order.SCORE, 100);
+        assertEquals(expectedFrequency.keySet(), ids(hits));
+        // 문서 길이가 빈도와 같으므로 BM25 점수는 빈도에 대해 단조 증가 → 빈도 순서가 그대로 보존돼야 함
+        List<Long> byFrequency = expectedFrequency.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed())
+                .map(Map.Entry::getKey)
+                .toList();
+        assertIterableEquals(byFrequency, hits.getHits().stream().map(BigramInvertedIndex.Hit::getId).toList());
+    }
+
+    @Test
+    void compactionRemapsSurvivorsWithoutChangingResults() {
+        BigramInvertedIndex index = new BigramInvertedIndex(1);
+        int count = 5000;
+        for (int id = 0; id < count; id++) {
+            index.add(id, id, id % 3 == 0 ? VISIBLE : 0, id % 2 == 0 ? "지하철 안전" : "골목 안전");
+        }
+        // 묘비 1/4 초과 + 1024 건 이상 → 압축 발생
+        Set<Long> survivors = new TreeSet<>();
+        for (long id = 0; id < count; id++) {
+            if (id % 5 < 2) {
+                index.remove(id);
+            } else {
+                survivors.add(id);
+            }
+        }
+        // 압축 이후 추가/교체도 새 순번으로 이어져야 함
+        index.add(count, count, VISIBLE, "지하철 안전");
+        survivors.add((long) count);
+        index.add(4L, 4L, 0, "골목");
+        survivors.remove(4L);
+
+        assertEquals(survivors.size() + 1, index.size());
+        assertEquals(survivors, ids(index.search("안전", 1, 0, BigramInvertedIndex.Order.RECENT, count)));
+
+        Set<Long> visibleSubway = survivors.stream()
+                .filter(id -> id == count || id % 3 == 0 && id % 2 == 0)
+                .collect(Collectors.toCollection(TreeSet::new));
+        assertEquals(visibleSubway,
+                ids(index.search("지하철", 1, VISIBLE, BigramInvertedIndex.Order.RECENT, count)));
+        assertEquals((long) count,
+                index.search("안전", 1, 0, BigramInvertedIndex.Order.RECENT, 1).getHits().get(0).getId());
+    }
+
+    @Test
+    void randomizedAgainstBruteForceScan() {
+        Random random = new Random(42);
+        BigramInvertedIndex index = new BigramInvertedIndex(2);
+        Map<Long, String[]> documents = new HashMap<>();
+        Map<Long, Integer> documentFlags = new HashMap<>();
+
+        for (int round = 0; round < 6000; round++) {
+            long id = random.nextInt(3000);
+            if (random.nextInt(4) == 0) {
+                index.remove(id);
+                documents.remove(id);
+                documentFlags.remove(id);
+                continue;
+            }
+            String[] fields = {sentence(random), random.nextInt(5) == 0 ? null : sentence(random)};
+            int docFlags = random.nextInt(4);
+            index.add(id, random.nextInt(1000), docFlags, fields);
+            documents.put(id, fields);
+            documentFlags.put(id, docFlags);
+        }
+
+        assertEquals(documents.size(), index.size());
+        for (String query : QUERIES) {
+            for (int fieldMask = 1; fieldMask <= 0b11; fieldMask++) {
+                for (int requiredFlags = 0; requiredFlags <= 0b11; requiredFlags++) {
+                    Set<Long> expected = bruteForce(documents, documentFlags, query, fieldMask, requiredFlags);
+                    BigramInvertedIndex.Hits hits = index.search(query, fieldMask, requiredFlags,
+                            BigramInvertedIndex.Order.RECENT, Integer.MAX_VALUE);
+                    String label = query + " mask=" + fieldMask + " flags=" + requiredFlags;
+                    assertEquals(expected, ids(hits), label);
+                    assertEquals(expected.size(), hits.getTotal(), label);
+                }
+            }
+        }
+    }
+
+    @Test
+    void rejectsWrongFieldCount() {
+        BigramInvertedIndex index = new BigramInvertedIndex(2);
+        assertThrows(IllegalArgumentException.class, () -> index.add(1L, 1L, 0, "제목만"));
+    }
+
+    private static Set<Long> bruteForce(Map<Long, String[]> documents, Map<Long, Integer> documentFlags,
+                                        String query, int fieldMask, int requiredFlags) {
+        Set<String> terms = new HashSet<>(BigramInvertedIndex.tokens(query));
+        Set<Long> matched = new TreeSet<>();
+        documents.forEach((id, fields) -> {
+            if ((documentFlags.get(id) & requiredFlags) != requiredFlags) {
+                return;
+            }
+            for (int f = 0; f < fields.length; f++) {
+                if ((fieldMask & (1 << f)) != 0
+                        && new HashSet<>(BigramInvertedIndex.tokens(fields[f])).containsAll(terms)) {
+                    matched.add(id);
+                    return;
+                }
+            }
+        });
+        return matched;
+    }
+
+    private static String sentence(Random random) {
+        List<String> words = new ArrayList<>();
+        for (int i = 0, n = 1 + random.nextInt(5); i < n; i++) {
+            words.add(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return String.join(" ", words);
+    }
+
+    private static Set<Long> ids(BigramInvertedIndex.Hits hits) {
+        return hits.getHits().stream().map(BigramInvertedIndex.Hit::getId)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+}
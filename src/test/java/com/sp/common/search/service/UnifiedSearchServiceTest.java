@@ -0,0 +1,143 @@
+package com.sp.common.search.service;
+
+import com.sp.common.search.index.BigramInvertedIndex;
+import com.sp.common.search.model.dto.UnifiedSearchResponseDTO;
+import com.sp.community.persistent.entity.BoardEntity;
+import com.sp.community.persistent.repository.BoardRepository;
+import com.sp.darkmap.persistent.entity.Article;
+import com.sp.darkmap.persistent.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 최신순 병합 결과: 기사1(12시), 게시글11(12시, 동시각은 기사 먼저), 게시글12(11시), 기사2(10시), 기사3(9시), 게시글13(일시 없음)
+ */
+class UnifiedSearchServiceTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    private ArticleRepository articleRepository;
+    private BoardRepository boardRepository;
+    private KeywordIndexService keywordIndexService;
+    private UnifiedSearchService service;
+
+    @BeforeEach
+    void setUp() {
+        articleRepository = mock(ArticleRepository.class);
+        boardRepository = mock(BoardRepository.class);
+        keywordIndexService = mock(KeywordIndexService.class);
+        service = new UnifiedSearchService(articleRepository, boardRepository, keywordIndexService);
+
+        // 한 글자 검색어 → 색인 대신 DB 정렬 키 조회
+        when(keywordIndexService.isSearchable("역")).thenReturn(false);
+        when(articleRepository.countByKeyword("역")).thenReturn(3L);
+        when(boardRepository.countByKeyword("역")).thenReturn(3L);
+        when(articleRepository.searchKeysByKeyword(eq("역"), any(Pageable.class))).thenReturn(List.of(
+                key(1L, NOON),
+                key(2L, NOON.minusHours(2)),
+                key(3L, NOON.minusHours(3))));
+        when(boardRepository.searchKeysByKeyword(eq("역"), any(Pageable.class))).thenReturn(List.of(
+                key(11L, NOON),
+                key(12L, NOON.minusHours(1)),
+                key(13L, null)));
+        when(articleRepository.findAllById(any())).thenReturn(List.of(article(1L), article(2L), article(3L),
+                article(4L), article(5L)));
+        when(boardRepository.findAllById(any())).thenReturn(List.of(board(11L), board(12L), board(13L), board(7L)));
+    }
+
+    @Test
+    void mergesNewestFirstWithArticlesFirstOnTies() {
+        UnifiedSearchResponseDTO response = service.unifiedSearch("역", PageRequest.of(0, 6));
+
+        assertIterableEquals(List.of("ARTICLE:1", "BOARD:11", "BOARD:12", "ARTICLE:2", "ARTICLE:3", "BOARD:13"),
+                ids(response));
+        assertEquals(6L, response.getTotalElements());
+        assertEquals(3L, response.getNewsTotalElements());
+        assertEquals(3L, response.getCommunityTotalElements());
+    }
+
+    @Test
+    void pagesSkipToOffsetAcrossSources() {
+        assertIterableEquals(List.of("ARTICLE:1", "BOARD:11"), ids(service.unifiedSearch("역", PageRequest.of(0, 2))));
+        assertIterableEquals(List.of("BOARD:12", "ARTICLE:2"), ids(service.unifiedSearch("역", PageRequest.of(1, 2))));
+        assertIterableEquals(List.of("ARTICLE:3", "BOARD:13"), ids(service.unifiedSearch("역", PageRequest.of(2, 2))));
+
+        UnifiedSearchResponseDTO lastPage = service.unifiedSearch("역", PageRequest.of(1, 4));
+        assertIterableEquals(List.of("ARTICLE:3", "BOARD:13"), ids(lastPage));
+        assertEquals(2, lastPage.getTotalPages());
+        assertEquals(2, lastPage.getPage());
+    }
+
+    @Test
+    void fetchesAtMostOffsetPlusSizeKeysPerSource() {
+        service.unifiedSearch("역", PageRequest.of(1, 2));
+
+        verify(articleRepository).searchKeysByKeyword("역", PageRequest.of(0, 4));
+        verify(boardRepository).searchKeysByKeyword("역", PageRequest.of(0, 4));
+    }
+
+    @Test
+    void pageBeyondTotalSkipsKeyQueries() {
+        UnifiedSearchResponseDTO response = service.unifiedSearch("역", PageRequest.of(3, 2));
+
+        assertEquals(0, response.getResults().size());
+        assertEquals(6L, response.getTotalElements());
+        verify(articleRepository, never()).searchKeysByKeyword(anyString(), any(Pageable.class));
+        verify(boardRepository, never()).searchKeysByKeyword(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void indexedSearchTakesTotalsFromHitsNotFromKeysReturned() {
+        when(keywordIndexService.isSearchable("바바리")).thenReturn(true);
+        when(keywordIndexService.searchArticles(eq("바바리"), any(), anyInt())).thenReturn(new BigramInvertedIndex.Hits(40,
+                List.of(hit(5L, NOON), hit(4L, NOON.minusHours(1)))));
+        when(keywordIndexService.searchBoards(eq("바바리"), anyInt(), anyBoolean(), any(), anyInt()))
+                .thenReturn(new BigramInvertedIndex.Hits(1, List.of(hit(7L, NOON))));
+
+        UnifiedSearchResponseDTO response = service.unifiedSearch("바바리", PageRequest.of(0, 2));
+
+        assertIterableEquals(List.of("ARTICLE:5", "BOARD:7"), ids(response));
+        assertEquals(41L, response.getTotalElements());
+        assertEquals(21, response.getTotalPages());
+        verify(articleRepository, never()).countByKeyword(anyString());
+    }
+
+    private static List<String> ids(UnifiedSearchResponseDTO response) {
+        return response.getResults().stream().map(result -> result.getResultType() + ":" + result.getId()).toList();
+    }
+
+    private static Object[] key(Long id, LocalDateTime dateTime) {
+        return new Object[]{id, dateTime};
+    }
+
+    private static BigramInvertedIndex.Hit hit(long id, LocalDateTime dateTime) {
+        return new BigramInvertedIndex.Hit(id, 1.0, KeywordIndexService.sortKey(dateTime));
+    }
+
+    private static Article article(Long id) {
+        Article article = new Article();
+        article.setArticleId(id);
+        return article;
+    }
+
+    private static BoardEntity board(Long id) {
+        return BoardEntity.builder().boardId(id).build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.sp.common.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LenientDateParserTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', textBlock = """
+            2024-03-05                 | 2024-03-05
+            2024.03.05.                | 2024-03-05
+            2024. 3. 5.                | 2024-03-05
+            2024/3/5                   | 2024-03-05
+            2024년 3월 5일              | 2024-03-05
+            2024년3월5일                | 2024-03-05
+            입력 2024.03.05. 오후 3:12  | 2024-03-05
+            20240305                   | 2024-03-05
+            발생일 20241231 신고         | 2024-12-31
+            2024.03                    | 2024-03-01
+            2024년 11월                 | 2024-11-01
+            2024-02-29                 | 2024-02-29
+            """)
+    void parsesDateFormats(String value, LocalDate expected) {
+        assertEquals(expected, LenientDateParser.parseDate(value).orElse(null), value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "어제 저녁", "2024-13-01", "2023-02-29", "20241301", "20240230", "202403051", "124.03.05", "3월 5일"
+    })
+    @NullAndEmptySource
+    void rejectsUnparsableDates(String value) {
+        assertTrue(LenientDateParser.parseDate(value).isEmpty(), String.valueOf(value));
+        assertTrue(LenientDateParser.parseDateTime(value).isEmpty(), String.valueOf(value));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', textBlock = """
+            2024-03-05                 | 2024-03-05T00:00
+            2024-03-05T15:12:00        | 2024-03-05T15:12
+            2024-03-05 15:12:30        | 2024-03-05T15:12:30
+            2024.03.05. 오전 9:05       | 2024-03-05T09:05
+            2024.03.05. 오후 3:12       | 2024-03-05T15:12
+            2024.03.05. 오전 12:30      | 2024-03-05T00:30
+            2024.03.05. 오후 12:30      | 2024-03-05T12:30
+            2024.03.05. 오후 11:59:59   | 2024-03-05T23:59:59
+            2024/3/5 AM 12:00          | 2024-03-05T00:00
+            2024/3/5 PM 12:00          | 2024-03-05T12:00
+            2024/3/5 7:45 pm           | 2024-03-05T19:45
+            2024/3/5 7:45 am           | 2024-03-05T07:45
+            20240305 오후 1:02          | 2024-03-05T13:02
+            20240305 23:15             | 2024-03-05T23:15
+            2024-03-05 25:00           | 2024-03-05T00:00
+            2024-03-05 10:75           | 2024-03-05T00:00
+            """)
+    void parsesDateTimeWithTwelveAndTwentyFourHourClocks(String value, LocalDateTime expected) {
+        assertEquals(expected, LenientDateParser.parseDateTime(value).orElse(null), value);
+    }
+}
@@ -0,0 +1,73 @@
+package com.sp.common.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UrlNormalizerTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', textBlock = """
+            https://www.news.example.com/article/123                             | news.example.com/article/123
+            http://news.example.com/article/123/                                 | news.example.com/article/123
+            HTTPS://M.News.Example.COM/article/123//                             | news.example.com/article/123
+            https://news.example.com:443/article/123                             | news.example.com/article/123
+            http://news.example.com:80/article/123                               | news.example.com/article/123
+            http://news.example.com:8080/article/123                             | news.example.com:8080/article/123
+            https://news.example.com/article/123#comments                        | news.example.com/article/123
+            https://news.example.com/                                            | news.example.com
+            '  https://news.example.com/a  '                                     | news.example.com/a
+            """)
+    void normalizesSchemeHostPortAndPath(String url, String expected) {
+        assertEquals(expected, UrlNormalizer.normalize(url));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', textBlock = """
+            https://news.example.com/view?b=2&a=1                                | news.example.com/view?a=1&b=2
+            https://news.example.com/view?a=1&utm_source=fb&utm_medium=social    | news.example.com/view?a=1
+            https://news.example.com/view?UTM_Campaign=x&id=7                    | news.example.com/view?id=7
+            https://news.example.com/view?id=7&fbclid=abc&gclid=def              | news.example.com/view?id=7
+            https://news.example.com/view?igshid=1&cmpid=2&id=7                  | news.example.com/view?id=7
+            https://news.example.com/view?utm_source=x&fbclid=y                  | news.example.com/view
+            https://news.example.com/view?id=7&&                                 | news.example.com/view?id=7
+            https://news.example.com/view?q=%EC%84%9C%EC%9A%B8&id=1              | news.example.com/view?id=1&q=%EC%84%9C%EC%9A%B8
+            """)
+    void stripsTrackingParamsAndSortsTheRest(String url, String expected) {
+        assertEquals(expected, UrlNormalizer.normalize(url));
+    }
+
+    /**
+     * ref/from 은 일부 언론사에서 기사 식별 파라미터로 쓰이므로 서로 다른 기사를 같은 URL 로 합치지 않아야 함
+     */
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', textBlock = """
+            https://news.example.com/read.php?ref=20240305001                    | news.example.com/read.php?ref=20240305001
+            https://news.example.com/list?from=2024-03-01&page=2                 | news.example.com/list?from=2024-03-01&page=2
+            https://news.example.com/read?ref=7&utm_source=naver                 | news.example.com/read?ref=7
+            """)
+    void keepsContentParamsNamedRefOrFrom(String url, String expected) {
+        assertEquals(expected, UrlNormalizer.normalize(url));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', textBlock = """
+            NOT A URL WITH SPACES                                                | not a url with spaces
+            mailto:Reporter@Example.com                                          | mailto:reporter@example.com
+            /relative/Path                                                       | /relative/path
+            """)
+    void fallsBackToLowercaseWhenNoHost(String url, String expected) {
+        assertEquals(expected, UrlNormalizer.normalize(url));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   "})
+    void blankIsNull(String url) {
+        assertNull(UrlNormalizer.normalize(url));
+    }
+}
@@ -0,0 +1,91 @@
+package com.sp.config.migration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArticlePublishedAtMigrationTest {
+
+    private static final String BATCH = "UPDATE article SET published_at = ? WHERE article_id = ?";
+
+    private FakeSchemaJdbcTemplate db;
+    private ArticlePublishedAtMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        db = new FakeSchemaJdbcTemplate();
+        db.table("article", "article_id", "contribution_date");
+        migration = new ArticlePublishedAtMigration(db, new SchemaOperations(db));
+    }
+
+    @Test
+    void backfillsParsedDatesAndLeavesUnparseableNull() {
+        article(1, "2024.03.05. 오후 3:12");
+        article(2, "입력 2024-03-04");
+        article(3, "어제 저녁");
+        article(4, null);
+
+        migration.migrate();
+
+        assertEquals(Timestamp.valueOf(LocalDateTime.of(2024, 3, 5, 15, 12)), db.find("article", 1).publishedAt);
+        assertEquals(Timestamp.valueOf(LocalDateTime.of(2024, 3, 4, 0, 0)), db.find("article", 2).publishedAt);
+        assertNull(db.find("article", 3).publishedAt);
+        assertNull(db.find("article", 4).publishedAt);
+        assertTrue(db.hasColumn("article", "published_at"));
+        assertTrue(db.hasIndex("article", "idx_article_published_at"));
+    }
+
+    @Test
+    void readsPastChunksOfUnparseableRows() {
+        // 첫 청크(5000행)가 모두 해석 불가여도 다음 청크로 넘어가야 함
+        for (long id = 1; id <= 5000; id++) {
+            article(id, "미상");
+        }
+        article(5001, "2024-01-02");
+        article(5002, "2024-01-03");
+
+        migration.migrate();
+
+        assertEquals(Timestamp.valueOf(LocalDateTime.of(2024, 1, 2, 0, 0)), db.find("article", 5001).publishedAt);
+        assertEquals(Timestamp.valueOf(LocalDateTime.of(2024, 1, 3, 0, 0)), db.find("article", 5002).publishedAt);
+        assertEquals(1, db.statements.stream().filter(BATCH::equals).count());
+    }
+
+    @Test
+    void writesOneBatchPerChunk() {
+        for (long id = 1; id <= 5001; id++) {
+            article(id, "2024-02-01");
+        }
+
+        migration.migrate();
+
+        assertEquals(2, db.statements.stream().filter(BATCH::equals).count());
+        assertTrue(db.rows.get("article").stream().allMatch(row -> row.publishedAt != null));
+    }
+
+    @Test
+    void rerunTouchesOnlyRowsStillNull() {
+        article(1, "2024-03-05");
+        article(2, "미상");
+        migration.migrate();
+        Timestamp first = db.find("article", 1).publishedAt;
+        db.clearStatements();
+
+        migration.migrate();
+
+        // 컬럼/인덱스는 다시 만들지 않고, 해석 불가 행만 다시 읽어 쓸 것이 없음
+        assertTrue(db.statements.isEmpty(), String.valueOf(db.statements));
+        assertEquals(first, db.find("article", 1).publishedAt);
+        assertNull(db.find("article", 2).publishedAt);
+    }
+
+    private void article(long id, String contributionDate) {
+        db.row("article", id).contributionDate = contributionDate;
+    }
+}
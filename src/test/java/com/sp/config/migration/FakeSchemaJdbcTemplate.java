@@ -0,0 +1,308 @@
+package com.sp.config.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 마이그레이션 단계가 보내는 SQL 만 해석하는 메모리 DB
+ * - information_schema 조회와 DDL 은 테이블/컬럼/인덱스 목록으로 처리 (이미 있는 컬럼/인덱스를 다시 만들면 실패)
+ * - 지역 ID, 게재 시각 채움은 행 목록에 실제로 반영
+ * - SELECT 를 제외한 모든 문장은 statements 에 기록
+ */
+class FakeSchemaJdbcTemplate extends JdbcTemplate {
+
+    private static final Pattern ADD_COLUMN = Pattern.compile("ALTER TABLE (\\w+) ADD COLUMN (\\w+) .*");
+    private static final Pattern MODIFY_NOT_NULL = Pattern.compile("ALTER TABLE (\\w+) MODIFY COLUMN (\\w+) \\w+ NOT NULL");
+    private static final Pattern CREATE_INDEX = Pattern.compile("CREATE INDEX (\\w+) ON (\\w+) \\(.*\\)");
+    private static final Pattern DROP_INDEX = Pattern.compile("DROP INDEX (\\w+) ON (\\w+)");
+    private static final Pattern FROM_TABLE = Pattern.compile("FROM (\\w+)");
+    private static final Pattern UPDATE_TABLE = Pattern.compile("UPDATE (\\w+)");
+
+    static final class Row {
+        final long id;
+        String sido;
+        String sigungu;
+        Integer regionId;
+        String contributionDate;
+        Timestamp publishedAt;
+
+        Row(long id) {
+            this.id = id;
+        }
+    }
+
+    final Map<String, Set<String>> columns = new LinkedHashMap<>();
+    final Set<String> notNullColumns = new HashSet<>();
+    final Map<String, Set<String>> indexes = new HashMap<>();
+    /** "시도|시군구" → 지역 ID */
+    final Map<String, Integer> regions = new LinkedHashMap<>();
+    final Map<String, List<Row>> rows = new HashMap<>();
+    final List<Long> uncodedCrimeCaseIds = new ArrayList<>();
+    final List<String> statements = new ArrayList<>();
+
+    void table(String tableName, String... columnNames) {
+        columns.put(tableName, new LinkedHashSet<>(List.of(columnNames)));
+        rows.put(tableName, new ArrayList<>());
+    }
+
+    void index(String tableName, String indexName) {
+        indexes.computeIfAbsent(tableName, k -> new HashSet<>()).add(indexName);
+    }
+
+    Row row(String tableName, long id) {
+        Row row = new Row(id);
+        rows.get(tableName).add(row);
+        return row;
+    }
+
+    Row find(String tableName, long id) {
+        return rows.get(tableName).stream().filter(row -> row.id == id).findFirst().orElseThrow();
+    }
+
+    boolean hasColumn(String tableName, String columnName) {
+        return columns.getOrDefault(tableName, Set.of()).contains(columnName);
+    }
+
+    boolean hasIndex(String tableName, String indexName) {
+        return indexes.getOrDefault(tableName, Set.of()).contains(indexName);
+    }
+
+    @Override
+    public void execute(String sql) {
+        String statement = record(sql);
+        Matcher matcher;
+        if (statement.startsWith("CREATE TABLE IF NOT EXISTS region ")) {
+            if (!columns.containsKey("region")) {
+                table("region", "id", "sido", "sigungu", "code");
+            }
+        } else if ((matcher = ADD_COLUMN.matcher(statement)).matches()) {
+            if (!columns.get(matcher.group(1)).add(matcher.group(2))) {
+                throw new AssertionError("이미 있는 컬럼 추가: " + statement);
+            }
+        } else if ((matcher = MODIFY_NOT_NULL.matcher(statement)).matches()) {
+            notNullColumns.add(matcher.group(1) + "." + matcher.group(2));
+        } else if ((matcher = CREATE_INDEX.matcher(statement)).matches()) {
+            if (!indexes.computeIfAbsent(matcher.group(2), k -> new HashSet<>()).add(matcher.group(1))) {
+                throw new AssertionError("이미 있는 인덱스 생성: " + statement);
+            }
+        } else if ((matcher = DROP_INDEX.matcher(statement)).matches()) {
+            if (!indexes.getOrDefault(matcher.group(2), new HashSet<>()).remove(matcher.group(1))) {
+                throw new AssertionError("없는 인덱스 삭제: " + statement);
+            }
+        } else {
+            throw new AssertionError("처리하지 않는 DDL: " + statement);
+        }
+    }
+
+    @Override
+    public int update(String sql) {
+        return update(sql, new Object[0]);
+    }
+
+    @Override
+    public int update(String sql, Object... args) {
+        String statement = record(sql);
+        if (statement.startsWith("INSERT IGNORE INTO region ")) {
+            String key = args[0] + "|" + args[1];
+            if (regions.containsKey(key)) {
+                return 0;
+            }
+            regions.put(key, regions.size() + 1);
+            return 1;
+        }
+        if (statement.startsWith("UPDATE crime_case SET info_type_code") || statement.startsWith("UPDATE article SET crime_type_code")) {
+            return 0;
+        }
+        throw new AssertionError("처리하지 않는 UPDATE: " + statement);
+    }
+
+    @Override
+    public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+        String statement = record(sql);
+        int[] counts = new int[batchArgs.size()];
+        String tableName = group(UPDATE_TABLE, statement);
+        for (int i = 0; i < batchArgs.size(); i++) {
+            Object[] args = batchArgs.get(i);
+            if (statement.contains("SET region_id = ?")) {
+                for (Row row : rows.get(tableName)) {
+                    if (row.regionId == null && row.sido != null && row.sido.trim().equals(args[1])
+                            && trimToEmpty(row.sigungu).equals(args[2])) {
+                        row.regionId = (Integer) args[0];
+                        counts[i]++;
+                    }
+                }
+            } else if (statement.startsWith("UPDATE article SET published_at = ?")) {
+                find("article", (Long) args[1]).publishedAt = (Timestamp) args[0];
+                counts[i] = 1;
+            } else {
+                throw new AssertionError("처리하지 않는 배치: " + statement);
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public <T> T queryForObject(String sql, Class<T> requiredType) {
+        return queryForObject(sql, requiredType, new Object[0]);
+    }
+
+    @Override
+    public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+        String statement = normalize(sql);
+        if (statement.contains("FROM information_schema.tables")) {
+            return requiredType.cast(columns.containsKey((String) args[0]) ? 1 : 0);
+        }
+        if (statement.contains("FROM information_schema.columns")) {
+            return requiredType.cast(hasColumn((String) args[0], (String) args[1]) ? 1 : 0);
+        }
+        if (statement.contains("FROM information_schema.statistics")) {
+            return requiredType.cast(hasIndex((String) args[0], (String) args[1]) ? 1 : 0);
+        }
+        if (statement.startsWith("SELECT MAX(id) FROM ")) {
+            return null;
+        }
+        throw new AssertionError("처리하지 않는 조회: " + statement);
+    }
+
+    @Override
+    public <T> List<T> queryForList(String sql, Class<T> elementType) {
+        return queryForList(sql, elementType, new Object[0]);
+    }
+
+    @Override
+    public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+        String statement = normalize(sql);
+        if (statement.startsWith("SELECT is_nullable FROM information_schema.columns")) {
+            String column = args[0] + "." + args[1];
+            if (!hasColumn((String) args[0], (String) args[1])) {
+                return List.of();
+            }
+            return List.of(elementType.cast(notNullColumns.contains(column) ? "NO" : "YES"));
+        }
+        if (statement.startsWith("SELECT id FROM region WHERE sido = ? AND sigungu = ?")) {
+            Integer id = regions.get(args[0] + "|" + args[1]);
+            return id == null ? List.of() : List.of(elementType.cast(id));
+        }
+        if (statement.startsWith("SELECT id FROM crime_case WHERE info_type_code IS NULL")) {
+            return uncodedCrimeCaseIds.stream().map(elementType::cast).toList();
+        }
+        throw new AssertionError("처리하지 않는 목록 조회: " + statement);
+    }
+
+    @Override
+    public <T> List<T> query(String sql, RowMapper<T> rowMapper) {
+        return query(sql, rowMapper, new Object[0]);
+    }
+
+    @Override
+    public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+        String statement = normalize(sql);
+        if (!statement.startsWith("SELECT DISTINCT TRIM(sido), COALESCE(TRIM(sigungu), '')")) {
+            throw new AssertionError("처리하지 않는 조회: " + statement);
+        }
+        Set<List<String>> names = new LinkedHashSet<>();
+        for (Row row : rows.get(group(FROM_TABLE, statement))) {
+            if (row.regionId == null && row.sido != null && !row.sido.isBlank()) {
+                names.add(List.of(row.sido.trim(), trimToEmpty(row.sigungu)));
+            }
+        }
+        List<T> mapped = new ArrayList<>();
+        for (List<String> name : names) {
+            mapped.add(map(rowMapper, mapped.size(), name.get(0), name.get(1)));
+        }
+        return mapped;
+    }
+
+    @Override
+    public void query(String sql, RowCallbackHandler rch, Object... args) {
+        String statement = normalize(sql);
+        if (!statement.startsWith("SELECT article_id, contribution_date FROM article")) {
+            throw new AssertionError("처리하지 않는 조회: " + statement);
+        }
+        long afterId = ((Number) args[0]).longValue();
+        int limit = ((Number) args[1]).intValue();
+        List<Row> chunk = rows.get("article").stream()
+                .filter(row -> row.publishedAt == null && row.id > afterId)
+                .sorted(Comparator.comparingLong(row -> row.id))
+                .limit(limit)
+                .toList();
+        for (Row row : chunk) {
+            try {
+                rch.processRow(resultSet(row.id, row.contributionDate));
+            } catch (SQLException e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    /**
+     * 마이그레이션 재실행 시 DDL/데이터 변경이 없었는지 확인할 때 쓰는 기록 초기화
+     */
+    void clearStatements() {
+        statements.clear();
+    }
+
+    private <T> T map(RowMapper<T> rowMapper, int rowNum, Object... values) {
+        try {
+            return rowMapper.mapRow(resultSet(values), rowNum);
+        } catch (SQLException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * 열 번호(1부터)로 읽는 getString/getLong/getInt/getObject 만 지원
+     */
+    private static ResultSet resultSet(Object... values) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, methodArgs) -> {
+                    Object value = values[(Integer) methodArgs[0] - 1];
+                    return switch (method.getName()) {
+                        case "getString" -> value == null ? null : value.toString();
+                        case "getLong" -> value == null ? 0L : ((Number) value).longValue();
+                        case "getInt" -> value == null ? 0 : ((Number) value).intValue();
+                        case "getObject" -> value;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+    }
+
+    private String record(String sql) {
+        String statement = normalize(sql);
+        statements.add(statement);
+        return statement;
+    }
+
+    private static String normalize(String sql) {
+        return sql.trim().replaceAll("\\s+", " ");
+    }
+
+    private static String group(Pattern pattern, String statement) {
+        Matcher matcher = pattern.matcher(statement);
+        if (!matcher.find()) {
+            throw new AssertionError("테이블 이름 없음: " + statement);
+        }
+        return matcher.group(1);
+    }
+
+    private static String trimToEmpty(String value) {
+        return value == null ? "" : value.trim();
+    }
+}
@@ -0,0 +1,176 @@
+package com.sp.config.migration;
+
+import com.sp.config.DatabaseSchemaMigrator;
+import com.sp.cyberflashing.service.CyberFlashingOccurredOnBackfillService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 기존 스키마(라벨 컬럼만 있는 crime_case/article)에서 시작해 전체 단계를 실행하고 다시 실행
+ */
+class SchemaMigrationTest {
+
+    private FakeSchemaJdbcTemplate db;
+
+    @BeforeEach
+    void setUp() {
+        db = new FakeSchemaJdbcTemplate();
+        db.table("crime_case", "id", "sido", "sigungu", "info_type", "crime_type");
+        db.table("article", "article_id", "sido", "sigungu", "crime_type", "contribution_date");
+        db.index("crime_case", "idx_crime_case_sido");
+        db.index("crime_case", "idx_crime_case_crime_type");
+        db.index("crime_case", "idx_crime_case_info_type");
+    }
+
+    @Test
+    void runsStepsInVersionOrder() {
+        List<Integer> applied = new ArrayList<>();
+        new DatabaseSchemaMigrator(List.of(step(3, applied), step(1, applied), step(2, applied))).migrate();
+
+        assertIterableEquals(List.of(1, 2, 3), applied);
+    }
+
+    @Test
+    void rejectsDuplicateVersions() {
+        List<Integer> applied = new ArrayList<>();
+        assertThrows(IllegalStateException.class,
+                () -> new DatabaseSchemaMigrator(List.of(step(1, applied), step(1, applied))));
+    }
+
+    @Test
+    void seedsRegionsWithCanonicalNamesOnly() {
+        crimeCase(1, "서울", "강남구");
+        crimeCase(2, " 서울특별시 ", "강남구 ");
+        crimeCase(3, "경기도", "없는시");
+        crimeCase(4, "아틀란티스", "중앙구");
+        crimeCase(5, null, null);
+        article(10, "서울특별시", "강남구");
+
+        migrator().migrate();
+
+        assertEquals(Map.of("서울특별시|강남구", 1, "경기도|", 2), db.regions);
+        assertEquals(1, db.find("crime_case", 1).regionId);
+        assertEquals(1, db.find("crime_case", 2).regionId);
+        assertEquals(2, db.find("crime_case", 3).regionId, "시군구만 모르면 시도 단위 지역");
+        assertNull(db.find("crime_case", 4).regionId, "시도를 모르면 지역 미지정");
+        assertNull(db.find("crime_case", 5).regionId);
+        assertEquals(1, db.find("article", 10).regionId);
+
+        assertTrue(db.notNullColumns.containsAll(List.of("crime_case.info_type_code", "crime_case.crime_type_code")));
+        assertFalse(db.hasIndex("crime_case", "idx_crime_case_sido"));
+        assertTrue(db.hasIndex("crime_case", "idx_crime_case_region"));
+        assertTrue(db.hasIndex("article", "idx_article_region"));
+        assertTrue(db.hasColumn("article", "published_at"));
+    }
+
+    @Test
+    void rerunChangesNothingOnceMigrated() {
+        crimeCase(1, "서울", "강남구");
+        crimeCase(4, "아틀란티스", "중앙구");
+        article(10, "부산", "해운대구");
+        migrator().migrate();
+        Map<String, Integer> regions = Map.copyOf(db.regions);
+        db.clearStatements();
+
+        migrator().migrate();
+
+        assertEquals(regions, db.regions);
+        // 남는 문장은 IF NOT EXISTS 테이블 생성과 비어 있는 행만 대상으로 하는 코드 채움뿐
+        db.statements.forEach(statement -> assertTrue(
+                statement.startsWith("CREATE TABLE IF NOT EXISTS region ")
+                        || statement.startsWith("UPDATE crime_case SET info_type_code = CASE")
+                        || statement.startsWith("UPDATE article SET crime_type_code = CASE"),
+                statement));
+    }
+
+    @Test
+    void resumesRegionBackfillWhenColumnsAlreadyExist() {
+        // 이전 시작이 컬럼 추가 후 실패한 상태 + 예전 방식으로 원문 그대로 등록된 지역
+        db.table("region", "id", "sido", "sigungu", "code");
+        db.regions.put("서울|강남구", 1);
+        db.columns.get("crime_case").addAll(List.of("region_id", "info_type_code", "crime_type_code"));
+        db.columns.get("article").addAll(List.of("region_id", "crime_type_code"));
+        crimeCase(1, "서울", "강남구");
+        crimeCase(2, "서울시", "강남구");
+        article(10, "경기", "수원시 장안구");
+
+        migrator().migrate();
+
+        assertEquals(1, db.find("crime_case", 1).regionId, "사전에 같은 이름이 있으면 그 ID");
+        Integer seoul = db.regions.get("서울특별시|강남구");
+        assertNotNull(seoul);
+        assertEquals(seoul, db.find("crime_case", 2).regionId);
+        assertEquals(db.regions.get("경기도|수원시 장안구"), db.find("article", 10).regionId);
+    }
+
+    @Test
+    void leavesUnknownTypeLabelsUncodedWithoutFailingStartup() {
+        crimeCase(1, "서울", "강남구");
+        db.uncodedCrimeCaseIds.add(1L);
+
+        migrator().migrate();
+
+        assertTrue(db.notNullColumns.isEmpty(), "코드 없는 행이 있으면 NOT NULL 변경 보류");
+        assertTrue(db.hasIndex("crime_case", "idx_crime_case_crime_type_code"));
+        assertEquals(1, db.find("crime_case", 1).regionId);
+
+        // 라벨을 고친 뒤 다음 시작
+        db.uncodedCrimeCaseIds.clear();
+        migrator().migrate();
+
+        assertTrue(db.notNullColumns.containsAll(List.of("crime_case.info_type_code", "crime_case.crime_type_code")));
+    }
+
+    private DatabaseSchemaMigrator migrator() {
+        SchemaOperations schema = new SchemaOperations(db);
+        return new DatabaseSchemaMigrator(List.of(
+                new ArticlePublishedAtMigration(db, schema),
+                new RegionAndTypeCodeMigration(db, schema),
+                new DuplicateReferenceMigration(schema),
+                new CyberFlashingFilterIndexMigration(schema),
+                new CyberFlashingOccurredOnMigration(db, schema, new CyberFlashingOccurredOnBackfillService(db))));
+    }
+
+    private void crimeCase(long id, String sido, String sigungu) {
+        FakeSchemaJdbcTemplate.Row row = db.row("crime_case", id);
+        row.sido = sido;
+        row.sigungu = sigungu;
+    }
+
+    private void article(long id, String sido, String sigungu) {
+        FakeSchemaJdbcTemplate.Row row = db.row("article", id);
+        row.sido = sido;
+        row.sigungu = sigungu;
+    }
+
+    private static SchemaMigration step(int version, List<Integer> applied) {
+        return new SchemaMigration() {
+            @Override
+            public int version() {
+                return version;
+            }
+
+            @Override
+            public String description() {
+                return "step " + version;
+            }
+
+            @Override
+            public void migrate() {
+                applied.add(version);
+            }
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package com.sp.cyberflashing.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinHashIndexTest {
+
+    private static final int BANDS = 32;
+    private static final int ROWS = 4;
+    private static final double MIN_SIMILARITY = 0.5;
+    private static final String ORIGINAL = "Police in Manchester are investigating reports that a commuter received "
+            + "unsolicited explicit images over AirDrop while travelling on a crowded tram during the evening rush hour.";
+
+    @Test
+    void bulkBuildFindsNearCopyAndSkipsUnrelatedDocuments() {
+        MinHashIndex index = new MinHashIndex(BANDS, ROWS);
+        List<MinHashIndex.Document> documents = randomDocuments(2000, new Random(7));
+        documents.add(new MinHashIndex.Document(5000L, ORIGINAL));
+        // fork/join 분할 단위(64)보다 훨씬 많은 문서를 한 번에 적재
+        index.addAll(documents);
+        assertEquals(documents.size(), index.size());
+
+        String nearCopy = ORIGINAL.replace("crowded", "packed").toUpperCase() + "  (updated)";
+        List<MinHashIndex.Match> matches = index.query(nearCopy, 5, MIN_SIMILARITY);
+        assertFalse(matches.isEmpty());
+        assertEquals(5000L, matches.get(0).getId());
+        assertTrue(matches.get(0).getSimilarity() >= 0.7, "similarity=" + matches.get(0).getSimilarity());
+
+        String unrelated = "Weather forecast: sunny spells with scattered showers expected across the coast tomorrow.";
+        assertTrue(index.query(unrelated, 5, MIN_SIMILARITY).isEmpty());
+    }
+
+    @Test
+    void similarToExcludesQueriedDocument() {
+        MinHashIndex index = new MinHashIndex(BANDS, ROWS);
+        List<MinHashIndex.Document> documents = randomDocuments(300, new Random(11));
+        documents.add(new MinHashIndex.Document(9001L, ORIGINAL));
+        documents.add(new MinHashIndex.Document(9002L, ORIGINAL + " A spokesperson urged victims to come forward."));
+        index.addAll(documents);
+
+        List<MinHashIndex.Match> matches = index.similarTo(9001L, 10, MIN_SIMILARITY);
+        assertTrue(matches.stream().noneMatch(match -> match.getId() == 9001L));
+        assertEquals(9002L, matches.get(0).getId());
+        assertTrue(index.similarTo(123_456L, 10, MIN_SIMILARITY).isEmpty());
+    }
+
+    @Test
+    void bulkBuildMatchesSequentialAdds() {
+        List<MinHashIndex.Document> documents = randomDocuments(500, new Random(3));
+        MinHashIndex parallel = new MinHashIndex(BANDS, ROWS);
+        parallel.addAll(documents);
+        MinHashIndex sequential = new MinHashIndex(BANDS, ROWS);
+        documents.forEach(document -> sequential.add(document.getId(), document.getText()));
+
+        for (MinHashIndex.Document document : documents.subList(0, 50)) {
+            List<MinHashIndex.Match> expected = sequential.similarTo(document.getId(), 5, 0.2);
+            List<MinHashIndex.Match> actual = parallel.similarTo(document.getId(), 5, 0.2);
+            assertEquals(expected.stream().map(MinHashIndex.Match::getId).toList(),
+                    actual.stream().map(MinHashIndex.Match::getId).toList());
+        }
+    }
+
+    @Test
+    void replaceAndRemoveUpdateBuckets() {
+        MinHashIndex index = new MinHashIndex(BANDS, ROWS);
+        index.add(1L, ORIGINAL);
+        index.add(2L, ORIGINAL);
+        assertEquals(1, index.similarTo(1L, 10, MIN_SIMILARITY).size());
+
+        index.add(2L, "Completely different text about a local football match and the final score.");
+        assertTrue(index.similarTo(1L, 10, MIN_SIMILARITY).isEmpty());
+
+        index.remove(1L);
+        assertFalse(index.contains(1L));
+        assertTrue(index.query(ORIGINAL, 10, MIN_SIMILARITY).isEmpty());
+
+        // 슁글이 없는 본문은 색인하지 않음
+        index.add(3L, " !! ");
+        assertFalse(index.contains(3L));
+    }
+
+    @Test
+    void signatureIgnoresCaseAndPunctuation() {
+        MinHashIndex index = new MinHashIndex(BANDS, ROWS);
+        assertArrayEquals(index.signature("Hello, World!"), index.signature("hello   world"));
+        assertNull(index.signature(null));
+        assertEquals(BANDS * ROWS, index.signature("abc").length);
+        assertThrows(IllegalArgumentException.class, () -> new MinHashIndex(0, ROWS));
+    }
+
+    private static List<MinHashIndex.Document> randomDocuments(int count, Random random) {
+        String[] vocabulary = {"council", "budget", "school", "river", "festival", "market", "bridge", "library",
+                "harvest", "concert", "museum", "garden", "railway", "harbour", "election", "bakery"};
+        List<MinHashIndex.Document> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int w = 0; w < 25; w++) {
+                text.append(vocabulary[random.nextInt(vocabulary.length)]).append(' ');
+            }
+            documents.add(new MinHashIndex.Document(i, text.toString()));
+        }
+        return documents;
+    }
+}
@@ -0,0 +1,87 @@
+package com.sp.cyberflashing.service;
+
+import com.sp.cyberflashing.persistent.repository.CyberFlashingCaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * null 필터는 '전체' 칸 조회 (해당 차원 값이 null 인 행도 포함)
+ */
+class CyberFlashingCountServiceTest {
+
+    private CyberFlashingCaseRepository repository;
+    private CyberFlashingCountService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CyberFlashingCaseRepository.class);
+        when(repository.countByFilterColumns()).thenReturn(List.of(
+                row("KR", "N", "Y", 5),
+                row("KR", "Y", "Y", 2),
+                row("KR", "N", "N", 1),
+                row("JP", "N", "Y", 3),
+                row(null, "N", "Y", 4),
+                row("JP", null, null, 6)));
+        service = new CyberFlashingCountService(repository);
+        service.refresh();
+    }
+
+    @Test
+    void exactCellHoldsItsGroupCount() {
+        assertEquals(5, service.count("KR", "N", "Y"));
+        assertEquals(2, service.count("KR", "Y", "Y"));
+    }
+
+    @Test
+    void nullFilterRollsUpEveryValueOfThatDimension() {
+        assertEquals(8, service.count("KR", null, null));
+        assertEquals(7, service.count("KR", null, "Y"));
+        assertEquals(6, service.count("KR", "N", null));
+        assertEquals(12, service.count(null, "N", "Y"), "국가코드 없는 행도 전체 국가에 포함");
+        assertEquals(9, service.count("JP", null, null));
+        assertEquals(21, service.count(null, null, null));
+    }
+
+    @Test
+    void nullColumnValueCountsOnlyTowardsAny() {
+        // 중복/포함 여부가 null 인 JP 6건은 값이 지정된 칸에는 들어가지 않음
+        assertEquals(3, service.count("JP", "N", null));
+        assertEquals(3, service.count("JP", null, "Y"));
+        assertEquals(13, service.count(null, "N", null));
+    }
+
+    @Test
+    void missingCombinationIsZero() {
+        assertEquals(0, service.count("US", null, null));
+        assertEquals(0, service.count("JP", "Y", "Y"));
+    }
+
+    @Test
+    void failedRefreshKeepsPreviousCube() {
+        when(repository.countByFilterColumns()).thenThrow(new IllegalStateException("db down"));
+
+        service.refresh();
+
+        assertEquals(21, service.count(null, null, null));
+    }
+
+    @Test
+    void refreshReplacesWholeCube() {
+        when(repository.countByFilterColumns()).thenReturn(List.<Object[]>of(row("KR", "N", "Y", 1)));
+
+        service.refresh();
+
+        assertEquals(1, service.count(null, null, null));
+        assertEquals(0, service.count("JP", null, null));
+    }
+
+    private static Object[] row(String countryCode, String duplicateFlag, String includeFlag, long count) {
+        return new Object[]{countryCode, duplicateFlag, includeFlag, count};
+    }
+}
@@ -0,0 +1,137 @@
+package com.sp.cyberflashing.service;
+
+import com.sp.cyberflashing.model.vo.CyberFlashingTimeseriesVO;
+import com.sp.cyberflashing.persistent.repository.CyberFlashingCaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 시작 재집계(ID 10까지) 후 워터마크 이후 증분/재집계 반영 확인
+ */
+class CyberFlashingTimeseriesServiceTest {
+
+    private CyberFlashingCaseRepository repository;
+    private CyberFlashingOccurredOnBackfillService occurredOnBackfillService;
+    private CyberFlashingTimeseriesService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CyberFlashingCaseRepository.class);
+        occurredOnBackfillService = mock(CyberFlashingOccurredOnBackfillService.class);
+        when(repository.findMaxId()).thenReturn(10L);
+        when(repository.countByCountryAndMonth(0L, 10L)).thenReturn(List.of(
+                row("KR", 2024, 1, 3),
+                row("KR", 2024, 3, 2),
+                row("JP", 2024, 2, 1)));
+        service = new CyberFlashingTimeseriesService(repository, occurredOnBackfillService);
+        service.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void reconcileLoadsEveryRowUpToMaxId() {
+        CyberFlashingTimeseriesVO timeseries = service.getTimeseries(null, null, null);
+
+        assertEquals("2024-01", timeseries.getFrom());
+        assertEquals("2024-03", timeseries.getTo());
+        assertEquals(2, timeseries.getSeries().size());
+        assertSeries(timeseries.getSeries().get(0), "KR", 3, 0, 2);
+        assertSeries(timeseries.getSeries().get(1), "JP", 0, 1, 0);
+        verify(occurredOnBackfillService).backfillUpTo(10L);
+    }
+
+    @Test
+    void refreshAddsOnlyRowsAboveWatermark() {
+        when(repository.findMaxId()).thenReturn(15L);
+        when(repository.countByCountryAndMonth(10L, 15L)).thenReturn(List.<Object[]>of(row("KR", 2024, 3, 4)));
+
+        service.refresh();
+
+        assertSeries(service.getTimeseries("kr", null, null).getSeries().get(0), "KR", 3, 0, 6);
+        verify(occurredOnBackfillService).backfillUpTo(15L);
+    }
+
+    @Test
+    void refreshWithoutNewIdsQueriesNothing() {
+        service.refresh();
+
+        verify(repository, never()).countByCountryAndMonth(eq(10L), anyLong());
+        assertSeries(service.getTimeseries("KR", null, null).getSeries().get(0), "KR", 3, 0, 2);
+    }
+
+    @Test
+    void lateCommitBelowWatermarkAppearsAfterReconcile() {
+        // ID 8 이 ID 10 보다 늦게 커밋됨 → 증분 (10, 15] 에는 없고 전체 재집계에만 포함
+        when(repository.findMaxId()).thenReturn(15L);
+        when(repository.countByCountryAndMonth(10L, 15L)).thenReturn(List.<Object[]>of(row("KR", 2024, 3, 4)));
+        when(repository.countByCountryAndMonth(0L, 15L)).thenReturn(List.of(
+                row("KR", 2024, 1, 3),
+                row("KR", 2024, 2, 1),
+                row("KR", 2024, 3, 6),
+                row("JP", 2024, 2, 1)));
+
+        service.refresh();
+        assertSeries(service.getTimeseries("KR", null, null).getSeries().get(0), "KR", 3, 0, 6);
+
+        service.reconcile();
+        assertSeries(service.getTimeseries("KR", null, null).getSeries().get(0), "KR", 3, 1, 6);
+    }
+
+    @Test
+    void reconcileReplacesCountsSoDeletedRowsDisappear() {
+        when(repository.countByCountryAndMonth(0L, 10L)).thenReturn(List.<Object[]>of(row("KR", 2024, 1, 3)));
+
+        service.reconcile();
+
+        CyberFlashingTimeseriesVO timeseries = service.getTimeseries(null, null, null);
+        assertEquals(1, timeseries.getSeries().size());
+        assertSeries(timeseries.getSeries().get(0), "KR", 3);
+    }
+
+    @Test
+    void failedRefreshKeepsWatermarkSoRowsAreCountedOnce() {
+        when(repository.findMaxId()).thenReturn(15L);
+        when(repository.countByCountryAndMonth(10L, 15L))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.<Object[]>of(row("KR", 2024, 3, 4)));
+        service.refresh();
+        assertSeries(service.getTimeseries("KR", null, null).getSeries().get(0), "KR", 3, 0, 2);
+
+        service.refresh();
+        service.refresh();
+
+        assertSeries(service.getTimeseries("KR", null, null).getSeries().get(0), "KR", 3, 0, 6);
+    }
+
+    @Test
+    void padsRequestedRangeWithZeroMonths() {
+        CyberFlashingTimeseriesVO timeseries = service.getTimeseries("JP", "2023-12", "2024-03");
+
+        assertEquals(1, timeseries.getSeries().size());
+        assertSeries(timeseries.getSeries().get(0), "JP", 0, 0, 1, 0);
+        assertThrows(IllegalArgumentException.class, () -> service.getTimeseries(null, "2024-03", "2024-01"));
+    }
+
+    private static void assertSeries(CyberFlashingTimeseriesVO.SeriesVO series, String countryCode, long... counts) {
+        assertEquals(countryCode, series.getCountryCode());
+        assertIterableEquals(Arrays.stream(counts).boxed().toList(),
+                series.getPoints().stream().map(CyberFlashingTimeseriesVO.PointVO::getCount).toList());
+        assertEquals(Arrays.stream(counts).sum(), series.getTotal());
+    }
+
+    private static Object[] row(String countryCode, int year, int month, long count) {
+        return new Object[]{countryCode, year, month, count};
+    }
+}
@@ -0,0 +1,157 @@
+package com.sp.darkmap.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BitmapTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 63, 64, 65, 127, 128, 129, 1000})
+    void fullSetsExactlyTheFirstSizeBits(int size) {
+        Bitmap bitmap = Bitmap.full(size);
+        assertEquals(size, bitmap.cardinality());
+        assertFalse(bitmap.get(size), "bit " + size);
+        if (size > 0) {
+            assertTrue(bitmap.get(0));
+            assertTrue(bitmap.get(size - 1));
+        }
+        assertIterableEquals(range(size), ascending(bitmap));
+    }
+
+    /**
+     * 워드 경계(63/64/65, 127/128/129)에 걸친 크기 조합으로 AND/OR 를 BitSet 결과와 비교
+     */
+    @ParameterizedTest
+    @CsvSource({
+            "1, 1", "63, 64", "64, 64", "64, 65", "65, 64", "65, 65",
+            "63, 129", "129, 63", "128, 129", "129, 128", "64, 1000", "1000, 65"
+    })
+    void andOrMatchBitSetAcrossWordBoundaries(int leftSize, int rightSize) {
+        Random random = new Random(31L * leftSize + rightSize);
+        for (int round = 0; round < 20; round++) {
+            BitSet leftBits = randomBits(random, leftSize);
+            BitSet rightBits = randomBits(random, rightSize);
+            // 용량을 작게 잡아 set() 확장 경로와 길이가 다른 워드 배열 조합을 모두 거치도록 함
+            Bitmap left = toBitmap(leftBits, round % 2 == 0 ? leftSize : 1);
+            Bitmap right = toBitmap(rightBits, round % 3 == 0 ? rightSize : 1);
+
+            BitSet expectedAnd = (BitSet) leftBits.clone();
+            expectedAnd.and(rightBits);
+            assertBits(expectedAnd, left.copy().and(right));
+
+            BitSet expectedOr = (BitSet) leftBits.clone();
+            expectedOr.or(rightBits);
+            assertBits(expectedOr, left.copy().or(right));
+
+            // (left | right) & full(leftSize) == left 의 범위 안으로 자른 합집합
+            BitSet expectedMasked = (BitSet) expectedOr.clone();
+            expectedMasked.and(bitsUpTo(leftSize));
+            assertBits(expectedMasked, left.copy().or(right).and(Bitmap.full(leftSize)));
+
+            // 연산은 피연산자를 바꾸지 않음
+            assertBits(leftBits, left);
+            assertBits(rightBits, right);
+        }
+    }
+
+    @Test
+    void copyIsIndependent() {
+        Bitmap original = new Bitmap(64);
+        original.set(3);
+        Bitmap copy = original.copy();
+        copy.set(64);
+        copy.and(new Bitmap());
+        assertTrue(original.get(3));
+        assertFalse(original.get(64));
+        assertEquals(0, copy.cardinality());
+    }
+
+    @Test
+    void iterationStopsWhenVisitorReturnsFalse() {
+        Bitmap bitmap = new Bitmap();
+        int[] bits = {0, 5, 63, 64, 65, 200};
+        for (int bit : bits) {
+            bitmap.set(bit);
+        }
+        assertIterableEquals(List.of(0, 5, 63, 64, 65, 200), ascending(bitmap));
+        assertIterableEquals(List.of(200, 65, 64, 63, 5, 0), descending(bitmap));
+
+        List<Integer> firstThree = new ArrayList<>();
+        bitmap.forEachDescending(index -> {
+            firstThree.add(index);
+            return firstThree.size() < 3;
+        });
+        assertIterableEquals(List.of(200, 65, 64), firstThree);
+
+        List<Integer> firstTwo = new ArrayList<>();
+        bitmap.forEach(index -> {
+            firstTwo.add(index);
+            return firstTwo.size() < 2;
+        });
+        assertIterableEquals(List.of(0, 5), firstTwo);
+    }
+
+    private static void assertBits(BitSet expected, Bitmap actual) {
+        assertEquals(expected.cardinality(), actual.cardinality());
+        assertIterableEquals(expected.stream().boxed().toList(), ascending(actual));
+        assertIterableEquals(expected.stream().boxed().sorted((a, b) -> b - a).toList(), descending(actual));
+    }
+
+    private static BitSet randomBits(Random random, int size) {
+        BitSet bits = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (random.nextInt(3) == 0) {
+                bits.set(i);
+            }
+        }
+        // 마지막 비트(워드 경계 여부 확인용)는 자주 켜 둠
+        if (size > 0 && random.nextBoolean()) {
+            bits.set(size - 1);
+        }
+        return bits;
+    }
+
+    private static BitSet bitsUpTo(int size) {
+        BitSet bits = new BitSet(size);
+        bits.set(0, size);
+        return bits;
+    }
+
+    private static Bitmap toBitmap(BitSet bits, int capacity) {
+        Bitmap bitmap = new Bitmap(capacity);
+        bits.stream().forEach(bitmap::set);
+        return bitmap;
+    }
+
+    private static List<Integer> range(int size) {
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+
+    private static List<Integer> ascending(Bitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(index -> values.add(index));
+        return values;
+    }
+
+    private static List<Integer> descending(Bitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEachDescending(index -> values.add(index));
+        return values;
+    }
+}
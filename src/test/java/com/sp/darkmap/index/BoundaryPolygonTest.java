@@ -0,0 +1,57 @@
+package com.sp.darkmap.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BoundaryPolygonTest {
+
+    private static final RegionMatch REGION = new RegionMatch("11680", "서울특별시", "강남구");
+
+    /** 외곽 0~10 사각형 + 2~4 구멍 / 6~8 사각형 섬(구멍 안의 섬 아님) + ㄷ자 오목 폴리곤 */
+    private static final BoundaryPolygon POLYGON = new BoundaryPolygon(REGION, List.of(
+            List.of(ring(0, 0, 10, 0, 10, 10, 0, 10),
+                    ring(2, 2, 4, 2, 4, 4, 2, 4)),
+            List.of(ring(20, 0, 30, 0, 30, 10, 27, 10, 27, 3, 23, 3, 23, 10, 20, 10))
+    ));
+
+    @ParameterizedTest
+    @CsvSource({
+            // lat, lng, inside
+            "5, 5, true",
+            "0.001, 9.999, true",
+            "3, 3, false",
+            "3, 1, true",
+            "3, 5, true",
+            "11, 5, false",
+            "5, -0.001, false",
+            "5, 15, false",
+            "1, 25, true",
+            "5, 25, false",
+            "5, 21, true",
+            "5, 29, true",
+            "9.9, 28, true",
+            "10.1, 28, false"
+    })
+    void containsHonoursHolesAndConcaveRings(double lat, double lng, boolean inside) {
+        assertEquals(inside, POLYGON.contains(lat, lng), "lat=" + lat + " lng=" + lng);
+    }
+
+    @Test
+    void boundsCoverOuterRingsOfEveryPolygon() {
+        assertArrayEquals(new double[]{0, 0, 10, 30}, POLYGON.bounds());
+        assertEquals(REGION, POLYGON.getRegion());
+    }
+
+    /**
+     * (경도, 위도) 꼭짓점 나열 → 평탄 링 배열
+     */
+    private static double[] ring(double... lngLat) {
+        return lngLat;
+    }
+}
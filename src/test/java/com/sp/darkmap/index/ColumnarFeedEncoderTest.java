@@ -0,0 +1,290 @@
+package com.sp.darkmap.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 클래스 Javadoc 의 디코더 명세대로 읽어 인코딩 결과와 원래 값을 비교
+ */
+class ColumnarFeedEncoderTest {
+
+    private static final int TYPE_DELTA = 1;
+    private static final int TYPE_NULLABLE_DELTA = 2;
+    private static final int TYPE_DICTIONARY = 3;
+    private static final int TYPE_STRING = 4;
+
+    private record Row(long id, String press, String sido, String title, Double lat, Double lng, Long createdAt) {
+    }
+
+    @Test
+    void roundTripsEveryColumnType() {
+        // 내림차순/역전 ID (음수 델타), 바이트 경계(8행)를 넘는 null 좌표, 두 사전 컬럼이 공유하는 값
+        List<Row> rows = List.of(
+                new Row(1000, "서울신문", "서울특별시", "제목 A", null, null, 1_700_000_000L),
+                new Row(998, "한겨레", "부산광역시", null, 37.566535, 126.977969, null),
+                new Row(5, null, "서울특별시", "", 35.179554, 129.075642, 1_699_999_000L),
+                new Row(7, "서울신문", null, "Title with \"quotes\"", -33.868820, 151.209296, 1_700_000_500L),
+                new Row(3_000_000_000L, "서울특별시", "서울특별시", "긴 ID", 0.0, -0.000001, 0L),
+                new Row(1, "한겨레", "경기도", "제목 B", 37.0, 127.0, -86_400L),
+                new Row(2, "한겨레", "경기도", "제목 C", 37.000001, 127.000001, null),
+                new Row(3, "연합뉴스", "경기도", "제목 D", 90.0, 180.0, 1L),
+                new Row(4, "연합뉴스", "제주특별자치도", "제목 E", null, null, 2L),
+                new Row(0, null, null, null, -90.0, -180.0, null));
+
+        Feed feed = decode(encode(rows));
+
+        assertEquals(rows.size(), feed.rowCount);
+        assertIterableEquals(List.of("서울신문", "한겨레", "서울특별시", "연합뉴스", "부산광역시", "경기도", "제주특별자치도"),
+                feed.dictionary);
+        assertIterableEquals(List.of("id", "press", "sido", "title", "lat", "lng", "createdAt"),
+                feed.columns.keySet());
+        assertEquals(ColumnarFeedEncoder.COORDINATE_SCALE, feed.columns.get("lat").scale);
+        assertEquals(0, feed.columns.get("createdAt").scale);
+
+        long[] ids = feed.deltas("id");
+        String[] press = feed.dictionaryValues("press");
+        String[] sido = feed.dictionaryValues("sido");
+        String[] titles = feed.strings("title");
+        Long[] lat = feed.nullableDeltas("lat");
+        Long[] lng = feed.nullableDeltas("lng");
+        Long[] createdAt = feed.nullableDeltas("createdAt");
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            assertEquals(row.id(), ids[i], "id row " + i);
+            assertEquals(row.press(), press[i], "press row " + i);
+            assertEquals(row.sido(), sido[i], "sido row " + i);
+            assertEquals(row.title(), titles[i], "title row " + i);
+            assertEquals(fixedPoint(row.lat()), lat[i], "lat row " + i);
+            assertEquals(fixedPoint(row.lng()), lng[i], "lng row " + i);
+            assertEquals(row.createdAt(), createdAt[i], "createdAt row " + i);
+        }
+    }
+
+    @Test
+    void deltaColumnWritesZigZagVarints() {
+        // 델타 1, -1, 64, -65 → zigzag 2, 1, 128, 129 → varint 02 01 80 01 81 01
+        List<Row> rows = List.of(row(1), row(0), row(64), row(-1));
+        byte[] feed = new ColumnarFeedEncoder<>(rows).deltaColumn("id", Row::id).encode();
+
+        Column column = decode(feed).columns.get("id");
+        assertEquals(TYPE_DELTA, column.type);
+        assertArrayEquals(new byte[]{0x02, 0x01, (byte) 0x80, 0x01, (byte) 0x81, 0x01}, column.payload);
+    }
+
+    @Test
+    void nullableColumnWritesLsbFirstPresenceBitmapThenPresentValuesOnly() {
+        // 9행 중 0, 3, 8 행만 값 → 비트맵 0b0000_1001, 0b0000_0001, 값은 있는 행끼리 델타 (10, +5, -20)
+        Long[] values = {10L, null, null, 15L, null, null, null, null, -5L};
+        List<Row> rows = new ArrayList<>();
+        for (Long value : values) {
+            rows.add(new Row(0, null, null, null, null, null, value));
+        }
+        byte[] feed = new ColumnarFeedEncoder<>(rows).nullableDeltaColumn("createdAt", Row::createdAt).encode();
+
+        Column column = decode(feed).columns.get("createdAt");
+        assertEquals(TYPE_NULLABLE_DELTA, column.type);
+        assertArrayEquals(new byte[]{0b0000_1001, 0b0000_0001, 20, 10, 39}, column.payload);
+    }
+
+    @Test
+    void coordinatesRoundToMicroDegrees() {
+        List<Row> rows = List.of(new Row(0, null, null, null, 37.12345649, 126.9999996, null));
+        Feed feed = decode(new ColumnarFeedEncoder<>(rows)
+                .coordinateColumn("lat", Row::lat)
+                .coordinateColumn("lng", Row::lng)
+                .encode());
+
+        assertEquals(37_123_456L, (long) feed.nullableDeltas("lat")[0]);
+        assertEquals(127_000_000L, (long) feed.nullableDeltas("lng")[0]);
+    }
+
+    @Test
+    void dictionaryIsSharedAcrossColumnsAndZeroMeansNull() {
+        List<Row> rows = List.of(
+                new Row(0, "A", "B", null, null, null, null),
+                new Row(0, null, "A", null, null, null, null),
+                new Row(0, "C", null, null, null, null, null));
+        Feed feed = decode(new ColumnarFeedEncoder<>(rows)
+                .dictionaryColumn("press", Row::press)
+                .dictionaryColumn("sido", Row::sido)
+                .encode());
+
+        assertIterableEquals(List.of("A", "C", "B"), feed.dictionary);
+        assertArrayEquals(new byte[]{1, 0, 2}, feed.columns.get("press").payload);
+        assertArrayEquals(new byte[]{3, 1, 0}, feed.columns.get("sido").payload);
+    }
+
+    @Test
+    void emptyFeedHasHeaderAndEmptyColumns() {
+        byte[] bytes = encode(List.of());
+        assertArrayEquals(new byte[]{'D', 'M', 'C', '1'}, Arrays.copyOf(bytes, 4));
+
+        Feed feed = decode(bytes);
+        assertEquals(0, feed.rowCount);
+        assertEquals(0, feed.dictionary.size());
+        assertEquals(7, feed.columns.size());
+        feed.columns.values().forEach(column -> assertEquals(0, column.payload.length, column.name));
+        assertNull(feed.columns.get("unknown"));
+    }
+
+    private static byte[] encode(List<Row> rows) {
+        return new ColumnarFeedEncoder<>(rows)
+                .deltaColumn("id", Row::id)
+                .dictionaryColumn("press", Row::press)
+                .dictionaryColumn("sido", Row::sido)
+                .stringColumn("title", Row::title)
+                .coordinateColumn("lat", Row::lat)
+                .coordinateColumn("lng", Row::lng)
+                .nullableDeltaColumn("createdAt", Row::createdAt)
+                .encode();
+    }
+
+    private static Row row(long id) {
+        return new Row(id, null, null, null, null, null, null);
+    }
+
+    private static Long fixedPoint(Double value) {
+        return value != null ? Math.round(value * 1_000_000) : null;
+    }
+
+    private static Feed decode(byte[] bytes) {
+        Reader reader = new Reader(bytes);
+        assertArrayEquals(new byte[]{'D', 'M', 'C', '1'}, reader.bytes(4));
+        Feed feed = new Feed();
+        feed.rowCount = (int) reader.varint();
+        for (long i = reader.varint(); i > 0; i--) {
+            feed.dictionary.add(reader.string((int) reader.varint()));
+        }
+        for (long i = reader.varint(); i > 0; i--) {
+            Column column = new Column();
+            column.name = reader.string((int) reader.varint());
+            column.type = reader.u8();
+            column.scale = reader.u8();
+            column.payload = reader.bytes((int) reader.varint());
+            feed.columns.put(column.name, column);
+        }
+        assertEquals(bytes.length, reader.pos, "trailing bytes");
+        return feed;
+    }
+
+    private static long unZigZag(long n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+    private static final class Feed {
+        private int rowCount;
+        private final List<String> dictionary = new ArrayList<>();
+        private final Map<String, Column> columns = new LinkedHashMap<>();
+
+        long[] deltas(String name) {
+            Reader reader = payload(name, TYPE_DELTA);
+            long[] values = new long[rowCount];
+            long previous = 0;
+            for (int i = 0; i < rowCount; i++) {
+                previous += unZigZag(reader.varint());
+                values[i] = previous;
+            }
+            reader.assertConsumed();
+            return values;
+        }
+
+        Long[] nullableDeltas(String name) {
+            Reader reader = payload(name, TYPE_NULLABLE_DELTA);
+            byte[] presence = reader.bytes((rowCount + 7) / 8);
+            Long[] values = new Long[rowCount];
+            long previous = 0;
+            for (int i = 0; i < rowCount; i++) {
+                if ((presence[i >>> 3] & (1 << (i & 7))) != 0) {
+                    previous += unZigZag(reader.varint());
+                    values[i] = previous;
+                }
+            }
+            reader.assertConsumed();
+            return values;
+        }
+
+        String[] dictionaryValues(String name) {
+            Reader reader = payload(name, TYPE_DICTIONARY);
+            String[] values = new String[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                int index = (int) reader.varint();
+                values[i] = index == 0 ? null : dictionary.get(index - 1);
+            }
+            reader.assertConsumed();
+            return values;
+        }
+
+        String[] strings(String name) {
+            Reader reader = payload(name, TYPE_STRING);
+            String[] values = new String[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                int length = (int) reader.varint();
+                values[i] = length == 0 ? null : reader.string(length - 1);
+            }
+            reader.assertConsumed();
+            return values;
+        }
+
+        private Reader payload(String name, int type) {
+            Column column = columns.get(name);
+            assertEquals(type, column.type, name);
+            return new Reader(column.payload);
+        }
+    }
+
+    private static final class Column {
+        private String name;
+        private int type;
+        private int scale;
+        private byte[] payload;
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int pos;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        long varint() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = bytes[pos++] & 0xFF;
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        int u8() {
+            return bytes[pos++] & 0xFF;
+        }
+
+        byte[] bytes(int length) {
+            byte[] slice = Arrays.copyOfRange(bytes, pos, pos + length);
+            pos += length;
+            return slice;
+        }
+
+        String string(int length) {
+            return new String(bytes(length), StandardCharsets.UTF_8);
+        }
+
+        void assertConsumed() {
+            assertEquals(bytes.length, pos, "trailing payload bytes");
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.sp.darkmap.index;
+
+import com.sp.darkmap.code.InfoType;
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.code.MapSource;
+import com.sp.darkmap.persistent.entity.Article;
+import com.sp.darkmap.persistent.entity.CrimeCaseEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+
+class ColumnarPointStoreTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void filterCombinationsMatchFullScan() {
+        Random random = new Random(5);
+        List<MapPoint> rows = new ArrayList<>();
+        ColumnarPointStore store = new ColumnarPointStore();
+        // 여러 번 나눠 적재해 배열 확장과 워드 경계(64행 단위)를 모두 거치도록 함
+        for (int batch = 0; batch < 5; batch++) {
+            List<MapPoint> added = new ArrayList<>();
+            for (int i = 0, n = 1 + random.nextInt(700); i < n; i++) {
+                added.add(randomPoint(random, rows.size() + added.size()));
+            }
+            store.addAll(added);
+            rows.addAll(added);
+        }
+        assertEquals(rows.size(), store.size());
+
+        for (int round = 0; round < 300; round++) {
+            MapFilter filter = randomFilter(random);
+            int limit = 1 + random.nextInt(50);
+            List<MapPoint> expected = new ArrayList<>(rows.stream().filter(matcher(filter)).toList());
+            Collections.reverse(expected);
+
+            ColumnarPointStore.FilterResult result = store.query(filter, limit);
+            assertEquals(expected.size(), result.getTotal(), filter.toString());
+            assertIterableEquals(expected.subList(0, Math.min(limit, expected.size())), result.getPoints(),
+                    filter.toString());
+        }
+    }
+
+    @Test
+    void emptyRegionSetMatchesNothing() {
+        ColumnarPointStore store = new ColumnarPointStore();
+        store.addAll(List.of(randomPoint(new Random(1), 0)));
+        MapFilter filter = MapFilter.builder().regionIds(Set.of()).build();
+        assertEquals(0, store.query(filter, 10).getTotal());
+        assertEquals(1, store.query(MapFilter.builder().build(), 10).getTotal());
+    }
+
+    private static MapPoint randomPoint(Random random, long id) {
+        double latitude = 33 + random.nextDouble() * 5;
+        double longitude = 125 + random.nextDouble() * 5;
+        Integer regionId = random.nextInt(6) == 0 ? null : random.nextInt(8);
+        LocalDateTime time = random.nextInt(8) == 0 ? null : BASE.plusHours(random.nextInt(24 * 60));
+        if (random.nextBoolean()) {
+            return MapPoint.from(CrimeCaseEntity.builder()
+                    .id(id)
+                    .latitude(latitude)
+                    .longitude(longitude)
+                    .infoType(pick(random, InfoType.values()))
+                    .crimeType(pick(random, MapCrimeType.values()))
+                    .regionId(regionId)
+                    .createdAt(time)
+                    .build());
+        }
+        Article article = new Article();
+        article.setArticleId(id);
+        article.setLatitude(latitude);
+        article.setLongitude(longitude);
+        MapCrimeType crimeType = pick(random, MapCrimeType.values());
+        article.setCrimeType(crimeType != null ? crimeType.getLabel() : "기타");
+        article.setRegionId(regionId);
+        article.setPublishedAt(time);
+        return MapPoint.from(article);
+    }
+
+    private static MapFilter randomFilter(Random random) {
+        MapFilter.MapFilterBuilder builder = MapFilter.builder();
+        if (random.nextBoolean()) {
+            builder.sources(randomSubset(random, MapSource.class));
+        }
+        if (random.nextBoolean()) {
+            builder.crimeTypes(randomSubset(random, MapCrimeType.class));
+        }
+        if (random.nextBoolean()) {
+            builder.infoTypes(randomSubset(random, InfoType.class));
+        }
+        if (random.nextBoolean()) {
+            Set<Integer> regionIds = new HashSet<>();
+            for (int i = random.nextInt(4); i > 0; i--) {
+                regionIds.add(random.nextInt(10));
+            }
+            builder.regionIds(regionIds);
+        }
+        if (random.nextBoolean()) {
+            long from = epochMillis(BASE.plusHours(random.nextInt(24 * 30)));
+            builder.fromMillis(from);
+            if (random.nextBoolean()) {
+                builder.toMillis(from + random.nextInt(24 * 30) * 3_600_000L);
+            }
+        }
+        if (random.nextBoolean()) {
+            double minLat = 33 + random.nextDouble() * 4;
+            double minLng = 125 + random.nextDouble() * 4;
+            builder.box(new BoundingBox(minLat, minLng, minLat + random.nextDouble() * 2, minLng + random.nextDouble() * 2));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 필터 정의를 그대로 옮긴 전체 스캔 기준
+     */
+    private static Predicate<MapPoint> matcher(MapFilter filter) {
+        return point -> (filter.getSources() == null || filter.getSources().contains(point.getSource()))
+                && (filter.getCrimeTypes() == null || filter.getCrimeTypes().contains(point.getCrimeType()))
+                && (filter.getInfoTypes() == null || filter.getInfoTypes().contains(point.getInfoType()))
+                && (filter.getRegionIds() == null || filter.getRegionIds().contains(point.getRegionId()))
+                && (!filter.hasTimeRange() || point.getOccurredAt() != null
+                        && (filter.getFromMillis() == null || point.getOccurredAt() >= filter.getFromMillis())
+                        && (filter.getToMillis() == null || point.getOccurredAt() < filter.getToMillis()))
+                && (filter.getBox() == null || filter.getBox().contains(point.getLatitude(), point.getLongitude()));
+    }
+
+    private static <E extends Enum<E>> Set<E> randomSubset(Random random, Class<E> type) {
+        Set<E> subset = EnumSet.noneOf(type);
+        for (E value : type.getEnumConstants()) {
+            if (random.nextBoolean()) {
+                subset.add(value);
+            }
+        }
+        return subset;
+    }
+
+    /**
+     * 값 중 하나 또는 null (미분류)
+     */
+    private static <E> E pick(Random random, E[] values) {
+        int index = random.nextInt(values.length + 1);
+        return index < values.length ? values[index] : null;
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(MapPoint.ZONE).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,86 @@
+package com.sp.darkmap.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DensityGridTest {
+
+    private static final int SLOTS = 3;
+
+    @Test
+    void visitedCellsMatchFullScan() {
+        Random random = new Random(7);
+        DensityGrid grid = new DensityGrid(1000, SLOTS);
+        Map<Long, int[]> expected = new HashMap<>();
+        // 서울 부근에 몰아 넣어 같은 셀 누적과 64셀 블록 경계를 모두 거치도록 함
+        for (int i = 0; i < 20_000; i++) {
+            double lat = i % 5 == 0 ? 33 + random.nextDouble() * 6 : 37.3 + random.nextDouble() * 0.8;
+            double lng = i % 5 == 0 ? 124 + random.nextDouble() * 8 : 126.6 + random.nextDouble() * 0.9;
+            int slot = random.nextInt(SLOTS);
+            grid.add(lat, lng, slot);
+            expected.computeIfAbsent(key(grid.row(lat), grid.col(lng)), k -> new int[SLOTS])[slot]++;
+        }
+
+        for (int round = 0; round < 200; round++) {
+            int minRow = grid.clampRow(grid.row(33 + random.nextDouble() * 6));
+            int maxRow = grid.clampRow(minRow + random.nextInt(200));
+            int minCol = grid.clampCol(grid.col(124 + random.nextDouble() * 8));
+            int maxCol = grid.clampCol(minCol + random.nextInt(200));
+            int slot = random.nextInt(SLOTS + 1) - 1;
+
+            Map<Long, Integer> visited = new HashMap<>();
+            grid.forEachCell(minRow, maxRow, minCol, maxCol, slot, (row, col, weight) -> {
+                assertTrue(row >= minRow && row <= maxRow && col >= minCol && col <= maxCol);
+                assertEquals(null, visited.put(key(row, col), weight), "셀은 한 번만 방문");
+            });
+
+            Map<Long, Integer> scanned = new HashMap<>();
+            expected.forEach((cell, counts) -> {
+                int row = (int) (cell >> 32);
+                int col = (int) (long) cell;
+                if (row < minRow || row > maxRow || col < minCol || col > maxCol) {
+                    return;
+                }
+                int weight = slot >= 0 ? counts[slot] : counts[0] + counts[1] + counts[2];
+                if (weight > 0) {
+                    scanned.put(cell, weight);
+                }
+            });
+            assertEquals(scanned, visited, "rows " + minRow + ".." + maxRow + ", cols " + minCol + ".." + maxCol);
+        }
+    }
+
+    @Test
+    void ignoresPointsOutsideTheGrid() {
+        DensityGrid grid = new DensityGrid(5000, 1);
+        grid.add(32.9, 127.0, 0);
+        grid.add(37.5, 132.5, 0);
+        grid.add(39.5, 127.0, 0);
+        grid.add(37.5, 127.0, 0);
+
+        int[] total = {0};
+        grid.forEachCell(0, grid.clampRow(Integer.MAX_VALUE), 0, grid.clampCol(Integer.MAX_VALUE), -1,
+                (row, col, weight) -> total[0] += weight);
+        assertEquals(1, total[0]);
+    }
+
+    @Test
+    void cellSizeIsRoughlyTheRequestedMeters() {
+        DensityGrid grid = new DensityGrid(250, 1);
+        double latMeters = GeoDistance.haversineMeters(36.0, 127.0, 36.0 + grid.getLatStep(), 127.0);
+        double lngMeters = GeoDistance.haversineMeters(36.0, 127.0, 36.0, 127.0 + grid.getLngStep());
+
+        assertEquals(250, latMeters, 2);
+        assertEquals(250, lngMeters, 2);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,104 @@
+package com.sp.darkmap.index;
+
+import com.sp.darkmap.persistent.entity.Article;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KdTreeTest {
+
+    @Test
+    void nearestMatchesBruteForce() {
+        Random random = new Random(12);
+        List<MapPoint> points = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            // 한반도 밀집 + 전 지구 (날짜변경선/극지방 포함)
+            points.add(i % 4 == 0
+                    ? point(i, -90 + random.nextDouble() * 180, -180 + random.nextDouble() * 360)
+                    : point(i, 33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5));
+        }
+        KdTree tree = new KdTree(points);
+        assertEquals(points.size(), tree.size());
+
+        for (int round = 0; round < 300; round++) {
+            double lat = round % 3 == 0 ? -90 + random.nextDouble() * 180 : 33 + random.nextDouble() * 5;
+            double lng = round % 3 == 0 ? -180 + random.nextDouble() * 360 : 125 + random.nextDouble() * 5;
+            int k = 1 + random.nextInt(20);
+            double maxChordSquared = random.nextBoolean()
+                    ? 4.0
+                    : GeoDistance.chordSquaredForMeters(random.nextInt(200_000));
+
+            List<Double> expected = points.stream()
+                    .map(point -> chordSquared(lat, lng, point))
+                    .filter(distance -> distance <= maxChordSquared)
+                    .sorted()
+                    .limit(k)
+                    .toList();
+            List<Double> actual = tree.nearest(lat, lng, k, maxChordSquared).stream()
+                    .map(KdTree.Neighbor::getChordSquared)
+                    .toList();
+            assertIterableEquals(expected, actual, "lat=" + lat + ", lng=" + lng + ", k=" + k);
+        }
+    }
+
+    @Test
+    void crossesTheDateLine() {
+        KdTree tree = new KdTree(List.of(point(1, 0, -179.9), point(2, 0, 170)));
+
+        List<KdTree.Neighbor> nearest = tree.nearest(0, 179.9, 1, 4.0);
+
+        assertEquals(1, nearest.size());
+        assertEquals(1L, nearest.get(0).getPoint().getId());
+    }
+
+    @Test
+    void radiusMatchesHaversineDistance() {
+        MapPoint seoulCityHall = point(1, 37.5663, 126.9779);
+        KdTree tree = new KdTree(List.of(seoulCityHall));
+        double meters = GeoDistance.haversineMeters(37.5665, 126.9780, 37.5663, 126.9779);
+
+        assertEquals(1, tree.nearest(37.5665, 126.9780, 5, GeoDistance.chordSquaredForMeters(meters + 0.01)).size());
+        assertTrue(tree.nearest(37.5665, 126.9780, 5, GeoDistance.chordSquaredForMeters(meters - 0.01)).isEmpty());
+    }
+
+    @Test
+    void emptyTreeFindsNothing() {
+        KdTree tree = new KdTree(List.of());
+
+        assertEquals(0, tree.size());
+        assertTrue(tree.nearest(37.5, 127.0, 3, 4.0).isEmpty());
+    }
+
+    private static double chordSquared(double lat, double lng, MapPoint point) {
+        double[] a = unit(lat, lng);
+        double[] b = unit(point.getLatitude(), point.getLongitude());
+        double dx = b[0] - a[0];
+        double dy = b[1] - a[1];
+        double dz = b[2] - a[2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static double[] unit(double lat, double lng) {
+        double radLat = Math.toRadians(lat);
+        double radLng = Math.toRadians(lng);
+        return new double[]{
+                Math.cos(radLat) * Math.cos(radLng),
+                Math.cos(radLat) * Math.sin(radLng),
+                Math.sin(radLat)
+        };
+    }
+
+    private static MapPoint point(long id, double latitude, double longitude) {
+        Article article = new Article();
+        article.setArticleId(id);
+        article.setLatitude(latitude);
+        article.setLongitude(longitude);
+        return MapPoint.from(article);
+    }
+}
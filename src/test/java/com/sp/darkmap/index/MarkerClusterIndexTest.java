@@ -0,0 +1,162 @@
+package com.sp.darkmap.index;
+
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.persistent.entity.Article;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MarkerClusterIndexTest {
+
+    private static final String[] CRIME_TYPES = {"바바리맨", "헌팅", "미행", null};
+
+    @Test
+    void clustersMatchBruteForceGroupingAtEveryZoom() {
+        Random random = new Random(6);
+        List<MapPoint> points = randomPoints(random, 2000);
+        MarkerClusterIndex index = new MarkerClusterIndex();
+        index.replaceAll(points.subList(0, 1500));
+        index.addAll(points.subList(1500, points.size()));
+
+        for (int zoom = MarkerClusterIndex.MIN_ZOOM; zoom <= MarkerClusterIndex.MAX_ZOOM; zoom++) {
+            for (int q = 0; q < 20; q++) {
+                BoundingBox box = q == 0
+                        ? new BoundingBox(-90, -180, 90, 180)
+                        : randomBox(random, q % 2 == 0 ? 0.05 : 3);
+                assertEquals(bruteForce(points, zoom, box), describe(index.query(zoom, box)),
+                        "zoom=" + zoom + ", " + box);
+            }
+        }
+    }
+
+    @Test
+    void everyZoomAccountsForEveryPoint() {
+        List<MapPoint> points = randomPoints(new Random(60), 500);
+        MarkerClusterIndex index = new MarkerClusterIndex();
+        index.replaceAll(points);
+        int[] expected = new int[MarkerClusterIndex.UNKNOWN_CRIME_TYPE + 1];
+        points.forEach(point -> expected[MarkerClusterIndex.crimeTypeSlot(point.getCrimeType())]++);
+
+        for (int zoom = MarkerClusterIndex.MIN_ZOOM; zoom <= MarkerClusterIndex.MAX_ZOOM; zoom++) {
+            int[] actual = new int[expected.length];
+            int count = 0;
+            for (MarkerClusterIndex.ClusterSnapshot cluster : index.query(zoom, new BoundingBox(-90, -180, 90, 180))) {
+                count += cluster.getCount();
+                for (int slot = 0; slot < actual.length; slot++) {
+                    actual[slot] += cluster.getCrimeTypeCounts()[slot];
+                }
+            }
+            assertEquals(points.size(), count, "zoom=" + zoom);
+            assertEquals(Arrays.toString(expected), Arrays.toString(actual), "zoom=" + zoom);
+        }
+    }
+
+    @Test
+    void singlePointOnlyForClustersOfOne() {
+        MapPoint alone = point(1, 37.5665, 126.9780, "헌팅");
+        MarkerClusterIndex index = new MarkerClusterIndex();
+        index.replaceAll(List.of(alone, point(2, 35.1796, 129.0756, null), point(3, 35.1797, 129.0757, "미행")));
+
+        List<MarkerClusterIndex.ClusterSnapshot> seoul = index.query(16, new BoundingBox(37.5, 126.9, 37.6, 127.0));
+        assertEquals(1, seoul.size());
+        assertSame(alone, seoul.get(0).getSinglePoint());
+
+        List<MarkerClusterIndex.ClusterSnapshot> busan = index.query(10, new BoundingBox(35.0, 129.0, 35.3, 129.2));
+        assertEquals(1, busan.size());
+        assertEquals(2, busan.get(0).getCount());
+        assertNull(busan.get(0).getSinglePoint());
+        assertEquals(1, busan.get(0).getCrimeTypeCounts()[MarkerClusterIndex.UNKNOWN_CRIME_TYPE]);
+        assertEquals(1, busan.get(0).getCrimeTypeCounts()[MapCrimeType.TAILING.ordinal()]);
+    }
+
+    /**
+     * 줌별 64px 셀 (256 << zoom 픽셀 평면) 로 직접 묶은 결과
+     */
+    private static List<String> bruteForce(List<MapPoint> points, int zoom, BoundingBox box) {
+        long cellsPerAxis = 4L << zoom;
+        long minX = cell(MercatorProjection.x(box.getMinLng()), cellsPerAxis);
+        long maxX = cell(MercatorProjection.x(box.getMaxLng()), cellsPerAxis);
+        long minY = cell(MercatorProjection.y(box.getMaxLat()), cellsPerAxis);
+        long maxY = cell(MercatorProjection.y(box.getMinLat()), cellsPerAxis);
+
+        Map<String, List<MapPoint>> groups = new LinkedHashMap<>();
+        for (MapPoint point : points) {
+            long x = cell(MercatorProjection.x(point.getLongitude()), cellsPerAxis);
+            long y = cell(MercatorProjection.y(point.getLatitude()), cellsPerAxis);
+            if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                groups.computeIfAbsent(x + ":" + y, k -> new ArrayList<>()).add(point);
+            }
+        }
+        List<String> result = new ArrayList<>();
+        for (List<MapPoint> group : groups.values()) {
+            int[] crimeTypeCounts = new int[MarkerClusterIndex.UNKNOWN_CRIME_TYPE + 1];
+            double sumLat = 0;
+            double sumLng = 0;
+            for (MapPoint point : group) {
+                sumLat += point.getLatitude();
+                sumLng += point.getLongitude();
+                crimeTypeCounts[MarkerClusterIndex.crimeTypeSlot(point.getCrimeType())]++;
+            }
+            result.add(describe(group.size(), sumLat / group.size(), sumLng / group.size(), crimeTypeCounts,
+                    group.size() == 1 ? group.get(0) : null));
+        }
+        result.sort(null);
+        return result;
+    }
+
+    private static List<String> describe(List<MarkerClusterIndex.ClusterSnapshot> clusters) {
+        List<String> result = new ArrayList<>();
+        for (MarkerClusterIndex.ClusterSnapshot cluster : clusters) {
+            result.add(describe(cluster.getCount(), cluster.getLatitude(), cluster.getLongitude(),
+                    cluster.getCrimeTypeCounts(), cluster.getSinglePoint()));
+        }
+        result.sort(null);
+        return result;
+    }
+
+    private static String describe(int count, double latitude, double longitude, int[] crimeTypeCounts,
+                                   MapPoint singlePoint) {
+        return String.format("%d@%.9f,%.9f %s %s", count, latitude, longitude, Arrays.toString(crimeTypeCounts),
+                singlePoint == null ? "-" : singlePoint.getId());
+    }
+
+    private static long cell(double normalized, long cellsPerAxis) {
+        return Math.max(0, Math.min(cellsPerAxis - 1, (long) Math.floor(normalized * cellsPerAxis)));
+    }
+
+    private static List<MapPoint> randomPoints(Random random, int count) {
+        List<MapPoint> points = new ArrayList<>();
+        for (long id = 0; id < count; id++) {
+            // 한반도 밀집 + 전 지구 (메르카토르 한계 밖 극지방 포함)
+            double lat = id % 5 == 0 ? -90 + random.nextDouble() * 180 : 33 + random.nextDouble() * 5;
+            double lng = id % 5 == 0 ? -180 + random.nextDouble() * 360 : 125 + random.nextDouble() * 5;
+            points.add(point(id, lat, lng, CRIME_TYPES[random.nextInt(CRIME_TYPES.length)]));
+        }
+        return points;
+    }
+
+    private static BoundingBox randomBox(Random random, double maxSpan) {
+        double minLat = 32.5 + random.nextDouble() * 5;
+        double minLng = 124.5 + random.nextDouble() * 5;
+        return new BoundingBox(minLat, minLng, minLat + random.nextDouble() * maxSpan,
+                minLng + random.nextDouble() * maxSpan);
+    }
+
+    private static MapPoint point(long id, double latitude, double longitude, String crimeType) {
+        Article article = new Article();
+        article.setArticleId(id);
+        article.setLatitude(latitude);
+        article.setLongitude(longitude);
+        article.setCrimeType(crimeType);
+        return MapPoint.from(article);
+    }
+}
@@ -0,0 +1,119 @@
+package com.sp.darkmap.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ProximityHashTest {
+
+    private static final double RADIUS = 100;
+    private static final long WINDOW = 60_000;
+    /** 반경에 해당하는 위도 차(도) */
+    private static final double RADIUS_DEGREES = Math.toDegrees(RADIUS / GeoDistance.EARTH_RADIUS_METERS);
+
+    /**
+     * 셀 경계 바로 아래/위에서 정북·정동 방향으로 반경 직전(99.9%) 거리의 항목은 찾고, 직후(100.1%)는 찾지 않음
+     */
+    @ParameterizedTest
+    @CsvSource({
+            "37.5665, 126.9780", "0, 0", "-33.8688, 151.2093",
+            "60, 10", "70.5, 25.5", "78.2232, 15.6267", "85, -40", "89.5, 0", "89.999, 120"
+    })
+    void findsNeighboursAcrossCellEdgesAtAnyLatitude(double lat, double lng) {
+        // 위도를 셀 경계(반경 배수)에 정렬한 뒤 경계 양쪽에서 확인
+        double edge = Math.floor(lat / RADIUS_DEGREES) * RADIUS_DEGREES;
+        for (double queryLat : new double[]{edge - 1e-9, edge + 1e-9}) {
+            for (double bearing : new double[]{0, 90, 180, 270, 45, 135}) {
+                assertFound(queryLat, lng, bearing, RADIUS * 0.999, true);
+                assertFound(queryLat, lng, bearing, RADIUS * 1.001, false);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {179.9995, -179.9995, 180, -180})
+    void findsNeighboursAcrossAntimeridian(double lng) {
+        for (double bearing : new double[]{90, 270}) {
+            assertFound(10, lng, bearing, RADIUS * 0.9, true);
+        }
+    }
+
+    @Test
+    void filtersBySlotAndTimeWindowAndReturnsNearest() {
+        ProximityHash<String> hash = new ProximityHash<>(RADIUS, WINDOW);
+        double[] near = destination(37.5, 127.0, 30, 40);
+        double[] nearer = destination(37.5, 127.0, 200, 20);
+        hash.add(near[0], near[1], 1_000_000, 1, "near");
+        hash.add(nearer[0], nearer[1], 1_000_000, 2, "other-slot");
+        hash.add(nearer[0], nearer[1], 1_000_000 + WINDOW + 1, 1, "too-late");
+
+        assertEquals("near", hash.findNearest(37.5, 127.0, 1_000_000, 1).getValue());
+        assertEquals("other-slot", hash.findNearest(37.5, 127.0, 1_000_000 - WINDOW, 2).getValue());
+        assertNull(hash.findNearest(37.5, 127.0, 1_000_000 - WINDOW - 1, 2));
+        assertNull(hash.findNearest(37.5, 127.0, 1_000_000, 3));
+
+        hash.add(nearer[0], nearer[1], 1_000_000 + 5, 1, "nearer");
+        assertEquals("nearer", hash.findNearest(37.5, 127.0, 1_000_000, 1).getValue());
+    }
+
+    @Test
+    void randomizedAgainstBruteForce() {
+        Random random = new Random(17);
+        for (double baseLat : new double[]{-60, 0, 37.5, 66, 75, 84, 89.9}) {
+            ProximityHash<Integer> hash = new ProximityHash<>(RADIUS, WINDOW);
+            List<double[]> points = new ArrayList<>();
+            double baseLng = -180 + random.nextDouble() * 360;
+            for (int i = 0; i < 400; i++) {
+                double[] point = destination(baseLat, baseLng, random.nextDouble() * 360, random.nextDouble() * 3 * RADIUS);
+                hash.add(point[0], point[1], 0, 0, i);
+                points.add(point);
+            }
+            for (int q = 0; q < 200; q++) {
+                double[] query = destination(baseLat, baseLng, random.nextDouble() * 360, random.nextDouble() * 3 * RADIUS);
+                Integer expected = null;
+                double best = Double.MAX_VALUE;
+                for (int i = 0; i < points.size(); i++) {
+                    double distance = GeoDistance.haversineMeters(query[0], query[1], points.get(i)[0], points.get(i)[1]);
+                    if (distance <= RADIUS && distance < best) {
+                        best = distance;
+                        expected = i;
+                    }
+                }
+                ProximityHash.Entry<Integer> actual = hash.findNearest(query[0], query[1], 0, 0);
+                assertEquals(expected, actual != null ? actual.getValue() : null, "lat=" + baseLat);
+            }
+        }
+    }
+
+    private static void assertFound(double lat, double lng, double bearing, double meters, boolean expected) {
+        ProximityHash<String> hash = new ProximityHash<>(RADIUS, WINDOW);
+        double[] target = destination(lat, lng, bearing, meters);
+        hash.add(target[0], target[1], 0, 0, "target");
+        ProximityHash.Entry<String> found = hash.findNearest(lat, lng, 0, 0);
+        String label = "lat=" + lat + " lng=" + lng + " bearing=" + bearing + " meters=" + meters;
+        assertEquals(expected ? "target" : null, found != null ? found.getValue() : null, label);
+    }
+
+    /**
+     * 시작점에서 방위각/거리만큼 이동한 좌표 (경도는 -180 ~ 180 으로 정규화)
+     */
+    private static double[] destination(double lat, double lng, double bearingDegrees, double meters) {
+        double angular = meters / GeoDistance.EARTH_RADIUS_METERS;
+        double bearing = Math.toRadians(bearingDegrees);
+        double lat1 = Math.toRadians(lat);
+        double lat2 = Math.asin(Math.sin(lat1) * Math.cos(angular)
+                + Math.cos(lat1) * Math.sin(angular) * Math.cos(bearing));
+        double lng2 = Math.toRadians(lng) + Math.atan2(Math.sin(bearing) * Math.sin(angular) * Math.cos(lat1),
+                Math.cos(angular) - Math.sin(lat1) * Math.sin(lat2));
+        double normalized = (Math.toDegrees(lng2) + 540) % 360 - 180;
+        return new double[]{Math.toDegrees(lat2), normalized};
+    }
+}
@@ -0,0 +1,128 @@
+package com.sp.darkmap.index;
+
+import com.sp.darkmap.code.InfoType;
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.code.MapSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegionCountTableTest {
+
+    private static final String[] SIDO = {"서울특별시", "부산광역시", "경기도"};
+    private static final String[] SIGUNGU = {"중구", "강남구", null, " "};
+
+    @Test
+    void cellsAreDistinctForEveryCombination() {
+        Set<Integer> cells = new HashSet<>();
+        for (MapSource source : MapSource.values()) {
+            for (InfoType infoType : withNull(InfoType.values())) {
+                for (MapCrimeType crimeType : withNull(MapCrimeType.values())) {
+                    int cell = RegionCountTable.cell(source, infoType, crimeType);
+                    assertTrue(cell >= 0);
+                    assertTrue(cells.add(cell), source + "/" + infoType + "/" + crimeType);
+                }
+            }
+        }
+        assertEquals(RegionCountTable.SOURCE_SLOTS * RegionCountTable.INFO_SLOTS * RegionCountTable.CRIME_SLOTS,
+                cells.size());
+    }
+
+    @Test
+    void countsMatchBruteForceAfterAddsAndRemovals() {
+        Random random = new Random(8);
+        RegionCountTable table = new RegionCountTable();
+        Map<String, Long> sidoExpected = new HashMap<>();
+        Map<String, Long> sigunguExpected = new HashMap<>();
+        InfoType[] infoTypes = withNull(InfoType.values());
+        MapCrimeType[] crimeTypes = withNull(MapCrimeType.values());
+
+        for (int i = 0; i < 5000; i++) {
+            MapSource source = MapSource.values()[random.nextInt(MapSource.values().length)];
+            String sido = SIDO[random.nextInt(SIDO.length)];
+            String sigungu = SIGUNGU[random.nextInt(SIGUNGU.length)];
+            InfoType infoType = infoTypes[random.nextInt(infoTypes.length)];
+            MapCrimeType crimeType = crimeTypes[random.nextInt(crimeTypes.length)];
+            // 삭제(-1)가 섞여도 누적은 단순 합
+            long delta = random.nextInt(4) == 0 ? -1 : 1;
+            table.add(source, sido, sigungu, infoType, crimeType, delta);
+
+            int cell = RegionCountTable.cell(source, infoType, crimeType);
+            sidoExpected.merge(sido + "|" + cell, delta, Long::sum);
+            if (sigungu != null && !sigungu.isBlank()) {
+                sigunguExpected.merge(sido + "|" + sigungu + "|" + cell, delta, Long::sum);
+            }
+        }
+
+        Map<String, Long> sidoActual = new HashMap<>();
+        table.sidoSnapshot().forEach((sido, cells) -> flatten(sido, cells, sidoActual));
+        Map<String, Long> sigunguActual = new HashMap<>();
+        for (String sido : SIDO) {
+            table.sigunguSnapshot(sido).forEach((sigungu, cells) -> flatten(sido + "|" + sigungu, cells, sigunguActual));
+        }
+        sidoExpected.values().removeIf(count -> count == 0);
+        sigunguExpected.values().removeIf(count -> count == 0);
+        assertEquals(sidoExpected, sidoActual);
+        assertEquals(sigunguExpected, sigunguActual);
+    }
+
+    @Test
+    void ignoresBlankSido() {
+        RegionCountTable table = new RegionCountTable();
+        table.add(MapSource.ARTICLE, null, "중구", null, null, 1);
+        table.add(MapSource.ARTICLE, "  ", "중구", null, null, 1);
+
+        assertTrue(table.sidoSnapshot().isEmpty());
+        assertTrue(table.sigunguSnapshot("  ").isEmpty());
+    }
+
+    @Test
+    void snapshotsAreCopies() {
+        RegionCountTable table = new RegionCountTable();
+        table.add(MapSource.CRIME_CASE, "서울특별시", "중구", InfoType.NEWS_ARTICLE, MapCrimeType.FLASHER, 1);
+        int cell = RegionCountTable.cell(MapSource.CRIME_CASE, InfoType.NEWS_ARTICLE, MapCrimeType.FLASHER);
+
+        table.sidoSnapshot().get("서울특별시")[cell] = 100;
+        table.sigunguSnapshot("서울특별시").get("중구")[cell] = 100;
+
+        assertEquals(1, table.sidoSnapshot().get("서울특별시")[cell]);
+        assertEquals(1, table.sigunguSnapshot("서울특별시").get("중구")[cell]);
+    }
+
+    @Test
+    void sameCountsComparesSidoCells() {
+        RegionCountTable a = new RegionCountTable();
+        RegionCountTable b = new RegionCountTable();
+        a.add(MapSource.ARTICLE, "부산광역시", "중구", null, MapCrimeType.HUNTING, 2);
+        b.add(MapSource.ARTICLE, "부산광역시", "중구", null, MapCrimeType.HUNTING, 1);
+        assertFalse(a.sameCounts(b));
+
+        b.add(MapSource.ARTICLE, "부산광역시", null, null, MapCrimeType.HUNTING, 1);
+        assertTrue(a.sameCounts(b));
+        assertTrue(b.sameCounts(a));
+
+        b.add(MapSource.ARTICLE, "경기도", null, null, null, 0);
+        assertFalse(a.sameCounts(b));
+    }
+
+    private static void flatten(String region, long[] cells, Map<String, Long> into) {
+        for (int cell = 0; cell < cells.length; cell++) {
+            if (cells[cell] != 0) {
+                into.put(region + "|" + cell, cells[cell]);
+            }
+        }
+    }
+
+    private static <T> T[] withNull(T[] values) {
+        return Arrays.copyOf(values, values.length + 1);
+    }
+}
@@ -0,0 +1,75 @@
+package com.sp.darkmap.index;
+
+import com.sp.darkmap.persistent.entity.Article;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SpatialGridIndexTest {
+
+    @Test
+    void queryMatchesBruteForce() {
+        Random random = new Random(5);
+        List<MapPoint> points = new ArrayList<>();
+        for (long id = 0; id < 3000; id++) {
+            points.add(point(id, 33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5));
+        }
+        SpatialGridIndex index = new SpatialGridIndex();
+        index.addAll(points.subList(0, 2000));
+        points.subList(2000, points.size()).forEach(index::add);
+        assertEquals(points.size(), index.size());
+
+        for (int q = 0; q < 300; q++) {
+            // 좁은 영역(셀 순회)과 넓은 영역(채워진 셀만 훑기)을 번갈아 조회
+            double span = q % 2 == 0 ? random.nextDouble() * 0.3 : 1 + random.nextDouble() * 4;
+            double minLat = 32.5 + random.nextDouble() * 5;
+            double minLng = 124.5 + random.nextDouble() * 5;
+            if (q % 7 == 0) {
+                // 마커 좌표 위 경계(포함)
+                MapPoint corner = points.get(random.nextInt(points.size()));
+                minLat = corner.getLatitude();
+                minLng = corner.getLongitude();
+            }
+            BoundingBox box = new BoundingBox(minLat, minLng, minLat + span, minLng + span);
+            boolean evenOnly = random.nextBoolean();
+
+            Set<Long> expected = points.stream()
+                    .filter(point -> box.contains(point.getLatitude(), point.getLongitude()))
+                    .filter(point -> !evenOnly || point.getId() % 2 == 0)
+                    .map(MapPoint::getId)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            Set<Long> actual = index.query(box, point -> !evenOnly || point.getId() % 2 == 0).stream()
+                    .map(MapPoint::getId)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            assertEquals(expected, actual, box.toString());
+        }
+    }
+
+    @Test
+    void replaceAllDropsPreviousPoints() {
+        SpatialGridIndex index = new SpatialGridIndex();
+        index.addAll(List.of(point(1, 37.5, 127.0), point(2, 35.1, 129.0)));
+
+        index.replaceAll(List.of(point(3, 37.5, 127.0)));
+
+        assertEquals(1, index.size());
+        List<MapPoint> all = index.query(new BoundingBox(-90, -180, 90, 180), point -> true);
+        assertEquals(1, all.size());
+        assertEquals(3L, all.get(0).getId());
+    }
+
+    private static MapPoint point(long id, double latitude, double longitude) {
+        Article article = new Article();
+        article.setArticleId(id);
+        article.setLatitude(latitude);
+        article.setLongitude(longitude);
+        return MapPoint.from(article);
+    }
+}
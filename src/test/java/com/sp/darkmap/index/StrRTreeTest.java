@@ -0,0 +1,59 @@
+package com.sp.darkmap.index;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StrRTreeTest {
+
+    /**
+     * 노드 용량(16) 전후와 여러 단계가 생기는 크기에서 사각형 검색 결과를 전체 비교와 대조
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 15, 16, 17, 256, 257, 3000})
+    void searchMatchesBruteForce(int count) {
+        Random random = new Random(count);
+        List<double[]> boxes = new ArrayList<>();
+        List<StrRTree.Entry<Integer>> entries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            double minLat = 33 + random.nextDouble() * 5;
+            double minLng = 125 + random.nextDouble() * 5;
+            double[] box = {minLat, minLng, minLat + random.nextDouble() * 0.5, minLng + random.nextDouble() * 0.5};
+            boxes.add(box);
+            entries.add(new StrRTree.Entry<>(box[0], box[1], box[2], box[3], i));
+        }
+        StrRTree<Integer> tree = new StrRTree<>(entries);
+        assertEquals(count, tree.size());
+
+        for (int q = 0; q < 500; q++) {
+            double lat;
+            double lng;
+            if (count > 0 && q % 5 == 0) {
+                // 경계선 위 좌표(포함)
+                double[] box = boxes.get(random.nextInt(count));
+                lat = box[2];
+                lng = box[1];
+            } else {
+                lat = 32.5 + random.nextDouble() * 6.5;
+                lng = 124.5 + random.nextDouble() * 6.5;
+            }
+            Set<Integer> expected = new TreeSet<>();
+            for (int i = 0; i < count; i++) {
+                double[] box = boxes.get(i);
+                if (lat >= box[0] && lat <= box[2] && lng >= box[1] && lng <= box[3]) {
+                    expected.add(i);
+                }
+            }
+            Set<Integer> actual = new TreeSet<>();
+            tree.search(lat, lng, actual::add);
+            assertEquals(expected, actual, "lat=" + lat + " lng=" + lng);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.sp.darkmap.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * vector_tile.proto (v2.1) 의 필요한 필드만 직접 디코딩해 인코딩 결과 확인
+ */
+class VectorTileEncoderTest {
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+
+    @Test
+    void decodesBackToPointFeaturesWithAttributes() {
+        VectorTileEncoder encoder = new VectorTileEncoder("crime");
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("id", 7L);
+        first.put("crimeType", "강도");
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("id", 300L);
+        second.put("crimeType", "절도");
+        second.put("sido", null);
+        Map<String, Object> third = new LinkedHashMap<>();
+        third.put("crimeType", "강도");
+        third.put("count", 1L);
+        third.put("label", "1");
+        // 버퍼 영역 좌표는 음수/EXTENT 초과일 수 있음
+        encoder.addPoint(0, 0, first);
+        encoder.addPoint(-64, VectorTileEncoder.EXTENT + 64, second);
+        encoder.addPoint(2048, 1, third);
+
+        Layer layer = decode(encoder.encode());
+
+        assertEquals(2L, layer.version);
+        assertEquals("crime", layer.name);
+        assertEquals((long) VectorTileEncoder.EXTENT, layer.extent);
+        assertEquals(3, layer.features.size());
+
+        assertFeature(layer, 0, 0, 0, first);
+        second.remove("sido");
+        assertFeature(layer, 1, -64, VectorTileEncoder.EXTENT + 64, second);
+        assertFeature(layer, 2, 2048, 1, third);
+    }
+
+    @Test
+    void writesMoveToCommandWithZigZagCoordinates() {
+        VectorTileEncoder encoder = new VectorTileEncoder("crime");
+        encoder.addPoint(-1, 2048, Map.of());
+        encoder.addPoint(1, -2048, Map.of());
+
+        Layer layer = decode(encoder.encode());
+
+        // MoveTo(1) 한 번 = (1 << 3) | 1 = 9, zigzag(-1) = 1, zigzag(2048) = 4096, zigzag(-2048) = 4095
+        assertArrayEquals(new long[]{9, 1, 4096}, layer.features.get(0).geometry);
+        assertArrayEquals(new long[]{9, 2, 4095}, layer.features.get(1).geometry);
+        assertEquals(0, layer.features.get(0).tags.length);
+        assertEquals(1L, layer.features.get(0).type);
+    }
+
+    @Test
+    void keyAndValueTablesHoldEachEntryOnce() {
+        VectorTileEncoder encoder = new VectorTileEncoder("crime");
+        for (int i = 0; i < 5; i++) {
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            attributes.put("crimeType", i % 2 == 0 ? "강도" : "절도");
+            attributes.put("count", (long) (i % 2));
+            attributes.put("code", String.valueOf(i % 2));
+            encoder.addPoint(i, i, attributes);
+        }
+
+        Layer layer = decode(encoder.encode());
+
+        assertIterableEquals(List.of("crimeType", "count", "code"), layer.keys);
+        // 같은 값이라도 정수(uint)와 문자열은 별도 항목
+        assertIterableEquals(List.of("강도", 0L, "0", "절도", 1L, "1"), layer.values);
+        assertArrayEquals(new long[]{0, 0, 1, 1, 2, 2}, layer.features.get(0).tags);
+        assertArrayEquals(new long[]{0, 3, 1, 4, 2, 5}, layer.features.get(1).tags);
+        assertArrayEquals(new long[]{0, 0, 1, 1, 2, 2}, layer.features.get(4).tags);
+    }
+
+    @Test
+    void emptyTileHasNoLayer() {
+        VectorTileEncoder encoder = new VectorTileEncoder("crime");
+        assertTrue(encoder.isEmpty());
+        assertEquals(0, encoder.encode().length);
+    }
+
+    private static void assertFeature(Layer layer, int index, int x, int y, Map<String, Object> expected) {
+        Feature feature = layer.features.get(index);
+        assertEquals(1L, feature.type, "POINT");
+        assertEquals(3, feature.geometry.length);
+        assertEquals(9L, feature.geometry[0], "MoveTo x1");
+        assertEquals(x, (int) unZigZag(feature.geometry[1]));
+        assertEquals(y, (int) unZigZag(feature.geometry[2]));
+
+        assertEquals(0, feature.tags.length % 2);
+        Map<String, Object> attributes = new HashMap<>();
+        for (int i = 0; i < feature.tags.length; i += 2) {
+            attributes.put(layer.keys.get((int) feature.tags[i]), layer.values.get((int) feature.tags[i + 1]));
+        }
+        assertEquals(expected, attributes);
+    }
+
+    private static long unZigZag(long n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+    /**
+     * Tile { repeated Layer layers = 3; }
+     */
+    private static Layer decode(byte[] tile) {
+        Map<Integer, List<Object>> tileFields = fields(tile);
+        assertEquals(Map.of(3, tileFields.get(3)), tileFields, "Tile 에는 layers 만");
+        assertEquals(1, tileFields.get(3).size());
+
+        Map<Integer, List<Object>> fields = fields((byte[]) tileFields.get(3).get(0));
+        Layer layer = new Layer();
+        layer.version = (Long) single(fields, 15);
+        layer.name = new String((byte[]) single(fields, 1), StandardCharsets.UTF_8);
+        layer.extent = (Long) single(fields, 5);
+        for (Object key : fields.getOrDefault(3, List.of())) {
+            layer.keys.add(new String((byte[]) key, StandardCharsets.UTF_8));
+        }
+        for (Object value : fields.getOrDefault(4, List.of())) {
+            layer.values.add(decodeValue((byte[]) value));
+        }
+        for (Object feature : fields.getOrDefault(2, List.of())) {
+            Map<Integer, List<Object>> featureFields = fields((byte[]) feature);
+            Feature decoded = new Feature();
+            decoded.tags = packed((byte[]) single(featureFields, 2));
+            decoded.type = (Long) single(featureFields, 3);
+            decoded.geometry = packed((byte[]) single(featureFields, 4));
+            layer.features.add(decoded);
+        }
+        return layer;
+    }
+
+    /**
+     * Value { string string_value = 1; ... uint64 uint_value = 5; } 중 정확히 하나
+     */
+    private static Object decodeValue(byte[] bytes) {
+        Map<Integer, List<Object>> fields = fields(bytes);
+        assertEquals(1, fields.size());
+        if (fields.containsKey(1)) {
+            return new String((byte[]) single(fields, 1), StandardCharsets.UTF_8);
+        }
+        return single(fields, 5);
+    }
+
+    private static Object single(Map<Integer, List<Object>> fields, int number) {
+        List<Object> values = fields.get(number);
+        assertEquals(1, values == null ? 0 : values.size(), "field " + number);
+        return values.get(0);
+    }
+
+    /**
+     * 필드 번호 → 값 목록 (varint 는 Long, length-delimited 는 byte[])
+     */
+    private static Map<Integer, List<Object>> fields(byte[] message) {
+        Reader reader = new Reader(message);
+        Map<Integer, List<Object>> fields = new LinkedHashMap<>();
+        while (reader.hasMore()) {
+            long key = reader.varint();
+            int wireType = (int) (key & 0x7);
+            Object value = switch (wireType) {
+                case WIRE_VARINT -> reader.varint();
+                case WIRE_LENGTH_DELIMITED -> reader.bytes((int) reader.varint());
+                default -> throw new AssertionError("unexpected wire type " + wireType);
+            };
+            fields.computeIfAbsent((int) (key >>> 3), k -> new ArrayList<>()).add(value);
+        }
+        return fields;
+    }
+
+    private static long[] packed(byte[] bytes) {
+        Reader reader = new Reader(bytes);
+        List<Long> values = new ArrayList<>();
+        while (reader.hasMore()) {
+            values.add(reader.varint());
+        }
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static final class Layer {
+        private long version;
+        private String name;
+        private long extent;
+        private final List<String> keys = new ArrayList<>();
+        private final List<Object> values = new ArrayList<>();
+        private final List<Feature> features = new ArrayList<>();
+    }
+
+    private static final class Feature {
+        private long[] tags;
+        private long type;
+        private long[] geometry;
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int pos;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        boolean hasMore() {
+            return pos < bytes.length;
+        }
+
+        long varint() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = bytes[pos++] & 0xFF;
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        byte[] bytes(int length) {
+            byte[] slice = Arrays.copyOfRange(bytes, pos, pos + length);
+            pos += length;
+            return slice;
+        }
+    }
+}
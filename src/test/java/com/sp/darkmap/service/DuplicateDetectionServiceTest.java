@@ -0,0 +1,163 @@
+package com.sp.darkmap.service;
+
+import com.sp.darkmap.code.MapCrimeType;
+import com.sp.darkmap.index.MapPoint;
+import com.sp.darkmap.persistent.entity.Article;
+import com.sp.darkmap.persistent.entity.CrimeCaseEntity;
+import com.sp.darkmap.persistent.repository.ArticleRepository;
+import com.sp.darkmap.persistent.repository.CrimeCaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 트랜잭션 동기화가 없으므로 URL 색인 반영은 즉시 적용됨
+ */
+class DuplicateDetectionServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    private ArticleRepository articleRepository;
+    private CrimeCaseRepository crimeCaseRepository;
+    private DuplicateDetectionService service;
+    private long nextId;
+
+    @BeforeEach
+    void setUp() {
+        articleRepository = mock(ArticleRepository.class);
+        crimeCaseRepository = mock(CrimeCaseRepository.class);
+        when(articleRepository.findUrlsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        when(crimeCaseRepository.findNewsUrlsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        service = new DuplicateDetectionService(articleRepository, crimeCaseRepository, 50, 72);
+        nextId = 1;
+    }
+
+    @Test
+    void reingestingTheSameBatchSavesNothing() {
+        List<Article> first = feed();
+        List<Article> saved = save(service.planArticles(first));
+        assertEquals(4, saved.size());
+
+        // 근접 중복 기사, 좌표 없는 기사까지 URL 로 다시 걸러져야 함
+        DuplicateDetectionService.ArticleDedupPlan second = service.planArticles(feed());
+        assertTrue(second.getToSave().isEmpty());
+        assertEquals(5, second.getSkipped());
+    }
+
+    @Test
+    void linksInBatchProximityDuplicatesToTheirOriginal() {
+        Article original = article("https://news.example.com/a", 37.5665, 126.9780, "바바리맨", NOW);
+        Article nearby = article("https://other.example.com/b", 37.5666, 126.9781, "바바리맨", NOW.plusHours(2));
+        Article otherType = article("https://other.example.com/c", 37.5666, 126.9781, "미행", NOW);
+        Article sameUrl = article("http://www.news.example.com/a/?utm_source=x", 35.0, 129.0, "바바리맨", NOW);
+
+        DuplicateDetectionService.ArticleDedupPlan plan =
+                service.planArticles(List.of(original, nearby, otherType, sameUrl));
+
+        assertIterableEquals(List.of(original, nearby, otherType), plan.getToSave());
+        assertEquals(1, plan.getSkipped());
+        assertEquals(1, plan.getBatchDuplicates().size());
+        assertSame(original, plan.getBatchDuplicates().get(nearby));
+
+        save(plan);
+        assertEquals(original.getArticleId(), nearby.getDuplicateOfId());
+        assertNull(original.getDuplicateOfId());
+        assertNull(otherType.getDuplicateOfId());
+    }
+
+    @Test
+    void marksProximityDuplicateOfAnAlreadySavedArticle() {
+        Article original = article("https://news.example.com/a", 37.5665, 126.9780, "바바리맨", NOW);
+        save(service.planArticles(List.of(original)));
+
+        Article later = article("https://other.example.com/b", 37.5665, 126.9781, "바바리맨", NOW.plusHours(1));
+        DuplicateDetectionService.ArticleDedupPlan plan = service.planArticles(List.of(later));
+
+        assertIterableEquals(List.of(later), plan.getToSave());
+        assertEquals(original.getArticleId(), later.getDuplicateOfId());
+        assertTrue(plan.getBatchDuplicates().isEmpty());
+    }
+
+    @Test
+    void loadsUrlsOfEveryStoredRowAtStartup() {
+        when(articleRepository.findUrlsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.<Object[]>of(new Object[]{3L, "https://news.example.com/a"},
+                        new Object[]{8L, "https://news.example.com/b"}));
+        when(crimeCaseRepository.findNewsUrlsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.<Object[]>of(new Object[]{5L, "https://news.example.com/case"}));
+
+        service.loadUrls();
+
+        DuplicateDetectionService.ArticleDedupPlan plan = service.planArticles(List.of(
+                article("https://www.news.example.com/b/", null, null, "바바리맨", NOW),
+                article("https://news.example.com/c", null, null, "바바리맨", NOW)));
+        assertEquals(1, plan.getSkipped());
+        assertEquals("https://news.example.com/c", plan.getToSave().get(0).getUrl());
+        assertEquals(5L, service.findCrimeCaseDuplicate(0, 0, MapCrimeType.FLASHER, "https://news.example.com/case"));
+    }
+
+    @Test
+    void registersDuplicateCrimeCasesByUrl() {
+        CrimeCaseEntity duplicate = CrimeCaseEntity.builder()
+                .id(11L)
+                .newsUrl("https://news.example.com/case")
+                .duplicateOfId(2L)
+                .build();
+        service.registerCrimeCase(duplicate);
+
+        assertEquals(11L, service.findCrimeCaseDuplicate(0, 0, MapCrimeType.FLASHER, "https://news.example.com/case/"));
+    }
+
+    /**
+     * 원본 + 근접 중복 + 좌표 없는 기사 + 작성일 없는 기사 (묶음 내 URL 중복 1건 포함)
+     */
+    private List<Article> feed() {
+        return List.of(
+                article("https://news.example.com/a", 37.5665, 126.9780, "바바리맨", NOW),
+                article("https://other.example.com/a", 37.5665, 126.9781, "바바리맨", NOW.plusHours(1)),
+                article("https://news.example.com/no-position", null, null, "미행", NOW),
+                article("https://news.example.com/no-date", 35.1, 129.0, "미행", null),
+                article("https://news.example.com/a?fbclid=abc", 37.5665, 126.9780, "바바리맨", NOW));
+    }
+
+    /**
+     * ArticleService.saveArticleEntities 순서대로 ID 부여 → 묶음 내 중복 연결 → URL 색인/지도 반영
+     */
+    private List<Article> save(DuplicateDetectionService.ArticleDedupPlan plan) {
+        List<Article> saved = new ArrayList<>(plan.getToSave());
+        saved.forEach(article -> article.setArticleId(nextId++));
+        plan.linkBatchDuplicates();
+        service.registerArticles(saved);
+        service.onAdded(saved.stream()
+                .filter(article -> article.getDuplicateOfId() == null)
+                .filter(MapPoint::hasPosition)
+                .map(MapPoint::from)
+                .toList());
+        return saved;
+    }
+
+    private static Article article(String url, Double lat, Double lng, String crimeType, LocalDateTime publishedAt) {
+        Article article = new Article();
+        article.setUrl(url);
+        article.setLatitude(lat);
+        article.setLongitude(lng);
+        article.setCrimeType(crimeType);
+        article.setPublishedAt(publishedAt);
+        return article;
+    }
+}
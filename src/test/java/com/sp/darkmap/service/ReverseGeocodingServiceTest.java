@@ -0,0 +1,103 @@
+package com.sp.darkmap.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sp.darkmap.index.RegionMatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 테스트 경계 파일(geo/test-boundaries.geojson)은 실제 경계가 아닌 단순 사각형/삼각형으로 구성
+ */
+class ReverseGeocodingServiceTest {
+
+    private ReverseGeocodingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = newService("classpath:geo/test-boundaries.geojson");
+        service.load();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', textBlock = """
+            # 위도   | 경도    | 코드   | 시도            | 시군구
+            37.46   | 127.01  | 11680 | 서울특별시        | 강남구
+            37.54   | 127.09  | 11680 | 서울특별시        | 강남구
+            37.50   | 127.05  | 11650 | 서울특별시        | 서초구
+            37.25   | 126.05  | 28720 | 인천광역시        | 옹진군
+            37.21   | 126.39  | 28720 | 인천광역시        | 옹진군
+            35.18   | 129.15  | 26350 | 부산광역시        | 해운대구
+            37.90   | 127.70  | 42110 | 강원특별자치도     | 춘천시
+            """)
+    void locatesRegionAcrossPropertyNameVariants(double lat, double lng, String code, String sido, String sigungu) {
+        RegionMatch match = service.locate(lat, lng).orElseThrow();
+        assertEquals(code, match.getCode());
+        assertEquals(sido, match.getSido());
+        assertEquals(sigungu, match.getSigungu());
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', textBlock = """
+            # 옹진군 두 섬 사이
+            37.25   | 126.20
+            # 옹진군 두 번째 섬의 구멍(호수)
+            37.25   | 126.35
+            # 해운대구 삼각형의 경계 사각형 안이지만 폴리곤 밖
+            35.24   | 129.11
+            # 시도를 알 수 없는 코드(99)
+            36.05   | 128.05
+            # 시군구 명칭 없음
+            36.05   | 128.25
+            # 링이 3점 미만인 폴리곤
+            35.20   | 128.85
+            # 경계 밖
+            33.50   | 126.50
+            """)
+    void returnsEmptyOutsideLoadedPolygons(double lat, double lng) {
+        assertEquals(Optional.empty(), service.locate(lat, lng));
+    }
+
+    @Test
+    void holeIsExcludedFromOuterPolygon() {
+        // 구멍 바로 바깥은 강남구, 구멍 안은 구멍을 채운 서초구 폴리곤만 일치
+        assertEquals("강남구", service.locate(37.50, 127.035).orElseThrow().getSigungu());
+        assertEquals("서초구", service.locate(37.50, 127.045).orElseThrow().getSigungu());
+        assertEquals("강남구", service.locate(37.50, 127.065).orElseThrow().getSigungu());
+    }
+
+    @Test
+    void missingCoordinatesSkipLookup() {
+        assertTrue(service.isEnabled());
+        assertTrue(service.locate(null, 127.01).isEmpty());
+        assertTrue(service.locate(37.46, null).isEmpty());
+    }
+
+    @Test
+    void missingOrUnsetBoundaryFileFailsStartup() {
+        assertThrows(IllegalStateException.class, () -> newService("classpath:geo/does-not-exist.geojson").load());
+        assertThrows(IllegalStateException.class, () -> newService("").load());
+    }
+
+    @Test
+    void explicitlyDisabledServiceSkipsLookup() {
+        ReverseGeocodingService disabled =
+                new ReverseGeocodingService(new DefaultResourceLoader(), new ObjectMapper(), "", false);
+        disabled.load();
+        assertFalse(disabled.isEnabled());
+        assertTrue(disabled.locate(37.46, 127.01).isEmpty());
+    }
+
+    private static ReverseGeocodingService newService(String location) {
+        return new ReverseGeocodingService(new DefaultResourceLoader(), new ObjectMapper(), location, true);
+    }
+}
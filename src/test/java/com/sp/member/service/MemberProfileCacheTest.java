@@ -0,0 +1,57 @@
+package com.sp.member.service;
+
+import com.sp.member.dto.response.AuthorProfile;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemberProfileCacheTest {
+
+    private final MemberProfileCache cache = new MemberProfileCache(100, 300);
+
+    @Test
+    void storesProfileLoadedWithCurrentGeneration() {
+        Map<Long, Long> generations = cache.generations(List.of(1L));
+        cache.putAll(List.of(profile(1L, "old")), generations);
+
+        assertEquals("old", cache.getAll(List.of(1L)).get(1L).getNickname());
+    }
+
+    @Test
+    void dropsProfileLoadedBeforeEviction() {
+        // 조회 시작 → (닉네임 변경 커밋 후 evict) → 조회 결과 저장
+        Map<Long, Long> generations = cache.generations(List.of(1L, 2L));
+        cache.evict(1L);
+        cache.putAll(List.of(profile(1L, "old"), profile(2L, "other")), generations);
+
+        Map<Long, AuthorProfile> cached = cache.getAll(List.of(1L, 2L));
+        assertEquals(1, cached.size());
+        assertEquals("other", cached.get(2L).getNickname());
+    }
+
+    @Test
+    void storesAgainAfterEvictionWithFreshGeneration() {
+        cache.evict(1L);
+        cache.evict(1L);
+        Map<Long, Long> generations = cache.generations(List.of(1L));
+        cache.putAll(List.of(profile(1L, "new")), generations);
+
+        assertEquals("new", cache.getAll(List.of(1L)).get(1L).getNickname());
+    }
+
+    @Test
+    void evictRemovesCachedProfile() {
+        cache.putAll(List.of(profile(1L, "old")), cache.generations(List.of(1L)));
+        cache.evict(1L);
+
+        assertTrue(cache.getAll(List.of(1L)).isEmpty());
+    }
+
+    private static AuthorProfile profile(Long id, String nickname) {
+        return new AuthorProfile(id, nickname, false, null);
+    }
+}